@@ -3,19 +3,22 @@ package org.qcri.rheem.basic.operators;
 import org.apache.commons.lang3.Validate;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalitySampler;
 import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
 import org.qcri.rheem.core.plan.rheemplan.ElementaryOperator;
 import org.qcri.rheem.core.plan.rheemplan.UnarySource;
 import org.qcri.rheem.core.types.DataSetType;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * This source takes as input a Java {@link java.util.Collection}.
  */
-public class CollectionSource<T> extends UnarySource<T> implements ElementaryOperator {
+public class CollectionSource<T> extends UnarySource<T> implements ElementaryOperator, CardinalitySampler.SampleSource {
 
     protected final Collection<T> collection;
 
@@ -68,4 +71,25 @@ public class CollectionSource<T> extends UnarySource<T> implements ElementaryOpe
         instance.setName("{" + value + "}");
         return instance;
     }
+
+    @Override
+    public String getSampleCacheKey() {
+        // The collection might be altered without notice.
+        return null;
+    }
+
+    @Override
+    public List<?> readSample(int maxSize) {
+        // Take a systematic sample across the whole collection.
+        final double stride = Math.max(1d, this.collection.size() / (double) maxSize);
+        final List<T> sample = new ArrayList<>(Math.min(maxSize, this.collection.size()));
+        int index = 0;
+        for (T dataQuantum : this.collection) {
+            if (sample.size() >= maxSize) break;
+            if (index++ == (long) (sample.size() * stride)) {
+                sample.add(dataQuantum);
+            }
+        }
+        return sample;
+    }
 }
@@ -5,16 +5,21 @@ import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.PredicateDescriptor;
 import org.qcri.rheem.core.optimizer.ProbabilisticDoubleInterval;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalitySampler;
 import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
 import org.qcri.rheem.core.types.DataSetType;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 
 /**
  * This operator returns a new dataset after filtering by applying predicateDescriptor.
  */
-public class FilterOperator<Type> extends UnaryToUnaryOperator<Type, Type> {
+public class FilterOperator<Type> extends UnaryToUnaryOperator<Type, Type>
+        implements CardinalitySampler.SampleEvaluator {
 
     /**
      * Function that this operator applies to the input elements.
@@ -109,4 +114,11 @@ public class FilterOperator<Type> extends UnaryToUnaryOperator<Type, Type> {
             );
         }
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<?> evaluateSample(List<?>[] inputSamples) {
+        final Predicate<Type> predicate = this.predicateDescriptor.getJavaImplementation();
+        return ((List<Type>) inputSamples[0]).stream().filter(predicate).collect(Collectors.toList());
+    }
 }
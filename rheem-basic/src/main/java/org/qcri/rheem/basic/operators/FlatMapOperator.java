@@ -6,17 +6,22 @@ import org.qcri.rheem.core.function.FlatMapDescriptor;
 import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.optimizer.ProbabilisticDoubleInterval;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalitySampler;
 import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
 import org.qcri.rheem.core.types.DataSetType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * A flatmap operator represents semantics as they are known from frameworks, such as Spark and Flink. It pulls each
  * available element from the input slot, applies a function to it, returning zero or more output elements,
  * flattening the result and pushes it to the output slot.
  */
-public class FlatMapOperator<InputType, OutputType> extends UnaryToUnaryOperator<InputType, OutputType> {
+public class FlatMapOperator<InputType, OutputType> extends UnaryToUnaryOperator<InputType, OutputType>
+        implements CardinalitySampler.SampleEvaluator {
 
     /**
      * Function that this operator applies to the input elements.
@@ -101,4 +106,15 @@ public class FlatMapOperator<InputType, OutputType> extends UnaryToUnaryOperator
             );
         }
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<?> evaluateSample(List<?>[] inputSamples) {
+        final Function<InputType, Iterable<OutputType>> function = this.functionDescriptor.getJavaImplementation();
+        final List<OutputType> outputSample = new ArrayList<>();
+        for (InputType dataQuantum : (List<InputType>) inputSamples[0]) {
+            function.apply(dataQuantum).forEach(outputSample::add);
+        }
+        return outputSample;
+    }
 }
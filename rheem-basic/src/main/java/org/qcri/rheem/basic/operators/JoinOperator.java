@@ -6,18 +6,25 @@ import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalitySampler;
 import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
 import org.qcri.rheem.core.plan.rheemplan.BinaryToUnaryOperator;
 import org.qcri.rheem.core.types.DataSetType;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 
 /**
  * This operator returns the cartesian product of elements of input datasets.
  */
 public class JoinOperator<InputType0, InputType1, Key>
-        extends BinaryToUnaryOperator<InputType0, InputType1, Tuple2<InputType0, InputType1>> {
+        extends BinaryToUnaryOperator<InputType0, InputType1, Tuple2<InputType0, InputType1>>
+        implements CardinalitySampler.SampleEvaluator {
 
     private static <InputType0, InputType1> DataSetType<Tuple2<InputType0, InputType1>> createOutputDataSetType() {
         return DataSetType.createDefaultUnchecked(Tuple2.class);
@@ -89,4 +96,25 @@ public class JoinOperator<InputType0, InputType1, Key>
                 inputCards -> 3 * Math.max(inputCards[0], inputCards[1])
         ));
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<?> evaluateSample(List<?>[] inputSamples) {
+        // Hash-join the samples.
+        final Function<InputType0, Key> keyExtractor0 = this.keyDescriptor0.getJavaImplementation();
+        final Function<InputType1, Key> keyExtractor1 = this.keyDescriptor1.getJavaImplementation();
+        final Map<Key, List<InputType0>> hashTable = new HashMap<>();
+        for (InputType0 dataQuantum0 : (List<InputType0>) inputSamples[0]) {
+            hashTable.computeIfAbsent(keyExtractor0.apply(dataQuantum0), key -> new ArrayList<>()).add(dataQuantum0);
+        }
+        final List<Tuple2<InputType0, InputType1>> outputSample = new ArrayList<>();
+        for (InputType1 dataQuantum1 : (List<InputType1>) inputSamples[1]) {
+            final List<InputType0> matches = hashTable.get(keyExtractor1.apply(dataQuantum1));
+            if (matches == null) continue;
+            for (InputType0 dataQuantum0 : matches) {
+                outputSample.add(new Tuple2<>(dataQuantum0, dataQuantum1));
+            }
+        }
+        return outputSample;
+    }
 }
@@ -8,17 +8,22 @@ import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalitySampler;
 import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
 import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
 import org.qcri.rheem.core.types.DataSetType;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * A map operator represents semantics as they are known from frameworks, such as Spark and Flink. It pulls each
  * available element from the input slot, applies a function to it, and pushes that element to the output slot.
  */
-public class MapOperator<InputType, OutputType> extends UnaryToUnaryOperator<InputType, OutputType> {
+public class MapOperator<InputType, OutputType> extends UnaryToUnaryOperator<InputType, OutputType>
+        implements CardinalitySampler.SampleEvaluator {
 
     /**
      * Function that this operator applies to the input elements.
@@ -98,4 +103,11 @@ public class MapOperator<InputType, OutputType> extends UnaryToUnaryOperator<Inp
         return Optional.of(new DefaultCardinalityEstimator(1d, 1, this.isSupportingBroadcastInputs(),
                 inputCards -> inputCards[0]));
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<?> evaluateSample(List<?>[] inputSamples) {
+        final Function<InputType, OutputType> function = this.functionDescriptor.getJavaImplementation();
+        return ((List<InputType>) inputSamples[0]).stream().map(function).collect(Collectors.toList());
+    }
 }
@@ -2,7 +2,9 @@ package org.qcri.rheem.basic.operators;
 
 import org.apache.commons.lang3.Validate;
 import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalitySampler;
 import org.qcri.rheem.core.plan.rheemplan.UnarySource;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.LimitedInputStream;
@@ -13,7 +15,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalLong;
@@ -21,7 +26,12 @@ import java.util.OptionalLong;
 /**
  * This source reads a text file and outputs the lines as data units.
  */
-public class TextFileSource extends UnarySource<String> {
+public class TextFileSource extends UnarySource<String> implements CardinalitySampler.SampleSource {
+
+    /**
+     * Number of evenly spaced segments of the input file from which {@link #readSample(int)} reads lines.
+     */
+    private static final int NUM_SAMPLE_SEGMENTS = 10;
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -152,4 +162,84 @@ public class TextFileSource extends UnarySource<String> {
         }
     }
 
+    @Override
+    public String getSampleCacheKey() {
+        final OptionalLong modificationTime = FileSystems.getModificationTime(this.inputUrl);
+        return modificationTime.isPresent() ? this.inputUrl + "@" + modificationTime.getAsLong() : null;
+    }
+
+    /**
+     * Reads the lines from {@value #NUM_SAMPLE_SEGMENTS} evenly spaced segments of the input file, so that the sample
+     * is not biased towards the head of the file.
+     */
+    @Override
+    public List<?> readSample(int maxSize) {
+        final FileSystem fileSystem = FileSystems.getFileSystem(this.inputUrl).orElseThrow(
+                () -> new RheemException(String.format("Cannot access file system of %s.", this.inputUrl))
+        );
+        try {
+            // If the file is small, we can read it as a whole.
+            final List<String> head = new ArrayList<>();
+            if (this.readLines(fileSystem, 0L, Long.MAX_VALUE, maxSize, head)) {
+                return head;
+            }
+
+            final long fileSize = fileSystem.getFileSize(this.inputUrl);
+            final long segmentLength = fileSize / NUM_SAMPLE_SEGMENTS;
+            final List<String> sample = new ArrayList<>(maxSize);
+            for (int segment = 0; segment < NUM_SAMPLE_SEGMENTS; segment++) {
+                // Segments with too few lines leave their share to the following segments.
+                final int numRemainingSegments = NUM_SAMPLE_SEGMENTS - segment;
+                final int quota = (maxSize - sample.size() + numRemainingSegments - 1) / numRemainingSegments;
+                final long start = segment * segmentLength;
+                final long end = segment == NUM_SAMPLE_SEGMENTS - 1 ? Long.MAX_VALUE : start + segmentLength;
+                this.readLines(fileSystem, start, end, sample.size() + quota, sample);
+            }
+            if (sample.size() < maxSize) {
+                // The lines are too unevenly distributed, but a short sample would be taken for the complete file.
+                this.logger.debug("Could not sample {} evenly; resorting to its first lines.", this.inputUrl);
+                return head;
+            }
+            return sample;
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not sample %s.", this.inputUrl), e);
+        }
+    }
+
+    /**
+     * Reads the lines that start within a byte range of the input file. Byte positions are derived from the decoded
+     * lines and are thus approximate for line breaks other than {@code \n}.
+     *
+     * @param fileSystem the {@link FileSystem} of the input file
+     * @param start      the inclusive start of the byte range
+     * @param end        the exclusive end of the byte range
+     * @param maxLines   the number of {@code lines} after which to stop reading
+     * @param lines      collects the read lines
+     * @return whether all lines of the byte range have been read
+     */
+    private boolean readLines(FileSystem fileSystem, long start, long end, int maxLines, List<String> lines)
+            throws IOException {
+        try (InputStream inputStream = fileSystem.open(this.inputUrl)) {
+            // Skip to the byte before the range and drop the line that it belongs to.
+            long position = Math.max(0L, start - 1);
+            for (long toSkip = position; toSkip > 0; ) {
+                final long skipped = inputStream.skip(toSkip);
+                if (skipped <= 0) return true;
+                toSkip -= skipped;
+            }
+            final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, this.encoding));
+            String line;
+            if (start > 0) {
+                if ((line = bufferedReader.readLine()) == null) return true;
+                position += line.getBytes(this.encoding).length + 1;
+            }
+            while (position < end) {
+                if (lines.size() >= maxLines) return false;
+                if ((line = bufferedReader.readLine()) == null) return true;
+                lines.add(line);
+                position += line.getBytes(this.encoding).length + 1;
+            }
+            return true;
+        }
+    }
 }
@@ -11,6 +11,9 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -60,4 +63,20 @@ public class TextFileSourceTest {
         Assert.assertTrue(estimate.getUpperEstimate() >= numLineFeeds);
     }
 
+    @Test
+    public void testReadSample() throws URISyntaxException, IOException {
+        final URL testFile = this.getClass().getResource("/ulysses.txt");
+        final TextFileSource textFileSource = new TextFileSource(testFile.toString());
+        final List<String> lines = Files.readAllLines(Paths.get(testFile.toURI()));
+
+        final List<?> sample = textFileSource.readSample(100);
+        Assert.assertEquals(100, sample.size());
+        Assert.assertTrue(lines.containsAll(sample));
+        // The sample should not be confined to the head of the file.
+        Assert.assertTrue(sample.stream().anyMatch(line -> lines.indexOf(line) > lines.size() / 2));
+
+        // Small files should be sampled completely.
+        Assert.assertEquals(lines, textFileSource.readSample(lines.size() + 1));
+    }
+
 }
@@ -0,0 +1,72 @@
+package org.qcri.rheem.benchmarks.java;
+
+import org.openjdk.jmh.annotations.Param;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.operators.JavaCartesianOperator;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+import org.qcri.rheem.java.operators.JavaJoinOperator;
+import org.qcri.rheem.java.operators.JavaUnionAllOperator;
+import org.qcri.rheem.profiler.data.DataGenerators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks {@link JavaExecutionOperator}s with two inputs of the same cardinality. The data quanta and UDFs
+ * correspond to those of the {@link org.qcri.rheem.profiler.java.OperatorProfilers}.
+ */
+public class JavaBinaryOperatorBenchmark extends JavaOperatorBenchmarkBase {
+
+    /**
+     * Names the benchmarked {@link JavaExecutionOperator} as in its {@code rheem.java.<operator>.load} key.
+     */
+    @Param({"join", "union", "cartesian"})
+    public String operator;
+
+    /**
+     * Cardinality of each input. Note that the output of the cartesian product grows quadratically.
+     */
+    @Param({"100", "1000", "10000"})
+    public int inputCardinality;
+
+    @Override
+    protected JavaExecutionOperator createOperator() {
+        final Random random = new Random(SEED);
+        switch (this.operator) {
+            case "join": {
+                final List<String> stringReservoir = new ArrayList<>();
+                final DataGenerators.Generator<String> generator =
+                        DataGenerators.createReservoirBasedStringSupplier(stringReservoir, 0.3, random, 4, 6);
+                this.addInput(generator, this.inputCardinality);
+                this.addInput(generator, this.inputCardinality);
+                return new JavaJoinOperator<>(
+                        DataSetType.createDefault(String.class),
+                        DataSetType.createDefault(String.class),
+                        new TransformationDescriptor<>(String::new, String.class, String.class),
+                        new TransformationDescriptor<>(String::new, String.class, String.class)
+                );
+            }
+            case "union": {
+                final List<String> stringReservoir = new ArrayList<>();
+                final DataGenerators.Generator<String> generator =
+                        DataGenerators.createReservoirBasedStringSupplier(stringReservoir, 0.3, random, 4, 6);
+                this.addInput(generator, this.inputCardinality);
+                this.addInput(generator, this.inputCardinality);
+                return new JavaUnionAllOperator<>(DataSetType.createDefault(String.class));
+            }
+            case "cartesian":
+                this.addInput(DataGenerators.createRandomIntegerSupplier(random), this.inputCardinality);
+                this.addInput(DataGenerators.createRandomIntegerSupplier(random), this.inputCardinality);
+                return new JavaCartesianOperator<>(
+                        DataSetType.createDefault(Integer.class),
+                        DataSetType.createDefault(Integer.class)
+                );
+            default:
+                throw new RheemException(String.format("Unknown operator: %s", this.operator));
+        }
+    }
+
+}
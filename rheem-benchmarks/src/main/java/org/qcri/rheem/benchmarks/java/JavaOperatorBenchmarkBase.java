@@ -0,0 +1,128 @@
+package org.qcri.rheem.benchmarks.java;
+
+import org.openjdk.jmh.annotations.*;
+import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+import org.qcri.rheem.profiler.util.ProfilingUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Common setup for JMH benchmarks of {@link JavaExecutionOperator}s. Subclasses create the benchmarked
+ * {@link JavaExecutionOperator} and its input data quanta once per trial; each invocation then evaluates the
+ * {@link JavaExecutionOperator} on fresh {@link ChannelInstance}s and consumes its output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public abstract class JavaOperatorBenchmarkBase {
+
+    /**
+     * Seed for the data generators, so that all forks see the same data quanta.
+     */
+    protected static final long SEED = 42L;
+
+    protected JavaExecutor executor;
+
+    protected JavaExecutionOperator operator;
+
+    protected OptimizationContext.OperatorContext operatorContext;
+
+    /**
+     * Input data quanta for each {@link org.qcri.rheem.core.plan.rheemplan.InputSlot} of the {@link #operator}.
+     */
+    protected List<Collection<?>> inputs;
+
+    /**
+     * Sets up the {@link #executor}, {@link #operator}, and {@link #inputs}.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.executor = ProfilingUtils.fakeJavaExecutor();
+        this.inputs = new ArrayList<>();
+        this.operator = this.createOperator();
+
+        OptimizationContext optimizationContext = new DefaultOptimizationContext(this.executor.getConfiguration());
+        this.operatorContext = optimizationContext.addOneTimeOperator(this.operator);
+        for (int i = 0; i < this.operator.getNumInputs(); i++) {
+            final int cardinality = this.inputs.get(i).size();
+            this.operatorContext.setInputCardinality(i, new CardinalityEstimate(cardinality, cardinality, 1d));
+        }
+    }
+
+    /**
+     * Creates the {@link JavaExecutionOperator} to benchmark and registers its input data quanta via
+     * {@link #addInput(Supplier, int)}.
+     *
+     * @return the {@link JavaExecutionOperator}
+     */
+    protected abstract JavaExecutionOperator createOperator() throws Exception;
+
+    /**
+     * Generates input data quanta for the next {@link org.qcri.rheem.core.plan.rheemplan.InputSlot}.
+     *
+     * @param generator   generates the data quanta, e.g., from {@link org.qcri.rheem.profiler.data.DataGenerators}
+     * @param cardinality the number of data quanta to generate
+     */
+    protected void addInput(Supplier<?> generator, int cardinality) {
+        List<Object> dataQuanta = new ArrayList<>(cardinality);
+        for (int i = 0; i < cardinality; i++) {
+            dataQuanta.add(generator.get());
+        }
+        this.inputs.add(dataQuanta);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.executor.dispose();
+    }
+
+    /**
+     * Evaluates the {@link #operator} on the {@link #inputs}.
+     *
+     * @return the number of output data quanta, so that JMH cannot eliminate the evaluation
+     */
+    @Benchmark
+    public long evaluate() {
+        ChannelInstance[] inputChannelInstances = new ChannelInstance[this.operator.getNumInputs()];
+        for (int i = 0; i < inputChannelInstances.length; i++) {
+            final CollectionChannel.Instance channelInstance = (CollectionChannel.Instance)
+                    this.createChannelInstance(CollectionChannel.DESCRIPTOR);
+            channelInstance.accept(this.inputs.get(i));
+            inputChannelInstances[i] = channelInstance;
+        }
+        ChannelInstance[] outputChannelInstances = new ChannelInstance[this.operator.getNumOutputs()];
+        for (int i = 0; i < outputChannelInstances.length; i++) {
+            outputChannelInstances[i] = this.createChannelInstance(this.operator.getSupportedOutputChannels(i).get(0));
+        }
+
+        this.operator.evaluate(inputChannelInstances, outputChannelInstances, this.executor, this.operatorContext);
+
+        long numOutputDataQuanta = 0L;
+        for (ChannelInstance outputChannelInstance : outputChannelInstances) {
+            numOutputDataQuanta += ((JavaChannelInstance) outputChannelInstance).provideStream().count();
+        }
+        return numOutputDataQuanta;
+    }
+
+    private ChannelInstance createChannelInstance(ChannelDescriptor descriptor) {
+        return descriptor
+                .createChannel(null, this.executor.getConfiguration())
+                .createInstance(this.executor, null, -1);
+    }
+
+}
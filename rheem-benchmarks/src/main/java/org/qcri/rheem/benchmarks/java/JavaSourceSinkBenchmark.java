@@ -0,0 +1,89 @@
+package org.qcri.rheem.benchmarks.java;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.TearDown;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.operators.JavaCollectionSource;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+import org.qcri.rheem.java.operators.JavaLocalCallbackSink;
+import org.qcri.rheem.java.operators.JavaTextFileSource;
+import org.qcri.rheem.profiler.data.DataGenerators;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks source and sink {@link JavaExecutionOperator}s.
+ */
+public class JavaSourceSinkBenchmark extends JavaOperatorBenchmarkBase {
+
+    /**
+     * Names the benchmarked {@link JavaExecutionOperator} as in its {@code rheem.java.<operator>.load} key.
+     */
+    @Param({"collectionsource", "textfilesource", "localcallbacksink"})
+    public String operator;
+
+    /**
+     * Number of data quanta to be emitted by sources or to be consumed by sinks.
+     */
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int inputCardinality;
+
+    /**
+     * Input file for the {@link JavaTextFileSource}.
+     */
+    private File textFile;
+
+    @Override
+    protected JavaExecutionOperator createOperator() throws IOException {
+        final Random random = new Random(SEED);
+        switch (this.operator) {
+            case "collectionsource": {
+                Collection<Integer> collection = generate(DataGenerators.createRandomIntegerSupplier(random), this.inputCardinality);
+                return new JavaCollectionSource<>(collection, DataSetType.createDefault(Integer.class));
+            }
+            case "textfilesource": {
+                this.textFile = File.createTempFile("rheem-benchmark", ".txt");
+                final Supplier<String> generator = DataGenerators.createRandomStringSupplier(20, 40, random);
+                try (BufferedWriter writer = Files.newBufferedWriter(this.textFile.toPath(), StandardCharsets.UTF_8)) {
+                    for (int i = 0; i < this.inputCardinality; i++) {
+                        writer.write(generator.get());
+                        writer.newLine();
+                    }
+                }
+                return new JavaTextFileSource(this.textFile.toURI().toString());
+            }
+            case "localcallbacksink":
+                this.addInput(DataGenerators.createRandomIntegerSupplier(random), this.inputCardinality);
+                return new JavaLocalCallbackSink<>(obj -> {
+                }, DataSetType.createDefault(Integer.class));
+            default:
+                throw new RheemException(String.format("Unknown operator: %s", this.operator));
+        }
+    }
+
+    private static <T> Collection<T> generate(Supplier<T> generator, int cardinality) {
+        Collection<T> dataQuanta = new ArrayList<>(cardinality);
+        for (int i = 0; i < cardinality; i++) {
+            dataQuanta.add(generator.get());
+        }
+        return dataQuanta;
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteTextFile() {
+        if (this.textFile != null && !this.textFile.delete()) {
+            this.textFile.deleteOnExit();
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.qcri.rheem.benchmarks.java;
+
+import org.openjdk.jmh.annotations.Param;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.RheemArrays;
+import org.qcri.rheem.java.operators.*;
+import org.qcri.rheem.profiler.data.DataGenerators;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Benchmarks {@link JavaExecutionOperator}s with a single input. The data quanta and UDFs correspond to those of
+ * the {@link org.qcri.rheem.profiler.java.OperatorProfilers}.
+ */
+public class JavaUnaryOperatorBenchmark extends JavaOperatorBenchmarkBase {
+
+    /**
+     * Names the benchmarked {@link JavaExecutionOperator} as in its {@code rheem.java.<operator>.load} key.
+     */
+    @Param({"map", "filter", "flatmap", "reduceby", "groupby", "globalreduce", "count", "distinct", "sort"})
+    public String operator;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int inputCardinality;
+
+    @Override
+    protected JavaExecutionOperator createOperator() {
+        final Random random = new Random(SEED);
+        switch (this.operator) {
+            case "map":
+                this.addInput(DataGenerators.createRandomIntegerSupplier(random), this.inputCardinality);
+                return new JavaMapOperator<>(
+                        DataSetType.createDefault(Integer.class),
+                        DataSetType.createDefault(Integer.class),
+                        new TransformationDescriptor<>(i -> i, Integer.class, Integer.class)
+                );
+            case "filter":
+                this.addInput(DataGenerators.createRandomIntegerSupplier(random), this.inputCardinality);
+                return new JavaFilterOperator<>(
+                        DataSetType.createDefault(Integer.class),
+                        new PredicateDescriptor<>(i -> (i & 1) == 0, Integer.class)
+                );
+            case "flatmap":
+                this.addInput(DataGenerators.createRandomIntegerSupplier(random), this.inputCardinality);
+                return new JavaFlatMapOperator<>(
+                        DataSetType.createDefault(Integer.class),
+                        DataSetType.createDefault(Integer.class),
+                        new FlatMapDescriptor<>(RheemArrays::asList, Integer.class, Integer.class)
+                );
+            case "reduceby":
+                this.addInput(this.createStringGenerator(random), this.inputCardinality);
+                return new JavaReduceByOperator<>(
+                        DataSetType.createDefault(String.class),
+                        new TransformationDescriptor<>(String::new, String.class, String.class),
+                        new ReduceDescriptor<>((s1, s2) -> s1, String.class)
+                );
+            case "groupby":
+                this.addInput(this.createStringGenerator(random), this.inputCardinality);
+                return new JavaMaterializedGroupByOperator<>(
+                        new TransformationDescriptor<>(String::new, String.class, String.class),
+                        DataSetType.createDefault(String.class),
+                        DataSetType.createDefaultUnchecked(Iterable.class)
+                );
+            case "globalreduce":
+                this.addInput(this.createStringGenerator(random), this.inputCardinality);
+                return new JavaGlobalReduceOperator<>(
+                        DataSetType.createDefault(String.class),
+                        new ReduceDescriptor<>((s1, s2) -> s1, String.class)
+                );
+            case "count":
+                this.addInput(DataGenerators.createRandomIntegerSupplier(random), this.inputCardinality);
+                return new JavaCountOperator<>(DataSetType.createDefault(Integer.class));
+            case "distinct":
+                this.addInput(this.createStringGenerator(random), this.inputCardinality);
+                return new JavaDistinctOperator<>(DataSetType.createDefault(String.class));
+            case "sort":
+                this.addInput(this.createStringGenerator(random), this.inputCardinality);
+                return new JavaSortOperator<>(DataSetType.createDefault(String.class));
+            default:
+                throw new RheemException(String.format("Unknown operator: %s", this.operator));
+        }
+    }
+
+    /**
+     * Creates strings of 4 to 20 characters with 70% duplicates.
+     */
+    private DataGenerators.Generator<String> createStringGenerator(Random random) {
+        return DataGenerators.createReservoirBasedStringSupplier(new ArrayList<>(), 0.7, random, 4, 20);
+    }
+
+}
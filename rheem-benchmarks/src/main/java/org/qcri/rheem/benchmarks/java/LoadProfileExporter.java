@@ -0,0 +1,145 @@
+package org.qcri.rheem.benchmarks.java;
+
+import org.apache.commons.io.IOUtils;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.java.platform.JavaPlatform;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Converts the JSON results of the JMH benchmarks in this module (run with {@code -rf json}) into
+ * {@code rheem.java.<operator>.load} specifications. For each benchmarked operator, the CPU cycles per evaluation
+ * are fitted linearly to the cardinalities via least squares. All other entries of the specifications are retained
+ * from the current {@link Configuration}.
+ * <p>Usage: run {@code java -jar rheem-benchmarks-<version>-benchmarks.jar -rf json -rff results.json} and then
+ * {@code java -cp rheem-benchmarks-<version>-benchmarks.jar org.qcri.rheem.benchmarks.java.LoadProfileExporter results.json}.</p>
+ */
+public class LoadProfileExporter {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.printf("Usage: java %s <JMH JSON result file>\n", LoadProfileExporter.class);
+            System.exit(1);
+        }
+
+        JSONArray jsonResults;
+        try (InputStream in = new FileInputStream(args[0])) {
+            jsonResults = new JSONArray(IOUtils.toString(in, StandardCharsets.UTF_8));
+        }
+
+        JavaPlatform.getInstance();
+        final Configuration configuration = new Configuration();
+        final double cyclesPerNano = configuration.getLongProperty("rheem.java.cpu.mhz", 2700) / 1e3;
+
+        // Collect the measurements per operator.
+        Map<String, List<double[]>> measurements = new TreeMap<>();
+        for (int i = 0; i < jsonResults.length(); i++) {
+            final JSONObject jsonResult = jsonResults.getJSONObject(i);
+            final JSONObject jsonParams = jsonResult.getJSONObject("params");
+            final String operator = jsonParams.getString("operator");
+            final long inputCardinality = jsonParams.getLong("inputCardinality");
+            final JSONObject jsonMetric = jsonResult.getJSONObject("primaryMetric");
+            final double nanos = jsonMetric.getDouble("score") * toNanos(jsonMetric.getString("scoreUnit"));
+            measurements.computeIfAbsent(operator, key -> new ArrayList<>()).add(new double[]{
+                    getRegressor(jsonResult.getString("benchmark"), operator, inputCardinality),
+                    nanos * cyclesPerNano
+            });
+        }
+
+        for (Map.Entry<String, List<double[]>> entry : measurements.entrySet()) {
+            final String operator = entry.getKey();
+            final String key = String.format("rheem.java.%s.load", operator);
+            final JSONObject spec = new JSONObject(configuration.getOptionalStringProperty(key).orElse(
+                    "{\"in\":1, \"out\":1, \"ram\":\"0\", \"p\":0.9}"
+            ));
+            spec.put("cpu", createCpuExpression(entry.getValue(), getVariable(operator, spec)));
+            System.out.println(formatProperty(key, spec));
+            System.out.println();
+        }
+    }
+
+    /**
+     * Provides the factor to convert the given JMH score unit into nanoseconds.
+     */
+    private static double toNanos(String scoreUnit) {
+        switch (scoreUnit) {
+            case "ns/op":
+                return 1d;
+            case "us/op":
+                return 1e3;
+            case "ms/op":
+                return 1e6;
+            case "s/op":
+                return 1e9;
+            default:
+                throw new RheemException(String.format("Unsupported score unit: %s (use -bm avgt)", scoreUnit));
+        }
+    }
+
+    /**
+     * Determines the value of the variable returned by {@link #getVariable(String, JSONObject)} for a benchmark.
+     */
+    private static double getRegressor(String benchmark, String operator, long inputCardinality) {
+        if (operator.equals("cartesian")) return inputCardinality * (double) inputCardinality;
+        if (benchmark.startsWith(JavaBinaryOperatorBenchmark.class.getName())) return 2d * inputCardinality;
+        return inputCardinality;
+    }
+
+    /**
+     * Determines the JUEL term that the CPU load of the operator is proportional to.
+     */
+    private static String getVariable(String operator, JSONObject spec) {
+        if (operator.equals("cartesian") || spec.getInt("in") == 0) return "out0";
+        if (spec.getInt("in") == 2) return "(in0 + in1)";
+        return "in0";
+    }
+
+    /**
+     * Fits a line through the given points via least squares and creates a JUEL expression from it.
+     */
+    private static String createCpuExpression(List<double[]> points, String variable) {
+        double n = points.size(), sumX = 0d, sumY = 0d, sumXX = 0d, sumXY = 0d;
+        for (double[] point : points) {
+            sumX += point[0];
+            sumY += point[1];
+            sumXX += point[0] * point[0];
+            sumXY += point[0] * point[1];
+        }
+        final double varianceX = sumXX / n - (sumX / n) * (sumX / n);
+        double slope = varianceX > 0d ? (sumXY / n - (sumX / n) * (sumY / n)) / varianceX : 0d;
+        double intercept = sumY / n - slope * sumX / n;
+        if (slope < 0d) {
+            slope = 0d;
+            intercept = sumY / n;
+        } else if (intercept < 0d) {
+            slope = sumXY / sumXX;
+            intercept = 0d;
+        }
+        return String.format("${%d*%s + %d}", Math.round(slope), variable, Math.round(intercept));
+    }
+
+    /**
+     * Formats a specification like in the {@code rheem-java-defaults.properties}.
+     */
+    private static String formatProperty(String key, JSONObject spec) {
+        StringBuilder sb = new StringBuilder().append(key).append(" = {\\\n");
+        sb.append("  \"in\":").append(spec.getInt("in")).append(", \"out\":").append(spec.getInt("out"));
+        List<String> entries = new ArrayList<>();
+        for (String field : new TreeSet<>(spec.keySet())) {
+            if (field.equals("in") || field.equals("out")) continue;
+            entries.add(String.format("  \"%s\":%s", field, JSONObject.valueToString(spec.get(field))));
+        }
+        for (String entry : entries) {
+            sb.append(",\\\n").append(entry);
+        }
+        return sb.append("\\\n}").toString();
+    }
+
+}
@@ -0,0 +1,216 @@
+package org.qcri.rheem.benchmarks.optimizer;
+
+import de.hpi.isg.profiledb.store.model.Experiment;
+import de.hpi.isg.profiledb.store.model.Measurement;
+import de.hpi.isg.profiledb.store.model.Subject;
+import de.hpi.isg.profiledb.store.model.TimeMeasurement;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.RheemContext;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.graphchi.GraphChi;
+import org.qcri.rheem.java.Java;
+import org.qcri.rheem.postgres.Postgres;
+import org.qcri.rheem.spark.Spark;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the overhead of the Rheem optimizer on {@link RheemPlan}s from the {@link SyntheticPlanGenerator}.
+ * Each run creates a {@link Job} that is only optimized via {@link Job#buildInitialExecutionPlan()} with the
+ * Java, Spark, Postgres, and GraphChi plugins registered, so that most operators come with several alternatives.
+ * The latencies of the optimization phases are taken from the {@link Experiment} of the {@link Job} and averaged
+ * over all measured runs. Furthermore, the bytes allocated by the optimizing thread are reported per run.
+ * <p>Usage: {@code java -cp rheem-benchmarks-<version>-benchmarks.jar
+ * org.qcri.rheem.benchmarks.optimizer.OptimizerBenchmark <shape>[,<shape>...] <size>[,<size>...]
+ * [<warm-up runs> [<measured runs> [<source cardinality>]]]}</p>
+ */
+public class OptimizerBenchmark {
+
+    /**
+     * Provides the {@link Configuration} for the benchmarked {@link Job}s.
+     */
+    private final RheemContext rheemContext;
+
+    private final SyntheticPlanGenerator planGenerator;
+
+    /**
+     * Measures the bytes allocated by the current thread if supported by the JVM.
+     */
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    public OptimizerBenchmark(int sourceCardinality) {
+        Configuration configuration = new Configuration();
+        // Otherwise, all but the first run would be served from the plan cache.
+        configuration.setProperty("rheem.core.optimizer.plancache.capacity", "0");
+        this.rheemContext = new RheemContext(configuration)
+                .with(Java.basicPlugin())
+                .with(Java.graphPlugin())
+                .with(Spark.basicPlugin())
+                .with(Spark.graphPlugin())
+                .with(Postgres.plugin())
+                .with(GraphChi.plugin());
+        this.planGenerator = new SyntheticPlanGenerator(sourceCardinality);
+
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            this.threadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.threadMXBean = null;
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.printf("Usage: java %s <shape>[,<shape>...] <size>[,<size>...] " +
+                    "[<warm-up runs> [<measured runs> [<source cardinality>]]]\n", OptimizerBenchmark.class);
+            System.err.printf("Shapes: %s\n", SyntheticPlanGenerator.SHAPES);
+            System.exit(1);
+        }
+        final String[] shapes = args[0].split(",");
+        final int[] sizes = Arrays.stream(args[1].split(",")).mapToInt(Integer::parseInt).toArray();
+        final int numWarmUpRuns = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        final int numMeasuredRuns = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        final int sourceCardinality = args.length > 4 ? Integer.parseInt(args[4]) : 1000;
+
+        OptimizerBenchmark benchmark = new OptimizerBenchmark(sourceCardinality);
+        for (String shape : shapes) {
+            for (int size : sizes) {
+                final Result result = benchmark.run(shape, size, numWarmUpRuns, numMeasuredRuns);
+                System.out.println(result);
+            }
+        }
+    }
+
+    /**
+     * Benchmarks the optimization of {@link RheemPlan}s with the given shape and size.
+     *
+     * @param shape           see {@link SyntheticPlanGenerator#SHAPES}
+     * @param size            see {@link SyntheticPlanGenerator#create(String, int)}
+     * @param numWarmUpRuns   number of runs that are not measured
+     * @param numMeasuredRuns number of runs to average the measurements over
+     * @return the {@link Result}
+     */
+    public Result run(String shape, int size, int numWarmUpRuns, int numMeasuredRuns) {
+        if (numMeasuredRuns < 1) {
+            throw new RheemException("At least one run must be measured.");
+        }
+        for (int i = 0; i < numWarmUpRuns; i++) {
+            this.optimize(shape, size, null);
+        }
+        Result result = new Result(shape, size);
+        for (int i = 0; i < numMeasuredRuns; i++) {
+            this.optimize(shape, size, result);
+        }
+        return result;
+    }
+
+    /**
+     * Optimizes a new {@link RheemPlan} and adds the measurements to the given {@link Result}.
+     *
+     * @param result collects the measurements or {@code null} if they should be discarded
+     */
+    private void optimize(String shape, int size, Result result) {
+        final RheemPlan rheemPlan = this.planGenerator.create(shape, size);
+        final Experiment experiment = new Experiment("rheem-optimizer-benchmark", new Subject("Rheem", "0.1"));
+        final Job job = this.rheemContext.createJob(String.format("%s(%d)", shape, size), rheemPlan, experiment);
+
+        final long threadId = Thread.currentThread().getId();
+        final long startAllocatedBytes = this.threadMXBean == null ? 0L : this.threadMXBean.getThreadAllocatedBytes(threadId);
+        job.buildInitialExecutionPlan();
+        final long allocatedBytes = this.threadMXBean == null ?
+                -1L :
+                this.threadMXBean.getThreadAllocatedBytes(threadId) - startAllocatedBytes;
+
+        if (result != null) {
+            result.add(experiment, allocatedBytes);
+        }
+    }
+
+    /**
+     * Aggregates the measurements of several runs for a plan shape and size.
+     */
+    public static class Result {
+
+        private final String shape;
+
+        private final int size;
+
+        private int numRuns = 0;
+
+        private long sumAllocatedBytes = 0L;
+
+        /**
+         * Sums of the measured milliseconds per optimization phase. The phases are identified by the paths of their
+         * {@link TimeMeasurement}s and kept in the order of their first appearance.
+         */
+        private final Map<String, Long> sumMillis = new LinkedHashMap<>();
+
+        private Result(String shape, int size) {
+            this.shape = shape;
+            this.size = size;
+        }
+
+        private void add(Experiment experiment, long allocatedBytes) {
+            this.numRuns++;
+            this.sumAllocatedBytes += allocatedBytes;
+            for (Measurement measurement : experiment.getMeasurements()) {
+                if (measurement instanceof TimeMeasurement && "Optimization".equals(measurement.getId())) {
+                    this.add(Collections.emptyList(), (TimeMeasurement) measurement);
+                }
+            }
+        }
+
+        private void add(List<String> parentPath, TimeMeasurement timeMeasurement) {
+            List<String> path = new ArrayList<>(parentPath);
+            path.add(timeMeasurement.getId());
+            this.sumMillis.merge(String.join("\t", path), timeMeasurement.getMillis(), Long::sum);
+            for (TimeMeasurement round : timeMeasurement.getRounds()) {
+                this.add(path, round);
+            }
+        }
+
+        /**
+         * @return the average milliseconds per optimization phase, identified by their tab-separated paths
+         */
+        public Map<String, Double> getAverageMillis() {
+            return this.sumMillis.entrySet().stream().collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> entry.getValue() / (double) this.numRuns,
+                    (millis1, millis2) -> millis1,
+                    LinkedHashMap::new
+            ));
+        }
+
+        /**
+         * @return the average bytes allocated per run or a negative value if they could not be measured
+         */
+        public double getAverageAllocatedBytes() {
+            return this.sumAllocatedBytes / (double) this.numRuns;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%s(%d): %d runs, ", this.shape, this.size, this.numRuns));
+            final double averageAllocatedBytes = this.getAverageAllocatedBytes();
+            if (averageAllocatedBytes < 0) {
+                sb.append("allocation not measurable\n");
+            } else {
+                sb.append(String.format("%,.0f bytes allocated per run\n", averageAllocatedBytes));
+            }
+            for (Map.Entry<String, Double> entry : this.getAverageMillis().entrySet()) {
+                final String[] path = entry.getKey().split("\t");
+                final String indentedPhase = String.join("", Collections.nCopies(path.length, "  ")) + path[path.length - 1];
+                sb.append(String.format("%-60s %10.2f ms\n", indentedPhase, entry.getValue()));
+            }
+            return sb.toString();
+        }
+    }
+
+}
@@ -0,0 +1,252 @@
+package org.qcri.rheem.benchmarks.optimizer;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.operators.*;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Generates synthetic {@link RheemPlan}s of different shapes and sizes for benchmarking the optimizer. The plans are
+ * not meant to be executed: their UDFs are trivial and their {@link CollectionSource}s only serve to provide
+ * cardinalities. Each call creates a new {@link RheemPlan}, as the optimization alters the plans.
+ * <p>The supported shapes are:</p>
+ * <ul>
+ * <li>{@code chain}: a pipeline of {@code size} {@link Record} filters with SQL implementations and projections,
+ * which also yields Postgres alternatives,</li>
+ * <li>{@code star}: a central source that is joined with {@code size} filtered sources,</li>
+ * <li>{@code diamond}: a source that is split into {@code size} branches that are united again,</li>
+ * <li>{@code loop}: {@code size} nested {@link RepeatOperator}s,</li>
+ * <li>{@code graph}: {@code size} {@link PageRankOperator}s over the same edges, which also yields GraphChi
+ * alternatives.</li>
+ * </ul>
+ */
+public class SyntheticPlanGenerator {
+
+    /**
+     * Names of the supported plan shapes.
+     */
+    public static final List<String> SHAPES = Arrays.asList("chain", "star", "diamond", "loop", "graph");
+
+    /**
+     * Number of data quanta in each source.
+     */
+    private final int sourceCardinality;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sourceCardinality the number of data quanta in each source
+     */
+    public SyntheticPlanGenerator(int sourceCardinality) {
+        this.sourceCardinality = sourceCardinality;
+    }
+
+    /**
+     * Creates a new {@link RheemPlan}.
+     *
+     * @param shape one of {@link #SHAPES}
+     * @param size  the size of the plan; its meaning depends on the {@code shape}
+     * @return the {@link RheemPlan}
+     */
+    public RheemPlan create(String shape, int size) {
+        if (size < 1) {
+            throw new RheemException(String.format("Illegal plan size: %d", size));
+        }
+        switch (shape) {
+            case "chain":
+                return this.createChain(size);
+            case "star":
+                return this.createStar(size);
+            case "diamond":
+                return this.createDiamond(size);
+            case "loop":
+                return this.createLoop(size);
+            case "graph":
+                return this.createGraph(size);
+            default:
+                throw new RheemException(String.format("Unknown plan shape: %s (choose from %s)", shape, SHAPES));
+        }
+    }
+
+    /**
+     * Creates a pipeline of alternating {@link Record} filters and projections.
+     */
+    private RheemPlan createChain(int size) {
+        final RecordType recordType = new RecordType("id", "value");
+        List<Record> records = new ArrayList<>(this.sourceCardinality);
+        for (int i = 0; i < this.sourceCardinality; i++) {
+            records.add(new Record(i, i % 100));
+        }
+        Operator lastOperator = new CollectionSource<>(records, DataSetType.createDefault(recordType));
+
+        for (int i = 0; i < size; i++) {
+            Operator operator;
+            if (i % 2 == 0) {
+                final int threshold = i;
+                operator = new FilterOperator<>(
+                        new PredicateDescriptor<>(
+                                (PredicateDescriptor.SerializablePredicate<Record>) r -> r.getInt(1) >= threshold,
+                                Record.class
+                        ).withSqlImplementation(String.format("value >= %d", threshold)),
+                        DataSetType.createDefault(recordType)
+                );
+            } else {
+                operator = MapOperator.createProjection(recordType, "id", "value");
+            }
+            lastOperator.connectTo(0, operator, 0);
+            lastOperator = operator;
+        }
+
+        return this.createSinkFor(lastOperator, DataSetType.createDefault(recordType));
+    }
+
+    /**
+     * Creates a central source that is joined successively with filtered sources.
+     */
+    private RheemPlan createStar(int size) {
+        Operator lastOperator = this.createIntegerSource();
+        for (int i = 0; i < size; i++) {
+            final int modulus = i + 2;
+            FilterOperator<Integer> filter = new FilterOperator<>(n -> n % modulus == 0, Integer.class);
+            this.createIntegerSource().connectTo(0, filter, 0);
+
+            JoinOperator<Integer, Integer, Integer> join = new JoinOperator<>(
+                    n -> n, n -> n, Integer.class, Integer.class, Integer.class
+            );
+            lastOperator.connectTo(0, join, 0);
+            filter.connectTo(0, join, 1);
+
+            MapOperator<Tuple2<Integer, Integer>, Integer> unpack = new MapOperator<>(
+                    new TransformationDescriptor<>(
+                            tuple -> tuple.field0,
+                            DataUnitType.createBasicUnchecked(Tuple2.class),
+                            DataUnitType.createBasic(Integer.class)
+                    )
+            );
+            join.connectTo(0, unpack, 0);
+            lastOperator = unpack;
+        }
+
+        return this.createSinkFor(lastOperator, DataSetType.createDefault(Integer.class));
+    }
+
+    /**
+     * Creates a source whose data quanta run through parallel branches that are united again.
+     */
+    private RheemPlan createDiamond(int size) {
+        CollectionSource<Integer> source = this.createIntegerSource();
+        Operator lastOperator = null;
+        for (int i = 0; i < size; i++) {
+            final int increment = i;
+            MapOperator<Integer, Integer> map = new MapOperator<>(n -> n + increment, Integer.class, Integer.class);
+            FilterOperator<Integer> filter = new FilterOperator<>(n -> n % 2 == 0, Integer.class);
+            source.connectTo(0, map, 0);
+            map.connectTo(0, filter, 0);
+
+            if (lastOperator == null) {
+                lastOperator = filter;
+            } else {
+                UnionAllOperator<Integer> union = new UnionAllOperator<>(Integer.class);
+                lastOperator.connectTo(0, union, 0);
+                filter.connectTo(0, union, 1);
+                lastOperator = union;
+            }
+        }
+
+        return this.createSinkFor(lastOperator, DataSetType.createDefault(Integer.class));
+    }
+
+    /**
+     * Creates nested {@link RepeatOperator}s.
+     */
+    private RheemPlan createLoop(int depth) {
+        CollectionSource<Integer> source = this.createIntegerSource();
+        Operator[] loopBody = this.createLoopBody(depth);
+        source.connectTo(0, loopBody[0], 0);
+        return this.createSinkFor(loopBody[1], DataSetType.createDefault(Integer.class));
+    }
+
+    /**
+     * Creates a {@link MapOperator} followed by a {@link RepeatOperator} with a nested loop body of
+     * {@code depth - 1}, followed by another {@link MapOperator}. For a {@code depth} of {@code 0}, only a single
+     * {@link MapOperator} is created.
+     *
+     * @return the first and the last {@link Operator} of the loop body
+     */
+    private Operator[] createLoopBody(int depth) {
+        if (depth == 0) {
+            MapOperator<Integer, Integer> increment = new MapOperator<>(n -> n + 1, Integer.class, Integer.class);
+            return new Operator[]{increment, increment};
+        }
+
+        MapOperator<Integer, Integer> head = new MapOperator<>(n -> n + 1, Integer.class, Integer.class);
+        RepeatOperator<Integer> repeat = new RepeatOperator<>(depth + 1, Integer.class);
+        Operator[] innerLoopBody = this.createLoopBody(depth - 1);
+        MapOperator<Integer, Integer> tail = new MapOperator<>(n -> n - 1, Integer.class, Integer.class);
+
+        repeat.initialize(head, 0);
+        repeat.beginIteration(innerLoopBody[0], 0);
+        repeat.endIteration(innerLoopBody[1], 0);
+        repeat.connectFinalOutputTo(tail, 0);
+
+        return new Operator[]{head, tail};
+    }
+
+    /**
+     * Creates parallel {@link PageRankOperator}s over the same edges whose outputs are united.
+     */
+    private RheemPlan createGraph(int size) {
+        List<Tuple2<Long, Long>> edges = new ArrayList<>(this.sourceCardinality);
+        for (long i = 0; i < this.sourceCardinality; i++) {
+            edges.add(new Tuple2<>(i, (i * 31) % this.sourceCardinality));
+        }
+        final DataSetType<Tuple2<Long, Long>> edgeType = DataSetType.createDefaultUnchecked(Tuple2.class);
+        final DataSetType<Tuple2<Long, Float>> rankType = DataSetType.createDefaultUnchecked(Tuple2.class);
+        CollectionSource<Tuple2<Long, Long>> source = new CollectionSource<>(edges, edgeType);
+
+        Operator lastOperator = null;
+        for (int i = 0; i < size; i++) {
+            PageRankOperator pageRank = new PageRankOperator(10 + i);
+            source.connectTo(0, pageRank, 0);
+
+            if (lastOperator == null) {
+                lastOperator = pageRank;
+            } else {
+                UnionAllOperator<Tuple2<Long, Float>> union = new UnionAllOperator<>(rankType);
+                lastOperator.connectTo(0, union, 0);
+                pageRank.connectTo(0, union, 1);
+                lastOperator = union;
+            }
+        }
+
+        return this.createSinkFor(lastOperator, rankType);
+    }
+
+    private CollectionSource<Integer> createIntegerSource() {
+        Collection<Integer> integers = new ArrayList<>(this.sourceCardinality);
+        for (int i = 0; i < this.sourceCardinality; i++) {
+            integers.add(i);
+        }
+        return new CollectionSource<>(integers, Integer.class);
+    }
+
+    private <T> RheemPlan createSinkFor(Operator operator, DataSetType<T> type) {
+        LocalCallbackSink<T> sink = new LocalCallbackSink<>(dataQuantum -> {
+        }, type);
+        operator.connectTo(0, sink, 0);
+        return new RheemPlan(sink);
+    }
+
+}
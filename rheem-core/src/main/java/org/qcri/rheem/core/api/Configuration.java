@@ -517,7 +517,11 @@ public class Configuration {
                 File.separator
         ));
         configuration.setProperty("rheem.core.log.executions", StringUtils.join(
-                Arrays.asList(System.getProperty("user.home"), ".rheem", "executions.json"),
+                Arrays.asList(System.getProperty("user.home"), ".rheem", "executions.bin"),
+                File.separator
+        ));
+        configuration.setProperty("rheem.core.log.loadprofiles", StringUtils.join(
+                Arrays.asList(System.getProperty("user.home"), ".rheem", "loadprofiles.json"),
                 File.separator
         ));
 
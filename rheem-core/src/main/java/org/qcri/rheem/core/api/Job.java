@@ -10,6 +10,7 @@ import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.optimizer.ProbabilisticDoubleInterval;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimatorManager;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalitySampler;
 import org.qcri.rheem.core.optimizer.costs.TimeEstimate;
 import org.qcri.rheem.core.optimizer.costs.TimeToCostConverter;
 import org.qcri.rheem.core.optimizer.enumeration.*;
@@ -19,6 +20,7 @@ import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.OperatorAlternative;
 import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
 import org.qcri.rheem.core.platform.*;
 import org.qcri.rheem.core.profiling.*;
@@ -100,6 +102,16 @@ public class Job extends OneTimeExecutable {
      */
     private List<ProbabilisticDoubleInterval> costEstimates = new LinkedList<>();
 
+    /**
+     * The {@link PlanImplementation} that the current {@link ExecutionPlan} has been created from.
+     */
+    private PlanImplementation currentPlanImplementation;
+
+    /**
+     * Counts the {@link PruningMeasurement}s added to the {@link #experiment}.
+     */
+    private int numPruningMeasurements = 0;
+
     /**
      * JAR files that are needed to execute the UDFs.
      */
@@ -127,6 +139,10 @@ public class Job extends OneTimeExecutable {
         this.rheemContext = rheemContext;
         this.name = name == null ? "Rheem app" : name;
         this.configuration = this.rheemContext.getConfiguration().fork(this.name);
+        if (this.configuration.getBooleanProperty("rheem.core.optimizer.costs.learned", false)) {
+            // Apply the learned load profiles only now, as the Plugins provide the specifications upon registration.
+            this.rheemContext.getLoadProfileRepository().applyTo(this.configuration);
+        }
         this.rheemPlan = rheemPlan;
         for (String udfJar : udfJars) {
             this.addUdfJar(udfJar);
@@ -210,6 +226,39 @@ public class Job extends OneTimeExecutable {
         }
     }
 
+    /**
+     * Runs only the optimization of this instance, i.e., prepares the {@link #rheemPlan}, estimates its key figures,
+     * and creates an initial {@link ExecutionPlan} without executing it. The phases are measured in the
+     * {@link Experiment} of this instance just like in {@link #execute()}. Must only be called once and not in
+     * addition to {@link #execute()}.
+     *
+     * @return the initial {@link ExecutionPlan}
+     * @throws RheemException in case the optimization fails for any reason
+     */
+    public ExecutionPlan buildInitialExecutionPlan() throws RheemException {
+        // Make sure that each job is only optimized once.
+        if (this.hasBeenExecuted.getAndSet(true)) {
+            throw new RheemException("Job has already been executed.");
+        }
+
+        try {
+            this.optimizationRound.start();
+            this.prepareRheemPlan();
+            this.estimateKeyFigures();
+            ExecutionPlan executionPlan = this.createInitialExecutionPlan();
+            this.optimizationRound.stop();
+            return executionPlan;
+        } catch (RheemException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RheemException("Job optimization failed.", t);
+        } finally {
+            this.stopWatch.stopAll();
+            this.releaseResources();
+            this.logger.info("StopWatch results:\n{}", this.stopWatch.toPrettyString());
+        }
+    }
+
     /**
      * Prepares the {@link #rheemPlan}: prunes unused {@link Operator}s, isolates loops, and applies all available
      * {@link PlanTransformation}s.
@@ -221,6 +270,13 @@ public class Job extends OneTimeExecutable {
         this.rheemPlan.prepare();
         this.optimizationRound.stop("Prepare", "Prune&Isolate");
 
+        // Sample the cardinalities of the UDFs if requested.
+        if (this.configuration.getBooleanProperty("rheem.core.optimizer.sampling", false)) {
+            this.optimizationRound.start("Prepare", "Sampling");
+            new CardinalitySampler(this.configuration, this.rheemContext.getSampleCache()).sample(this.rheemPlan);
+            this.optimizationRound.stop("Prepare", "Sampling");
+        }
+
         // Apply the mappings to the plan to form a hyperplan.
         this.optimizationRound.start("Prepare", "Transformations");
         final Collection<PlanTransformation> transformations = this.gatherTransformations();
@@ -259,7 +315,8 @@ public class Job extends OneTimeExecutable {
 
             this.optimizationRound.start("Cardinality&Load Estimation", "Create CardinalityEstimationManager");
             this.cardinalityEstimatorManager = new CardinalityEstimatorManager(
-                    this.rheemPlan, this.optimizationContext, this.configuration);
+                    this.rheemPlan, this.optimizationContext, this.configuration,
+                    this.rheemContext.getCardinalityRepository());
             this.optimizationRound.stop("Cardinality&Load Estimation", "Create CardinalityEstimationManager");
         }
 
@@ -281,11 +338,31 @@ public class Job extends OneTimeExecutable {
         final Comparator<ProbabilisticDoubleInterval> costEstimateComparator =
                 this.configuration.getCostEstimateComparatorProvider().provide();
 
+        // Look up whether we have optimized an equivalent plan before.
+        final PlanCache planCache = this.rheemContext.getPlanCache();
+        PlanCache.Fingerprint fingerprint = null;
+        Map<OperatorAlternative, OperatorAlternative.Alternative> cachedAlternatives = null;
+        if (planCache.isEnabled()) {
+            this.optimizationRound.start("Create Initial Execution Plan", "Look up Plan Cache");
+            fingerprint = planCache.fingerprint(this.rheemPlan, this.optimizationContext);
+            cachedAlternatives = planCache.lookup(fingerprint);
+            this.optimizationRound.stop("Create Initial Execution Plan", "Look up Plan Cache");
+            this.logger.info("Plan cache {} for {}.", cachedAlternatives == null ? "miss" : "hit", fingerprint);
+        }
+
         // Enumerate all possible plan.
-        final PlanEnumerator planEnumerator = this.createPlanEnumerator();
+        final PlanEnumerator planEnumerator = cachedAlternatives == null ?
+                this.createPlanEnumerator() :
+                new PlanEnumerator(this.rheemPlan, this.optimizationContext, cachedAlternatives);
 
         this.optimizationRound.start("Create Initial Execution Plan", "Enumerate");
-        final PlanEnumeration comprehensiveEnumeration = planEnumerator.enumerate(true);
+        PlanEnumeration comprehensiveEnumeration = planEnumerator.enumerate(true);
+        if (cachedAlternatives != null && comprehensiveEnumeration.getPlanImplementations().isEmpty()) {
+            this.logger.warn("Cached plan for {} is not feasible anymore. Enumerating all plans.", fingerprint);
+            planCache.invalidate(fingerprint);
+            cachedAlternatives = null;
+            comprehensiveEnumeration = this.createPlanEnumerator().enumerate(true);
+        }
         this.optimizationRound.stop("Create Initial Execution Plan", "Enumerate");
 
         final Collection<PlanImplementation> executionPlans = comprehensiveEnumeration.getPlanImplementations();
@@ -300,6 +377,11 @@ public class Job extends OneTimeExecutable {
         final PlanImplementation planImplementation = this.pickBestExecutionPlan(costEstimateComparator, executionPlans, null, null, null);
         this.timeEstimates.add(planImplementation.getTimeEstimate());
         this.costEstimates.add(planImplementation.getCostEstimate());
+        this.currentPlanImplementation = planImplementation;
+        if (fingerprint != null && cachedAlternatives == null) {
+            planCache.store(fingerprint, planImplementation);
+        }
+        this.logPruning();
         this.optimizationRound.stop("Create Initial Execution Plan", "Pick Best Plan");
 
         this.optimizationRound.start("Create Initial Execution Plan", "Split Stages");
@@ -336,11 +418,30 @@ public class Job extends OneTimeExecutable {
         return bestPlanImplementation;
     }
 
+    /**
+     * Adds the statistics of the {@link BudgetedPruningStrategy}s on the latest plan enumeration to the
+     * {@link #experiment}.
+     */
+    private void logPruning() {
+        for (PlanEnumerationPruningStrategy pruningStrategy : this.optimizationContext.getPruningStrategies()) {
+            if (pruningStrategy instanceof BudgetedPruningStrategy) {
+                final PruningMeasurement measurement = ((BudgetedPruningStrategy) pruningStrategy).createMeasurement(
+                        String.format("pruning-%03d", this.numPruningMeasurements++)
+                );
+                this.logger.info("Pruned {} of {} plan implementations in {} prunings.",
+                        measurement.getNumInputPlanImplementations() - measurement.getNumRetainedPlanImplementations(),
+                        measurement.getNumInputPlanImplementations(),
+                        measurement.getNumPrunings());
+                this.experiment.addMeasurement(measurement);
+            }
+        }
+    }
+
     /**
      * Go over the given {@link RheemPlan} and update the cardinalities of data being passed between its
      * {@link Operator}s using the given {@link ExecutionState}.
      */
-    private void reestimateCardinalities(ExecutionState executionState) {
+    void reestimateCardinalities(ExecutionState executionState) {
         this.cardinalityEstimatorManager.pushCardinalityUpdates(executionState);
     }
 
@@ -355,9 +456,18 @@ public class Job extends OneTimeExecutable {
      * Creates a new {@link PlanEnumerator} for the {@link #rheemPlan} and {@link #configuration}.
      */
     private PlanEnumerator createPlanEnumerator(ExecutionPlan existingPlan, Set<Channel> openChannels) {
+        return this.createPlanEnumerator(existingPlan, openChannels, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new {@link PlanEnumerator} for the {@link #rheemPlan} and {@link #configuration}.
+     */
+    private PlanEnumerator createPlanEnumerator(ExecutionPlan existingPlan,
+                                                Set<Channel> openChannels,
+                                                Map<OperatorAlternative, OperatorAlternative.Alternative> reusedAlternatives) {
         return existingPlan == null ?
                 new PlanEnumerator(this.rheemPlan, this.optimizationContext) :
-                new PlanEnumerator(this.rheemPlan, this.optimizationContext, existingPlan, openChannels);
+                new PlanEnumerator(this.rheemPlan, this.optimizationContext, existingPlan, openChannels, reusedAlternatives);
     }
 
     /**
@@ -453,20 +563,126 @@ public class Job extends OneTimeExecutable {
         final TimeMeasurement round = this.optimizationRound.start(String.format("Post-processing %d", executionId));
 
         round.start("Reestimate Cardinalities&Time");
+        final boolean isIncremental = this.currentPlanImplementation != null
+                && this.configuration.getBooleanProperty("rheem.core.optimizer.reoptimize.incremental", true);
+        final Map<Operator, CardinalityEstimate[]> previousCardinalities = isIncremental ?
+                this.snapshotCardinalities() :
+                null;
         this.reestimateCardinalities(this.crossPlatformExecutor);
         round.stop("Reestimate Cardinalities&Time");
 
         round.start("Update Execution Plan");
-        this.updateExecutionPlan(executionPlan);
+        if (!isIncremental) {
+            this.updateExecutionPlan(executionPlan, Collections.emptyMap());
+        } else {
+            final Set<Operator> changedOperators = this.findChangedOperators(previousCardinalities);
+            if (changedOperators.isEmpty()) {
+                this.logger.info("No notable cardinality changes. Keeping the current execution plan.");
+            } else {
+                this.logger.info("Cardinalities of {} operators changed notably.", changedOperators.size());
+                this.updateExecutionPlan(executionPlan, this.collectReusableAlternatives(changedOperators));
+            }
+        }
         round.stop("Update Execution Plan");
 
         round.stop();
     }
 
+    /**
+     * Copies the current input and output {@link CardinalityEstimate}s of the {@link #optimizationContext}.
+     *
+     * @return the {@link CardinalityEstimate}s, inputs followed by outputs, indexed by their {@link Operator}s
+     */
+    Map<Operator, CardinalityEstimate[]> snapshotCardinalities() {
+        final Map<Operator, CardinalityEstimate[]> snapshot = new HashMap<>();
+        for (OptimizationContext.OperatorContext operatorContext : this.optimizationContext.getLocalOperatorContexts().values()) {
+            snapshot.put(operatorContext.getOperator(), getCardinalities(operatorContext));
+        }
+        return snapshot;
+    }
+
+    private static CardinalityEstimate[] getCardinalities(OptimizationContext.OperatorContext operatorContext) {
+        final CardinalityEstimate[] inputCardinalities = operatorContext.getInputCardinalities();
+        final CardinalityEstimate[] outputCardinalities = operatorContext.getOutputCardinalities();
+        final CardinalityEstimate[] cardinalities = Arrays.copyOf(
+                inputCardinalities, inputCardinalities.length + outputCardinalities.length
+        );
+        System.arraycopy(outputCardinalities, 0, cardinalities, inputCardinalities.length, outputCardinalities.length);
+        return cardinalities;
+    }
+
+    /**
+     * Determines the {@link Operator}s whose {@link CardinalityEstimate}s deviate from the given ones by more than
+     * the factor {@code rheem.core.optimizer.reoptimize.threshold}.
+     *
+     * @param previousCardinalities as obtained from {@link #snapshotCardinalities()}
+     * @return the {@link Operator}s with notably changed {@link CardinalityEstimate}s
+     */
+    Set<Operator> findChangedOperators(Map<Operator, CardinalityEstimate[]> previousCardinalities) {
+        final double threshold = this.configuration.getDoubleProperty("rheem.core.optimizer.reoptimize.threshold", 2d);
+        final Set<Operator> changedOperators = new HashSet<>();
+        for (OptimizationContext.OperatorContext operatorContext : this.optimizationContext.getLocalOperatorContexts().values()) {
+            final CardinalityEstimate[] previous = previousCardinalities.get(operatorContext.getOperator());
+            final CardinalityEstimate[] current = getCardinalities(operatorContext);
+            if (previous == null || previous.length != current.length) {
+                changedOperators.add(operatorContext.getOperator());
+                continue;
+            }
+            for (int i = 0; i < current.length; i++) {
+                if (isNotablyChanged(previous[i], current[i], threshold)) {
+                    changedOperators.add(operatorContext.getOperator());
+                    break;
+                }
+            }
+        }
+        return changedOperators;
+    }
+
+    private static boolean isNotablyChanged(CardinalityEstimate previous, CardinalityEstimate current, double threshold) {
+        if (previous == null || current == null) return previous != current;
+        return getDeviation(previous.getLowerEstimate(), current.getLowerEstimate()) > threshold
+                || getDeviation(previous.getUpperEstimate(), current.getUpperEstimate()) > threshold;
+    }
+
+    private static double getDeviation(long a, long b) {
+        return Math.max(1d, Math.max(a, b)) / Math.max(1d, Math.min(a, b));
+    }
+
+    /**
+     * Collects the {@link OperatorAlternative.Alternative}s of the {@link #currentPlanImplementation} that are not
+     * affected by changed cardinalities and can therefore be kept during re-optimization.
+     *
+     * @param changedOperators the {@link Operator}s with notably changed {@link CardinalityEstimate}s
+     * @return the reusable {@link OperatorAlternative.Alternative}s
+     */
+    Map<OperatorAlternative, OperatorAlternative.Alternative> collectReusableAlternatives(Set<Operator> changedOperators) {
+        final Map<Operator, OptimizationContext.OperatorContext> operatorContexts =
+                this.optimizationContext.getLocalOperatorContexts();
+        final Map<OperatorAlternative, OperatorAlternative.Alternative> reusableAlternatives = new HashMap<>();
+        this.currentPlanImplementation.collectChosenAlternatives().forEach((operatorAlternative, alternative) -> {
+            // Operators without OperatorContext in the #optimizationContext (i.e., in loops) are re-optimized.
+            boolean isAffected = true;
+            for (Operator operator = operatorAlternative; operator != null; operator = operator.getParent()) {
+                if (changedOperators.contains(operator)) {
+                    isAffected = true;
+                    break;
+                }
+                if (operatorContexts.containsKey(operator)) isAffected = false;
+            }
+            if (!isAffected) reusableAlternatives.put(operatorAlternative, alternative);
+        });
+        this.logger.debug("Reusing {} alternatives for re-optimization.", reusableAlternatives.size());
+        return reusableAlternatives;
+    }
+
     /**
      * Enumerate possible execution plans from the given {@link RheemPlan} and determine the (seemingly) best one.
+     *
+     * @param executionPlan      the {@link ExecutionPlan} to be updated
+     * @param reusedAlternatives {@link OperatorAlternative.Alternative}s that need not be enumerated again
      */
-    private void updateExecutionPlan(ExecutionPlan executionPlan) {
+    private void updateExecutionPlan(ExecutionPlan executionPlan,
+                                     Map<OperatorAlternative, OperatorAlternative.Alternative> reusedAlternatives) {
         // Defines the plan that we want to use in the end.
         final Comparator<ProbabilisticDoubleInterval> costEstimateComparator =
                 this.configuration.getCostEstimateComparatorProvider().provide();
@@ -488,8 +704,8 @@ public class Job extends OneTimeExecutable {
         executionPlan.retain(completedStages);
 
         // Enumerate all possible plan.
-        final PlanEnumerator planEnumerator = this.createPlanEnumerator(executionPlan, openChannels);
-        final PlanEnumeration comprehensiveEnumeration = planEnumerator.enumerate(true);
+        final PlanEnumeration comprehensiveEnumeration =
+                this.enumerateExecutionPlans(executionPlan, openChannels, reusedAlternatives);
         final Collection<PlanImplementation> executionPlans = comprehensiveEnumeration.getPlanImplementations();
         this.logger.debug("Enumerated {} plans.", executionPlans.size());
         for (PlanImplementation planImplementation : executionPlans) {
@@ -501,6 +717,8 @@ public class Job extends OneTimeExecutable {
         final PlanImplementation planImplementation = this.pickBestExecutionPlan(
                 costEstimateComparator, executionPlans, executionPlan, openChannels, completedStages
         );
+        this.currentPlanImplementation = planImplementation;
+        this.logPruning();
 
         ExecutionTaskFlow executionTaskFlow = ExecutionTaskFlow.recreateFrom(
                 planImplementation, executionPlan, openChannels, completedStages
@@ -513,6 +731,34 @@ public class Job extends OneTimeExecutable {
         assert executionPlan.isSane();
     }
 
+    /**
+     * Enumerates the execution plans for the {@link #rheemPlan}, thereby sticking to the {@code reusedAlternatives}.
+     * If they do not yield an execution plan, all plans are enumerated.
+     *
+     * @param executionPlan      the already executed part of the {@link ExecutionPlan}
+     * @param openChannels       {@link Channel}s of the {@code executionPlan} that have yet to be consumed
+     * @param reusedAlternatives {@link OperatorAlternative.Alternative}s that need not be enumerated again
+     * @return the comprehensive {@link PlanEnumeration}
+     */
+    PlanEnumeration enumerateExecutionPlans(ExecutionPlan executionPlan,
+                                            Set<Channel> openChannels,
+                                            Map<OperatorAlternative, OperatorAlternative.Alternative> reusedAlternatives) {
+        if (!reusedAlternatives.isEmpty()) {
+            try {
+                final PlanEnumeration comprehensiveEnumeration =
+                        this.createPlanEnumerator(executionPlan, openChannels, reusedAlternatives).enumerate(false);
+                if (comprehensiveEnumeration != null && !comprehensiveEnumeration.getPlanImplementations().isEmpty()) {
+                    return comprehensiveEnumeration;
+                }
+            } catch (RheemException e) {
+                // The PlanEnumerator fails as soon as it cannot concatenate the reused alternatives.
+                this.logger.debug("Enumeration with reused alternatives failed.", e);
+            }
+            this.logger.info("Reused alternatives do not yield an execution plan. Enumerating all plans.");
+        }
+        return this.createPlanEnumerator(executionPlan, openChannels).enumerate(true);
+    }
+
     /**
      * Asks this instance to release its critical resources to avoid resource leaks and to enhance durability and
      * consistency of accessed resources.
@@ -547,6 +793,17 @@ public class Job extends OneTimeExecutable {
         } catch (Exception e) {
             this.logger.error("Storing partial executions failed.", e);
         }
+
+        // Learn the load profiles of the executed operators.
+        if (this.configuration.getBooleanProperty("rheem.core.optimizer.costs.learned", false)) {
+            try {
+                final LoadProfileRepository loadProfileRepository = this.rheemContext.getLoadProfileRepository();
+                loadProfileRepository.learnAll(partialExecutions, this.configuration);
+                loadProfileRepository.save();
+            } catch (Exception e) {
+                this.logger.error("Learning load profiles failed.", e);
+            }
+        }
         this.optimizationRound.stop("Post-processing", "Log measurements");
 
         // Log the execution time.
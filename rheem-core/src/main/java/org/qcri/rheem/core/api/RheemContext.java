@@ -4,15 +4,20 @@ import de.hpi.isg.profiledb.store.model.Experiment;
 import de.hpi.isg.profiledb.store.model.Subject;
 import org.apache.commons.lang3.StringUtils;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalitySampler;
+import org.qcri.rheem.core.optimizer.enumeration.PlanCache;
 import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
 import org.qcri.rheem.core.plugin.Plugin;
 import org.qcri.rheem.core.profiling.CardinalityRepository;
+import org.qcri.rheem.core.profiling.LoadProfileRepository;
+import org.qcri.rheem.core.util.LruCache;
 import org.qcri.rheem.core.util.ReflectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * This is the entry point for users to work with Rheem.
@@ -27,6 +32,21 @@ public class RheemContext {
      */
     private CardinalityRepository cardinalityRepository;
 
+    /**
+     * Learns load profiles from executions to provide better {@link org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator}s over time.
+     */
+    private LoadProfileRepository loadProfileRepository;
+
+    /**
+     * Remembers the optimization results of recurring {@link RheemPlan}s across {@link Job}s.
+     */
+    private PlanCache planCache;
+
+    /**
+     * Keeps the source samples of the {@link CardinalitySampler} across {@link Job}s.
+     */
+    private LruCache<String, List<?>> sampleCache;
+
     private final Configuration configuration;
 
     public RheemContext() {
@@ -134,4 +154,27 @@ public class RheemContext {
         }
         return this.cardinalityRepository;
     }
+
+    public synchronized LoadProfileRepository getLoadProfileRepository() {
+        if (this.loadProfileRepository == null) {
+            this.loadProfileRepository = new LoadProfileRepository(this.configuration);
+        }
+        return this.loadProfileRepository;
+    }
+
+    public synchronized PlanCache getPlanCache() {
+        if (this.planCache == null) {
+            this.planCache = new PlanCache(this.configuration);
+        }
+        return this.planCache;
+    }
+
+    public synchronized LruCache<String, List<?>> getSampleCache() {
+        if (this.sampleCache == null) {
+            this.sampleCache = new LruCache<>(
+                    (int) this.configuration.getLongProperty("rheem.core.optimizer.sampling.cache", 32)
+            );
+        }
+        return this.sampleCache;
+    }
 }
@@ -19,6 +19,8 @@ public class ReduceDescriptor<Type> extends FunctionDescriptor {
 
     private final SerializableBinaryOperator<Type> javaImplementation;
 
+    private String sqlImplementation;
+
     public ReduceDescriptor(SerializableBinaryOperator<Type> javaImplementation,
                             DataUnitGroupType<Type> inputType,
                             BasicDataUnitType<Type> outputType) {
@@ -54,6 +56,28 @@ public class ReduceDescriptor<Type> extends FunctionDescriptor {
         return this.javaImplementation;
     }
 
+    /**
+     * This function is not built to last. It is thought to help out devising programs while we are still figuring
+     * out how to express functions in a platform-independent way.
+     *
+     * @return a SQL {@code SELECT} list of aggregates that represents this reduction, e.g.,
+     * {@code "dept, SUM(salary) AS salary"}, or {@code null} if none
+     */
+    public String getSqlImplementation() {
+        return this.sqlImplementation;
+    }
+
+    /**
+     * This function is not built to last. It is thought to help out devising programs while we are still figuring
+     * out how to express functions in a platform-independent way.
+     *
+     * @param sqlImplementation a SQL {@code SELECT} list of aggregates that represents this reduction
+     */
+    public ReduceDescriptor<Type> withSqlImplementation(String sqlImplementation) {
+        this.sqlImplementation = sqlImplementation;
+        return this;
+    }
+
     /**
      * In generic code, we do not have the type parameter values of operators, functions etc. This method avoids casting issues.
      *
@@ -19,6 +19,8 @@ public class TransformationDescriptor<Input, Output> extends FunctionDescriptor
 
     private final FunctionDescriptor.SerializableFunction<Input,Output> javaImplementation;
 
+    private String sqlImplementation;
+
     public TransformationDescriptor(FunctionDescriptor.SerializableFunction<Input, Output> javaImplementation,
                                        Class<Input> inputTypeClass,
                                        Class<Output> outputTypeClass) {
@@ -68,6 +70,28 @@ public class TransformationDescriptor<Input, Output> extends FunctionDescriptor
         return this.javaImplementation;
     }
 
+    /**
+     * This function is not built to last. It is thought to help out devising programs while we are still figuring
+     * out how to express functions in a platform-independent way.
+     *
+     * @return a SQL expression representing this transformation, e.g., a (comma-separated list of) column(s) that
+     * serve as key, or {@code null} if none
+     */
+    public String getSqlImplementation() {
+        return this.sqlImplementation;
+    }
+
+    /**
+     * This function is not built to last. It is thought to help out devising programs while we are still figuring
+     * out how to express functions in a platform-independent way.
+     *
+     * @param sqlImplementation a SQL expression representing this transformation
+     */
+    public TransformationDescriptor<Input, Output> withSqlImplementation(String sqlImplementation) {
+        this.sqlImplementation = sqlImplementation;
+        return this;
+    }
+
     /**
      * In generic code, we do not have the type parameter values of operators, functions etc. This method avoids casting issues.
      *
@@ -18,9 +18,10 @@ public class AggregateOptimizationContext extends OptimizationContext {
     private final Collection<OptimizationContext> optimizationContexts;
 
     /**
-     * Caches aggregated {@link OptimizationContext.OperatorContext}s.
+     * Caches aggregated {@link OptimizationContext.OperatorContext}s. Synchronized, as the plan enumeration might
+     * access it concurrently.
      */
-    private final Map<Operator, OperatorContext> operatorContextCache = new HashMap<>();
+    private final Map<Operator, OperatorContext> operatorContextCache = Collections.synchronizedMap(new HashMap<>());
 
     public AggregateOptimizationContext(LoopContext loopContext, List<OptimizationContext> optimizationContexts) {
         super(loopContext.getOptimizationContext().getConfiguration(),
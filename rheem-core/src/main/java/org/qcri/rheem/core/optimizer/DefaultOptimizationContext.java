@@ -7,6 +7,7 @@ import org.qcri.rheem.core.plan.rheemplan.*;
 import org.qcri.rheem.core.util.RheemArrays;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This implementation of {@link OptimizationContext} represents a direct mapping from {@link OptimizationContext.OperatorContext}
@@ -17,13 +18,13 @@ public class DefaultOptimizationContext extends OptimizationContext {
     /**
      * {@link OperatorContext}s of one-time {@link Operator}s (i.e., that are not nested in a loop).
      */
-    private final Map<Operator, OperatorContext> operatorContexts = new HashMap<>();
+    private final Map<Operator, OperatorContext> operatorContexts = new ConcurrentHashMap<>();
 
     /**
      * {@link LoopContext}s of one-time {@link LoopSubplan}s (i.e., that are not
      * nested in a loop themselves).
      */
-    private final Map<LoopSubplan, LoopContext> loopContexts = new HashMap<>();
+    private final Map<LoopSubplan, LoopContext> loopContexts = new ConcurrentHashMap<>();
 
     /**
      * Create a new, plain instance.
@@ -1,11 +1,17 @@
 package org.qcri.rheem.core.optimizer.cardinality;
 
 import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.configuration.FunctionalKeyValueProvider;
+import org.qcri.rheem.core.api.configuration.KeyValueProvider;
+import org.qcri.rheem.core.api.configuration.MapBasedKeyValueProvider;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.rheemplan.ElementaryOperator;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
 import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.ExecutionState;
+import org.qcri.rheem.core.profiling.CardinalityRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +49,58 @@ public class CardinalityEstimatorManager {
         this.configuration = configuration;
     }
 
+    /**
+     * Creates a new instance that prefers {@link LearnedCardinalityEstimator}s over the configured
+     * {@link CardinalityEstimator}s wherever the {@code cardinalityRepository} has observed selectivities. To this
+     * end, the {@link CardinalityEstimator} provider of the {@code configuration} is extended.
+     */
+    public CardinalityEstimatorManager(RheemPlan rheemPlan,
+                                       OptimizationContext optimizationContext,
+                                       Configuration configuration,
+                                       CardinalityRepository cardinalityRepository) {
+        this(rheemPlan, optimizationContext, configuration);
+        if (cardinalityRepository != null
+                && configuration.getBooleanProperty("rheem.core.optimizer.cardinality.learned", true)) {
+            this.installLearnedEstimators(cardinalityRepository);
+        }
+    }
+
+    /**
+     * Puts a layer that provides {@link LearnedCardinalityEstimator}s on top of the {@link CardinalityEstimator}
+     * provider of the {@link #configuration}. {@link CardinalityEstimator}s that are specified on the
+     * {@link ElementaryOperator} instances or for the very {@link OutputSlot}s (e.g., by the
+     * {@link CardinalitySampler}) are still respected.
+     */
+    private void installLearnedEstimators(CardinalityRepository cardinalityRepository) {
+        final double certaintyProb =
+                this.configuration.getDoubleProperty("rheem.core.optimizer.cardinality.learned.confidence", 0.9);
+        final long minObservations =
+                this.configuration.getLongProperty("rheem.core.optimizer.cardinality.learned.observations", 3);
+        final KeyValueProvider<OutputSlot<?>, CardinalityEstimator> configuredProvider =
+                this.configuration.getCardinalityEstimatorProvider();
+        final KeyValueProvider<OutputSlot<?>, CardinalityEstimator> learnedProvider =
+                new FunctionalKeyValueProvider<>(configuredProvider, outputSlot -> {
+                    final Operator operator = outputSlot.getOwner();
+                    if (!operator.isElementary() || operator.isSource() || operator.isLoopHead()
+                            || ((ElementaryOperator) operator).getCardinalityEstimator(outputSlot.getIndex()) != null
+                            || configuredProvider.provideLocally(outputSlot) != null) {
+                        return null;
+                    }
+                    final String key = CardinalityRepository.createKey(operator, outputSlot.getIndex());
+                    if (key == null || !cardinalityRepository.hasSelectivities(key)) {
+                        return null;
+                    }
+                    return new LearnedCardinalityEstimator(
+                            cardinalityRepository,
+                            key,
+                            configuredProvider.provideFor(outputSlot),
+                            certaintyProb,
+                            minObservations
+                    );
+                });
+        this.configuration.setCardinalityEstimatorProvider(new MapBasedKeyValueProvider<>(learnedProvider, this.configuration));
+    }
+
     public void pushCardinalities() {
         this.getPlanTraversal().traverse(this.optimizationContext, this.configuration);
         this.optimizationContext.clearMarks();
@@ -52,9 +52,10 @@ public abstract class CardinalityPusher {
                 this.logger.trace("Pushing {} into {}.", Arrays.toString(opCtx.getInputCardinalities()), opCtx.getOperator());
             }
             this.doPush(opCtx, configuration);
-        }
 
-        if (opCtx.getCostEstimate() == null) {
+            // Re-estimate the costs, which might be outdated after cardinality updates.
+            opCtx.updateCostEstimate();
+        } else if (opCtx.getCostEstimate() == null) {
             opCtx.updateCostEstimate();
         }
     }
@@ -0,0 +1,298 @@
+package org.qcri.rheem.core.optimizer.cardinality;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.configuration.KeyValueProvider;
+import org.qcri.rheem.core.plan.rheemplan.ElementaryOperator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.util.LruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Estimates cardinalities before the optimization by pushing small samples of the source data through the UDFs of
+ * the {@link RheemPlan}. The observed output sizes are scaled up and installed as {@link CardinalityEstimator}s in
+ * the {@link Configuration}, so that they take precedence over the static estimates of the {@link Operator}s.
+ * <p>Only {@link Operator}s that implement {@link SampleSource} or {@link SampleEvaluator} take part in the
+ * sampling. The sampling stops as soon as its time budget is exhausted. Note that the budget is checked between
+ * {@link Operator}s, so a single expensive UDF might exceed it.</p>
+ */
+public class CardinalitySampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CardinalitySampler.class);
+
+    /**
+     * An {@link Operator} that can provide a sample of the data quanta it emits.
+     */
+    public interface SampleSource {
+
+        /**
+         * Provides a key that identifies the current contents of this instance, e.g., by means of a file URL and
+         * its modification time.
+         *
+         * @return the key or {@code null} if samples of this instance must not be cached
+         */
+        String getSampleCacheKey();
+
+        /**
+         * Reads a sample of the data quanta of this instance. The sample should not be confined to the first data
+         * quanta, as they are not necessarily representative.
+         *
+         * @param maxSize the maximum number of data quanta to read
+         * @return the data quanta; if there are fewer than {@code maxSize}, they are considered to be complete
+         */
+        List<?> readSample(int maxSize);
+
+    }
+
+    /**
+     * An {@link Operator} that can apply its UDFs to samples of its input data quanta.
+     */
+    public interface SampleEvaluator {
+
+        /**
+         * Evaluates this instance on the given samples.
+         *
+         * @param inputSamples a sample for each {@link InputSlot}
+         * @return the data quanta that this instance would emit via its only {@link OutputSlot}
+         */
+        List<?> evaluateSample(List<?>[] inputSamples);
+
+    }
+
+    /**
+     * A sample of the data quanta flowing through an {@link OutputSlot}.
+     */
+    private static class Sample {
+
+        private final List<?> dataQuanta;
+
+        /**
+         * Bounds of the factor to scale up counts in the sample to counts in the actual data.
+         */
+        private final double lowerScale, upperScale;
+
+        private Sample(List<?> dataQuanta, double lowerScale, double upperScale) {
+            this.dataQuanta = dataQuanta;
+            this.lowerScale = lowerScale;
+            this.upperScale = upperScale;
+        }
+
+        private boolean isExact() {
+            return this.lowerScale == 1d && this.upperScale == 1d;
+        }
+
+    }
+
+    private final Configuration configuration;
+
+    /**
+     * Caches unmodifiable source samples by their {@link SampleSource#getSampleCacheKey()} and sample size or is
+     * {@code null} if source samples should not be cached.
+     */
+    private final LruCache<String, List<?>> sampleCache;
+
+    /**
+     * Maximum number of data quanta to sample from each source and to retain after each {@link Operator}.
+     */
+    private final int sampleSize;
+
+    /**
+     * Time budget for the sampling in milliseconds.
+     */
+    private final long budget;
+
+    /**
+     * Correctness probability of sampled {@link CardinalityEstimate}s.
+     */
+    private final double certaintyProb;
+
+    /**
+     * Creates a new instance that does not cache source samples.
+     *
+     * @param configuration provides the sampling parameters and receives the sampled {@link CardinalityEstimator}s
+     */
+    public CardinalitySampler(Configuration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param configuration provides the sampling parameters and receives the sampled {@link CardinalityEstimator}s
+     * @param sampleCache   caches source samples across instances or {@code null}
+     * @see org.qcri.rheem.core.api.RheemContext#getSampleCache()
+     */
+    public CardinalitySampler(Configuration configuration, LruCache<String, List<?>> sampleCache) {
+        this.configuration = configuration;
+        this.sampleCache = sampleCache;
+        this.sampleSize = (int) configuration.getLongProperty("rheem.core.optimizer.sampling.size", 1000);
+        this.budget = configuration.getLongProperty("rheem.core.optimizer.sampling.budget", 2000);
+        this.certaintyProb = configuration.getDoubleProperty("rheem.core.optimizer.sampling.confidence", 0.95);
+    }
+
+    /**
+     * Samples the top-level {@link Operator}s of the given {@link RheemPlan} and installs the resulting
+     * {@link CardinalityEstimator}s.
+     *
+     * @param rheemPlan whose cardinalities should be sampled
+     * @return the number of installed {@link CardinalityEstimator}s
+     */
+    public int sample(RheemPlan rheemPlan) {
+        final long deadline = System.currentTimeMillis() + this.budget;
+        final Map<OutputSlot<?>, Sample> samples = new HashMap<>();
+        final Deque<Operator> worklist = new LinkedList<>(rheemPlan.collectReachableTopLevelSources());
+        final Set<Operator> visitedOperators = new HashSet<>();
+        int numInstalledEstimators = 0;
+
+        while (!worklist.isEmpty()) {
+            if (System.currentTimeMillis() > deadline) {
+                logger.info("Sampling budget of {} ms exhausted; {} operators remain unsampled.", this.budget, worklist.size());
+                break;
+            }
+            final Operator operator = worklist.poll();
+            if (visitedOperators.contains(operator) || !this.isSampleable(operator)) continue;
+
+            final Sample sample;
+            try {
+                sample = operator.isSource() ? this.sampleSource(operator) : this.evaluate(operator, samples);
+            } catch (Exception e) {
+                logger.warn("Could not sample {}.", operator, e);
+                visitedOperators.add(operator);
+                continue;
+            }
+            if (sample == null) continue; // Wait for the other inputs.
+            visitedOperators.add(operator);
+
+            final OutputSlot<?> output = operator.getOutput(0);
+            samples.put(output, sample);
+            if (!operator.isSource() || sample.isExact()) {
+                this.install(output, sample);
+                numInstalledEstimators++;
+            }
+            for (InputSlot<?> occupiedSlot : output.getOccupiedSlots()) {
+                worklist.add(occupiedSlot.getOwner());
+            }
+        }
+
+        logger.info("Installed {} sampled cardinality estimators.", numInstalledEstimators);
+        return numInstalledEstimators;
+    }
+
+    /**
+     * Tells whether the given {@link Operator} can take part in the sampling.
+     */
+    private boolean isSampleable(Operator operator) {
+        if (!operator.isElementary() || operator.isLoopHead() || operator.getNumOutputs() != 1
+                || operator.getNumBroadcastInputs() > 0) {
+            return false;
+        }
+        if (((ElementaryOperator) operator).getCardinalityEstimator(0) != null) {
+            // Respect estimators that have been specified explicitly.
+            return false;
+        }
+        return operator.isSource() ? operator instanceof SampleSource : operator instanceof SampleEvaluator;
+    }
+
+    /**
+     * Samples a {@link SampleSource}. Scales are derived from its regular {@link CardinalityEstimate}.
+     */
+    private Sample sampleSource(Operator source) {
+        final List<?> dataQuanta = this.readSample((SampleSource) source);
+        if (dataQuanta.size() < this.sampleSize) {
+            return new Sample(dataQuanta, 1d, 1d);
+        }
+        final OutputSlot<?> output = source.getOutput(0);
+        final CardinalityEstimate sourceEstimate = this.configuration.getCardinalityEstimatorProvider()
+                .provideFor(output)
+                .estimate(this.configuration);
+        return new Sample(
+                dataQuanta,
+                Math.max(1d, sourceEstimate.getLowerEstimate() / (double) dataQuanta.size()),
+                Math.max(1d, sourceEstimate.getUpperEstimate() / (double) dataQuanta.size())
+        );
+    }
+
+    /**
+     * Reads a sample from a {@link SampleSource}, thereby using the {@link #sampleCache} if possible. As cached
+     * samples are shared, they are unmodifiable copies.
+     */
+    private List<?> readSample(SampleSource source) {
+        final String cacheKey = this.sampleCache == null ? null : source.getSampleCacheKey();
+        if (cacheKey == null) return source.readSample(this.sampleSize);
+
+        final String sampleKey = cacheKey + "#" + this.sampleSize;
+        synchronized (this.sampleCache) {
+            final List<?> cachedSample = this.sampleCache.get(sampleKey);
+            if (cachedSample != null) return cachedSample;
+        }
+        final List<?> sample = Collections.unmodifiableList(new ArrayList<>(source.readSample(this.sampleSize)));
+        synchronized (this.sampleCache) {
+            this.sampleCache.put(sampleKey, sample);
+        }
+        return sample;
+    }
+
+    /**
+     * Evaluates a {@link SampleEvaluator} on the samples of its inputs.
+     *
+     * @return the output {@link Sample} or {@code null} if not all inputs have been sampled (yet)
+     */
+    private Sample evaluate(Operator operator, Map<OutputSlot<?>, Sample> samples) {
+        final List<?>[] inputSamples = new List<?>[operator.getNumInputs()];
+        double lowerScale = 1d, upperScale = 1d;
+        for (InputSlot<?> input : operator.getAllInputs()) {
+            final Sample inputSample = samples.get(input.getOccupant());
+            if (inputSample == null) return null;
+            inputSamples[input.getIndex()] = inputSample.dataQuanta;
+            lowerScale *= inputSample.lowerScale;
+            upperScale *= inputSample.upperScale;
+        }
+        List<?> dataQuanta = ((SampleEvaluator) operator).evaluateSample(inputSamples);
+
+        // Retain only a systematic sample of large outputs to keep downstream evaluations cheap.
+        if (dataQuanta.size() > this.sampleSize) {
+            final double stride = dataQuanta.size() / (double) this.sampleSize;
+            final List<Object> retainedDataQuanta = new ArrayList<>(this.sampleSize);
+            for (int i = 0; i < this.sampleSize; i++) {
+                retainedDataQuanta.add(dataQuanta.get((int) (i * stride)));
+            }
+            lowerScale *= stride;
+            upperScale *= stride;
+            dataQuanta = retainedDataQuanta;
+        }
+        return new Sample(dataQuanta, lowerScale, upperScale);
+    }
+
+    /**
+     * Installs a {@link CardinalityEstimator} for the given {@link OutputSlot} that reflects the {@link Sample}.
+     */
+    private void install(OutputSlot<?> output, Sample sample) {
+        final CardinalityEstimate estimate = this.createEstimate(sample);
+        logger.debug("Sampled cardinality of {}: {}", output, estimate);
+        final KeyValueProvider<OutputSlot<?>, CardinalityEstimator> provider =
+                this.configuration.getCardinalityEstimatorProvider();
+        provider.set(output, (configuration, inputEstimates) -> estimate);
+    }
+
+    /**
+     * Scales up the size of a {@link Sample}. The {@link CardinalityEstimate} is flagged as override, so that it
+     * also prevails in {@link org.qcri.rheem.core.plan.rheemplan.OperatorAlternative}s. Unless the {@link Sample} is exact, the observed size {@code k} is
+     * widened to {@code k +/- 2 * sqrt(k)} to account for the sampling error.
+     */
+    private CardinalityEstimate createEstimate(Sample sample) {
+        final int k = sample.dataQuanta.size();
+        if (sample.isExact()) {
+            return new CardinalityEstimate(k, k, 1d, true);
+        }
+        final double deviation = k == 0 ? 3d : 2 * Math.sqrt(k);
+        final long lowerEstimate = (long) Math.floor(Math.max(0d, k - deviation) * sample.lowerScale);
+        final long upperEstimate = (long) Math.ceil((k + deviation) * sample.upperScale);
+        return new CardinalityEstimate(lowerEstimate, Math.max(lowerEstimate, upperEstimate), this.certaintyProb, true);
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.qcri.rheem.core.optimizer.cardinality;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.profiling.CardinalityRepository;
+
+/**
+ * {@link CardinalityEstimator} that applies the selectivities observed in previous executions, as kept by the
+ * {@link CardinalityRepository}. If there are not enough observations, it delegates to a fallback
+ * {@link CardinalityEstimator}.
+ */
+public class LearnedCardinalityEstimator implements CardinalityEstimator {
+
+    private final CardinalityRepository cardinalityRepository;
+
+    /**
+     * Identifies the estimated {@link org.qcri.rheem.core.plan.rheemplan.OutputSlot} in the
+     * {@link #cardinalityRepository}.
+     */
+    private final String key;
+
+    private final CardinalityEstimator fallbackEstimator;
+
+    /**
+     * Confidence in estimates that are based on observed selectivities.
+     */
+    private final double certaintyProb;
+
+    /**
+     * Minimum number of observations to apply the selectivities.
+     */
+    private final long minObservations;
+
+    public LearnedCardinalityEstimator(CardinalityRepository cardinalityRepository,
+                                       String key,
+                                       CardinalityEstimator fallbackEstimator,
+                                       double certaintyProb,
+                                       long minObservations) {
+        this.cardinalityRepository = cardinalityRepository;
+        this.key = key;
+        this.fallbackEstimator = fallbackEstimator;
+        this.certaintyProb = certaintyProb;
+        this.minObservations = minObservations;
+    }
+
+    @Override
+    public CardinalityEstimate estimate(Configuration configuration, CardinalityEstimate... inputEstimates) {
+        for (CardinalityEstimate inputEstimate : inputEstimates) {
+            if (inputEstimate == null) return this.fallbackEstimator.estimate(configuration, inputEstimates);
+        }
+        final CardinalityRepository.SelectivityStatistics selectivity =
+                this.cardinalityRepository.getSelectivity(this.key, inputEstimates);
+        if (selectivity == null || selectivity.getCount() < this.minObservations) {
+            return this.fallbackEstimator.estimate(configuration, inputEstimates);
+        }
+
+        double lowerProduct = 1d, upperProduct = 1d, correctnessProb = this.certaintyProb;
+        for (CardinalityEstimate inputEstimate : inputEstimates) {
+            lowerProduct *= inputEstimate.getLowerEstimate() == 0L ? 0d : inputEstimate.getLowerEstimate();
+            upperProduct *= Math.max(1L, inputEstimate.getUpperEstimate());
+            correctnessProb = Math.min(correctnessProb, this.certaintyProb * inputEstimate.getCorrectnessProbability());
+        }
+        final long lowerEstimate = toLong(Math.floor(lowerProduct * selectivity.getMin()));
+        final long upperEstimate = Math.max(lowerEstimate, toLong(Math.ceil(upperProduct * selectivity.getMax())));
+        return new CardinalityEstimate(lowerEstimate, upperEstimate, correctnessProb);
+    }
+
+    private static long toLong(double value) {
+        return value >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) value;
+    }
+
+}
@@ -20,6 +20,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +38,23 @@ public class ChannelConversionGraph {
      */
     private final Comparator<ProbabilisticDoubleInterval> costEstimateComparator;
 
+    /**
+     * Caches the search results of {@link ShortestTreeSearcher}s, so that equivalent searches need not be repeated.
+     * As instances are scoped to a job, so is this cache. An absent {@link Tree} represents an unsuccessful search.
+     */
+    private final Map<TreeSearchKey, Optional<Tree>> treeCache = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the {@link #treeCache} should be used.
+     */
+    private final boolean isCachingTrees;
+
+    /**
+     * Cardinalities and numbers of executions are quantized to buckets of this relative width for the {@link #treeCache}.
+     * A value of {@code 0} disables the quantization.
+     */
+    private final double cacheResolution;
+
     private static final Logger logger = LoggerFactory.getLogger(ChannelConversionGraph.class);
 
     /**
@@ -46,6 +64,8 @@ public class ChannelConversionGraph {
      */
     public ChannelConversionGraph(Configuration configuration) {
         this.costEstimateComparator = configuration.getCostEstimateComparatorProvider().provide();
+        this.isCachingTrees = configuration.getBooleanProperty("rheem.core.optimizer.channels.cache", true);
+        this.cacheResolution = Math.max(0d, configuration.getDoubleProperty("rheem.core.optimizer.channels.cache.resolution", 0.05));
         configuration.getChannelConversionProvider().provideAll().forEach(this::add);
     }
 
@@ -53,6 +73,7 @@ public class ChannelConversionGraph {
      * Register a new {@code channelConversion} in this instance, which effectively adds an edge.
      */
     public void add(ChannelConversion channelConversion) {
+        this.treeCache.clear();
         final List<ChannelConversion> edges = this.getOrCreateChannelConversions(channelConversion.getSourceChannelDescriptor());
         edges.add(channelConversion);
     }
@@ -218,6 +239,19 @@ public class ChannelConversionGraph {
          */
         private Map<ChannelDescriptor, Bitmask> kernelDestChannelDescriptorsToIndices;
 
+        /**
+         * Whether the {@link #destInputs} enter a loop "from the side", i.e., across multiple iterations.
+         */
+        private boolean isSideEnterLoop;
+
+        /**
+         * The {@link #cardinality} and {@link #numExecutions} as used to estimate the costs of {@link ChannelConversion}s.
+         * They are quantized if the search result is to be cached.
+         */
+        private CardinalityEstimate searchCardinality;
+
+        private int searchNumExecutions;
+
         /**
          * Caches cost estimates for {@link ChannelConversion}s.
          */
@@ -309,8 +343,23 @@ public class ChannelConversionGraph {
             // Make the search problem easier by condensing the search query.
             this.kernelizeChannelRequests();
 
-            // Start from the root vertex.
-            final Tree tree = this.searchTree();
+            // Start from the root vertex or reuse the result of an equivalent search.
+            final Tree tree;
+            if (ChannelConversionGraph.this.isCachingTrees && this.previsitedChannels.isEmpty() && this.cardinality != null) {
+                final TreeSearchKey key = this.createTreeSearchKey();
+                this.searchCardinality = key.createCardinalityEstimate();
+                this.searchNumExecutions = (int) key.numExecutions;
+                Optional<Tree> cachedTree = ChannelConversionGraph.this.treeCache.get(key);
+                if (cachedTree == null) {
+                    cachedTree = Optional.ofNullable(this.searchTree());
+                    ChannelConversionGraph.this.treeCache.putIfAbsent(key, cachedTree);
+                }
+                tree = cachedTree.orElse(null);
+            } else {
+                this.searchCardinality = this.cardinality;
+                this.searchNumExecutions = this.numExecutions;
+                tree = this.searchTree();
+            }
             if (tree != null) {
                 this.createJunction(tree);
             } else {
@@ -329,7 +378,7 @@ public class ChannelConversionGraph {
             // CHECK: Since we rule out non-reusable Channels in #resolveSupportedChannels, do we really need this?
             final LoopSubplan outputLoop = this.sourceOutput.getOwner().getInnermostLoop();
             final int outputLoopDepth = this.sourceOutput.getOwner().getLoopStack().size();
-            boolean isSideEnterLoop = this.destInputs.stream().anyMatch(input ->
+            this.isSideEnterLoop = this.destInputs.stream().anyMatch(input ->
                     !input.getOwner().isLoopHead() &&
                             (input.getOwner().getLoopStack().size() > outputLoopDepth ||
                                     (input.getOwner().getLoopStack().size() == outputLoopDepth && input.getOwner().getInnermostLoop() != outputLoop)
@@ -353,7 +402,7 @@ public class ChannelConversionGraph {
             while (iterator.hasNext()) {
                 final Map.Entry<Set<ChannelDescriptor>, Bitmask> entry = iterator.next();
                 final Bitmask indices = entry.getValue();
-                if (indices.cardinality() < 2 && !isSideEnterLoop) continue;
+                if (indices.cardinality() < 2 && !this.isSideEnterLoop) continue;
 
                 Set<ChannelDescriptor> channelDescriptors = entry.getKey();
                 int numReusableChannels = (int) channelDescriptors.stream().filter(ChannelDescriptor::isReusable).count();
@@ -521,7 +570,28 @@ public class ChannelConversionGraph {
         private ProbabilisticDoubleInterval getCostEstimate(ChannelConversion channelConversion) {
             return this.conversionCostCache.computeIfAbsent(
                     channelConversion,
-                    key -> key.estimateConversionCost(this.cardinality, this.numExecutions, this.optimizationContext.getConfiguration())
+                    key -> key.estimateConversionCost(
+                            this.searchCardinality, this.searchNumExecutions, this.optimizationContext.getConfiguration()
+                    )
+            );
+        }
+
+        /**
+         * Creates a {@link TreeSearchKey} that describes the search problem of this instance. Requires that
+         * {@link #kernelizeChannelRequests()} has been executed.
+         */
+        private TreeSearchKey createTreeSearchKey() {
+            final double resolution = ChannelConversionGraph.this.cacheResolution;
+            return new TreeSearchKey(
+                    this.startChannelDescriptor,
+                    this.destChannelDescriptorSets,
+                    this.isSideEnterLoop,
+                    TreeSearchKey.quantize(this.cardinality.getLowerEstimate(), resolution),
+                    TreeSearchKey.quantize(this.cardinality.getUpperEstimate(), resolution),
+                    resolution == 0d ?
+                            this.cardinality.getCorrectnessProbability() :
+                            Math.round(this.cardinality.getCorrectnessProbability() * 100) / 100d,
+                    TreeSearchKey.quantize(this.numExecutions, resolution)
             );
         }
 
@@ -646,6 +716,83 @@ public class ChannelConversionGraph {
 
     }
 
+    /**
+     * Describes the search problem of a {@link ShortestTreeSearcher} in terms of the {@link ChannelDescriptor}s
+     * involved and the quantized amount of data to be converted, so as to identify equivalent searches. The
+     * {@link ChannelConversion} costs are estimated from the quantized values, so that the search result depends
+     * on the key only.
+     */
+    private static final class TreeSearchKey {
+
+        private final ChannelDescriptor startChannelDescriptor;
+
+        private final List<Set<ChannelDescriptor>> destChannelDescriptorSets;
+
+        private final boolean isSideEnterLoop;
+
+        private final long lowerCardinality, upperCardinality, numExecutions;
+
+        private final double correctnessProbability;
+
+        private TreeSearchKey(ChannelDescriptor startChannelDescriptor,
+                              List<Set<ChannelDescriptor>> destChannelDescriptorSets,
+                              boolean isSideEnterLoop,
+                              long lowerCardinality,
+                              long upperCardinality,
+                              double correctnessProbability,
+                              long numExecutions) {
+            this.startChannelDescriptor = startChannelDescriptor;
+            this.destChannelDescriptorSets = destChannelDescriptorSets;
+            this.isSideEnterLoop = isSideEnterLoop;
+            this.lowerCardinality = lowerCardinality;
+            this.upperCardinality = upperCardinality;
+            this.correctnessProbability = correctnessProbability;
+            this.numExecutions = numExecutions;
+        }
+
+        /**
+         * Quantizes a value by rounding it down to the next power of {@code 1 + resolution}.
+         *
+         * @param value      the value to quantize
+         * @param resolution the relative width of the quantization buckets or {@code 0} for no quantization
+         * @return the quantized value
+         */
+        private static long quantize(long value, double resolution) {
+            if (resolution == 0d || value <= 1) return value;
+            final double base = 1 + resolution;
+            return Math.round(Math.pow(base, Math.floor(Math.log(value) / Math.log(base))));
+        }
+
+        /**
+         * @return a {@link CardinalityEstimate} reflecting the quantized cardinality of this instance
+         */
+        private CardinalityEstimate createCardinalityEstimate() {
+            return new CardinalityEstimate(
+                    this.lowerCardinality, this.upperCardinality, this.correctnessProbability
+            );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || this.getClass() != o.getClass()) return false;
+            TreeSearchKey that = (TreeSearchKey) o;
+            return this.isSideEnterLoop == that.isSideEnterLoop &&
+                    this.lowerCardinality == that.lowerCardinality &&
+                    this.upperCardinality == that.upperCardinality &&
+                    Double.compare(this.correctnessProbability, that.correctnessProbability) == 0 &&
+                    this.numExecutions == that.numExecutions &&
+                    Objects.equals(this.startChannelDescriptor, that.startChannelDescriptor) &&
+                    Objects.equals(this.destChannelDescriptorSets, that.destChannelDescriptorSets);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.startChannelDescriptor, this.destChannelDescriptorSets, this.isSideEnterLoop,
+                    this.lowerCardinality, this.upperCardinality, this.correctnessProbability, this.numExecutions);
+        }
+    }
+
     /**
      * A tree consisting of {@link TreeVertex}es connected by {@link TreeEdge}s.
      */
@@ -0,0 +1,458 @@
+package org.qcri.rheem.core.optimizer.costs;
+
+import org.qcri.rheem.core.optimizer.OptimizationUtils;
+
+/**
+ * Arithmetic JUEL expression over input and output cardinalities (e.g., {@code ${55*in0 + 380000}}) that has been
+ * compiled into a tree of numeric operations. In contrast to {@link org.qcri.rheem.core.util.JuelUtils.JuelFunction}s,
+ * instances neither bind their arguments to a shared context nor box them, so they can be evaluated cheaply and
+ * concurrently.
+ * <p>The evaluation follows the JUEL semantics: {@code +}, {@code -}, {@code *}, and {@code %} operate on {@code long}s
+ * unless one of their operands is a floating point number, while {@code /} and functions always operate on
+ * {@code double}s. Supported are the variables {@code in0}, {@code in1}, ..., {@code out0}, {@code out1}, ..., numeric
+ * literals, parentheses, and the functions {@code math:sqrt} and {@code rheem:logGrowth}. Other expressions are not
+ * compiled and must be evaluated with a {@link org.qcri.rheem.core.util.JuelUtils.JuelFunction}.</p>
+ */
+public class CompiledJuelExpression {
+
+    /**
+     * The root of the compiled expression tree.
+     */
+    private final Node root;
+
+    private CompiledJuelExpression(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles a JUEL expression.
+     *
+     * @param juelExpression the JUEL expression
+     * @param numInputs      the number of input cardinalities, reflected as variables {@code in0}, {@code in1}, ...
+     * @param numOutputs     the number of output cardinalities, reflected as variables {@code out0}, {@code out1}, ...
+     * @return the compiled expression or {@code null} if the expression is not supported
+     */
+    public static CompiledJuelExpression compile(String juelExpression, int numInputs, int numOutputs) {
+        if (!juelExpression.startsWith("${") || !juelExpression.endsWith("}")) {
+            // Literal text is coerced to a number by JUEL.
+            try {
+                return new CompiledJuelExpression(new Constant(Long.parseLong(juelExpression)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        final Parser parser = new Parser(juelExpression.substring(2, juelExpression.length() - 1), numInputs, numOutputs);
+        final Node root = parser.parse();
+        return root == null ? null : new CompiledJuelExpression(root);
+    }
+
+    /**
+     * Evaluates this instance and coerces the result to a {@code long} as JUEL would do.
+     *
+     * @param inputCardinalities  values for {@code in0}, {@code in1}, ...
+     * @param outputCardinalities values for {@code out0}, {@code out1}, ...
+     * @return the result
+     */
+    public long applyAsLong(long[] inputCardinalities, long[] outputCardinalities) {
+        return this.root.evaluateLong(inputCardinalities, outputCardinalities);
+    }
+
+    /**
+     * Evaluates this instance and coerces the result to a {@code double} as JUEL would do.
+     *
+     * @param inputCardinalities  values for {@code in0}, {@code in1}, ...
+     * @param outputCardinalities values for {@code out0}, {@code out1}, ...
+     * @return the result
+     */
+    public double applyAsDouble(long[] inputCardinalities, long[] outputCardinalities) {
+        return this.root.evaluateDouble(inputCardinalities, outputCardinalities);
+    }
+
+    /**
+     * Node of a compiled expression tree.
+     */
+    private abstract static class Node {
+
+        abstract long evaluateLong(long[] in, long[] out);
+
+        abstract double evaluateDouble(long[] in, long[] out);
+
+        abstract boolean isIntegral();
+
+    }
+
+    /**
+     * {@link Node} that computes a {@code long}.
+     */
+    private abstract static class IntegralNode extends Node {
+
+        @Override
+        final double evaluateDouble(long[] in, long[] out) {
+            return this.evaluateLong(in, out);
+        }
+
+        @Override
+        final boolean isIntegral() {
+            return true;
+        }
+
+    }
+
+    /**
+     * {@link Node} that computes a {@code double}.
+     */
+    private abstract static class FloatingNode extends Node {
+
+        @Override
+        final long evaluateLong(long[] in, long[] out) {
+            return (long) this.evaluateDouble(in, out);
+        }
+
+        @Override
+        final boolean isIntegral() {
+            return false;
+        }
+
+    }
+
+    private static final class Constant extends IntegralNode {
+
+        private final long value;
+
+        private Constant(long value) {
+            this.value = value;
+        }
+
+        @Override
+        long evaluateLong(long[] in, long[] out) {
+            return this.value;
+        }
+    }
+
+    private static final class FloatingConstant extends FloatingNode {
+
+        private final double value;
+
+        private FloatingConstant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        double evaluateDouble(long[] in, long[] out) {
+            return this.value;
+        }
+    }
+
+    private static final class InputCardinality extends IntegralNode {
+
+        private final int index;
+
+        private InputCardinality(int index) {
+            this.index = index;
+        }
+
+        @Override
+        long evaluateLong(long[] in, long[] out) {
+            return in[this.index];
+        }
+    }
+
+    private static final class OutputCardinality extends IntegralNode {
+
+        private final int index;
+
+        private OutputCardinality(int index) {
+            this.index = index;
+        }
+
+        @Override
+        long evaluateLong(long[] in, long[] out) {
+            return out[this.index];
+        }
+    }
+
+    private static final class IntegralNegation extends IntegralNode {
+
+        private final Node operand;
+
+        private IntegralNegation(Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        long evaluateLong(long[] in, long[] out) {
+            return -this.operand.evaluateLong(in, out);
+        }
+    }
+
+    private static final class FloatingNegation extends FloatingNode {
+
+        private final Node operand;
+
+        private FloatingNegation(Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        double evaluateDouble(long[] in, long[] out) {
+            return -this.operand.evaluateDouble(in, out);
+        }
+    }
+
+    private static final class IntegralOperation extends IntegralNode {
+
+        private final char operator;
+
+        private final Node left, right;
+
+        private IntegralOperation(char operator, Node left, Node right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        long evaluateLong(long[] in, long[] out) {
+            final long left = this.left.evaluateLong(in, out), right = this.right.evaluateLong(in, out);
+            switch (this.operator) {
+                case '+':
+                    return left + right;
+                case '-':
+                    return left - right;
+                case '*':
+                    return left * right;
+                case '%':
+                    return left % right;
+                default:
+                    throw new IllegalStateException("Unknown operator " + this.operator);
+            }
+        }
+    }
+
+    private static final class FloatingOperation extends FloatingNode {
+
+        private final char operator;
+
+        private final Node left, right;
+
+        private FloatingOperation(char operator, Node left, Node right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double evaluateDouble(long[] in, long[] out) {
+            final double left = this.left.evaluateDouble(in, out), right = this.right.evaluateDouble(in, out);
+            switch (this.operator) {
+                case '+':
+                    return left + right;
+                case '-':
+                    return left - right;
+                case '*':
+                    return left * right;
+                case '/':
+                    return left / right;
+                case '%':
+                    return left % right;
+                default:
+                    throw new IllegalStateException("Unknown operator " + this.operator);
+            }
+        }
+    }
+
+    private static final class SquareRoot extends FloatingNode {
+
+        private final Node operand;
+
+        private SquareRoot(Node operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        double evaluateDouble(long[] in, long[] out) {
+            return Math.sqrt(this.operand.evaluateDouble(in, out));
+        }
+    }
+
+    private static final class LogisticGrowth extends FloatingNode {
+
+        private final Node g0, epsilon, x0, x;
+
+        private LogisticGrowth(Node g0, Node epsilon, Node x0, Node x) {
+            this.g0 = g0;
+            this.epsilon = epsilon;
+            this.x0 = x0;
+            this.x = x;
+        }
+
+        @Override
+        double evaluateDouble(long[] in, long[] out) {
+            return OptimizationUtils.logisticGrowth(
+                    this.g0.evaluateDouble(in, out),
+                    this.epsilon.evaluateDouble(in, out),
+                    this.x0.evaluateDouble(in, out),
+                    this.x.evaluateDouble(in, out)
+            );
+        }
+    }
+
+    /**
+     * Recursive descent parser for the supported subset of JUEL. Yields {@code null} for any other expression.
+     */
+    private static final class Parser {
+
+        private final String expression;
+
+        private final int numInputs, numOutputs;
+
+        private int pos = 0;
+
+        private Parser(String expression, int numInputs, int numOutputs) {
+            this.expression = expression;
+            this.numInputs = numInputs;
+            this.numOutputs = numOutputs;
+        }
+
+        Node parse() {
+            final Node node = this.parseAdditive();
+            this.skipWhitespace();
+            return this.pos == this.expression.length() ? node : null;
+        }
+
+        private Node parseAdditive() {
+            Node left = this.parseMultiplicative();
+            while (left != null) {
+                final char operator = this.peek();
+                if (operator != '+' && operator != '-') break;
+                this.pos++;
+                left = createOperation(operator, left, this.parseMultiplicative());
+            }
+            return left;
+        }
+
+        private Node parseMultiplicative() {
+            Node left = this.parseUnary();
+            while (left != null) {
+                final char operator = this.peek();
+                if (operator != '*' && operator != '/' && operator != '%') break;
+                this.pos++;
+                left = createOperation(operator, left, this.parseUnary());
+            }
+            return left;
+        }
+
+        private static Node createOperation(char operator, Node left, Node right) {
+            if (right == null) return null;
+            return operator != '/' && left.isIntegral() && right.isIntegral() ?
+                    new IntegralOperation(operator, left, right) :
+                    new FloatingOperation(operator, left, right);
+        }
+
+        private Node parseUnary() {
+            if (this.peek() == '-') {
+                this.pos++;
+                final Node operand = this.parseUnary();
+                if (operand == null) return null;
+                return operand.isIntegral() ? new IntegralNegation(operand) : new FloatingNegation(operand);
+            }
+            return this.parsePrimary();
+        }
+
+        private Node parsePrimary() {
+            final char c = this.peek();
+            if (c == '(') {
+                this.pos++;
+                final Node node = this.parseAdditive();
+                return this.consume(')') ? node : null;
+            } else if (Character.isDigit(c) || c == '.') {
+                return this.parseNumber();
+            } else if (Character.isJavaIdentifierStart(c)) {
+                return this.parseIdentifier();
+            }
+            return null;
+        }
+
+        private Node parseNumber() {
+            final int start = this.pos;
+            boolean isFloating = false;
+            while (this.pos < this.expression.length() && Character.isDigit(this.expression.charAt(this.pos))) this.pos++;
+            if (this.pos < this.expression.length() && this.expression.charAt(this.pos) == '.') {
+                isFloating = true;
+                this.pos++;
+                while (this.pos < this.expression.length() && Character.isDigit(this.expression.charAt(this.pos))) this.pos++;
+            }
+            if (this.pos < this.expression.length() && Character.toLowerCase(this.expression.charAt(this.pos)) == 'e') {
+                isFloating = true;
+                this.pos++;
+                if (this.pos < this.expression.length() && "+-".indexOf(this.expression.charAt(this.pos)) >= 0) this.pos++;
+                while (this.pos < this.expression.length() && Character.isDigit(this.expression.charAt(this.pos))) this.pos++;
+            }
+            final String literal = this.expression.substring(start, this.pos);
+            try {
+                return isFloating ? new FloatingConstant(Double.parseDouble(literal)) : new Constant(Long.parseLong(literal));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private Node parseIdentifier() {
+            final int start = this.pos;
+            while (this.pos < this.expression.length() &&
+                    (Character.isJavaIdentifierPart(this.expression.charAt(this.pos)) || this.expression.charAt(this.pos) == ':')) {
+                this.pos++;
+            }
+            final String identifier = this.expression.substring(start, this.pos);
+            switch (identifier) {
+                case "math:sqrt": {
+                    final Node[] arguments = this.parseArguments(1);
+                    return arguments == null ? null : new SquareRoot(arguments[0]);
+                }
+                case "rheem:logGrowth": {
+                    final Node[] arguments = this.parseArguments(4);
+                    return arguments == null ? null : new LogisticGrowth(arguments[0], arguments[1], arguments[2], arguments[3]);
+                }
+                default:
+                    if (identifier.matches("in\\d+")) {
+                        final int index = Integer.parseInt(identifier.substring(2));
+                        return index < this.numInputs ? new InputCardinality(index) : null;
+                    } else if (identifier.matches("out\\d+")) {
+                        final int index = Integer.parseInt(identifier.substring(3));
+                        return index < this.numOutputs ? new OutputCardinality(index) : null;
+                    }
+                    return null;
+            }
+        }
+
+        private Node[] parseArguments(int numArguments) {
+            if (!this.consume('(')) return null;
+            final Node[] arguments = new Node[numArguments];
+            for (int i = 0; i < numArguments; i++) {
+                if (i > 0 && !this.consume(',')) return null;
+                if ((arguments[i] = this.parseAdditive()) == null) return null;
+            }
+            return this.consume(')') ? arguments : null;
+        }
+
+        private boolean consume(char c) {
+            if (this.peek() != c) return false;
+            this.pos++;
+            return true;
+        }
+
+        /**
+         * Skips any whitespace and provides the next character (or {@code 0} if there is none).
+         */
+        private char peek() {
+            this.skipWhitespace();
+            return this.pos < this.expression.length() ? this.expression.charAt(this.pos) : 0;
+        }
+
+        private void skipWhitespace() {
+            while (this.pos < this.expression.length() && Character.isWhitespace(this.expression.charAt(this.pos))) {
+                this.pos++;
+            }
+        }
+    }
+
+}
@@ -10,6 +10,8 @@ import org.qcri.rheem.core.optimizer.costs.LoadEstimator.EstimationFunction;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.util.JuelUtils;
 import org.qcri.rheem.core.util.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.function.ToDoubleBiFunction;
@@ -22,6 +24,8 @@ import java.util.stream.StreamSupport;
  */
 public class LoadProfileEstimators {
 
+    private static final Logger logger = LoggerFactory.getLogger(LoadProfileEstimators.class);
+
     /**
      * Prevent instantiation of this class.
      */
@@ -107,7 +111,8 @@ public class LoadProfileEstimators {
     }
 
     /**
-     * Parses a JUEL expression and provides it as a {@link EstimationFunction}.
+     * Parses a JUEL expression and provides it as a {@link EstimationFunction}. If possible, the JUEL expression is
+     * compiled into a {@link CompiledJuelExpression}; otherwise, it is interpreted.
      *
      * @param juel                 a JUEL expression
      * @param numInputs            the number of inputs of the estimated operator, reflected as JUEL variables {@code in0}, {@code in1}, ...
@@ -119,6 +124,13 @@ public class LoadProfileEstimators {
                                                            int numInputs,
                                                            int numOutputs,
                                                            List<String> additionalProperties) {
+        if (additionalProperties.isEmpty()) {
+            final CompiledJuelExpression compiledExpression = CompiledJuelExpression.compile(juel, numInputs, numOutputs);
+            if (compiledExpression != null) {
+                return (op, inCards, outCards) -> compiledExpression.applyAsLong(inCards, outCards);
+            }
+            logger.debug("Could not compile \"{}\", interpreting it instead.", juel);
+        }
         final Map<String, Class<?>> parameterClasses = createJuelParameterClasses(
                 numInputs,
                 numOutputs,
@@ -137,6 +149,11 @@ public class LoadProfileEstimators {
      * @return a {@link ToLongBiFunction} wrapping the JUEL expression
      */
     private static ToDoubleBiFunction<long[], long[]> parseResourceUsageJuel(String juel, int numInputs, int numOutputs) {
+        final CompiledJuelExpression compiledExpression = CompiledJuelExpression.compile(juel, numInputs, numOutputs);
+        if (compiledExpression != null) {
+            return compiledExpression::applyAsDouble;
+        }
+        logger.debug("Could not compile \"{}\", interpreting it instead.", juel);
         final Map<String, Class<?>> parameterClasses = createJuelParameterClasses(numInputs, numOutputs);
         final JuelUtils.JuelFunction<Double> juelFunction = new JuelUtils.JuelFunction<>(juel, Double.class, parameterClasses);
         return (inCards, outCards) -> applyJuelFunction(juelFunction, null, inCards, outCards, Collections.emptyList());
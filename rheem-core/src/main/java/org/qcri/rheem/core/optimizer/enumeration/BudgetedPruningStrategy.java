@@ -0,0 +1,161 @@
+package org.qcri.rheem.core.optimizer.enumeration;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.ProbabilisticDoubleInterval;
+import org.qcri.rheem.core.profiling.PruningMeasurement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This {@link PlanEnumerationPruningStrategy} retains a beam of the best {@link PlanImplementation}s, whose width
+ * adapts to (i) how many {@link PlanImplementation}s are not dominated by the best one, i.e., their cost estimate
+ * is not completely more expensive, and (ii) how much of the time and memory budget of the enumeration is left.
+ * Once the budget is exhausted, only the best {@link PlanImplementation} is retained, so that the enumeration
+ * finishes quickly with the best plan found.
+ */
+public class BudgetedPruningStrategy implements PlanEnumerationPruningStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(BudgetedPruningStrategy.class);
+
+    private Comparator<ProbabilisticDoubleInterval> costEstimateComparator;
+
+    /**
+     * Bounds for the beam width.
+     */
+    private int minBeamWidth, maxBeamWidth;
+
+    /**
+     * Milliseconds that the enumeration may take.
+     */
+    private long timeBudget;
+
+    /**
+     * Fraction of the maximum heap that the enumeration may occupy.
+     */
+    private double memoryBudget;
+
+    /**
+     * Start of the current enumeration or {@code -1} if it has not started yet.
+     */
+    private volatile long startMillis = -1;
+
+    /**
+     * Statistics on the pruning of the current enumeration.
+     */
+    private final AtomicLong numPrunings = new AtomicLong(),
+            numInputPlanImplementations = new AtomicLong(),
+            numRetainedPlanImplementations = new AtomicLong(),
+            numExhaustedPrunings = new AtomicLong();
+
+    @Override
+    public void configure(Configuration configuration) {
+        this.costEstimateComparator = configuration.getCostEstimateComparatorProvider().provide();
+        this.minBeamWidth = (int) Math.max(1, configuration.getLongProperty("rheem.core.optimizer.pruning.beam.min", 2));
+        this.maxBeamWidth = (int) Math.max(this.minBeamWidth, configuration.getLongProperty("rheem.core.optimizer.pruning.beam.max", 50));
+        this.timeBudget = configuration.getLongProperty("rheem.core.optimizer.pruning.budget.time", 5000);
+        this.memoryBudget = configuration.getDoubleProperty("rheem.core.optimizer.pruning.budget.memory", 0.8);
+    }
+
+    @Override
+    public void startEnumeration() {
+        this.startMillis = System.currentTimeMillis();
+        this.numPrunings.set(0);
+        this.numInputPlanImplementations.set(0);
+        this.numRetainedPlanImplementations.set(0);
+        this.numExhaustedPrunings.set(0);
+    }
+
+    @Override
+    public void prune(PlanEnumeration planEnumeration) {
+        if (this.startMillis == -1) this.startEnumeration();
+
+        final Collection<PlanImplementation> planImplementations = planEnumeration.getPlanImplementations();
+        final int numInputPlanImplementations = planImplementations.size();
+        this.numPrunings.incrementAndGet();
+        this.numInputPlanImplementations.addAndGet(numInputPlanImplementations);
+
+        final double budgetFactor = this.getRemainingBudgetFactor();
+        if (budgetFactor <= 0) this.numExhaustedPrunings.incrementAndGet();
+        if (numInputPlanImplementations > 1) {
+            List<PlanImplementation> sortedPlanImplementations = new ArrayList<>(planImplementations);
+            sortedPlanImplementations.sort(this::comparePlanImplementations);
+            final int beamWidth = this.determineBeamWidth(sortedPlanImplementations, budgetFactor);
+            if (beamWidth < numInputPlanImplementations) {
+                planImplementations.retainAll(sortedPlanImplementations.subList(0, beamWidth));
+                logger.debug("Narrowed beam from {} to {} plan implementations (remaining budget: {}).",
+                        numInputPlanImplementations, beamWidth, String.format("%.2f", budgetFactor));
+            }
+        }
+        this.numRetainedPlanImplementations.addAndGet(planImplementations.size());
+    }
+
+    /**
+     * Determines how many of the given {@link PlanImplementation}s should be retained.
+     *
+     * @param sortedPlanImplementations the {@link PlanImplementation}s sorted by their cost estimates
+     * @param budgetFactor              the fraction of the remaining budget
+     * @return the beam width
+     */
+    private int determineBeamWidth(List<PlanImplementation> sortedPlanImplementations, double budgetFactor) {
+        if (budgetFactor <= 0) return 1;
+
+        // Count the plans that are not dominated by the best plan.
+        final double bestUpperCost = sortedPlanImplementations.get(0).getCostEstimate(true).getUpperEstimate();
+        int numNonDominatedPlans = 1;
+        while (numNonDominatedPlans < sortedPlanImplementations.size()
+                && sortedPlanImplementations.get(numNonDominatedPlans).getCostEstimate(true).getLowerEstimate() <= bestUpperCost) {
+            numNonDominatedPlans++;
+        }
+
+        final int budgetedBeamWidth = (int) Math.ceil(this.maxBeamWidth * budgetFactor);
+        return Math.max(this.minBeamWidth, Math.min(numNonDominatedPlans, budgetedBeamWidth));
+    }
+
+    /**
+     * Determines the fraction of the time and memory budget that is left.
+     *
+     * @return a value in {@code [0, 1]}, where {@code 0} means that the budget is exhausted
+     */
+    private double getRemainingBudgetFactor() {
+        final double timeFactor = this.timeBudget <= 0 ?
+                1d :
+                1d - (System.currentTimeMillis() - this.startMillis) / (double) this.timeBudget;
+
+        // Memory is considered only once the heap is half way to the budget.
+        final Runtime runtime = Runtime.getRuntime();
+        final double usedMemory = (runtime.totalMemory() - runtime.freeMemory()) / (double) runtime.maxMemory();
+        final double memoryFactor = Math.min(1d, (this.memoryBudget - usedMemory) / (this.memoryBudget / 2));
+
+        return Math.max(0d, Math.min(timeFactor, memoryFactor));
+    }
+
+    private int comparePlanImplementations(PlanImplementation p1,
+                                           PlanImplementation p2) {
+        final ProbabilisticDoubleInterval t1 = p1.getCostEstimate(true);
+        final ProbabilisticDoubleInterval t2 = p2.getCostEstimate(true);
+        return this.costEstimateComparator.compare(t1, t2);
+    }
+
+    /**
+     * Creates a {@link PruningMeasurement} of the current enumeration.
+     *
+     * @param id the ID of the new {@link PruningMeasurement}
+     * @return the {@link PruningMeasurement}
+     */
+    public PruningMeasurement createMeasurement(String id) {
+        return new PruningMeasurement(
+                id,
+                this.numPrunings.get(),
+                this.numInputPlanImplementations.get(),
+                this.numRetainedPlanImplementations.get(),
+                this.numExhaustedPrunings.get()
+        );
+    }
+
+}
@@ -0,0 +1,296 @@
+package org.qcri.rheem.core.optimizer.enumeration;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.plan.rheemplan.CompositeOperator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.OperatorAlternative;
+import org.qcri.rheem.core.plan.rheemplan.OperatorContainer;
+import org.qcri.rheem.core.plan.rheemplan.Operators;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers which {@link OperatorAlternative.Alternative}s have been picked for prepared {@link RheemPlan}s, so that
+ * recurring plans need not be enumerated in their full breadth again. Plans are identified by a {@link Fingerprint}
+ * that comprises their structure, {@link Operator} classes, UDFs, parameters (e.g., source URLs) and the bucketed
+ * output cardinalities of their sources. Hence, a plan whose inputs change their size notably does not match
+ * its former {@link Fingerprint} anymore and is optimized from scratch.
+ * <p>Instances are thread-safe. Least recently used entries are evicted once the capacity is exceeded.</p>
+ */
+public class PlanCache {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Maps {@link Fingerprint#key}s to the indices of the picked {@link OperatorAlternative.Alternative}s.
+     */
+    private final Map<String, int[]> entries;
+
+    /**
+     * Maximum number of entries in this instance.
+     */
+    private final int capacity;
+
+    /**
+     * Base of the logarithmic cardinality buckets.
+     */
+    private final double bucketBase;
+
+    private long numHits = 0, numMisses = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param configuration provides the capacity and bucketing of the new instance
+     */
+    public PlanCache(Configuration configuration) {
+        this((int) configuration.getLongProperty("rheem.core.optimizer.plancache.capacity", 100),
+                configuration.getDoubleProperty("rheem.core.optimizer.plancache.bucketbase", 2d));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity   the maximum number of entries; {@code 0} disables caching
+     * @param bucketBase cardinalities deviating by less than this factor are likely to fall into the same bucket
+     */
+    public PlanCache(int capacity, double bucketBase) {
+        assert bucketBase > 1 : String.format("Illegal bucket base %f.", bucketBase);
+        this.capacity = capacity;
+        this.bucketBase = bucketBase;
+        this.entries = new LinkedHashMap<String, int[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return this.size() > PlanCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * @return whether this instance caches anything at all
+     */
+    public boolean isEnabled() {
+        return this.capacity > 0;
+    }
+
+    /**
+     * Creates a {@link Fingerprint} for a prepared {@link RheemPlan} whose cardinalities have been estimated.
+     *
+     * @param rheemPlan           the {@link RheemPlan}
+     * @param optimizationContext holds the cardinalities of the {@code rheemPlan}
+     * @return the {@link Fingerprint}
+     */
+    public Fingerprint fingerprint(RheemPlan rheemPlan, OptimizationContext optimizationContext) {
+        final Fingerprint fingerprint = new Fingerprint(optimizationContext);
+        for (Operator sink : rheemPlan.getSinks()) {
+            fingerprint.append("sink ").append(fingerprint.visit(sink, true)).append('\n');
+        }
+        return fingerprint.complete();
+    }
+
+    /**
+     * Looks up the {@link OperatorAlternative.Alternative}s that have been picked for a {@link RheemPlan} with the
+     * given {@link Fingerprint}.
+     *
+     * @param fingerprint identifies the {@link RheemPlan}
+     * @return the picked {@link OperatorAlternative.Alternative}s of the {@link RheemPlan} that belongs to the
+     * {@code fingerprint} or {@code null} if none are cached
+     */
+    public synchronized Map<OperatorAlternative, OperatorAlternative.Alternative> lookup(Fingerprint fingerprint) {
+        final int[] choices = this.entries.get(fingerprint.key);
+        if (choices == null || choices.length != fingerprint.operatorAlternatives.size()) {
+            this.numMisses++;
+            return null;
+        }
+        Map<OperatorAlternative, OperatorAlternative.Alternative> settledAlternatives = new HashMap<>(choices.length);
+        for (int i = 0; i < choices.length; i++) {
+            if (choices[i] == -1) continue;
+            final OperatorAlternative operatorAlternative = fingerprint.operatorAlternatives.get(i);
+            if (choices[i] >= operatorAlternative.getAlternatives().size()) {
+                this.logger.warn("Discarding cached plan for {} as it does not fit anymore.", operatorAlternative);
+                this.entries.remove(fingerprint.key);
+                this.numMisses++;
+                return null;
+            }
+            settledAlternatives.put(operatorAlternative, operatorAlternative.getAlternatives().get(choices[i]));
+        }
+        this.numHits++;
+        return settledAlternatives;
+    }
+
+    /**
+     * Caches the {@link OperatorAlternative.Alternative}s picked in a {@link PlanImplementation}.
+     *
+     * @param fingerprint        identifies the {@link RheemPlan} of the {@code planImplementation}
+     * @param planImplementation the picked {@link PlanImplementation}
+     */
+    public synchronized void store(Fingerprint fingerprint, PlanImplementation planImplementation) {
+        if (!this.isEnabled()) return;
+        final Map<OperatorAlternative, OperatorAlternative.Alternative> chosenAlternatives =
+                planImplementation.collectChosenAlternatives();
+        final int[] choices = new int[fingerprint.operatorAlternatives.size()];
+        for (int i = 0; i < choices.length; i++) {
+            final OperatorAlternative operatorAlternative = fingerprint.operatorAlternatives.get(i);
+            final OperatorAlternative.Alternative alternative = chosenAlternatives.get(operatorAlternative);
+            choices[i] = alternative == null ? -1 : operatorAlternative.getAlternatives().indexOf(alternative);
+        }
+        this.entries.put(fingerprint.key, choices);
+    }
+
+    /**
+     * Discards the cache entry for the given {@link Fingerprint}, e.g., because it did not yield any plan.
+     *
+     * @param fingerprint identifies the entry
+     */
+    public synchronized void invalidate(Fingerprint fingerprint) {
+        this.entries.remove(fingerprint.key);
+    }
+
+    public synchronized long getNumHits() {
+        return this.numHits;
+    }
+
+    public synchronized long getNumMisses() {
+        return this.numMisses;
+    }
+
+    /**
+     * Identifies a prepared {@link RheemPlan} and indexes its {@link OperatorAlternative}s in a deterministic order.
+     */
+    public class Fingerprint {
+
+        private final OptimizationContext optimizationContext;
+
+        /**
+         * Describes the already visited {@link Operator}s by their ordinal.
+         */
+        private final List<String> operatorDescriptions = new ArrayList<>();
+
+        /**
+         * Ordinals of the already visited {@link Operator}s.
+         */
+        private final Map<Operator, Integer> ordinals = new HashMap<>();
+
+        /**
+         * All {@link OperatorAlternative}s of the {@link RheemPlan} in order of their visit.
+         */
+        private final List<OperatorAlternative> operatorAlternatives = new ArrayList<>();
+
+        private final StringBuilder sb = new StringBuilder(1000);
+
+        private String key;
+
+        private Fingerprint(OptimizationContext optimizationContext) {
+            this.optimizationContext = optimizationContext;
+        }
+
+        private StringBuilder append(Object obj) {
+            return this.sb.append(obj);
+        }
+
+        /**
+         * Describes the given {@link Operator} and all its upstream {@link Operator}s unless they have been visited
+         * already.
+         *
+         * @param operator   the {@link Operator} to describe
+         * @param isTopLevel whether the {@code operator} is not nested in any {@link CompositeOperator}
+         * @return the ordinal of the {@code operator}
+         */
+        private int visit(Operator operator, boolean isTopLevel) {
+            Integer ordinal = this.ordinals.get(operator);
+            if (ordinal != null) return ordinal;
+            ordinal = this.operatorDescriptions.size();
+            this.ordinals.put(operator, ordinal);
+            this.operatorDescriptions.add(null);
+
+            StringBuilder description = new StringBuilder(100).append(operator.getClass().getName());
+            if (operator.isElementary()) {
+                description.append(Operators.describeParameters(operator));
+            }
+            if (isTopLevel && operator.isSource()) {
+                this.describeCardinalities(operator, description);
+            }
+            description.append(" <-");
+            for (InputSlot<?> input : operator.getAllInputs()) {
+                final OutputSlot<?> occupant = input.getOccupant();
+                description.append(' ');
+                if (occupant == null) {
+                    description.append('-');
+                } else {
+                    description.append(this.visit(occupant.getOwner(), isTopLevel)).append('.').append(occupant.getIndex());
+                }
+            }
+
+            if (operator instanceof OperatorAlternative) {
+                this.operatorAlternatives.add((OperatorAlternative) operator);
+            }
+            if (operator instanceof CompositeOperator) {
+                for (OperatorContainer container : ((CompositeOperator) operator).getContainers()) {
+                    description.append(" {");
+                    for (OutputSlot<?> output : operator.getAllOutputs()) {
+                        final OutputSlot<?> innerOutput = container.traceOutput(output);
+                        description.append(' ').append(innerOutput == null ?
+                                "-" :
+                                this.visit(innerOutput.getOwner(), false) + "." + innerOutput.getIndex());
+                    }
+                    if (operator.isSink() && container.getSink() != null) {
+                        description.append(' ').append(this.visit(container.getSink(), false));
+                    }
+                    description.append(" }");
+                }
+            }
+
+            this.operatorDescriptions.set(ordinal, description.toString());
+            return ordinal;
+        }
+
+        /**
+         * Describes the buckets of the output cardinalities of the given source {@link Operator}.
+         */
+        private void describeCardinalities(Operator operator, StringBuilder description) {
+            final OptimizationContext.OperatorContext operatorContext =
+                    this.optimizationContext.getOperatorContext(operator);
+            if (operatorContext == null) return;
+            for (int outputIndex = 0; outputIndex < operator.getNumOutputs(); outputIndex++) {
+                final CardinalityEstimate cardinality = operatorContext.getOutputCardinality(outputIndex);
+                description.append(" #");
+                if (cardinality == null) {
+                    description.append('?');
+                } else {
+                    description.append(this.toBucket(cardinality.getLowerEstimate()))
+                            .append('-')
+                            .append(this.toBucket(cardinality.getUpperEstimate()));
+                }
+            }
+        }
+
+        private long toBucket(long cardinality) {
+            return (long) Math.floor(Math.log(Math.max(1, cardinality)) / Math.log(PlanCache.this.bucketBase));
+        }
+
+        private Fingerprint complete() {
+            for (int ordinal = 0; ordinal < this.operatorDescriptions.size(); ordinal++) {
+                this.sb.append(ordinal).append(": ").append(this.operatorDescriptions.get(ordinal)).append('\n');
+            }
+            this.key = this.sb.toString();
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[%d operators, %d alternatives]",
+                    this.getClass().getSimpleName(), this.operatorDescriptions.size(), this.operatorAlternatives.size());
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -166,6 +167,21 @@ public class PlanEnumeration {
                                        Channel existingChannel,
                                        Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
                                        OptimizationContext optimizationContext) {
+        return this.concatenate(openOutputSlot, existingChannel, targetEnumerations, optimizationContext, null);
+    }
+
+    /**
+     * Concatenates the {@code baseEnumeration} via its {@code openOutputSlot} to the {@code targetEnumerations}.
+     * All {@link PlanEnumeration}s should be distinct.
+     *
+     * @param forkJoinPool on which the {@link PlanImplementation}s should be concatenated or {@code null} to
+     *                     concatenate them sequentially; the outcome is the same in both cases
+     */
+    public PlanEnumeration concatenate(OutputSlot<?> openOutputSlot,
+                                       Channel existingChannel,
+                                       Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
+                                       OptimizationContext optimizationContext,
+                                       ForkJoinPool forkJoinPool) {
 
         // Check the parameters' validity.
         assert this.getServingOutputSlots().stream()
@@ -209,7 +225,9 @@ public class PlanEnumeration {
 
         // Create the PlanImplementations.
         result.planImplementations.addAll(
-                this.concatenatePartialPlans(openOutputSlot, existingChannel, targetEnumerations, optimizationContext, result)
+                this.concatenatePartialPlans(
+                        openOutputSlot, existingChannel, targetEnumerations, optimizationContext, result, forkJoinPool
+                )
         );
 
         logger.debug("Created {} plan implementations.", result.getPlanImplementations().size());
@@ -225,13 +243,15 @@ public class PlanEnumeration {
                                                                    Channel existingChannel,
                                                                    Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
                                                                    OptimizationContext optimizationContext,
-                                                                   PlanEnumeration concatenationEnumeration) {
+                                                                   PlanEnumeration concatenationEnumeration,
+                                                                   ForkJoinPool forkJoinPool) {
         if (existingChannel == null) {
             return this.concatenatePartialPlansBatchwise(
                     openOutputSlot,
                     targetEnumerations,
                     optimizationContext,
-                    concatenationEnumeration
+                    concatenationEnumeration,
+                    forkJoinPool
             );
         } else {
             return this.concatenatePartialPlansPairwise(
@@ -292,18 +312,22 @@ public class PlanEnumeration {
      * Concatenates {@link PlanEnumeration}s by batchwise processing of {@link PlanImplementation}s. All {@link PlanImplementation}s
      * that share a certain implementation of the {@code openOutputSlot} or its fed {@link InputSlot}s are grouped
      * into combinations so that we avoid to seek redundant {@link Junction}s.
+     * <p>The combinations are independent of each other and can hence be processed concurrently. Their
+     * results are collected in the order of the combinations, though.</p>
      *
      * @param openOutputSlot           of this instance to be concatenated
      * @param targetEnumerations       whose {@link InputSlot}s should be concatenated with the {@code openOutputSlot}
      * @param optimizationContext      provides concatenation information
      * @param concatenationEnumeration to which the {@link PlanImplementation}s should be added
+     * @param forkJoinPool             on which the combinations should be processed or {@code null}
      * @return the concatenated {@link PlanImplementation}s
      */
     private Collection<PlanImplementation> concatenatePartialPlansBatchwise(
             OutputSlot<?> openOutputSlot,
             Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
             OptimizationContext optimizationContext,
-            PlanEnumeration concatenationEnumeration) {
+            PlanEnumeration concatenationEnumeration,
+            ForkJoinPool forkJoinPool) {
 
         // Preparatory initializations.
         final ChannelConversionGraph channelConversionGraph = optimizationContext.getChannelConversionGraph();
@@ -314,53 +338,84 @@ public class PlanEnumeration {
         final List<MultiMap<Set<InputSlot<?>>, PlanImplementation>> targetPlanGroupList =
                 groupImplementationsByInput(targetEnumerations);
 
-
-        // Allocate result collector.
-        Collection<PlanImplementation> result = new LinkedList<>();
-
-        // Iterate all InputSlot/OutputSlot combinations.
+        // Collect all InputSlot/OutputSlot combinations.
         List<Set<Map.Entry<Set<InputSlot<?>>, Set<PlanImplementation>>>> targetPlanGroupEntrySet =
                 RheemCollections.map(targetPlanGroupList, MultiMap::entrySet);
         final Iterable<List<Map.Entry<Set<InputSlot<?>>, Set<PlanImplementation>>>> targetPlanGroupCrossProduct =
                 RheemCollections.streamedCrossProduct(targetPlanGroupEntrySet);
+        List<Tuple<List<Map.Entry<Set<InputSlot<?>>, Set<PlanImplementation>>>,
+                Map.Entry<OutputSlot<?>, Set<Tuple<PlanImplementation, PlanImplementation>>>>> combinations = new ArrayList<>();
         for (List<Map.Entry<Set<InputSlot<?>>, Set<PlanImplementation>>> targetPlanGroupEntries : targetPlanGroupCrossProduct) {
-            // Flatten the requested InputSlots.
-            final List<InputSlot<?>> inputs = targetPlanGroupEntries.stream()
-                    .map(Map.Entry::getKey)
-                    .flatMap(Collection::stream)
-                    .distinct()
-                    .collect(Collectors.toCollection(() -> new ArrayList<>(4)));
-
             for (Map.Entry<OutputSlot<?>, Set<Tuple<PlanImplementation, PlanImplementation>>> basePlanGroupEntry : basePlanGroups.entrySet()) {
-                final OutputSlot<?> output = basePlanGroupEntry.getKey();
-                final PlanImplementation innerPlanImplementation = RheemCollections.getAny(basePlanGroupEntry.getValue()).getField1();
-                // The output should reside in the same OptimizationContext in all PlanImplementations.
-                assert basePlanGroupEntry.getValue().stream()
-                        .map(Tuple::getField1)
-                        .map(PlanImplementation::getOptimizationContext)
-                        .collect(Collectors.toSet()).size() == 1;
-
-                // Construct a Junction between the ExecutionOperators.
-                final Operator outputOperator = output.getOwner();
-                assert outputOperator.isExecutionOperator()
-                        : String.format("Expected execution operator, found %s.", outputOperator);
-                final Junction junction = channelConversionGraph.findMinimumCostJunction(
-                        output,
-                        inputs,
-                        innerPlanImplementation.getOptimizationContext()
-                );
-                if (junction == null) continue;
-
-                // If we found a junction, then we can enumerate all PlanImplementation combinations.
-                final List<Set<PlanImplementation>> targetPlans = RheemCollections.map(targetPlanGroupEntries, Map.Entry::getValue);
-                for (List<PlanImplementation> targetPlanList : RheemCollections.streamedCrossProduct(targetPlans)) {
-                    for (Tuple<PlanImplementation, PlanImplementation> basePlanImplementations : basePlanGroupEntry.getValue()) {
-                        PlanImplementation basePlan = basePlanImplementations.getField0();
-                        PlanImplementation concatenatedPlan = basePlan.concatenate(targetPlanList, junction, basePlan, concatenationEnumeration);
-                        if (concatenatedPlan != null) {
-                            result.add(concatenatedPlan);
-                        }
-                    }
+                combinations.add(new Tuple<>(targetPlanGroupEntries, basePlanGroupEntry));
+            }
+        }
+
+        // Concatenate the PlanImplementations of all combinations.
+        final List<Collection<PlanImplementation>> partialResults = PlanEnumerator.mapConcurrently(
+                combinations,
+                combination -> concatenatePlanGroups(
+                        combination.getField1(), combination.getField0(), channelConversionGraph, concatenationEnumeration
+                ),
+                forkJoinPool
+        );
+        Collection<PlanImplementation> result = new LinkedList<>();
+        partialResults.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Concatenates a group of base {@link PlanImplementation}s with groups of target {@link PlanImplementation}s
+     * via a single {@link Junction}.
+     *
+     * @param basePlanGroupEntry       implementing {@link OutputSlot} and the base {@link PlanImplementation}s
+     *                                 (along with their nested {@link PlanImplementation}s that host that {@link OutputSlot})
+     * @param targetPlanGroupEntries   implementing {@link InputSlot}s and the target {@link PlanImplementation}s
+     * @param channelConversionGraph   used to find the {@link Junction}
+     * @param concatenationEnumeration to which the {@link PlanImplementation}s should be added
+     * @return the concatenated {@link PlanImplementation}s
+     */
+    private static Collection<PlanImplementation> concatenatePlanGroups(
+            Map.Entry<OutputSlot<?>, Set<Tuple<PlanImplementation, PlanImplementation>>> basePlanGroupEntry,
+            List<Map.Entry<Set<InputSlot<?>>, Set<PlanImplementation>>> targetPlanGroupEntries,
+            ChannelConversionGraph channelConversionGraph,
+            PlanEnumeration concatenationEnumeration) {
+
+        // Flatten the requested InputSlots.
+        final List<InputSlot<?>> inputs = targetPlanGroupEntries.stream()
+                .map(Map.Entry::getKey)
+                .flatMap(Collection::stream)
+                .distinct()
+                .collect(Collectors.toCollection(() -> new ArrayList<>(4)));
+
+        final OutputSlot<?> output = basePlanGroupEntry.getKey();
+        final PlanImplementation innerPlanImplementation = RheemCollections.getAny(basePlanGroupEntry.getValue()).getField1();
+        // The output should reside in the same OptimizationContext in all PlanImplementations.
+        assert basePlanGroupEntry.getValue().stream()
+                .map(Tuple::getField1)
+                .map(PlanImplementation::getOptimizationContext)
+                .collect(Collectors.toSet()).size() == 1;
+
+        // Construct a Junction between the ExecutionOperators.
+        final Operator outputOperator = output.getOwner();
+        assert outputOperator.isExecutionOperator()
+                : String.format("Expected execution operator, found %s.", outputOperator);
+        final Junction junction = channelConversionGraph.findMinimumCostJunction(
+                output,
+                inputs,
+                innerPlanImplementation.getOptimizationContext()
+        );
+        if (junction == null) return Collections.emptyList();
+
+        // If we found a junction, then we can enumerate all PlanImplementation combinations.
+        Collection<PlanImplementation> result = new ArrayList<>();
+        final List<Set<PlanImplementation>> targetPlans = RheemCollections.map(targetPlanGroupEntries, Map.Entry::getValue);
+        for (List<PlanImplementation> targetPlanList : RheemCollections.streamedCrossProduct(targetPlans)) {
+            for (Tuple<PlanImplementation, PlanImplementation> basePlanImplementations : basePlanGroupEntry.getValue()) {
+                PlanImplementation basePlan = basePlanImplementations.getField0();
+                PlanImplementation concatenatedPlan = basePlan.concatenate(targetPlanList, junction, basePlan, concatenationEnumeration);
+                if (concatenatedPlan != null) {
+                    result.add(concatenatedPlan);
                 }
             }
         }
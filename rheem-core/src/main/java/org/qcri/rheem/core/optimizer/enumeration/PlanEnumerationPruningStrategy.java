@@ -14,6 +14,13 @@ public interface PlanEnumerationPruningStrategy {
      */
     void configure(Configuration configuration);
 
+    /**
+     * Notifies this instance that a new top-level enumeration starts. Prunings until the next call belong to
+     * that enumeration.
+     */
+    default void startEnumeration() {
+    }
+
     /**
      * Prune down the {@link PlanEnumeration}, i.e., remove some of its {@link PlanImplementation}s.
      *
@@ -14,8 +14,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -88,6 +92,12 @@ public class PlanEnumerator {
      */
     private final OptimizationContext optimizationContext;
 
+    /**
+     * {@link ForkJoinPool} to enumerate branches and concatenate {@link PlanEnumeration}s on or {@code null} if this
+     * instance should work sequentially. It is shared with all forks of this instance.
+     */
+    private ForkJoinPool forkJoinPool;
+
     /**
      * Creates a new instance.
      *
@@ -100,7 +110,28 @@ public class PlanEnumerator {
                 null,
                 Collections.emptyMap(),
                 Collections.emptyMap(),
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                null);
+    }
+
+    /**
+     * Creates a new instance that considers only the given {@link OperatorAlternative.Alternative}s for their
+     * {@link OperatorAlternative}s.
+     *
+     * @param rheemPlan              a hyperplan that should be used for enumeration.
+     * @param presettledAlternatives {@link OperatorAlternative.Alternative}s that have been picked already
+     * @see PlanCache
+     */
+    public PlanEnumerator(RheemPlan rheemPlan,
+                          OptimizationContext optimizationContext,
+                          Map<OperatorAlternative, OperatorAlternative.Alternative> presettledAlternatives) {
+        this(rheemPlan.collectReachableTopLevelSources(),
+                optimizationContext,
+                null,
+                presettledAlternatives,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                null);
     }
 
     /**
@@ -113,13 +144,30 @@ public class PlanEnumerator {
                           OptimizationContext optimizationContext,
                           ExecutionPlan baseplan,
                           Set<Channel> openChannels) {
+        this(rheemPlan, optimizationContext, baseplan, openChannels, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new instance, thereby encorporating already executed parts of the {@code rheemPlan} and
+     * {@link OperatorAlternative.Alternative}s that need not be enumerated again.
+     *
+     * @param rheemPlan          a hyperplan that should be used for enumeration.
+     * @param baseplan           an {@link ExecutionPlan} that has been already executed (for re-optimization)
+     * @param reusedAlternatives {@link OperatorAlternative.Alternative}s of a previous enumeration to stick to
+     */
+    public PlanEnumerator(RheemPlan rheemPlan,
+                          OptimizationContext optimizationContext,
+                          ExecutionPlan baseplan,
+                          Set<Channel> openChannels,
+                          Map<OperatorAlternative, OperatorAlternative.Alternative> reusedAlternatives) {
 
         this(rheemPlan.collectReachableTopLevelSources(),
                 optimizationContext,
                 null,
+                new HashMap<>(reusedAlternatives),
                 new HashMap<>(),
                 new HashMap<>(),
-                new HashMap<>());
+                null);
 
         // Register all the tasks that have been executed already.
         final Set<ExecutionTask> executedTasks = baseplan.collectAllTasks();
@@ -155,13 +203,15 @@ public class PlanEnumerator {
                            OperatorAlternative.Alternative enumeratedAlternative,
                            Map<OperatorAlternative, OperatorAlternative.Alternative> presettledAlternatives,
                            Map<ExecutionOperator, ExecutionTask> executedTasks,
-                           Map<OutputSlot<?>, Channel> existingChannels) {
+                           Map<OutputSlot<?>, Channel> existingChannels,
+                           ForkJoinPool forkJoinPool) {
 
         this.optimizationContext = optimizationContext;
         this.enumeratedAlternative = enumeratedAlternative;
         this.presettledAlternatives = presettledAlternatives;
         this.executedTasks = executedTasks;
         this.existingChannels = existingChannels;
+        this.forkJoinPool = forkJoinPool;
 
 
         // Set up start Operators.
@@ -219,25 +269,37 @@ public class PlanEnumerator {
      */
     private synchronized void run() {
         if (this.resultReference == null) {
-            while (!this.activatedEnumerations.isEmpty() || !this.activatedConcatenations.isEmpty()) {
-                ConcatenationActivator concatenationActivator;
-                while ((concatenationActivator = this.activatedConcatenations.poll()) != null) {
-                    if (this.isTopLevel()) {
-                        this.logger.debug("Execute {} (open inputs: {}).",
-                                concatenationActivator,
-                                concatenationActivator.getBaseEnumeration().getRequestedInputSlots()
-                        );
-                    }
-                    this.concatenate(concatenationActivator);
-                }
+            if (this.isTopLevel()) {
+                this.optimizationContext.getPruningStrategies().forEach(PlanEnumerationPruningStrategy::startEnumeration);
+            }
+            final boolean isCreatingForkJoinPool = this.forkJoinPool == null && this.isTopLevel();
+            if (isCreatingForkJoinPool) {
+                final int parallelism = (int) this.getConfiguration().getLongProperty(
+                        "rheem.core.optimizer.enumeration.parallelism", 1
+                );
+                if (parallelism > 1) this.forkJoinPool = new ForkJoinPool(parallelism);
+            }
+            try {
+                while (!this.activatedEnumerations.isEmpty() || !this.activatedConcatenations.isEmpty()) {
+                    this.executeActivatedConcatenations();
 
-                // Try to enumerate branches.
-                EnumerationActivator enumerationActivator;
-                if ((enumerationActivator = this.activatedEnumerations.poll()) != null) {
-                    if (this.isTopLevel()) {
-                        this.logger.debug("Execute {}.", enumerationActivator);
+                    // Try to enumerate branches.
+                    if (this.forkJoinPool != null) {
+                        this.enumerateActivatedBranchesConcurrently();
+                    } else {
+                        EnumerationActivator enumerationActivator;
+                        if ((enumerationActivator = this.activatedEnumerations.poll()) != null) {
+                            if (this.isTopLevel()) {
+                                this.logger.debug("Execute {}.", enumerationActivator);
+                            }
+                            this.enumerateBranchStartingFrom(enumerationActivator);
+                        }
                     }
-                    this.enumerateBranchStartingFrom(enumerationActivator);
+                }
+            } finally {
+                if (isCreatingForkJoinPool && this.forkJoinPool != null) {
+                    this.forkJoinPool.shutdown();
+                    this.forkJoinPool = null;
                 }
             }
 
@@ -245,6 +307,74 @@ public class PlanEnumerator {
         }
     }
 
+    /**
+     * Execute all {@link #activatedConcatenations}, including those that are activated in the course.
+     */
+    private void executeActivatedConcatenations() {
+        ConcatenationActivator concatenationActivator;
+        while ((concatenationActivator = this.activatedConcatenations.poll()) != null) {
+            if (this.isTopLevel()) {
+                this.logger.debug("Execute {} (open inputs: {}).",
+                        concatenationActivator,
+                        concatenationActivator.getBaseEnumeration().getRequestedInputSlots()
+                );
+            }
+            this.concatenate(concatenationActivator);
+        }
+    }
+
+    /**
+     * Enumerate the branches of all {@link #activatedEnumerations} on the {@link #forkJoinPool}. As enumerating a branch
+     * does not depend on other branches, this can be done concurrently. The enumerated branches are then
+     * post-processed one after another in their order of activation, each followed by the concatenations it
+     * activates. Hence, the outcome is the same as for the sequential enumeration.
+     */
+    private void enumerateActivatedBranchesConcurrently() {
+        final List<EnumerationActivator> enumerationActivators = new ArrayList<>(this.activatedEnumerations);
+        this.activatedEnumerations.clear();
+        final List<PlanEnumeration> branchEnumerations = mapConcurrently(
+                enumerationActivators, this::enumerateBranchOf, this.forkJoinPool
+        );
+
+        for (int i = 0; i < enumerationActivators.size(); i++) {
+            this.executeActivatedConcatenations();
+            final EnumerationActivator enumerationActivator = enumerationActivators.get(i);
+            if (this.isTopLevel()) {
+                this.logger.debug("Execute {}.", enumerationActivator);
+            }
+            assert !enumerationActivator.wasExecuted();
+            enumerationActivator.markAsExecuted();
+            final PlanEnumeration branchEnumeration = branchEnumerations.get(i);
+            if (branchEnumeration != null) {
+                this.postProcess(branchEnumeration, enumerationActivator.getOptimizationContext());
+            }
+        }
+    }
+
+    /**
+     * Applies a {@link Function} to all elements of a {@link List}, possibly concurrently.
+     *
+     * @param elements     to which the {@code function} should be applied
+     * @param function     that should be applied; must be safe to call concurrently
+     * @param forkJoinPool on which the {@code function} should be applied or {@code null} to apply it sequentially
+     * @return the results of the {@code function} in the order of the {@code elements} (may contain {@code null}s)
+     */
+    static <T, R> List<R> mapConcurrently(List<T> elements, Function<T, R> function, ForkJoinPool forkJoinPool) {
+        if (forkJoinPool == null || elements.size() < 2) {
+            return RheemCollections.map(elements, function);
+        }
+        final List<R> results = RheemCollections.createNullFilledArrayList(elements.size());
+        final Runnable task = () -> IntStream.range(0, elements.size()).parallel()
+                .forEach(i -> results.set(i, function.apply(elements.get(i))));
+        if (ForkJoinTask.getPool() == forkJoinPool) {
+            // We are already running on the forkJoinPool, so we can fork from here (e.g., when enumerating alternatives).
+            task.run();
+        } else {
+            forkJoinPool.submit(task).join();
+        }
+        return results;
+    }
+
     /**
      * Enumerate plans from the branch that starts at the given node. The mode of operation is as follows:
      * <ol>
@@ -260,11 +390,27 @@ public class PlanEnumerator {
         assert !enumerationActivator.wasExecuted();
         enumerationActivator.markAsExecuted();
 
+        final PlanEnumeration branchEnumeration = this.enumerateBranchOf(enumerationActivator);
+        if (branchEnumeration == null) {
+            return;
+        }
+
+        this.postProcess(branchEnumeration, enumerationActivator.getOptimizationContext());
+    }
+
+    /**
+     * Enumerate plans from the branch that starts at the given node without altering the state of this instance,
+     * so that several branches can be enumerated concurrently.
+     *
+     * @param enumerationActivator the activated {@link EnumerationActivator}
+     * @return the {@link PlanEnumeration} for the branch or {@code null} if the branch does not yield any
+     */
+    private PlanEnumeration enumerateBranchOf(EnumerationActivator enumerationActivator) {
         // Start with the activated operator.
         Operator currentOperator = enumerationActivator.activatableOperator;
         List<Operator> branch = this.collectBranchOperatorsStartingFrom(currentOperator);
         if (branch == null) {
-            return;
+            return null;
         }
         if (this.isTopLevel()) {
             this.logger.debug("Enumerating top-level {}.", branch);
@@ -272,12 +418,7 @@ public class PlanEnumerator {
 
         // Go over the branch and create a PlanEnumeration for it.
         final OptimizationContext currentOptimizationCtx = enumerationActivator.getOptimizationContext();
-        PlanEnumeration branchEnumeration = this.enumerateBranch(branch, currentOptimizationCtx);
-        if (branchEnumeration == null) {
-            return;
-        }
-
-        this.postProcess(branchEnumeration, currentOptimizationCtx);
+        return this.enumerateBranch(branch, currentOptimizationCtx);
     }
 
     /**
@@ -377,7 +518,8 @@ public class PlanEnumerator {
                         output,
                         this.existingChannels.get(output),
                         Collections.singletonMap(operator.getInput(0), operatorEnumeration),
-                        optimizationContext
+                        optimizationContext,
+                        this.forkJoinPool
                 );
                 if (branchEnumeration.getPlanImplementations().isEmpty()) {
                     if (this.isTopLevel()) {
@@ -436,7 +578,8 @@ public class PlanEnumerator {
                 alternative,
                 this.presettledAlternatives,
                 this.executedTasks,
-                this.existingChannels);
+                this.existingChannels,
+                this.forkJoinPool);
     }
 
     /**
@@ -448,7 +591,8 @@ public class PlanEnumerator {
                 null,
                 this.presettledAlternatives,
                 this.executedTasks,
-                this.existingChannels);
+                this.existingChannels,
+                this.forkJoinPool);
     }
 
     /**
@@ -467,7 +611,8 @@ public class PlanEnumerator {
                 concatenationActivator.outputSlot,
                 this.existingChannels.get(concatenationActivator.outputSlot),
                 concatenationActivator.getAdjacentEnumerations(),
-                concatenationActivator.getOptimizationContext()
+                concatenationActivator.getOptimizationContext(),
+                this.forkJoinPool
         );
 
         if (concatenatedEnumeration.getPlanImplementations().isEmpty()) {
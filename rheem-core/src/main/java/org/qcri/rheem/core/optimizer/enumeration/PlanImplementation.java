@@ -538,6 +538,27 @@ public class PlanImplementation {
         return this.settledAlternatives.get(operatorAlternative);
     }
 
+    /**
+     * Collects all {@link OperatorAlternative.Alternative}s that have been picked by this instance, including those
+     * in the bodies of its {@link LoopImplementation}s.
+     *
+     * @return the picked {@link OperatorAlternative.Alternative}s indexed by their {@link OperatorAlternative}s
+     */
+    public Map<OperatorAlternative, OperatorAlternative.Alternative> collectChosenAlternatives() {
+        final Map<OperatorAlternative, OperatorAlternative.Alternative> chosenAlternatives = new HashMap<>();
+        this.collectChosenAlternatives(chosenAlternatives);
+        return chosenAlternatives;
+    }
+
+    private void collectChosenAlternatives(Map<OperatorAlternative, OperatorAlternative.Alternative> collector) {
+        this.settledAlternatives.forEach(collector::putIfAbsent);
+        for (LoopImplementation loopImplementation : this.loopImplementations.values()) {
+            for (LoopImplementation.IterationImplementation iteration : loopImplementation.getIterationImplementations()) {
+                iteration.getBodyImplementation().collectChosenAlternatives(collector);
+            }
+        }
+    }
+
     /**
      * Retrieves the {@link TimeEstimate} for this instance, including platform overhead.
      *
@@ -1,5 +1,11 @@
 package org.qcri.rheem.core.plan.rheemplan;
 
+import org.qcri.rheem.core.function.FunctionDescriptor;
+
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -132,4 +138,73 @@ public class Operators {
                 .map(InputSlot::getOwner)
                 .collect(Collectors.toSet());
     }
+
+    /**
+     * Describes the {@link FunctionDescriptor}s and textual parameters of the given elementary {@link Operator}.
+     * {@link FunctionDescriptor}s are described by their Java implementation class and selectivity, so that instances
+     * of the same lambda expression have the same description.
+     *
+     * @param operator the {@link Operator} to describe
+     * @return the description
+     */
+    public static String describeParameters(Operator operator) {
+        StringBuilder description = new StringBuilder();
+        for (Class<?> cls = operator.getClass(); cls != null && cls != OperatorBase.class; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+                final boolean isFunctionDescriptor = FunctionDescriptor.class.isAssignableFrom(field.getType());
+                if (!isFunctionDescriptor && field.getType() != String.class) continue;
+                description.append(' ').append(field.getName()).append('=');
+                final Object value;
+                try {
+                    field.setAccessible(true);
+                    value = field.get(operator);
+                } catch (Exception e) {
+                    description.append('?');
+                    continue;
+                }
+                if (isFunctionDescriptor && value != null) {
+                    describeFunctionDescriptor((FunctionDescriptor) value, description);
+                } else {
+                    description.append(value);
+                }
+            }
+        }
+        return description.toString();
+    }
+
+    private static void describeFunctionDescriptor(FunctionDescriptor functionDescriptor, StringBuilder description) {
+        description.append(functionDescriptor.getClass().getName()).append('[');
+        try {
+            final Method method = functionDescriptor.getClass().getMethod("getJavaImplementation");
+            final Object implementation = method.invoke(functionDescriptor);
+            description.append(implementation == null ? null : describeImplementation(implementation));
+        } catch (Exception e) {
+            description.append('?');
+        }
+        FunctionDescriptor.getSelectivity(functionDescriptor).ifPresent(s -> description.append(", ").append(s));
+        description.append(']');
+    }
+
+    /**
+     * Describes a UDF implementation by its class. As the classes of lambda expressions are numbered in the order
+     * in which they are spun up by the JVM, serializable lambdas are described by their implementation method instead.
+     */
+    private static String describeImplementation(Object implementation) {
+        final Class<?> implementationClass = implementation.getClass();
+        if (implementationClass.getName().contains("$$Lambda$")) {
+            try {
+                final Method writeReplace = implementationClass.getDeclaredMethod("writeReplace");
+                writeReplace.setAccessible(true);
+                final Object replacement = writeReplace.invoke(implementation);
+                if (replacement instanceof SerializedLambda) {
+                    final SerializedLambda serializedLambda = (SerializedLambda) replacement;
+                    return serializedLambda.getImplClass().replace('/', '.') + '#' + serializedLambda.getImplMethodName();
+                }
+            } catch (Exception e) {
+                // The lambda is not serializable.
+            }
+        }
+        return implementationClass.getName();
+    }
 }
@@ -2,6 +2,7 @@ package org.qcri.rheem.core.platform;
 
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.*;
 import org.qcri.rheem.core.plan.rheemplan.InputSlot;
@@ -14,6 +15,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 /**
@@ -75,6 +81,12 @@ public class CrossPlatformExecutor implements ExecutionState {
      */
     private Set<ExecutionStage> completedStages = new HashSet<>();
 
+    /**
+     * Keeps track of {@link ExecutionStage}s that are currently being executed on a worker thread and whose
+     * completion has not yet been processed. Their output {@link ChannelInstance}s must not be disposed.
+     */
+    private final Set<ExecutionStage> runningStages = new HashSet<>();
+
     /**
      * Keeps track of {@link ChannelInstance} cardinalities.
      */
@@ -96,9 +108,16 @@ public class CrossPlatformExecutor implements ExecutionState {
      */
     private final Collection<PartialExecution> partialExecutions = new LinkedList<>();
 
+    /**
+     * Maximum number of {@link ExecutionStage}s that may be executed concurrently. A value of {@code 1} yields the
+     * sequential execution.
+     */
+    private final int parallelism;
+
     public CrossPlatformExecutor(Job job, InstrumentationStrategy instrumentationStrategy) {
         this.job = job;
         this.instrumentationStrategy = instrumentationStrategy;
+        this.parallelism = Math.max(1, (int) job.getConfiguration().getLongProperty("rheem.core.executor.parallelism", 1));
     }
 
     /**
@@ -193,6 +212,17 @@ public class CrossPlatformExecutor implements ExecutionState {
      * Activate and execute {@link ExecutionStage}s as far as possible.
      */
     private void runToBreakpoint() {
+        if (this.parallelism > 1) {
+            this.runToBreakpointConcurrently();
+        } else {
+            this.runToBreakpointSequentially();
+        }
+    }
+
+    /**
+     * Activate and execute {@link ExecutionStage}s one after another as far as possible.
+     */
+    private void runToBreakpointSequentially() {
         // Start execution traversal.
         final long startTime = System.currentTimeMillis();
         int numExecutedStages = 0;
@@ -217,19 +247,8 @@ public class CrossPlatformExecutor implements ExecutionState {
                 // We can now dispose the stageActivator that collected the input ChannelInstances.
                 stageActivator.dispose();
 
-
                 // Dispose obsolete ChannelInstances.
-                final Iterator<Map.Entry<Channel, ChannelInstance>> iterator = this.channelInstances.entrySet().iterator();
-                while (iterator.hasNext()) {
-                    final Map.Entry<Channel, ChannelInstance> channelInstanceEntry = iterator.next();
-                    final ChannelInstance channelInstance = channelInstanceEntry.getValue();
-
-                    // If this is instance is the only one to still use this ChannelInstance, discard it.
-                    if (channelInstance.getNumReferences() == 1) {
-                        channelInstance.noteDiscardedReference(true);
-                        iterator.remove();
-                    }
-                }
+                this.disposeObsoleteChannelInstances();
             }
 
             // Safety net to recover from illegal Breakpoint configurations.
@@ -250,6 +269,165 @@ public class CrossPlatformExecutor implements ExecutionState {
         assert numExecutedStages > 0 : "Did not execute a single stage.";
     }
 
+    /**
+     * Activate and execute {@link ExecutionStage}s as far as possible. Activated {@link ExecutionStage}s of
+     * different {@link PlatformExecution}s are executed concurrently on a bounded worker pool, while all the
+     * bookkeeping (activation, suspension, disposal) is done by the calling thread.
+     */
+    private void runToBreakpointConcurrently() {
+        // Start execution traversal.
+        final long startTime = System.currentTimeMillis();
+        int numExecutedStages = 0;
+        boolean isBreakpointsDisabled = false;
+        final ExecutorService workerPool = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "rheem-stage-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final ExecutorCompletionService<StageActivator> completionService = new ExecutorCompletionService<>(workerPool);
+        final Set<PlatformExecution> busyPlatformExecutions = new HashSet<>();
+        try {
+            do {
+                int numRunningStages = 0;
+                do {
+                    // Dispatch as many activated ExecutionStages as possible. ExecutionStages whose PlatformExecution
+                    // is busy have to wait, because the Executors are not meant to execute several stages at once.
+                    final Collection<StageActivator> deferredStageActivators = new LinkedList<>();
+                    while (numRunningStages < this.parallelism && !this.activatedStageActivators.isEmpty()) {
+                        final StageActivator stageActivator = this.activatedStageActivators.poll();
+
+                        // Check if #breakpoint permits the execution.
+                        if (!isBreakpointsDisabled && this.suspendIfBreakpointRequest(stageActivator)) {
+                            continue;
+                        }
+
+                        final PlatformExecution platformExecution = stageActivator.getStage().getPlatformExecution();
+                        if (!busyPlatformExecutions.add(platformExecution)) {
+                            deferredStageActivators.add(stageActivator);
+                            continue;
+                        }
+
+                        // Prepare the execution here to keep the shared state confined to this thread.
+                        this.instrumentationStrategy.applyTo(stageActivator.getStage());
+                        final Executor executor = this.getOrCreateExecutorFor(stageActivator.getStage());
+                        this.markRunning(stageActivator.getStage());
+                        completionService.submit(() -> {
+                            this.execute(stageActivator, executor);
+                            return stageActivator;
+                        });
+                        numRunningStages++;
+                    }
+                    this.activatedStageActivators.addAll(deferredStageActivators);
+                    if (numRunningStages == 0) break;
+
+                    // Wait for any ExecutionStage to complete.
+                    final StageActivator stageActivator = this.awaitCompletion(completionService);
+                    numRunningStages--;
+                    numExecutedStages++;
+                    busyPlatformExecutions.remove(stageActivator.getStage().getPlatformExecution());
+                    this.completedStages.add(stageActivator.getStage());
+
+                    // Try to activate the successor stages.
+                    this.tryToActivateSuccessors(stageActivator);
+
+                    // We can now dispose the stageActivator that collected the input ChannelInstances.
+                    stageActivator.dispose();
+
+                    // Only now, the outputs of the stage may be considered for disposal.
+                    this.unmarkRunning(stageActivator.getStage());
+
+                    // Dispose obsolete ChannelInstances.
+                    this.disposeObsoleteChannelInstances();
+                } while (numRunningStages > 0 || !this.activatedStageActivators.isEmpty());
+
+                // Safety net to recover from illegal Breakpoint configurations.
+                if (!isBreakpointsDisabled && numExecutedStages == 0) {
+                    this.logger.warn("Could not execute a single stage. Will retry with disabled breakpoints.");
+                    isBreakpointsDisabled = true;
+                    this.activatedStageActivators.addAll(this.suspendedStages);
+                    this.suspendedStages.clear();
+                } else {
+                    isBreakpointsDisabled = false;
+                }
+            } while (!this.activatedStageActivators.isEmpty());
+        } finally {
+            workerPool.shutdownNow();
+            synchronized (this) {
+                this.runningStages.clear();
+            }
+        }
+
+        final long finishTime = System.currentTimeMillis();
+        CrossPlatformExecutor.this.logger.info("Executed {} stages in {} (parallelism: {}).",
+                numExecutedStages, Formats.formatDuration(finishTime - startTime, true), this.parallelism);
+
+        assert numExecutedStages > 0 : "Did not execute a single stage.";
+    }
+
+    /**
+     * Waits for the next {@link ExecutionStage} to complete.
+     *
+     * @param completionService that executes the {@link ExecutionStage}s
+     * @return the {@link StageActivator} of the completed {@link ExecutionStage}
+     */
+    private StageActivator awaitCompletion(ExecutorCompletionService<StageActivator> completionService) {
+        try {
+            final Future<StageActivator> future = completionService.take();
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RheemException("Interrupted while waiting for an execution stage.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RheemException("Executing a stage failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Registers an {@link ExecutionStage} as being executed, so that its outputs are not disposed prematurely.
+     *
+     * @param stage that is about to be executed
+     */
+    private synchronized void markRunning(ExecutionStage stage) {
+        this.runningStages.add(stage);
+    }
+
+    /**
+     * Unregisters an {@link ExecutionStage} whose completion has been processed.
+     *
+     * @param stage whose completion has been processed
+     */
+    private synchronized void unmarkRunning(ExecutionStage stage) {
+        this.runningStages.remove(stage);
+    }
+
+    /**
+     * Discards all {@link ChannelInstance}s in {@link #channelInstances} that are not referenced by anyone else
+     * anymore. {@link ChannelInstance}s produced by {@link #runningStages} are retained, because their consumers
+     * have not been activated yet.
+     */
+    private synchronized void disposeObsoleteChannelInstances() {
+        final Iterator<Map.Entry<Channel, ChannelInstance>> iterator = this.channelInstances.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Channel, ChannelInstance> channelInstanceEntry = iterator.next();
+            final ChannelInstance channelInstance = channelInstanceEntry.getValue();
+
+            // Do not touch the outputs of stages whose completion has not been processed yet.
+            final ExecutionTask producer = channelInstanceEntry.getKey().getProducer();
+            if (producer != null && this.runningStages.contains(producer.getStage())) {
+                continue;
+            }
+
+            // If this is instance is the only one to still use this ChannelInstance, discard it.
+            if (channelInstance.getNumReferences() == 1) {
+                channelInstance.noteDiscardedReference(true);
+                iterator.remove();
+            }
+        }
+    }
+
     /**
      * If the {@link #breakpoint} requests not to execute the given {@link ExecutionStage}, put it to
      * {@link #suspendedStages}.
@@ -273,7 +451,6 @@ public class CrossPlatformExecutor implements ExecutionState {
      */
     private void execute(StageActivator stageActivator) {
         final ExecutionStage stage = stageActivator.getStage();
-        final OptimizationContext optimizationContext = stageActivator.getOptimizationContext();
 
         // Find parts of the stage to instrument.
         this.instrumentationStrategy.applyTo(stage);
@@ -282,14 +459,28 @@ public class CrossPlatformExecutor implements ExecutionState {
         Executor executor = this.getOrCreateExecutorFor(stage);
 
         // Have the execution done.
+        this.execute(stageActivator, executor);
+
+        // Remember that we have executed the stage.
+        this.completedStages.add(stage);
+    }
+
+    /**
+     * Executes the given {@link ExecutionStage} with the given {@link Executor}. This method does not touch the
+     * {@link ExecutionStage}-related state of this instance and can hence be run on a worker thread.
+     *
+     * @param stageActivator that should be executed
+     * @param executor       that should execute the {@link ExecutionStage}
+     */
+    private void execute(StageActivator stageActivator, Executor executor) {
+        final ExecutionStage stage = stageActivator.getStage();
+        final OptimizationContext optimizationContext = stageActivator.getOptimizationContext();
+
         CrossPlatformExecutor.this.logger.info("Having {} execute {}:\n{}", executor, stage, stage.getPlanAsString("> "));
         long startTime = System.currentTimeMillis();
         executor.execute(stage, optimizationContext, this);
         long finishTime = System.currentTimeMillis();
         CrossPlatformExecutor.this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime, true));
-
-        // Remember that we have executed the stage.
-        this.completedStages.add(stage);
     }
 
     private Executor getOrCreateExecutorFor(ExecutionStage stage) {
@@ -312,7 +503,7 @@ public class CrossPlatformExecutor implements ExecutionState {
      *
      * @param processedStageActivator should have just been executed
      */
-    private void tryToActivateSuccessors(StageActivator processedStageActivator) {
+    private synchronized void tryToActivateSuccessors(StageActivator processedStageActivator) {
         final ExecutionStage processedStage = processedStageActivator.getStage();
 
         // Gather all successor ExecutionStages for that a new ChannelInstance has been produced.
@@ -408,12 +599,12 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     @Override
-    public ChannelInstance getChannelInstance(Channel channel) {
+    public synchronized ChannelInstance getChannelInstance(Channel channel) {
         return this.channelInstances.get(channel);
     }
 
     @Override
-    public void register(ChannelInstance channelInstance) {
+    public synchronized void register(ChannelInstance channelInstance) {
         final ChannelInstance oldChannelInstance = this.channelInstances.put(channelInstance.getChannel(), channelInstance);
         channelInstance.noteObtainedReference();
         if (oldChannelInstance != null) {
@@ -438,23 +629,24 @@ public class CrossPlatformExecutor implements ExecutionState {
 
 
     @Override
-    public void addCardinalityMeasurement(ChannelInstance channelInstance) {
+    public synchronized void addCardinalityMeasurement(ChannelInstance channelInstance) {
         this.cardinalityMeasurements.add(channelInstance);
     }
 
     @Override
-    public Collection<ChannelInstance> getCardinalityMeasurements() {
-        return this.cardinalityMeasurements;
+    public synchronized Collection<ChannelInstance> getCardinalityMeasurements() {
+        // Measurements might be added asynchronously (cf. ExecutorTemplate#registerAsynchronousExecution()).
+        return new ArrayList<>(this.cardinalityMeasurements);
     }
 
     @Override
-    public void add(PartialExecution partialExecution) {
+    public synchronized void add(PartialExecution partialExecution) {
         this.partialExecutions.add(partialExecution);
     }
 
     @Override
-    public Collection<PartialExecution> getPartialExecutions() {
-        return this.partialExecutions;
+    public synchronized Collection<PartialExecution> getPartialExecutions() {
+        return new ArrayList<>(this.partialExecutions);
     }
 
     /**
@@ -13,6 +13,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +43,11 @@ public abstract class ExecutorTemplate extends AbstractReferenceCountable implem
      */
     private final int id = idGenerator.getAndIncrement();
 
+    /**
+     * Accumulates the milliseconds that this instance spent waiting for data quanta of other {@link Executor}s.
+     */
+    private final AtomicLong idleMillis = new AtomicLong(0L);
+
     /**
      * Creates a new instance.
      *
@@ -109,6 +115,44 @@ public abstract class ExecutorTemplate extends AbstractReferenceCountable implem
         this.crossPlatformExecutor.addCardinalityMeasurement(channelInstance);
     }
 
+    /**
+     * Registers the execution of lazily executed {@link ExecutionOperator}s that has finished asynchronously, i.e.,
+     * after their {@link org.qcri.rheem.core.plan.executionplan.ExecutionStage} has been reported as executed.
+     *
+     * @param executedOperatorContexts {@link ExecutionOperator}s' {@link OptimizationContext.OperatorContext}s that
+     *                                 have been executed
+     * @param producedChannelInstances the {@link ChannelInstance}s that have been produced
+     * @param executionDuration        the measured execution duration in milliseconds
+     */
+    public void registerAsynchronousExecution(Collection<OptimizationContext.OperatorContext> executedOperatorContexts,
+                                              Collection<ChannelInstance> producedChannelInstances,
+                                              long executionDuration) {
+        if (this.crossPlatformExecutor == null) return;
+        final PartialExecution partialExecution = this.createPartialExecution(executedOperatorContexts, executionDuration);
+        if (partialExecution != null) {
+            this.crossPlatformExecutor.add(partialExecution);
+        }
+        this.registerMeasuredCardinalities(producedChannelInstances);
+    }
+
+    /**
+     * Notes that this instance has been waiting for data quanta of another {@link Executor}. This time should not
+     * be attributed to the {@link ExecutionOperator}s of this instance.
+     *
+     * @param millis the waiting time in milliseconds
+     */
+    public void noteIdleTime(long millis) {
+        this.idleMillis.addAndGet(millis);
+    }
+
+    /**
+     * @return the milliseconds that this instance has been waiting for data quanta of other {@link Executor}s so far
+     * @see #noteIdleTime(long)
+     */
+    protected long getIdleMillis() {
+        return this.idleMillis.get();
+    }
+
     /**
      * Checks whether the given {@link Channel} is inside of a {@link ExecutionStageLoop}.
      *
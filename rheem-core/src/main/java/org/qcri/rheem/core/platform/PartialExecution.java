@@ -93,8 +93,13 @@ public class PartialExecution implements JsonSerializable {
 
     /**
      * Deserialization constructor.
+     *
+     * @param measuredExecutionTime the time measured for the partial execution
+     * @param lowerCost             the lower possible costs for the new instance (excluding fix costs)
+     * @param upperCost             the upper possible costs for the new instance (excluding fix costs)
+     * @param executions            {@link OperatorExecution}s of all executed {@link ExecutionOperator}s
      */
-    private PartialExecution(long measuredExecutionTime, double lowerCost, double upperCost, List<OperatorExecution> executions) {
+    public PartialExecution(long measuredExecutionTime, double lowerCost, double upperCost, List<OperatorExecution> executions) {
         this.measuredExecutionTime = measuredExecutionTime;
         this.operatorContexts = null;
         this.operatorExecutions = executions;
@@ -159,8 +164,8 @@ public class PartialExecution implements JsonSerializable {
     public static PartialExecution fromJson(JSONObject jsonObject) {
         final PartialExecution partialExecution = new PartialExecution(
                 jsonObject.getLong("millis"),
-                jsonObject.optLong("lowerCost", -1L), // Default value for backwards compatibility.
-                jsonObject.optLong("upperCost", -1L), // Default value for backwards compatibility.
+                jsonObject.optDouble("lowerCost", -1d), // Default value for backwards compatibility.
+                jsonObject.optDouble("upperCost", -1d), // Default value for backwards compatibility.
                 JsonSerializables.deserializeAllAsList(jsonObject.getJSONArray("executions"), OperatorExecution.class)
         );
         final JSONArray platforms = jsonObject.optJSONArray("initPlatforms");
@@ -225,6 +230,27 @@ public class PartialExecution implements JsonSerializable {
                     subprofiles.stream().reduce(LoadProfile.emptyLoadProfile, LoadProfile::plus);
         }
 
+        /**
+         * Deserialization constructor.
+         *
+         * @param operator            the executed {@link ExecutionOperator}
+         * @param inputCardinalities  the input {@link CardinalityEstimate}s of the {@code operator}
+         * @param outputCardinalities the output {@link CardinalityEstimate}s of the {@code operator}
+         * @param nestedLoadProfile   the {@link LoadProfile} of nested executions or {@code null} if none
+         * @param numExecutions       the number of executions of the {@code operator}
+         */
+        public OperatorExecution(ExecutionOperator operator,
+                                 CardinalityEstimate[] inputCardinalities,
+                                 CardinalityEstimate[] outputCardinalities,
+                                 LoadProfile nestedLoadProfile,
+                                 int numExecutions) {
+            this.operator = operator;
+            this.inputCardinalities = inputCardinalities;
+            this.outputCardinalities = outputCardinalities;
+            this.nestedLoadProfile = nestedLoadProfile;
+            this.numExecutions = numExecutions;
+        }
+
         private OperatorExecution() {
 
         }
@@ -0,0 +1,564 @@
+package org.qcri.rheem.core.profiling;
+
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.LoadProfile;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.OperatorBase;
+import org.qcri.rheem.core.platform.PartialExecution;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.core.util.JsonSerializables;
+import org.qcri.rheem.core.util.Tuple;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@link ExecutionLog} that stores {@link PartialExecution}s in an append-only binary file.
+ * <p>The file is a sequence of blocks. Each block starts with an uncompressed header (magic number, range of the
+ * timestamps, number of records, names of the involved operator and platform classes, payload length) followed by a
+ * compressed, columnar payload: A dictionary of all operator, platform, and load profile descriptors comes first
+ * and is followed by one column per attribute of the {@link PartialExecution}s (including their timestamps) and
+ * their {@link PartialExecution.OperatorExecution}s. The block headers are mirrored in a small index file next to the
+ * log, so that time-range and operator/platform scans only decode the relevant blocks.</p>
+ */
+class BinaryExecutionLog extends ExecutionLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(BinaryExecutionLog.class);
+
+    /**
+     * Marks the beginning of a block.
+     */
+    private static final int MAGIC = 0x52484C31;
+
+    /**
+     * Suffix of the index file.
+     */
+    private static final String INDEX_SUFFIX = ".idx";
+
+    /**
+     * Maximum number of {@link PartialExecution}s per block.
+     */
+    static final int MAX_BLOCK_SIZE = 1024;
+
+    /**
+     * Path to the repository file.
+     */
+    private final String repositoryPath;
+
+    /**
+     * {@link PartialExecution}s that have not been written yet.
+     */
+    private final List<PartialExecution> pendingPartialExecutions = new ArrayList<>();
+
+    /**
+     * Timestamps of the {@link #pendingPartialExecutions}.
+     */
+    private final List<Long> pendingTimestamps = new ArrayList<>();
+
+    /**
+     * Caches the {@link BlockEntry}s of the repository file. Loaded on demand.
+     */
+    private List<BlockEntry> blockEntries;
+
+    BinaryExecutionLog(String repositoryPath) {
+        this.repositoryPath = repositoryPath;
+        logger.info("Curating execution log at {}.", repositoryPath);
+    }
+
+    @Override
+    public void storeAll(Iterable<PartialExecution> partialExecutions) throws IOException {
+        super.storeAll(partialExecutions);
+        this.flush();
+    }
+
+    @Override
+    protected void store(PartialExecution partialExecution, long timestamp) throws IOException {
+        this.pendingPartialExecutions.add(partialExecution);
+        this.pendingTimestamps.add(timestamp);
+        if (this.pendingPartialExecutions.size() >= MAX_BLOCK_SIZE) {
+            this.flush();
+        }
+    }
+
+    @Override
+    public void importJson(String jsonPath) throws IOException {
+        super.importJson(jsonPath);
+        this.flush();
+    }
+
+    @Override
+    protected Stream<Tuple<PartialExecution, Long>> streamWithTimestamps() throws IOException {
+        return this.streamBlocks(blockEntry -> true, partialExecution -> true);
+    }
+
+    @Override
+    public Stream<PartialExecution> stream(long fromTimestamp, long toTimestamp) throws IOException {
+        return this.streamBlocks(
+                blockEntry -> blockEntry.maxTimestamp >= fromTimestamp && blockEntry.minTimestamp < toTimestamp,
+                partialExecution -> partialExecution.getField1() >= fromTimestamp
+                        && partialExecution.getField1() < toTimestamp
+        ).map(Tuple::getField0);
+    }
+
+    @Override
+    public Stream<PartialExecution> streamInvolving(String className) throws IOException {
+        return this.streamBlocks(
+                blockEntry -> blockEntry.classNames.contains(className),
+                partialExecution -> isInvolving(partialExecution.getField0(), className)
+        ).map(Tuple::getField0);
+    }
+
+    /**
+     * Lazily decodes the blocks that satisfy the {@code blockFilter}.
+     *
+     * @param blockFilter  selects the blocks to decode
+     * @param recordFilter selects the {@link PartialExecution}s and their timestamps within the decoded blocks
+     * @return a {@link Stream} of the selected {@link PartialExecution}s and their timestamps
+     */
+    private Stream<Tuple<PartialExecution, Long>> streamBlocks(Predicate<BlockEntry> blockFilter,
+                                                               Predicate<Tuple<PartialExecution, Long>> recordFilter)
+            throws IOException {
+        this.flush();
+        this.blockEntries = null; // Pick up blocks appended by other instances.
+        return this.getBlockEntries().stream()
+                .filter(blockFilter)
+                .flatMap(blockEntry -> {
+                    try {
+                        return this.readBlock(blockEntry).stream();
+                    } catch (IOException e) {
+                        throw new RheemException(String.format("Could not read %s.", this.repositoryPath), e);
+                    }
+                })
+                .filter(recordFilter);
+    }
+
+    /**
+     * Writes the {@link #pendingPartialExecutions} as a new block.
+     */
+    private void flush() throws IOException {
+        if (this.pendingPartialExecutions.isEmpty()) return;
+
+        final File file = new File(this.repositoryPath);
+        final File parentFile = file.getParentFile();
+        if (parentFile != null && !parentFile.exists() && !parentFile.mkdirs()) {
+            throw new RheemException("Could not initialize execution log.");
+        }
+
+        // Make sure that the index is up to date before appending to it.
+        this.getBlockEntries();
+
+        final BlockEntry blockEntry = new BlockEntry();
+        blockEntry.offset = file.length();
+        blockEntry.minTimestamp = Collections.min(this.pendingTimestamps);
+        blockEntry.maxTimestamp = Collections.max(this.pendingTimestamps);
+        blockEntry.numRecords = this.pendingPartialExecutions.size();
+        for (PartialExecution partialExecution : this.pendingPartialExecutions) {
+            for (PartialExecution.OperatorExecution operatorExecution : partialExecution.getOperatorExecutions()) {
+                blockEntry.classNames.add(operatorExecution.getOperator().getClass().getName());
+                blockEntry.classNames.add(operatorExecution.getOperator().getPlatform().getClass().getName());
+            }
+            for (Platform platform : partialExecution.getInitializedPlatforms()) {
+                blockEntry.classNames.add(platform.getClass().getName());
+            }
+        }
+        final byte[] payload = encodePayload(this.pendingPartialExecutions, this.pendingTimestamps);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)))) {
+            blockEntry.writeHeader(out, payload.length);
+            out.write(payload);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(this.repositoryPath + INDEX_SUFFIX, true)))) {
+            blockEntry.writeHeader(out, payload.length);
+        }
+        this.blockEntries.add(blockEntry);
+        this.pendingPartialExecutions.clear();
+        this.pendingTimestamps.clear();
+    }
+
+    /**
+     * Provides the {@link BlockEntry}s of the repository file. If the index file is missing or lags behind the
+     * repository file, it is repaired by scanning the block headers of the repository file.
+     *
+     * @return the {@link BlockEntry}s
+     */
+    private List<BlockEntry> getBlockEntries() throws IOException {
+        if (this.blockEntries != null) return this.blockEntries;
+
+        final File file = new File(this.repositoryPath);
+        final File indexFile = new File(this.repositoryPath + INDEX_SUFFIX);
+        this.blockEntries = new ArrayList<>();
+        if (!file.exists()) {
+            if (indexFile.exists() && !indexFile.delete()) {
+                throw new RheemException(String.format("Could not delete stale index %s.", indexFile));
+            }
+            return this.blockEntries;
+        }
+
+        // Read the index.
+        long indexedLength = 0L;
+        if (indexFile.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+                long offset = 0L;
+                while (true) {
+                    final BlockEntry blockEntry = BlockEntry.readHeader(in, offset);
+                    if (blockEntry == null) break;
+                    offset = blockEntry.offset + blockEntry.length;
+                    this.blockEntries.add(blockEntry);
+                }
+                indexedLength = offset;
+            } catch (IOException | RheemException e) {
+                logger.warn("Could not read the index {}. Rebuilding it.", indexFile, e);
+                this.blockEntries.clear();
+                indexedLength = 0L;
+            }
+        }
+        if (indexedLength > file.length()) {
+            logger.warn("The index {} is ahead of the execution log. Rebuilding it.", indexFile);
+            this.blockEntries.clear();
+            indexedLength = 0L;
+        }
+
+        // Catch up with the repository file if need be.
+        if (indexedLength < file.length()) {
+            logger.info("Indexing {} from offset {}.", this.repositoryPath, indexedLength);
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+                long offset = indexedLength;
+                while (offset < raf.length()) {
+                    raf.seek(offset);
+                    final BlockEntry blockEntry = BlockEntry.readHeader(raf, offset);
+                    if (blockEntry == null || offset + blockEntry.length > raf.length()) {
+                        throw new RheemException(String.format("Corrupt block at offset %d in %s.", offset, this.repositoryPath));
+                    }
+                    this.blockEntries.add(blockEntry);
+                    offset += blockEntry.length;
+                }
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+                for (BlockEntry blockEntry : this.blockEntries) {
+                    blockEntry.writeHeader(out, blockEntry.payloadLength);
+                }
+            }
+        }
+
+        return this.blockEntries;
+    }
+
+    /**
+     * Reads and decodes a block.
+     *
+     * @param blockEntry describes the block
+     * @return the {@link PartialExecution}s in the block along with their timestamps
+     */
+    private List<Tuple<PartialExecution, Long>> readBlock(BlockEntry blockEntry) throws IOException {
+        final byte[] payload = new byte[blockEntry.payloadLength];
+        try (RandomAccessFile raf = new RandomAccessFile(this.repositoryPath, "r")) {
+            raf.seek(blockEntry.offset + blockEntry.length - blockEntry.payloadLength);
+            raf.readFully(payload);
+        }
+        return decodePayload(payload, blockEntry.numRecords);
+    }
+
+    /**
+     * Encodes the given {@link PartialExecution}s and their timestamps as a compressed, columnar payload.
+     */
+    private static byte[] encodePayload(List<PartialExecution> partialExecutions, List<Long> timestamps)
+            throws IOException {
+        // The dictionary is filled while writing the columns and is prepended to them eventually.
+        final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        final List<PartialExecution.OperatorExecution> operatorExecutions = new ArrayList<>();
+        for (PartialExecution partialExecution : partialExecutions) {
+            operatorExecutions.addAll(partialExecution.getOperatorExecutions());
+        }
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        final ByteArrayOutputStream columnBytes = new ByteArrayOutputStream();
+        try (DataOutputStream columns = new DataOutputStream(columnBytes)) {
+            // Partial execution columns.
+            for (Long timestamp : timestamps) {
+                columns.writeLong(timestamp);
+            }
+            for (PartialExecution partialExecution : partialExecutions) {
+                columns.writeLong(partialExecution.getMeasuredExecutionTime());
+            }
+            for (PartialExecution partialExecution : partialExecutions) {
+                columns.writeDouble(partialExecution.getMeasuredLowerCost());
+            }
+            for (PartialExecution partialExecution : partialExecutions) {
+                columns.writeDouble(partialExecution.getMeasuredUpperCost());
+            }
+            for (PartialExecution partialExecution : partialExecutions) {
+                columns.writeInt(partialExecution.getOperatorExecutions().size());
+            }
+            for (PartialExecution partialExecution : partialExecutions) {
+                columns.writeInt(partialExecution.getInitializedPlatforms().size());
+            }
+            for (PartialExecution partialExecution : partialExecutions) {
+                for (Platform platform : partialExecution.getInitializedPlatforms()) {
+                    columns.writeInt(lookup(dictionary, platform.getClass().getCanonicalName()));
+                }
+            }
+
+            // Operator execution columns.
+            for (PartialExecution.OperatorExecution operatorExecution : operatorExecutions) {
+                final JSONObject jsonOperator = JsonSerializables.serializeAtLeastClass(operatorExecution.getOperator());
+                columns.writeInt(lookup(dictionary, jsonOperator.toString()));
+            }
+            for (PartialExecution.OperatorExecution operatorExecution : operatorExecutions) {
+                columns.writeInt(operatorExecution.getNumExecutions());
+            }
+            for (PartialExecution.OperatorExecution operatorExecution : operatorExecutions) {
+                final LoadProfile nestedLoadProfile = operatorExecution.getNestedLoadProfile();
+                columns.writeInt(nestedLoadProfile == null ?
+                        -1 :
+                        lookup(dictionary, JsonSerializables.serialize(nestedLoadProfile).toString()));
+            }
+            for (PartialExecution.OperatorExecution operatorExecution : operatorExecutions) {
+                columns.writeInt(operatorExecution.getInputCardinalities().length);
+            }
+            for (PartialExecution.OperatorExecution operatorExecution : operatorExecutions) {
+                columns.writeInt(operatorExecution.getOutputCardinalities().length);
+            }
+
+            // Cardinality columns.
+            final List<CardinalityEstimate> cardinalities = new ArrayList<>();
+            for (PartialExecution.OperatorExecution operatorExecution : operatorExecutions) {
+                cardinalities.addAll(Arrays.asList(operatorExecution.getInputCardinalities()));
+                cardinalities.addAll(Arrays.asList(operatorExecution.getOutputCardinalities()));
+            }
+            for (CardinalityEstimate cardinality : cardinalities) {
+                columns.writeLong(cardinality == null ? -1L : cardinality.getLowerEstimate());
+            }
+            for (CardinalityEstimate cardinality : cardinalities) {
+                columns.writeLong(cardinality == null ? -1L : cardinality.getUpperEstimate());
+            }
+            for (CardinalityEstimate cardinality : cardinalities) {
+                columns.writeDouble(cardinality == null ? 0d : cardinality.getCorrectnessProbability());
+            }
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(byteArrayOutputStream))) {
+            out.writeInt(dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                final byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            columnBytes.writeTo(out);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static int lookup(Map<String, Integer> dictionary, String entry) {
+        return dictionary.computeIfAbsent(entry, key -> dictionary.size());
+    }
+
+    /**
+     * Decodes a payload as created by {@link #encodePayload(List, List)}.
+     */
+    private static List<Tuple<PartialExecution, Long>> decodePayload(byte[] payload, int numRecords)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(payload))))) {
+            final String[] dictionary = new String[in.readInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            // Partial execution columns.
+            final long[] timestamps = new long[numRecords];
+            for (int i = 0; i < numRecords; i++) timestamps[i] = in.readLong();
+            final long[] millis = new long[numRecords];
+            for (int i = 0; i < numRecords; i++) millis[i] = in.readLong();
+            final double[] lowerCosts = new double[numRecords];
+            for (int i = 0; i < numRecords; i++) lowerCosts[i] = in.readDouble();
+            final double[] upperCosts = new double[numRecords];
+            for (int i = 0; i < numRecords; i++) upperCosts[i] = in.readDouble();
+            final int[] numOperatorExecutions = new int[numRecords];
+            int totalOperatorExecutions = 0;
+            for (int i = 0; i < numRecords; i++) totalOperatorExecutions += numOperatorExecutions[i] = in.readInt();
+            final int[] numInitializedPlatforms = new int[numRecords];
+            int totalInitializedPlatforms = 0;
+            for (int i = 0; i < numRecords; i++) totalInitializedPlatforms += numInitializedPlatforms[i] = in.readInt();
+            final int[] platformIds = new int[totalInitializedPlatforms];
+            for (int i = 0; i < totalInitializedPlatforms; i++) platformIds[i] = in.readInt();
+
+            // Operator execution columns.
+            final int[] operatorIds = new int[totalOperatorExecutions];
+            for (int i = 0; i < totalOperatorExecutions; i++) operatorIds[i] = in.readInt();
+            final int[] numExecutions = new int[totalOperatorExecutions];
+            for (int i = 0; i < totalOperatorExecutions; i++) numExecutions[i] = in.readInt();
+            final int[] loadProfileIds = new int[totalOperatorExecutions];
+            for (int i = 0; i < totalOperatorExecutions; i++) loadProfileIds[i] = in.readInt();
+            final int[] numInputs = new int[totalOperatorExecutions];
+            int totalCardinalities = 0;
+            for (int i = 0; i < totalOperatorExecutions; i++) totalCardinalities += numInputs[i] = in.readInt();
+            final int[] numOutputs = new int[totalOperatorExecutions];
+            for (int i = 0; i < totalOperatorExecutions; i++) totalCardinalities += numOutputs[i] = in.readInt();
+
+            // Cardinality columns.
+            final long[] lowerCardinalities = new long[totalCardinalities];
+            for (int i = 0; i < totalCardinalities; i++) lowerCardinalities[i] = in.readLong();
+            final long[] upperCardinalities = new long[totalCardinalities];
+            for (int i = 0; i < totalCardinalities; i++) upperCardinalities[i] = in.readLong();
+            final double[] probabilities = new double[totalCardinalities];
+            for (int i = 0; i < totalCardinalities; i++) probabilities[i] = in.readDouble();
+
+            // Assemble the PartialExecutions. Descriptors that occur repeatedly are deserialized only once.
+            final Map<Integer, ExecutionOperator> operatorCache = new HashMap<>();
+            final Map<Integer, LoadProfile> loadProfileCache = new HashMap<>();
+            final Map<Integer, Platform> platformCache = new HashMap<>();
+            final List<Tuple<PartialExecution, Long>> partialExecutions = new ArrayList<>(numRecords);
+            int operatorExecutionIndex = 0, cardinalityIndex = 0, platformIndex = 0;
+            for (int i = 0; i < numRecords; i++) {
+                final List<PartialExecution.OperatorExecution> operatorExecutions = new ArrayList<>(numOperatorExecutions[i]);
+                for (int j = 0; j < numOperatorExecutions[i]; j++, operatorExecutionIndex++) {
+                    final ExecutionOperator operator = operatorCache.computeIfAbsent(
+                            operatorIds[operatorExecutionIndex],
+                            id -> JsonSerializables.deserializeAtLeastClass(
+                                    new JSONObject(dictionary[id]), OperatorBase.STANDARD_OPERATOR_ARGS
+                            )
+                    );
+                    final int loadProfileId = loadProfileIds[operatorExecutionIndex];
+                    final LoadProfile nestedLoadProfile = loadProfileId == -1 ?
+                            null :
+                            loadProfileCache.computeIfAbsent(
+                                    loadProfileId,
+                                    id -> JsonSerializables.deserialize(new JSONObject(dictionary[id]), LoadProfile.class)
+                            );
+                    final CardinalityEstimate[] inputCardinalities = new CardinalityEstimate[numInputs[operatorExecutionIndex]];
+                    for (int k = 0; k < inputCardinalities.length; k++, cardinalityIndex++) {
+                        inputCardinalities[k] = createCardinality(lowerCardinalities, upperCardinalities, probabilities, cardinalityIndex);
+                    }
+                    final CardinalityEstimate[] outputCardinalities = new CardinalityEstimate[numOutputs[operatorExecutionIndex]];
+                    for (int k = 0; k < outputCardinalities.length; k++, cardinalityIndex++) {
+                        outputCardinalities[k] = createCardinality(lowerCardinalities, upperCardinalities, probabilities, cardinalityIndex);
+                    }
+                    operatorExecutions.add(new PartialExecution.OperatorExecution(
+                            operator, inputCardinalities, outputCardinalities, nestedLoadProfile, numExecutions[operatorExecutionIndex]
+                    ));
+                }
+                final PartialExecution partialExecution = new PartialExecution(
+                        millis[i], lowerCosts[i], upperCosts[i], operatorExecutions
+                );
+                for (int j = 0; j < numInitializedPlatforms[i]; j++, platformIndex++) {
+                    partialExecution.addInitializedPlatform(platformCache.computeIfAbsent(
+                            platformIds[platformIndex], id -> Platform.load(dictionary[id])
+                    ));
+                }
+                partialExecutions.add(new Tuple<>(partialExecution, timestamps[i]));
+            }
+            return partialExecutions;
+        }
+    }
+
+    private static CardinalityEstimate createCardinality(long[] lowerCardinalities,
+                                                         long[] upperCardinalities,
+                                                         double[] probabilities,
+                                                         int index) {
+        if (lowerCardinalities[index] == -1L) return null;
+        return new CardinalityEstimate(lowerCardinalities[index], upperCardinalities[index], probabilities[index]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.flush();
+    }
+
+    /**
+     * Describes a block in the repository file.
+     */
+    private static class BlockEntry {
+
+        /**
+         * Position of the block in the repository file.
+         */
+        private long offset;
+
+        /**
+         * Overall length of the block and length of its payload.
+         */
+        private long length;
+
+        private int payloadLength;
+
+        /**
+         * Range of the timestamps of the {@link PartialExecution}s in the block in epoch milliseconds.
+         */
+        private long minTimestamp, maxTimestamp;
+
+        /**
+         * Number of {@link PartialExecution}s in the block.
+         */
+        private int numRecords;
+
+        /**
+         * Names of the operator and platform classes involved in the block.
+         */
+        private final Set<String> classNames = new TreeSet<>();
+
+        /**
+         * Writes the header of the described block.
+         */
+        private void writeHeader(DataOutputStream out, int payloadLength) throws IOException {
+            final int startSize = out.size();
+            out.writeInt(MAGIC);
+            out.writeLong(this.minTimestamp);
+            out.writeLong(this.maxTimestamp);
+            out.writeInt(this.numRecords);
+            out.writeInt(this.classNames.size());
+            for (String className : this.classNames) {
+                out.writeUTF(className);
+            }
+            out.writeInt(payloadLength);
+            this.payloadLength = payloadLength;
+            this.length = out.size() - startSize + payloadLength;
+        }
+
+        /**
+         * Reads a header as written by {@link #writeHeader(DataOutputStream, int)}.
+         *
+         * @param in     to read from
+         * @param offset the offset of the block in the repository file
+         * @return the {@link BlockEntry} or {@code null} if {@code in} is exhausted
+         */
+        private static BlockEntry readHeader(DataInput in, long offset) throws IOException {
+            final int magic;
+            try {
+                magic = in.readInt();
+            } catch (EOFException e) {
+                return null;
+            }
+            if (magic != MAGIC) {
+                throw new RheemException(String.format("Expected a block at offset %d.", offset));
+            }
+            final BlockEntry blockEntry = new BlockEntry();
+            blockEntry.offset = offset;
+            blockEntry.minTimestamp = in.readLong();
+            blockEntry.maxTimestamp = in.readLong();
+            blockEntry.numRecords = in.readInt();
+            int headerLength = 4 + 8 + 8 + 4 + 4 + 4;
+            final int numClassNames = in.readInt();
+            for (int i = 0; i < numClassNames; i++) {
+                final String className = in.readUTF();
+                blockEntry.classNames.add(className);
+                headerLength += 2 + className.getBytes(StandardCharsets.UTF_8).length;
+            }
+            blockEntry.payloadLength = in.readInt();
+            blockEntry.length = headerLength + blockEntry.payloadLength;
+            return blockEntry;
+        }
+
+    }
+}
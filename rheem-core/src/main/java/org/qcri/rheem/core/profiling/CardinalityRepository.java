@@ -6,9 +6,11 @@ import org.json.JSONObject;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationUtils;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.plan.rheemplan.InputSlot;
 import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.Operators;
 import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.plan.rheemplan.Slot;
 import org.qcri.rheem.core.platform.CrossPlatformExecutor;
@@ -17,27 +19,62 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Stores cardinalities that have been collected by the {@link CrossPlatformExecutor}. Current version uses
  * JSON as serialization format.
+ * <p>Besides the raw measurements, this instance aggregates the observed selectivities per {@link Operator} class,
+ * UDF identity, {@link OutputSlot}, and bucket of input cardinalities (see {@link #getSelectivity(String, CardinalityEstimate...)}).
+ * The aggregates are snapshotted next to the repository file, so that only measurements added after the last
+ * snapshot need to be replayed when loading them.</p>
  */
 public class CardinalityRepository {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    /**
+     * Suffix of the file with the aggregated selectivities.
+     */
+    private static final String SELECTIVITIES_SUFFIX = ".selectivities";
+
+    /**
+     * Key suffix for aggregates over all input buckets.
+     */
+    private static final String ANY_BUCKET = "|*";
+
     /**
      * Path to the repository file.
      */
     private final String repositoryPath;
 
+    /**
+     * Base of the logarithmic buckets of input cardinalities.
+     */
+    private final double bucketBase;
+
     /**
      * Created on demand an can be closed as well.
      */
     private BufferedWriter writer;
 
+    /**
+     * Aggregated selectivities. Loaded on demand.
+     */
+    private Map<String, SelectivityStatistics> selectivities;
+
+    /**
+     * Tells whether the {@link #selectivities} have changed since they have been loaded.
+     */
+    private boolean isSelectivitiesDirty = false;
+
     public CardinalityRepository(Configuration configuration) {
         this.repositoryPath = configuration.getStringProperty("rheem.core.log.cardinalities");
+        this.bucketBase = configuration.getDoubleProperty("rheem.core.optimizer.cardinality.learned.bucketbase", 10d);
         this.logger.info("Storing cardinalities at {}.", repositoryPath);
     }
 
@@ -52,50 +89,53 @@ public class CardinalityRepository {
      *                            injected in this {@link OptimizationContext} to guarantee that we capture the most
      *                            possible accurate data
      */
-    public void storeAll(ExecutionState executionState, OptimizationContext optimizationContext) {
-//        executionState.getCardinalityMeasurements().forEach(
-//                channelInstance -> {
-//                    for (Slot<?> correspondingSlot : channelInstance.getChannel().getCorrespondingSlots()) {
-//                        for (Slot<?> slot : OptimizationUtils.collectConnectedSlots(correspondingSlot)) {
-//                            if (slot instanceof OutputSlot<?>) {
-//                                OutputSlot<Object> outputSlot = ((OutputSlot<?>) slot).unchecked();
-//                                final Operator operator = outputSlot.getOwner();
-//                                if (!operator.isElementary() || operator.isSource()) {
-//                                    continue;
-//                                }
-//                                final OptimizationContext.OperatorContext operatorContext = channelInstance.getProducerOperatorContext();
-//                                if (operatorContext == null) {
-//                                    // TODO: Handle cardinalities inside of loops.
-//                                    this.logger.debug("Could not inject measured cardinality for {}: " +
-//                                            "It is presumably a glue operator or inside of a loop.", operator);
-//                                    continue;
-//                                }
-//                                this.store(outputSlot, channelInstance.getMeasuredCardinality().getAsLong(), operatorContext);
-//                            }
-//                        }
-//                    }
-//                });
-        this.logger.warn("Cardinality repository currently disabled.");
+    public synchronized void storeAll(ExecutionState executionState, OptimizationContext optimizationContext) {
+        executionState.getCardinalityMeasurements().forEach(
+                channelInstance -> {
+                    Set<OutputSlot<?>> visitedOutputSlots = new HashSet<>();
+                    for (Slot<?> correspondingSlot : channelInstance.getChannel().getCorrespondingSlots()) {
+                        for (Slot<?> slot : OptimizationUtils.collectConnectedSlots(correspondingSlot)) {
+                            if (!(slot instanceof OutputSlot<?>) || !visitedOutputSlots.add((OutputSlot<?>) slot)) {
+                                continue;
+                            }
+                            OutputSlot<?> outputSlot = (OutputSlot<?>) slot;
+                            final Operator operator = outputSlot.getOwner();
+                            if (!operator.isElementary() || operator.isSource() || operator.isLoopHead()) {
+                                continue;
+                            }
+                            final OptimizationContext.OperatorContext operatorContext =
+                                    optimizationContext.getOperatorContext(operator);
+                            if (operatorContext == null) {
+                                // TODO: Handle cardinalities inside of loops.
+                                this.logger.debug("Could not store measured cardinality for {}: " +
+                                        "It is presumably a glue operator or inside of a loop.", operator);
+                                continue;
+                            }
+                            this.store(outputSlot, channelInstance.getMeasuredCardinality().getAsLong(), operatorContext);
+                        }
+                    }
+                });
     }
 
     /**
      * Stores the {@code cardinality} for the {@code output} together with its {@link Operator} and input
      * {@link CardinalityEstimate}s.
      */
-    public void store(OutputSlot<?> output, long cardinality, OptimizationContext.OperatorContext operatorContext) {
+    public synchronized void store(OutputSlot<?> output, long cardinality, OptimizationContext.OperatorContext operatorContext) {
         assert output.getOwner() == operatorContext.getOperator() :
                 String.format("Owner of %s is not %s.", output, operatorContext.getOperator());
         if (!operatorContext.getOutputCardinality(output.getIndex()).isExactly(cardinality)) {
-            this.logger.error("Expected a measured cardinality of {} for {}; found {}.",
+            this.logger.debug("Expected a measured cardinality of {} for {}; found {}.",
                     cardinality, output, operatorContext.getOutputCardinality(output.getIndex()));
         }
 
-        this.write(operatorContext, output, cardinality);
+        final JSONObject jsonMeasurement = this.write(operatorContext, output, cardinality);
+        this.learn(jsonMeasurement);
     }
 
-    private void write(OptimizationContext.OperatorContext operatorContext,
-                       OutputSlot<?> output,
-                       long outputCardinality) {
+    private JSONObject write(OptimizationContext.OperatorContext operatorContext,
+                             OutputSlot<?> output,
+                             long outputCardinality) {
 
         JSONArray jsonInputCardinalities = new JSONArray();
         final Operator operator = operatorContext.getOperator();
@@ -115,7 +155,8 @@ public class CardinalityRepository {
 
         JSONObject jsonOperator = new JSONObject();
         jsonOperator.put("class", operator.getClass().getCanonicalName());
-        // TODO: UDFs? How can we reference them?
+        final String key = createKey(operator, output.getIndex());
+        if (key != null) jsonOperator.put("key", key);
 
         JSONObject jsonOutput = new JSONObject();
         jsonOutput.put("name", output.getName());
@@ -128,6 +169,7 @@ public class CardinalityRepository {
         jsonMeasurement.put("output", jsonOutput);
 
         this.write(jsonMeasurement);
+        return jsonMeasurement;
     }
 
     /**
@@ -152,7 +194,7 @@ public class CardinalityRepository {
         if (this.writer == null) {
             File file = new File(this.repositoryPath);
             final File parentFile = file.getParentFile();
-            if (!parentFile.exists() && !file.getParentFile().mkdirs()) {
+            if (parentFile != null && !parentFile.exists() && !parentFile.mkdirs()) {
                 throw new RheemException("Could not initialize cardinality repository.");
             }
             this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8"));
@@ -160,11 +202,227 @@ public class CardinalityRepository {
         return this.writer;
     }
 
+    /**
+     * Creates a key that identifies an {@link OutputSlot} across {@link org.qcri.rheem.core.plan.rheemplan.RheemPlan}s
+     * by means of its {@link Operator} class, UDFs, and parameters. Note that lambda expressions are identified by
+     * their implementation method, which requires them to be serializable.
+     *
+     * @param operator    the elementary {@link Operator}
+     * @param outputIndex the index of the {@link OutputSlot}
+     * @return the key or {@code null} if the {@link Operator} has UDFs that cannot be identified
+     */
+    public static String createKey(Operator operator, int outputIndex) {
+        final String parameters = Operators.describeParameters(operator);
+        // Other lambda classes are numbered per JVM, so they would mix up the measurements of unrelated UDFs.
+        if (parameters.contains("$$Lambda$")) return null;
+        return operator.getClass().getName() + parameters + "#" + outputIndex;
+    }
+
+    /**
+     * Feeds a measurement as written by {@link #write(JSONObject)} into the {@link #selectivities}. Only measurements
+     * with exactly known input cardinalities are considered.
+     */
+    private void learn(JSONObject jsonMeasurement) {
+        final String key = jsonMeasurement.getJSONObject("operator").optString("key", null);
+        if (key == null) return;
+        final JSONArray jsonInputs = jsonMeasurement.getJSONArray("inputs");
+        if (jsonInputs.length() == 0) return;
+        long[] inputCardinalities = new long[jsonInputs.length()];
+        for (int i = 0; i < inputCardinalities.length; i++) {
+            final JSONObject jsonInput = jsonInputs.getJSONObject(i);
+            final long lowerBound = jsonInput.getLong("lowerBound");
+            if (lowerBound != jsonInput.getLong("upperBound") || jsonInput.getDouble("confidence") < 1d) return;
+            inputCardinalities[i] = lowerBound;
+        }
+        final long outputCardinality = jsonMeasurement.getJSONObject("output").getLong("cardinality");
+
+        double denominator = 1d;
+        for (long inputCardinality : inputCardinalities) {
+            denominator *= Math.max(1L, inputCardinality);
+        }
+        final double selectivity = outputCardinality / denominator;
+        final Map<String, SelectivityStatistics> selectivities = this.getSelectivities();
+        selectivities.computeIfAbsent(key + this.createBucketSuffix(inputCardinalities), k -> new SelectivityStatistics())
+                .add(selectivity);
+        selectivities.computeIfAbsent(key + ANY_BUCKET, k -> new SelectivityStatistics()).add(selectivity);
+        this.isSelectivitiesDirty = true;
+    }
+
+    private String createBucketSuffix(long[] inputCardinalities) {
+        StringBuilder sb = new StringBuilder().append('|');
+        String separator = "";
+        for (long inputCardinality : inputCardinalities) {
+            sb.append(separator).append((int) Math.floor(Math.log(Math.max(1L, inputCardinality)) / Math.log(this.bucketBase)));
+            separator = ",";
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Tells whether any selectivities have been observed for the given key.
+     *
+     * @param key as created by {@link #createKey(Operator, int)}
+     * @return whether there are observed selectivities
+     */
+    public synchronized boolean hasSelectivities(String key) {
+        return this.getSelectivities().containsKey(key + ANY_BUCKET);
+    }
+
+    /**
+     * Looks up the selectivities observed for the given key. Prefers observations for similar input cardinalities
+     * and resorts to the observations for all input cardinalities.
+     *
+     * @param key            as created by {@link #createKey(Operator, int)}
+     * @param inputEstimates the {@link CardinalityEstimate}s of the inputs
+     * @return the {@link SelectivityStatistics} or {@code null} if none
+     */
+    public synchronized SelectivityStatistics getSelectivity(String key, CardinalityEstimate... inputEstimates) {
+        long[] inputCardinalities = new long[inputEstimates.length];
+        for (int i = 0; i < inputEstimates.length; i++) {
+            inputCardinalities[i] = inputEstimates[i].getGeometricMeanEstimate();
+        }
+        final Map<String, SelectivityStatistics> selectivities = this.getSelectivities();
+        final SelectivityStatistics statistics = selectivities.get(key + this.createBucketSuffix(inputCardinalities));
+        return statistics != null ? statistics : selectivities.get(key + ANY_BUCKET);
+    }
+
+    /**
+     * Provides the {@link #selectivities}. If they are not loaded yet, the snapshot is read and any measurements
+     * that have been added to the repository file since then are replayed.
+     *
+     * @return the {@link #selectivities}
+     */
+    private Map<String, SelectivityStatistics> getSelectivities() {
+        if (this.selectivities != null) return this.selectivities;
+
+        this.selectivities = new HashMap<>();
+        long replayOffset = 0L;
+        final File file = new File(this.repositoryPath);
+        final File snapshotFile = new File(this.repositoryPath + SELECTIVITIES_SUFFIX);
+        if (snapshotFile.exists()) {
+            try (InputStream in = new FileInputStream(snapshotFile)) {
+                JSONObject jsonSnapshot = new JSONObject(IOUtils.toString(in, StandardCharsets.UTF_8));
+                final long logLength = jsonSnapshot.getLong("logLength");
+                if (jsonSnapshot.getDouble("bucketBase") == this.bucketBase && logLength <= file.length()) {
+                    final JSONObject jsonSelectivities = jsonSnapshot.getJSONObject("selectivities");
+                    for (String key : jsonSelectivities.keySet()) {
+                        this.selectivities.put(key, SelectivityStatistics.fromJson(jsonSelectivities.getJSONObject(key)));
+                    }
+                    replayOffset = logLength;
+                }
+            } catch (Exception e) {
+                this.logger.warn("Could not read {}. Rebuilding it.", snapshotFile, e);
+                this.selectivities.clear();
+                replayOffset = 0L;
+            }
+        }
+
+        if (file.exists() && replayOffset < file.length()) {
+            this.logger.info("Learning selectivities from {} starting at offset {}.", this.repositoryPath, replayOffset);
+            try (InputStream in = new FileInputStream(file)) {
+                IOUtils.skipFully(in, replayOffset);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) continue;
+                    try {
+                        this.learn(new JSONObject(line));
+                    } catch (Exception e) {
+                        this.logger.debug("Could not learn from \"{}\".", line, e);
+                    }
+                }
+            } catch (IOException e) {
+                this.logger.error("Could not read {}.", this.repositoryPath, e);
+            }
+            this.isSelectivitiesDirty = true;
+        }
+
+        return this.selectivities;
+    }
+
+    /**
+     * Writes a snapshot of the {@link #selectivities}. The {@link #writer} must be closed.
+     */
+    private void writeSelectivities() {
+        JSONObject jsonSelectivities = new JSONObject();
+        this.selectivities.forEach((key, statistics) -> jsonSelectivities.put(key, statistics.toJson()));
+        JSONObject jsonSnapshot = new JSONObject()
+                .put("logLength", new File(this.repositoryPath).length())
+                .put("bucketBase", this.bucketBase)
+                .put("selectivities", jsonSelectivities);
+        try (Writer snapshotWriter = new OutputStreamWriter(
+                new FileOutputStream(this.repositoryPath + SELECTIVITIES_SUFFIX), StandardCharsets.UTF_8)) {
+            jsonSnapshot.write(snapshotWriter);
+            this.isSelectivitiesDirty = false;
+        } catch (IOException e) {
+            this.logger.error("Could not write the selectivities of {}.", this.repositoryPath, e);
+        }
+    }
+
     /**
      * Allows this instance to free its system resources, as they might not be needed in the closer future.
      */
-    public void sleep() {
+    public synchronized void sleep() {
         IOUtils.closeQuietly(this.writer);
         this.writer = null;
+        if (this.isSelectivitiesDirty && new File(this.repositoryPath).exists()) {
+            this.writeSelectivities();
+        }
+    }
+
+    /**
+     * Aggregates observed selectivities, i.e., the ratios of output cardinalities and the products of the input
+     * cardinalities.
+     */
+    public static class SelectivityStatistics {
+
+        private long count = 0;
+
+        private double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY, sum = 0d;
+
+        private void add(double selectivity) {
+            this.count++;
+            this.min = Math.min(this.min, selectivity);
+            this.max = Math.max(this.max, selectivity);
+            this.sum += selectivity;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public double getMin() {
+            return this.min;
+        }
+
+        public double getMax() {
+            return this.max;
+        }
+
+        public double getMean() {
+            return this.sum / this.count;
+        }
+
+        private JSONObject toJson() {
+            return new JSONObject()
+                    .put("count", this.count)
+                    .put("min", this.min)
+                    .put("max", this.max)
+                    .put("sum", this.sum);
+        }
+
+        private static SelectivityStatistics fromJson(JSONObject jsonObject) {
+            SelectivityStatistics statistics = new SelectivityStatistics();
+            statistics.count = jsonObject.getLong("count");
+            statistics.min = jsonObject.getDouble("min");
+            statistics.max = jsonObject.getDouble("max");
+            statistics.sum = jsonObject.getDouble("sum");
+            return statistics;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[n=%d, %.4f..%.4f]", this.getClass().getSimpleName(), this.count, this.min, this.max);
+        }
     }
 }
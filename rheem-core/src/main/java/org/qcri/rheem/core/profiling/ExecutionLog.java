@@ -1,42 +1,34 @@
 package org.qcri.rheem.core.profiling;
 
-import org.apache.commons.io.IOUtils;
-import org.json.JSONObject;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.platform.CrossPlatformExecutor;
 import org.qcri.rheem.core.platform.PartialExecution;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.core.util.Tuple;
 
-import java.io.*;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.stream.Stream;
 
 /**
  * Stores execution data have been collected by the {@link CrossPlatformExecutor}.
- * The current version uses JSON as serialization format.
+ * <p>Depending on the file extension of the repository, the data is either stored as JSON lines ({@code .json})
+ * or in a compact, indexed binary format (any other extension). The JSON format can be imported into and
+ * exported from any instance via {@link #importJson(String)} and {@link #exportJson(String)}. When a binary
+ * instance is opened for the first time, a JSON execution log with the same base name is imported, if any.</p>
+ * <p>Every {@link PartialExecution} is stored along with the time when it has been stored first. Importing and
+ * exporting retain that timestamp. JSON execution logs from before timestamps were recorded yield
+ * {@link #UNKNOWN_TIMESTAMP}, though.</p>
  */
-public class ExecutionLog implements AutoCloseable {
-
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+public abstract class ExecutionLog implements AutoCloseable {
 
     /**
-     * Path to the repository file.
+     * Timestamp of {@link PartialExecution}s whose storage time is not known. As it precedes all actual timestamps,
+     * such {@link PartialExecution}s are only streamed by time ranges that start at {@code 0}.
      */
-    private final String repositoryPath;
-
-    /**
-     * Created on demand an can be closed as well.
-     */
-    private BufferedWriter writer;
-
-    private ExecutionLog(String repositoryPath) {
-        this.repositoryPath = repositoryPath;
-        this.logger.info("Curating execution log at {}.", repositoryPath);
-    }
+    public static final long UNKNOWN_TIMESTAMP = 0L;
 
     /**
      * Opens an instance according to the {@link Configuration}.
@@ -56,7 +48,33 @@ public class ExecutionLog implements AutoCloseable {
      * @return the new instance
      */
     public static ExecutionLog open(String repositoryPath) {
-        return new ExecutionLog(repositoryPath);
+        if (repositoryPath.endsWith(".json")) {
+            return new JsonExecutionLog(repositoryPath);
+        }
+        final BinaryExecutionLog executionLog = new BinaryExecutionLog(repositoryPath);
+
+        // Migrate a JSON execution log from before the binary format was introduced.
+        final File jsonFile = new File(getJsonPath(repositoryPath));
+        if (!new File(repositoryPath).exists() && jsonFile.isFile()) {
+            try {
+                executionLog.importJson(jsonFile.getPath());
+            } catch (IOException e) {
+                throw new RheemException(String.format("Could not import %s into %s.", jsonFile, repositoryPath), e);
+            }
+        }
+        return executionLog;
+    }
+
+    /**
+     * Determines the path of a JSON execution log with the same base name as the given path.
+     *
+     * @param repositoryPath the path of a binary execution log
+     * @return the path of the JSON execution log
+     */
+    private static String getJsonPath(String repositoryPath) {
+        final int extensionStart = repositoryPath.lastIndexOf('.');
+        final int fileNameStart = repositoryPath.lastIndexOf(File.separatorChar) + 1;
+        return (extensionStart > fileNameStart ? repositoryPath.substring(0, extensionStart) : repositoryPath) + ".json";
     }
 
     /**
@@ -76,16 +94,17 @@ public class ExecutionLog implements AutoCloseable {
      * @param partialExecution that should be stored
      */
     public void store(PartialExecution partialExecution) throws IOException {
-        this.write(partialExecution.toJson());
+        this.store(partialExecution, System.currentTimeMillis());
     }
 
     /**
-     * Writes the measuremnt to the {@link #repositoryPath}.
+     * Stores the given {@link PartialExecution} in this instance.
+     *
+     * @param partialExecution that should be stored
+     * @param timestamp        epoch milliseconds when the {@code partialExecution} has been stored first or
+     *                         {@link #UNKNOWN_TIMESTAMP}
      */
-    private void write(JSONObject jsonMeasurement) throws IOException {
-        jsonMeasurement.write(this.getWriter());
-        writer.write('\n');
-    }
+    protected abstract void store(PartialExecution partialExecution, long timestamp) throws IOException;
 
     /**
      * Streams the contents of this instance.
@@ -94,44 +113,94 @@ public class ExecutionLog implements AutoCloseable {
      * @throws IOException
      */
     public Stream<PartialExecution> stream() throws IOException {
-        IOUtils.closeQuietly(this.writer);
-        this.writer = null;
-        return Files.lines(Paths.get(this.repositoryPath), Charset.forName("UTF-8"))
-                .map(line -> {
-                    try {
-                        return PartialExecution.fromJson(new JSONObject(line));
-                    } catch (Exception e) {
-                        throw new RheemException(String.format("Could not parse \"%s\".", line), e);
-                    }
-                });
+        return this.streamWithTimestamps().map(Tuple::getField0);
     }
 
     /**
-     * Initializes the {@link #writer} if it does not exist currently.
+     * Streams the contents of this instance along with their timestamps.
      *
-     * @return the {@link #writer}
+     * @return a {@link Stream} of the contained {@link PartialExecution}s and their timestamps
+     * @throws IOException
      */
-    private BufferedWriter getWriter() throws FileNotFoundException, UnsupportedEncodingException {
-        if (this.writer != null) {
-            return this.writer;
-        }
+    protected abstract Stream<Tuple<PartialExecution, Long>> streamWithTimestamps() throws IOException;
+
+    /**
+     * Streams the {@link PartialExecution}s that have been stored in the given time range.
+     *
+     * @param fromTimestamp the inclusive lower bound of the time range in epoch milliseconds
+     * @param toTimestamp   the exclusive upper bound of the time range in epoch milliseconds
+     * @return a {@link Stream} of the matching {@link PartialExecution}s
+     * @throws IOException
+     */
+    public abstract Stream<PartialExecution> stream(long fromTimestamp, long toTimestamp) throws IOException;
 
-        try {
-            File file = new File(this.repositoryPath);
-            final File parentFile = file.getParentFile();
-            if (!parentFile.exists() && !file.getParentFile().mkdirs()) {
-                throw new RheemException("Could not initialize cardinality repository.");
+    /**
+     * Streams the {@link PartialExecution}s that involve an {@link org.qcri.rheem.core.plan.rheemplan.ExecutionOperator}
+     * or a {@link Platform} of the given class.
+     *
+     * @param className the name of the operator or platform class
+     * @return a {@link Stream} of the matching {@link PartialExecution}s
+     * @throws IOException
+     */
+    public Stream<PartialExecution> streamInvolving(String className) throws IOException {
+        return this.stream().filter(partialExecution -> isInvolving(partialExecution, className));
+    }
+
+    /**
+     * Tells whether the {@link PartialExecution} involves an operator or a {@link Platform} of the given class.
+     */
+    protected static boolean isInvolving(PartialExecution partialExecution, String className) {
+        for (PartialExecution.OperatorExecution operatorExecution : partialExecution.getOperatorExecutions()) {
+            if (operatorExecution.getOperator().getClass().getName().equals(className)
+                    || operatorExecution.getOperator().getPlatform().getClass().getName().equals(className)) {
+                return true;
+            }
+        }
+        for (Platform platform : partialExecution.getInitializedPlatforms()) {
+            if (platform.getClass().getName().equals(className)) {
+                return true;
             }
-            return this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8"));
-        } catch (RheemException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new RheemException(String.format("Cannot write to %s.", this.repositoryPath), e);
         }
+        return false;
     }
 
-    @Override
-    public void close() throws Exception {
-        IOUtils.closeQuietly(this.writer);
+    /**
+     * Adds the contents of a JSON execution log to this instance, thereby retaining their timestamps.
+     *
+     * @param jsonPath location of the JSON execution log
+     * @throws IOException
+     */
+    public void importJson(String jsonPath) throws IOException {
+        try (JsonExecutionLog jsonLog = new JsonExecutionLog(jsonPath);
+             Stream<Tuple<PartialExecution, Long>> partialExecutions = jsonLog.streamWithTimestamps()) {
+            copy(partialExecutions.iterator(), this);
+        }
     }
+
+    /**
+     * Appends the contents of this instance to a JSON execution log, thereby retaining their timestamps.
+     *
+     * @param jsonPath location of the JSON execution log
+     * @throws IOException
+     */
+    public void exportJson(String jsonPath) throws IOException {
+        try (JsonExecutionLog jsonLog = new JsonExecutionLog(jsonPath);
+             Stream<Tuple<PartialExecution, Long>> partialExecutions = this.streamWithTimestamps()) {
+            copy(partialExecutions.iterator(), jsonLog);
+        }
+    }
+
+    /**
+     * Stores the given {@link PartialExecution}s with their timestamps in the given instance.
+     */
+    private static void copy(Iterator<Tuple<PartialExecution, Long>> partialExecutions, ExecutionLog target)
+            throws IOException {
+        while (partialExecutions.hasNext()) {
+            final Tuple<PartialExecution, Long> partialExecution = partialExecutions.next();
+            target.store(partialExecution.getField0(), partialExecution.getField1());
+        }
+    }
+
+    @Override
+    public abstract void close() throws IOException;
 }
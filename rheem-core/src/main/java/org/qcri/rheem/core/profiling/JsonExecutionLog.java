@@ -0,0 +1,108 @@
+package org.qcri.rheem.core.profiling;
+
+import org.apache.commons.io.IOUtils;
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.platform.PartialExecution;
+import org.qcri.rheem.core.util.Tuple;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * {@link ExecutionLog} that stores one JSON object per line. Each of them is the JSON representation of a
+ * {@link PartialExecution} with an additional {@code timestamp} property.
+ */
+class JsonExecutionLog extends ExecutionLog {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Path to the repository file.
+     */
+    private final String repositoryPath;
+
+    /**
+     * Created on demand an can be closed as well.
+     */
+    private BufferedWriter writer;
+
+    JsonExecutionLog(String repositoryPath) {
+        this.repositoryPath = repositoryPath;
+        this.logger.info("Curating execution log at {}.", repositoryPath);
+    }
+
+    @Override
+    protected void store(PartialExecution partialExecution, long timestamp) throws IOException {
+        this.write(partialExecution.toJson().put("timestamp", timestamp));
+    }
+
+    /**
+     * Writes the measuremnt to the {@link #repositoryPath}.
+     */
+    private void write(JSONObject jsonMeasurement) throws IOException {
+        jsonMeasurement.write(this.getWriter());
+        writer.write('\n');
+    }
+
+    @Override
+    protected Stream<Tuple<PartialExecution, Long>> streamWithTimestamps() throws IOException {
+        IOUtils.closeQuietly(this.writer);
+        this.writer = null;
+        return Files.lines(Paths.get(this.repositoryPath), Charset.forName("UTF-8"))
+                .map(line -> {
+                    try {
+                        final JSONObject jsonObject = new JSONObject(line);
+                        return new Tuple<>(
+                                PartialExecution.fromJson(jsonObject),
+                                jsonObject.optLong("timestamp", UNKNOWN_TIMESTAMP) // Older logs lack timestamps.
+                        );
+                    } catch (Exception e) {
+                        throw new RheemException(String.format("Could not parse \"%s\".", line), e);
+                    }
+                });
+    }
+
+    @Override
+    public Stream<PartialExecution> stream(long fromTimestamp, long toTimestamp) throws IOException {
+        return this.streamWithTimestamps()
+                .filter(partialExecution -> partialExecution.getField1() >= fromTimestamp
+                        && partialExecution.getField1() < toTimestamp)
+                .map(Tuple::getField0);
+    }
+
+    /**
+     * Initializes the {@link #writer} if it does not exist currently.
+     *
+     * @return the {@link #writer}
+     */
+    private BufferedWriter getWriter() throws FileNotFoundException, UnsupportedEncodingException {
+        if (this.writer != null) {
+            return this.writer;
+        }
+
+        try {
+            File file = new File(this.repositoryPath);
+            final File parentFile = file.getParentFile();
+            if (parentFile != null && !parentFile.exists() && !parentFile.mkdirs()) {
+                throw new RheemException("Could not initialize execution log.");
+            }
+            return this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8"));
+        } catch (RheemException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RheemException(String.format("Cannot write to %s.", this.repositoryPath), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        IOUtils.closeQuietly(this.writer);
+        this.writer = null;
+    }
+}
@@ -0,0 +1,309 @@
+package org.qcri.rheem.core.profiling;
+
+import org.apache.commons.io.IOUtils;
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.LoadProfile;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.PartialExecution;
+import org.qcri.rheem.core.platform.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Learns the CPU loads of {@link ExecutionOperator}s online from their {@link PartialExecution}s and keeps them
+ * in a JSON file.
+ * <p>For each {@link PartialExecution}, the measured execution time (minus the start-up times of the initialized
+ * {@link Platform}s) is distributed over the executed {@link ExecutionOperator}s in proportion to their estimated
+ * execution times. This yields a corrected CPU load for each of them, which is fitted to the cardinalities of the
+ * {@link ExecutionOperator} by means of an incremental linear regression per {@link LoadProfileEstimator}
+ * specification key (see {@link ExecutionOperator#getLoadProfileEstimatorConfigurationKey()}). Older observations
+ * decay exponentially, so that the learned load profiles follow changes in data and hardware.</p>
+ * <p>Via {@link #applyTo(Configuration)}, the learned load profiles replace the configured specifications.</p>
+ */
+public class LoadProfileRepository {
+
+    /**
+     * Detects references to output cardinalities in JUEL expressions.
+     */
+    private static final Pattern OUTPUT_VARIABLE_PATTERN = Pattern.compile("\\bout\\d+\\b");
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Path to the repository file.
+     */
+    private final String repositoryPath;
+
+    /**
+     * Factor by which the weight of previous observations is reduced with every new observation.
+     */
+    private final double decay;
+
+    /**
+     * Minimum number of observations to apply the learned load profile.
+     */
+    private final long minObservations;
+
+    /**
+     * Regression statistics per specification key. Loaded on demand.
+     */
+    private Map<String, RegressionStatistics> statistics;
+
+    /**
+     * Tells whether the {@link #statistics} have changed since they have been loaded.
+     */
+    private boolean isStatisticsDirty = false;
+
+    public LoadProfileRepository(Configuration configuration) {
+        this.repositoryPath = configuration.getStringProperty("rheem.core.log.loadprofiles");
+        this.decay = configuration.getDoubleProperty("rheem.core.optimizer.costs.learned.decay", 0.98d);
+        this.minObservations = configuration.getLongProperty("rheem.core.optimizer.costs.learned.observations", 3);
+    }
+
+    /**
+     * Learns from the given {@link PartialExecution}s. Only those that still provide their
+     * {@link OptimizationContext.OperatorContext}s can be considered.
+     *
+     * @param partialExecutions the {@link PartialExecution}s
+     * @param configuration     provides the platform start-up times
+     */
+    public synchronized void learnAll(Collection<PartialExecution> partialExecutions, Configuration configuration) {
+        for (PartialExecution partialExecution : partialExecutions) {
+            if (partialExecution.getOperatorContexts() == null) continue;
+            this.learn(partialExecution, configuration);
+        }
+    }
+
+    /**
+     * Learns from a single {@link PartialExecution}.
+     */
+    private void learn(PartialExecution partialExecution, Configuration configuration) {
+        // Determine the execution time to be explained by the ExecutionOperators.
+        double measuredMillis = partialExecution.getMeasuredExecutionTime();
+        for (Platform platform : partialExecution.getInitializedPlatforms()) {
+            measuredMillis -= configuration.getPlatformStartUpTimeProvider().provideFor(platform);
+        }
+        double estimatedMillis = 0d;
+        for (OptimizationContext.OperatorContext operatorContext : partialExecution.getOperatorContexts()) {
+            estimatedMillis += operatorContext.getTimeEstimate().getAverageEstimate();
+        }
+        if (measuredMillis <= 0d || estimatedMillis <= 0d) return;
+        final double correction = measuredMillis / estimatedMillis;
+
+        final Map<String, RegressionStatistics> statistics = this.getStatistics();
+        for (OptimizationContext.OperatorContext operatorContext : partialExecution.getOperatorContexts()) {
+            final String key = ((ExecutionOperator) operatorContext.getOperator()).getLoadProfileEstimatorConfigurationKey();
+            if (key == null) continue;
+            final LoadProfile loadProfile = operatorContext.getLoadProfile();
+            final int numExecutions = Math.max(1, operatorContext.getNumExecutions());
+            final double cpuLoad = loadProfile.getCpuUsage().getAverageEstimate() * correction / numExecutions;
+            final double cardinality = getRegressor(operatorContext) / numExecutions;
+            statistics.computeIfAbsent(key, k -> new RegressionStatistics()).add(cardinality, cpuLoad, this.decay);
+            this.isStatisticsDirty = true;
+        }
+    }
+
+    /**
+     * Sums up the input cardinalities of the given {@link OptimizationContext.OperatorContext} or, if there are no
+     * inputs, its output cardinalities.
+     */
+    private static double getRegressor(OptimizationContext.OperatorContext operatorContext) {
+        final CardinalityEstimate[] cardinalities = operatorContext.getInputCardinalities().length > 0 ?
+                operatorContext.getInputCardinalities() :
+                operatorContext.getOutputCardinalities();
+        double sum = 0d;
+        for (CardinalityEstimate cardinality : cardinalities) {
+            if (cardinality != null) sum += cardinality.getAverageEstimate();
+        }
+        return sum;
+    }
+
+    /**
+     * Replaces the {@link LoadProfileEstimator} specifications in the given {@link Configuration} with the learned
+     * ones. Only the {@code cpu} expression of a specification is replaced. Specifications whose {@code cpu} expression
+     * depends on output cardinalities are left untouched, because the learned load profiles regress on the input
+     * cardinalities only.
+     *
+     * @param configuration the {@link Configuration}
+     * @return the number of replaced specifications
+     */
+    public synchronized int applyTo(Configuration configuration) {
+        int numAppliedSpecifications = 0;
+        for (Map.Entry<String, RegressionStatistics> entry : this.getStatistics().entrySet()) {
+            final String key = entry.getKey();
+            final RegressionStatistics statistics = entry.getValue();
+            if (statistics.getCount() < this.minObservations || !statistics.isDetermined()) continue;
+            final Optional<String> optSpecification = configuration.getOptionalStringProperty(key);
+            if (!optSpecification.isPresent()) continue;
+            try {
+                final JSONObject spec = new JSONObject(optSpecification.get());
+                final String variable = spec.getInt("in") > 0 ? "in" : "out";
+                final int numVariables = spec.getInt(variable);
+                if (numVariables == 0) continue;
+                if (variable.equals("in") && OUTPUT_VARIABLE_PATTERN.matcher(spec.optString("cpu", "")).find()) {
+                    // The learned profile cannot account for the output cardinalities, so keep the configured one.
+                    this.logger.debug("Not applying the learned load profile to the output-dependent {}.", key);
+                    continue;
+                }
+                spec.put("cpu", createCpuExpression(statistics, variable, numVariables));
+                configuration.setProperty(key, spec.toString());
+                numAppliedSpecifications++;
+            } catch (Exception e) {
+                this.logger.warn("Could not apply the learned load profile to {}.", key, e);
+            }
+        }
+        this.logger.info("Applied {} learned load profiles.", numAppliedSpecifications);
+        return numAppliedSpecifications;
+    }
+
+    /**
+     * Creates a JUEL expression of the form {@code ${a*(in0 + in1) + b}} from the given {@link RegressionStatistics}.
+     */
+    private static String createCpuExpression(RegressionStatistics statistics, String variable, int numVariables) {
+        double slope = statistics.getSlope(), intercept = statistics.getIntercept();
+        if (slope < 0d) {
+            // The load does not grow with the cardinalities.
+            slope = 0d;
+            intercept = statistics.getMeanY();
+        } else if (intercept < 0d) {
+            // Fit a line through the origin instead.
+            slope = statistics.getSlopeThroughOrigin();
+            intercept = 0d;
+        }
+        StringBuilder sb = new StringBuilder().append("${").append(String.format(Locale.US, "%.4f", slope)).append("*(");
+        String separator = "";
+        for (int i = 0; i < numVariables; i++) {
+            sb.append(separator).append(variable).append(i);
+            separator = " + ";
+        }
+        return sb.append(") + ").append(Math.round(intercept)).append('}').toString();
+    }
+
+    /**
+     * Provides the {@link #statistics}. If they are not loaded yet, they are read from the {@link #repositoryPath}.
+     *
+     * @return the {@link #statistics}
+     */
+    private Map<String, RegressionStatistics> getStatistics() {
+        if (this.statistics != null) return this.statistics;
+
+        this.statistics = new HashMap<>();
+        final File file = new File(this.repositoryPath);
+        if (file.exists()) {
+            try (InputStream in = new FileInputStream(file)) {
+                JSONObject jsonStatistics = new JSONObject(IOUtils.toString(in, StandardCharsets.UTF_8));
+                for (String key : jsonStatistics.keySet()) {
+                    this.statistics.put(key, RegressionStatistics.fromJson(jsonStatistics.getJSONObject(key)));
+                }
+            } catch (Exception e) {
+                this.logger.warn("Could not read {}. Starting from scratch.", this.repositoryPath, e);
+                this.statistics.clear();
+            }
+        }
+        return this.statistics;
+    }
+
+    /**
+     * Writes the {@link #statistics} to the {@link #repositoryPath} if they have changed.
+     */
+    public synchronized void save() {
+        if (!this.isStatisticsDirty) return;
+        JSONObject jsonStatistics = new JSONObject();
+        this.statistics.forEach((key, statistics) -> jsonStatistics.put(key, statistics.toJson()));
+        final File file = new File(this.repositoryPath);
+        final File parentFile = file.getParentFile();
+        if (parentFile != null && !parentFile.exists() && !parentFile.mkdirs()) {
+            throw new RheemException("Could not initialize load profile repository.");
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            jsonStatistics.write(writer);
+            this.isStatisticsDirty = false;
+        } catch (IOException e) {
+            this.logger.error("Could not write the load profiles to {}.", this.repositoryPath, e);
+        }
+    }
+
+    /**
+     * Sufficient statistics for a simple linear regression with exponentially decaying weights.
+     */
+    public static class RegressionStatistics {
+
+        private long count = 0;
+
+        private double weight = 0d, sumX = 0d, sumY = 0d, sumXX = 0d, sumXY = 0d;
+
+        private void add(double x, double y, double decay) {
+            this.count++;
+            this.weight = this.weight * decay + 1d;
+            this.sumX = this.sumX * decay + x;
+            this.sumY = this.sumY * decay + y;
+            this.sumXX = this.sumXX * decay + x * x;
+            this.sumXY = this.sumXY * decay + x * y;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Tells whether the observations vary enough to determine a regression line.
+         */
+        public boolean isDetermined() {
+            return this.getVarianceX() > 1e-9 * Math.max(1d, this.sumXX / this.weight);
+        }
+
+        private double getVarianceX() {
+            final double meanX = this.sumX / this.weight;
+            return this.sumXX / this.weight - meanX * meanX;
+        }
+
+        public double getMeanY() {
+            return this.sumY / this.weight;
+        }
+
+        public double getSlope() {
+            final double meanX = this.sumX / this.weight;
+            return (this.sumXY / this.weight - meanX * this.getMeanY()) / this.getVarianceX();
+        }
+
+        public double getIntercept() {
+            return this.getMeanY() - this.getSlope() * this.sumX / this.weight;
+        }
+
+        public double getSlopeThroughOrigin() {
+            return this.sumXX == 0d ? 0d : this.sumXY / this.sumXX;
+        }
+
+        private JSONObject toJson() {
+            return new JSONObject()
+                    .put("count", this.count)
+                    .put("weight", this.weight)
+                    .put("sumX", this.sumX)
+                    .put("sumY", this.sumY)
+                    .put("sumXX", this.sumXX)
+                    .put("sumXY", this.sumXY);
+        }
+
+        private static RegressionStatistics fromJson(JSONObject jsonObject) {
+            RegressionStatistics statistics = new RegressionStatistics();
+            statistics.count = jsonObject.getLong("count");
+            statistics.weight = jsonObject.getDouble("weight");
+            statistics.sumX = jsonObject.getDouble("sumX");
+            statistics.sumY = jsonObject.getDouble("sumY");
+            statistics.sumXX = jsonObject.getDouble("sumXX");
+            statistics.sumXY = jsonObject.getDouble("sumXY");
+            return statistics;
+        }
+    }
+
+}
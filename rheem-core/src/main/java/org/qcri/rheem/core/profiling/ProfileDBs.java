@@ -30,7 +30,8 @@ public class ProfileDBs {
                 .withGsonPreparation(
                         gsonBuilder -> gsonBuilder.registerTypeAdapter(Operator.class, new OperatorBase.GsonSerializer())
                 )
-                .registerMeasurementClass(CostMeasurement.class);
+                .registerMeasurementClass(CostMeasurement.class)
+                .registerMeasurementClass(PruningMeasurement.class);
     }
 
 }
@@ -0,0 +1,86 @@
+package org.qcri.rheem.core.profiling;
+
+import de.hpi.isg.profiledb.store.model.Measurement;
+import de.hpi.isg.profiledb.store.model.Type;
+import org.qcri.rheem.core.optimizer.enumeration.BudgetedPruningStrategy;
+
+/**
+ * This measurement captures how much a {@link BudgetedPruningStrategy} has pruned during a plan enumeration.
+ */
+@Type("pruning")
+public class PruningMeasurement extends Measurement {
+
+    /**
+     * Number of pruned {@link org.qcri.rheem.core.optimizer.enumeration.PlanEnumeration}s.
+     */
+    private long numPrunings;
+
+    /**
+     * Number of {@link org.qcri.rheem.core.optimizer.enumeration.PlanImplementation}s before and after pruning.
+     */
+    private long numInputPlanImplementations, numRetainedPlanImplementations;
+
+    /**
+     * Number of prunings that took place after the budget had been exhausted.
+     */
+    private long numExhaustedPrunings;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param id                             the ID of the instance
+     * @param numPrunings                    the number of pruned {@link org.qcri.rheem.core.optimizer.enumeration.PlanEnumeration}s
+     * @param numInputPlanImplementations    the number of {@link org.qcri.rheem.core.optimizer.enumeration.PlanImplementation}s before pruning
+     * @param numRetainedPlanImplementations the number of {@link org.qcri.rheem.core.optimizer.enumeration.PlanImplementation}s after pruning
+     * @param numExhaustedPrunings           the number of prunings after the budget had been exhausted
+     */
+    public PruningMeasurement(String id,
+                              long numPrunings,
+                              long numInputPlanImplementations,
+                              long numRetainedPlanImplementations,
+                              long numExhaustedPrunings) {
+        super(id);
+        this.numPrunings = numPrunings;
+        this.numInputPlanImplementations = numInputPlanImplementations;
+        this.numRetainedPlanImplementations = numRetainedPlanImplementations;
+        this.numExhaustedPrunings = numExhaustedPrunings;
+    }
+
+    /**
+     * Deserialization constructor.
+     */
+    protected PruningMeasurement() {
+    }
+
+    public long getNumPrunings() {
+        return this.numPrunings;
+    }
+
+    public void setNumPrunings(long numPrunings) {
+        this.numPrunings = numPrunings;
+    }
+
+    public long getNumInputPlanImplementations() {
+        return this.numInputPlanImplementations;
+    }
+
+    public void setNumInputPlanImplementations(long numInputPlanImplementations) {
+        this.numInputPlanImplementations = numInputPlanImplementations;
+    }
+
+    public long getNumRetainedPlanImplementations() {
+        return this.numRetainedPlanImplementations;
+    }
+
+    public void setNumRetainedPlanImplementations(long numRetainedPlanImplementations) {
+        this.numRetainedPlanImplementations = numRetainedPlanImplementations;
+    }
+
+    public long getNumExhaustedPrunings() {
+        return this.numExhaustedPrunings;
+    }
+
+    public void setNumExhaustedPrunings(long numExhaustedPrunings) {
+        this.numExhaustedPrunings = numExhaustedPrunings;
+    }
+}
@@ -4,7 +4,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Implements a template for {@link ReferenceCountable} objects.
+ * Implements a template for {@link ReferenceCountable} objects. The reference counting is thread-safe, so that
+ * instances can be shared among concurrently executed {@link org.qcri.rheem.core.plan.executionplan.ExecutionStage}s.
  */
 public abstract class AbstractReferenceCountable implements ReferenceCountable {
 
@@ -23,7 +24,7 @@ public abstract class AbstractReferenceCountable implements ReferenceCountable {
     private boolean isDisposed = false;
 
     @Override
-    public boolean disposeIfUnreferenced() {
+    public synchronized boolean disposeIfUnreferenced() {
         if (this.getNumReferences() == 0) {
             assert !this.isDisposed() : String.format("%s has already been disposed.", this);
             logger.debug("Discarding {} for being unreferenced.", this);
@@ -41,19 +42,19 @@ public abstract class AbstractReferenceCountable implements ReferenceCountable {
     protected abstract void disposeUnreferenced();
 
     @Override
-    public int getNumReferences() {
+    public synchronized int getNumReferences() {
         return this.numReferences;
     }
 
     @Override
-    public void noteObtainedReference() {
+    public synchronized void noteObtainedReference() {
         assert !this.isDisposed() : String.format("%s should not be resurrected.", this);
         this.numReferences++;
         logger.trace("{} has {} (+1) references now.", this, this.getNumReferences());
     }
 
     @Override
-    public void noteDiscardedReference(boolean isDisposeIfUnreferenced) {
+    public synchronized void noteDiscardedReference(boolean isDisposeIfUnreferenced) {
         assert this.numReferences > 0 : String.format("Reference on %s discarded, although the reference counter is 0.", this);
         this.numReferences--;
         logger.trace("{} has {} (-1) references now.", this, this.getNumReferences());
@@ -63,7 +64,7 @@ public abstract class AbstractReferenceCountable implements ReferenceCountable {
     }
 
     @Override
-    public boolean isDisposed() {
+    public synchronized boolean isDisposed() {
         return this.isDisposed;
     }
 
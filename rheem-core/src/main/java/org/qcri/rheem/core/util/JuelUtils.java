@@ -66,8 +66,12 @@ public class JuelUtils {
             return this.apply(values, false);
         }
 
+        /**
+         * Evaluates this instance. As the arguments are bound to the shared {@link SimpleContext}, evaluations are
+         * serialized.
+         */
         @SuppressWarnings("unchecked")
-        public T apply(Map<String, Object> values, boolean isExpectTooManyArguments) {
+        public synchronized T apply(Map<String, Object> values, boolean isExpectTooManyArguments) {
             values.forEach((key, value) -> {
                 final Argument argument = this.arguments.get(key);
                 if (argument == null) {
@@ -67,6 +67,26 @@ public class FileSystems {
         return OptionalLong.empty();
     }
 
+    /**
+     * As {@link FileSystem#getModificationTime(String)}. In contrast to {@link #getFileSize(String)}, the result is
+     * not cached, because it serves to detect changes of files.
+     *
+     * @param fileUrl the URL of the file
+     * @return the modification time of the file if it could be determined
+     */
+    public static OptionalLong getModificationTime(String fileUrl) {
+        final Optional<FileSystem> fileSystem = FileSystems.getFileSystem(fileUrl);
+        if (fileSystem.isPresent()) {
+            try {
+                return OptionalLong.of(fileSystem.get().getModificationTime(fileUrl));
+            } catch (FileNotFoundException e) {
+                LOGGER.warn("Could not determine modification time.", e);
+            }
+        }
+
+        return OptionalLong.empty();
+    }
+
     /**
      * Systems such as Spark do not produce a single output file often times. That method tries to detect such
      * split object files to reassemble them correctly. As of now assumes either a Spark layout or a single file.
@@ -78,7 +78,13 @@ public class LocalFileSystem implements FileSystem {
         }
     }
 
-    private static File toFile(String fileUrl) throws URISyntaxException, MalformedURLException {
+    /**
+     * Converts a URL to a {@link File}.
+     *
+     * @param fileUrl the URL; should have the {@code file:} scheme
+     * @return the {@link File}
+     */
+    public static File toFile(String fileUrl) throws URISyntaxException, MalformedURLException {
         if (fileUrl.startsWith("file:")) {
             return new File(new URL(fileUrl).toURI());
         } else {
@@ -98,6 +104,20 @@ public class LocalFileSystem implements FileSystem {
         }
     }
 
+    @Override
+    public long getModificationTime(String fileUrl) throws FileNotFoundException {
+        try {
+            File file = toFile(fileUrl);
+            if (!file.exists()) {
+                throw new FileNotFoundException(String.format("%s does not exist.", fileUrl));
+            }
+            return file.lastModified();
+        } catch (MalformedURLException | URISyntaxException e) {
+            logger.error("Illegal URL: \"{}\"", fileUrl);
+            throw new FileNotFoundException("File not found, because the URL is not correct.");
+        }
+    }
+
     @Override
     public boolean canHandle(String urlAsString) {
         if (!urlAsString.startsWith("file:")) return false;
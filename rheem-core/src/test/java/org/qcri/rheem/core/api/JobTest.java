@@ -0,0 +1,213 @@
+package org.qcri.rheem.core.api;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.optimizer.ProbabilisticDoubleInterval;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.FixedSizeCardinalityEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.optimizer.enumeration.PlanEnumeration;
+import org.qcri.rheem.core.optimizer.enumeration.PlanImplementation;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionPlan;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.OperatorAlternative;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.ExecutionState;
+import org.qcri.rheem.core.test.DummyExecutionOperator;
+import org.qcri.rheem.core.test.DummyNonReusableChannel;
+import org.qcri.rheem.core.test.DummyReusableChannel;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for the re-optimization of {@link Job}s.
+ */
+public class JobTest {
+
+    /**
+     * {@link DummyExecutionOperator} that exchanges {@link DummyReusableChannel}s, forwards its input cardinality,
+     * and whose CPU load is specified as a JUEL expression.
+     */
+    private static class EstimatedDummyExecutionOperator extends DummyExecutionOperator {
+
+        private final String cpuExpression;
+
+        private EstimatedDummyExecutionOperator(String name, int numInputs, int numOutputs, String cpuExpression) {
+            super(numInputs, numOutputs, false);
+            this.setName(name);
+            this.cpuExpression = cpuExpression;
+            this.supportedInputChannelDescriptors.forEach(descriptors -> descriptors.add(DummyReusableChannel.DESCRIPTOR));
+            this.supportedOutputChannelDescriptors.forEach(descriptors -> descriptors.add(DummyReusableChannel.DESCRIPTOR));
+            if (numInputs == 1 && numOutputs == 1) {
+                this.setCardinalityEstimator(0, new DefaultCardinalityEstimator(1d, 1, false, inputCards -> inputCards[0]));
+            }
+        }
+
+        @Override
+        public Optional<LoadProfileEstimator<ExecutionOperator>> createLoadProfileEstimator(Configuration configuration) {
+            return Optional.of(LoadProfileEstimators.createFromJuelSpecification(String.format(
+                    "{\"in\":%d, \"out\":%d, \"cpu\":\"${%s}\", \"ram\":\"0\", \"p\":0.9}",
+                    this.getNumInputs(), this.getNumOutputs(), this.cpuExpression
+            )));
+        }
+    }
+
+    private EstimatedDummyExecutionOperator source, filter;
+
+    private OperatorAlternative mapAlternative1, mapAlternative2;
+
+    private Job job;
+
+    /**
+     * Optimizes a {@link Job} for a {@link RheemPlan} with two {@link OperatorAlternative}s around a filter. For the
+     * estimated cardinalities, it picks the first alternative of the first and the second alternative of the second
+     * {@link OperatorAlternative}.
+     */
+    @Before
+    public void setUp() {
+        this.source = new EstimatedDummyExecutionOperator("source", 0, 1, "100");
+        this.source.setCardinalityEstimator(0, new FixedSizeCardinalityEstimator(100));
+        final EstimatedDummyExecutionOperator map1a = new EstimatedDummyExecutionOperator("map1a", 1, 1, "10*in0");
+        this.filter = new EstimatedDummyExecutionOperator("filter", 1, 1, "10*in0");
+        final EstimatedDummyExecutionOperator map2a = new EstimatedDummyExecutionOperator("map2a", 1, 1, "1000*in0");
+        final EstimatedDummyExecutionOperator sink = new EstimatedDummyExecutionOperator("sink", 1, 0, "in0");
+
+        this.source.connectTo(0, map1a, 0);
+        map1a.connectTo(0, this.filter, 0);
+        this.filter.connectTo(0, map2a, 0);
+        map2a.connectTo(0, sink, 0);
+        final RheemPlan rheemPlan = new RheemPlan(sink);
+        rheemPlan.prepare();
+
+        // Introduce the OperatorAlternatives only now, just like the PlanTransformations do.
+        this.mapAlternative1 = OperatorAlternative.wrap(map1a);
+        this.mapAlternative1.addAlternative(new EstimatedDummyExecutionOperator("map1b", 1, 1, "20*in0"));
+        this.mapAlternative2 = OperatorAlternative.wrap(map2a);
+        this.mapAlternative2.addAlternative(new EstimatedDummyExecutionOperator("map2b", 1, 1, "in0*in0"));
+        // The cheapest alternative cannot be concatenated with the sink.
+        final EstimatedDummyExecutionOperator map2c = new EstimatedDummyExecutionOperator("map2c", 1, 1, "in0");
+        map2c.supportedOutputChannelDescriptors.get(0).clear();
+        map2c.supportedOutputChannelDescriptors.get(0).add(DummyNonReusableChannel.DESCRIPTOR);
+        this.mapAlternative2.addAlternative(map2c);
+
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.core.optimizer.cardinality.learned", "false");
+        this.job = new RheemContext(configuration).createJob("JobTest", rheemPlan);
+        this.job.buildInitialExecutionPlan();
+
+        // Without any changes, all picked alternatives can be reused.
+        final Map<OperatorAlternative, OperatorAlternative.Alternative> pickedAlternatives =
+                this.job.collectReusableAlternatives(Collections.emptySet());
+        Assert.assertEquals(2, pickedAlternatives.size());
+        Assert.assertSame(this.mapAlternative1.getAlternatives().get(0), pickedAlternatives.get(this.mapAlternative1));
+        Assert.assertSame(this.mapAlternative2.getAlternatives().get(1), pickedAlternatives.get(this.mapAlternative2));
+    }
+
+    @Test
+    public void testSkipReoptimizationForMinorChanges() {
+        final Map<Operator, CardinalityEstimate[]> previousCardinalities = this.job.snapshotCardinalities();
+        this.job.reestimateCardinalities(this.createExecutionState(this.filter, 150));
+
+        Assert.assertTrue(this.job.findChangedOperators(previousCardinalities).isEmpty());
+    }
+
+    @Test
+    public void testReuseUnaffectedAlternatives() {
+        final Map<Operator, CardinalityEstimate[]> previousCardinalities = this.job.snapshotCardinalities();
+        this.job.reestimateCardinalities(this.createExecutionState(this.filter, 10000));
+
+        // Only the operators downstream of the filter should be affected.
+        final Set<Operator> changedOperators = this.job.findChangedOperators(previousCardinalities);
+        Assert.assertTrue(changedOperators.contains(this.filter));
+        Assert.assertTrue(changedOperators.contains(this.mapAlternative2));
+        Assert.assertFalse(changedOperators.contains(this.source));
+        Assert.assertFalse(changedOperators.contains(this.mapAlternative1));
+
+        // Hence, only the first OperatorAlternative should be settled...
+        final Map<OperatorAlternative, OperatorAlternative.Alternative> reusedAlternatives =
+                this.job.collectReusableAlternatives(changedOperators);
+        Assert.assertEquals(
+                Collections.singletonMap(this.mapAlternative1, this.mapAlternative1.getAlternatives().get(0)),
+                reusedAlternatives
+        );
+
+        // ...while the second one is re-enumerated and now picks its first alternative.
+        final PlanEnumeration planEnumeration =
+                this.job.enumerateExecutionPlans(new ExecutionPlan(), Collections.emptySet(), reusedAlternatives);
+        for (PlanImplementation planImplementation : planEnumeration.getPlanImplementations()) {
+            Assert.assertSame(
+                    this.mapAlternative1.getAlternatives().get(0),
+                    planImplementation.collectChosenAlternatives().get(this.mapAlternative1)
+            );
+        }
+        final PlanImplementation bestPlanImplementation = this.pickBestPlanImplementation(planEnumeration);
+        Assert.assertSame(
+                this.mapAlternative2.getAlternatives().get(0),
+                bestPlanImplementation.collectChosenAlternatives().get(this.mapAlternative2)
+        );
+    }
+
+    @Test
+    public void testFallBackToFullEnumeration() {
+        final OperatorAlternative.Alternative infeasibleAlternative = this.mapAlternative2.getAlternatives().get(2);
+        final PlanEnumeration planEnumeration = this.job.enumerateExecutionPlans(
+                new ExecutionPlan(),
+                Collections.emptySet(),
+                Collections.singletonMap(this.mapAlternative2, infeasibleAlternative)
+        );
+
+        Assert.assertFalse(planEnumeration.getPlanImplementations().isEmpty());
+        for (PlanImplementation planImplementation : planEnumeration.getPlanImplementations()) {
+            Assert.assertNotSame(infeasibleAlternative, planImplementation.collectChosenAlternatives().get(this.mapAlternative2));
+        }
+        final PlanImplementation bestPlanImplementation = this.pickBestPlanImplementation(planEnumeration);
+        Assert.assertSame(
+                this.mapAlternative2.getAlternatives().get(1),
+                bestPlanImplementation.collectChosenAlternatives().get(this.mapAlternative2)
+        );
+    }
+
+    /**
+     * Mocks an {@link ExecutionState} that provides a measured cardinality for the given {@link ExecutionOperator}.
+     */
+    private ExecutionState createExecutionState(ExecutionOperator operator, long measuredCardinality) {
+        final Channel channel = mock(Channel.class);
+        doReturn(operator.getOutput(0)).when(channel).getProducerSlot();
+
+        final ChannelInstance channelInstance = mock(ChannelInstance.class);
+        when(channelInstance.getChannel()).thenReturn(channel);
+        when(channelInstance.wasProduced()).thenReturn(true);
+        when(channelInstance.isMarkedForInstrumentation()).thenReturn(true);
+        when(channelInstance.getMeasuredCardinality()).thenReturn(OptionalLong.of(measuredCardinality));
+        when(channelInstance.getProducerOperatorContext())
+                .thenReturn(this.job.getOptimizationContext().getOperatorContext(operator));
+
+        final ExecutionState executionState = mock(ExecutionState.class);
+        when(executionState.getCardinalityMeasurements()).thenReturn(Collections.singletonList(channelInstance));
+        return executionState;
+    }
+
+    private PlanImplementation pickBestPlanImplementation(PlanEnumeration planEnumeration) {
+        final Comparator<ProbabilisticDoubleInterval> costEstimateComparator =
+                this.job.getConfiguration().getCostEstimateComparatorProvider().provide();
+        return planEnumeration.getPlanImplementations().stream()
+                .reduce((p1, p2) -> costEstimateComparator.compare(p1.getCostEstimate(), p2.getCostEstimate()) < 0 ? p1 : p2)
+                .orElseThrow(() -> new AssertionError("No plan implementation enumerated."));
+    }
+
+}
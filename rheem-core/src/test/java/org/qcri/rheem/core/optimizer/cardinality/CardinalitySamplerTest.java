@@ -0,0 +1,170 @@
+package org.qcri.rheem.core.optimizer.cardinality;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.plan.rheemplan.test.TestFilterOperator;
+import org.qcri.rheem.core.plan.rheemplan.test.TestSink;
+import org.qcri.rheem.core.plan.rheemplan.test.TestSource;
+import org.qcri.rheem.core.util.LruCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for the {@link CardinalitySampler}.
+ */
+public class CardinalitySamplerTest {
+
+    /**
+     * Provides the integers {@code 0, 1, ...} up to a given size.
+     */
+    private static class SampleableTestSource extends TestSource<Integer> implements CardinalitySampler.SampleSource {
+
+        private final int size;
+
+        private final String sampleCacheKey;
+
+        /**
+         * The sample returned by the latest call of {@link #readSample(int)}.
+         */
+        private List<Integer> lastSample;
+
+        private int numReadSamples = 0;
+
+        private SampleableTestSource(int size) {
+            this(size, null);
+        }
+
+        private SampleableTestSource(int size, String sampleCacheKey) {
+            super(Integer.class);
+            this.size = size;
+            this.sampleCacheKey = sampleCacheKey;
+        }
+
+        @Override
+        public String getSampleCacheKey() {
+            return this.sampleCacheKey;
+        }
+
+        @Override
+        public List<?> readSample(int maxSize) {
+            final List<Integer> sample = new ArrayList<>();
+            for (int i = 0; i < Math.min(maxSize, this.size); i++) {
+                sample.add(i);
+            }
+            this.numReadSamples++;
+            return this.lastSample = sample;
+        }
+    }
+
+    /**
+     * Retains only even integers.
+     */
+    private static class SampleableTestFilterOperator extends TestFilterOperator<Integer>
+            implements CardinalitySampler.SampleEvaluator {
+
+        private SampleableTestFilterOperator() {
+            super(Integer.class);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<?> evaluateSample(List<?>[] inputSamples) {
+            return ((List<Integer>) inputSamples[0]).stream().filter(i -> i % 2 == 0).collect(Collectors.toList());
+        }
+    }
+
+    private Configuration configuration;
+
+    @Before
+    public void setUp() {
+        this.configuration = new Configuration().fork();
+        this.configuration.setProperty("rheem.core.optimizer.sampling.size", "100");
+    }
+
+    @Test
+    public void testExactSampling() {
+        SampleableTestSource source = new SampleableTestSource(10);
+        SampleableTestFilterOperator filter = new SampleableTestFilterOperator();
+        TestSink<Integer> sink = new TestSink<>(Integer.class);
+        source.connectTo(0, filter, 0);
+        filter.connectTo(0, sink, 0);
+
+        final int numInstalledEstimators = new CardinalitySampler(this.configuration).sample(new RheemPlan(sink));
+        Assert.assertEquals(2, numInstalledEstimators);
+
+        final CardinalityEstimate estimate = this.configuration.getCardinalityEstimatorProvider()
+                .provideFor(filter.getOutput(0))
+                .estimate(this.configuration, new CardinalityEstimate(10, 10, 1d));
+        Assert.assertEquals(5L, estimate.getLowerEstimate());
+        Assert.assertEquals(5L, estimate.getUpperEstimate());
+        Assert.assertEquals(1d, estimate.getCorrectnessProbability(), 0d);
+        Assert.assertTrue(estimate.isOverride());
+    }
+
+    @Test
+    public void testScaledSampling() {
+        SampleableTestSource source = new SampleableTestSource(Integer.MAX_VALUE);
+        source.setCardinalityEstimators(new FixedSizeCardinalityEstimator(10000));
+        SampleableTestFilterOperator filter = new SampleableTestFilterOperator();
+        TestSink<Integer> sink = new TestSink<>(Integer.class);
+        source.connectTo(0, filter, 0);
+        filter.connectTo(0, sink, 0);
+
+        final int numInstalledEstimators = new CardinalitySampler(this.configuration).sample(new RheemPlan(sink));
+        Assert.assertEquals(1, numInstalledEstimators);
+
+        // The source estimate should not be touched.
+        Assert.assertNull(this.configuration.getCardinalityEstimatorProvider().provideLocally(source.getOutput(0)));
+
+        // The filter estimate should be scaled up from 50 to 5000.
+        final CardinalityEstimate estimate = this.configuration.getCardinalityEstimatorProvider()
+                .provideFor(filter.getOutput(0))
+                .estimate(this.configuration, new CardinalityEstimate(10000, 10000, 1d));
+        Assert.assertTrue(estimate.getLowerEstimate() <= 5000 && estimate.getLowerEstimate() >= 3000);
+        Assert.assertTrue(estimate.getUpperEstimate() >= 5000 && estimate.getUpperEstimate() <= 7000);
+        Assert.assertEquals(0.95, estimate.getCorrectnessProbability(), 0d);
+    }
+
+    @Test
+    public void testSampleCaching() {
+        final LruCache<String, List<?>> sampleCache = new LruCache<>(2);
+        SampleableTestSource source1 = null;
+        for (int i = 0; i < 2; i++) {
+            SampleableTestSource source = new SampleableTestSource(10, "test-source");
+            if (source1 == null) source1 = source;
+            SampleableTestFilterOperator filter = new SampleableTestFilterOperator();
+            TestSink<Integer> sink = new TestSink<>(Integer.class);
+            source.connectTo(0, filter, 0);
+            filter.connectTo(0, sink, 0);
+
+            final Configuration configuration = this.configuration.fork();
+            Assert.assertEquals(2, new CardinalitySampler(configuration, sampleCache).sample(new RheemPlan(sink)));
+            final CardinalityEstimate estimate = configuration.getCardinalityEstimatorProvider()
+                    .provideFor(filter.getOutput(0))
+                    .estimate(configuration, new CardinalityEstimate(10, 10, 1d));
+            Assert.assertEquals(new CardinalityEstimate(5, 5, 1d), estimate);
+
+            // Only the first source should have been read.
+            Assert.assertEquals(i == 0 ? 1 : 0, source.numReadSamples);
+
+            // Changes to the originally read sample must not affect the cache.
+            source1.lastSample.clear();
+        }
+
+        // The cached sample must not be modifiable, as it is shared.
+        final List<?> cachedSample = sampleCache.values().iterator().next();
+        Assert.assertEquals(10, cachedSample.size());
+        try {
+            cachedSample.clear();
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            // Expected.
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.qcri.rheem.core.optimizer.cardinality;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.plan.rheemplan.test.TestFilterOperator;
+import org.qcri.rheem.core.plan.rheemplan.test.TestSink;
+import org.qcri.rheem.core.plan.rheemplan.test.TestSource;
+import org.qcri.rheem.core.profiling.CardinalityRepository;
+import org.qcri.rheem.core.types.DataSetType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Test suite for the {@link LearnedCardinalityEstimator}.
+ */
+public class LearnedCardinalityEstimatorTest {
+
+    @Test
+    public void testLearnFromRepository() throws IOException {
+        final File tempDir = Files.createTempDirectory("rheem-cardinalities").toFile();
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.core.log.cardinalities", new File(tempDir, "cardinalities.json").getPath());
+
+        // Create a plan with a filter operator.
+        TestSource<String> source = new TestSource<>(String.class);
+        TestFilterOperator<String> filter = new TestFilterOperator<>(String.class);
+        TestSink<String> sink = new TestSink<>(String.class);
+        source.connectTo(0, filter, 0);
+        filter.connectTo(0, sink, 0);
+        final RheemPlan rheemPlan = new RheemPlan(sink);
+        final OptimizationContext optimizationContext = new DefaultOptimizationContext(rheemPlan, configuration);
+        final OptimizationContext.OperatorContext filterContext = optimizationContext.getOperatorContext(filter);
+        filterContext.setInputCardinality(0, new CardinalityEstimate(1000, 1000, 1d));
+        filterContext.setOutputCardinality(0, new CardinalityEstimate(100, 100, 1d));
+
+        // Store a measurement.
+        CardinalityRepository cardinalityRepository = new CardinalityRepository(configuration);
+        final String key = CardinalityRepository.createKey(filter, 0);
+        Assert.assertFalse(cardinalityRepository.hasSelectivities(key));
+        cardinalityRepository.store(filter.getOutput(0), 100, filterContext);
+        Assert.assertTrue(cardinalityRepository.hasSelectivities(key));
+        cardinalityRepository.sleep();
+
+        // The learned selectivity should survive a new instance and be applied.
+        cardinalityRepository = new CardinalityRepository(configuration);
+        final CardinalityEstimator fallbackEstimator = new FallbackCardinalityEstimator();
+        final CardinalityEstimator estimator = new LearnedCardinalityEstimator(
+                cardinalityRepository, key, fallbackEstimator, 0.9, 1
+        );
+        final CardinalityEstimate estimate = estimator.estimate(configuration, new CardinalityEstimate(2000, 3000, 0.8));
+        Assert.assertEquals(new CardinalityEstimate(200, 300, 0.9 * 0.8), estimate);
+
+        // Unknown keys should be handled by the fallback estimator.
+        final CardinalityEstimator unknownEstimator = new LearnedCardinalityEstimator(
+                cardinalityRepository, key + "x", fallbackEstimator, 0.9, 1
+        );
+        final CardinalityEstimate inputEstimate = new CardinalityEstimate(2000, 3000, 0.8);
+        Assert.assertEquals(
+                fallbackEstimator.estimate(configuration, inputEstimate),
+                unknownEstimator.estimate(configuration, inputEstimate)
+        );
+
+        for (File file : tempDir.listFiles()) file.delete();
+        tempDir.delete();
+    }
+
+    @Test
+    public void testKeysOfLambdas() {
+        final String key1 = CardinalityRepository.createKey(new PredicateOperator(s -> s.length() > 3), 0);
+        final String key2 = CardinalityRepository.createKey(new PredicateOperator(s -> s.length() > 4), 0);
+        final String key3 = CardinalityRepository.createKey(new PredicateOperator(String::isEmpty), 0);
+
+        // Lambdas should be identified by their implementation method rather than their JVM-specific class.
+        Assert.assertNotNull(key1);
+        Assert.assertFalse(key1.contains("$$Lambda$"));
+        Assert.assertTrue(key1.contains(LearnedCardinalityEstimatorTest.class.getName() + "#lambda$"));
+        Assert.assertNotEquals(key1, key2);
+        Assert.assertTrue(key3.contains("java.lang.String#isEmpty"));
+    }
+
+    /**
+     * Filter-like operator with a {@link PredicateDescriptor}.
+     */
+    private static class PredicateOperator extends UnaryToUnaryOperator<String, String> {
+
+        private final PredicateDescriptor<String> predicateDescriptor;
+
+        PredicateOperator(PredicateDescriptor.SerializablePredicate<String> predicate) {
+            super(DataSetType.createDefault(String.class), DataSetType.createDefault(String.class), true);
+            this.predicateDescriptor = new PredicateDescriptor<>(predicate, String.class);
+        }
+
+    }
+
+}
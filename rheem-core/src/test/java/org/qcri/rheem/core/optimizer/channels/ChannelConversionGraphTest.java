@@ -1,11 +1,13 @@
 package org.qcri.rheem.core.optimizer.channels;
 
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.Junction;
@@ -15,6 +17,7 @@ import org.qcri.rheem.core.test.DummyNonReusableChannel;
 import org.qcri.rheem.core.test.DummyReusableChannel;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
 import java.util.function.Supplier;
 
 /**
@@ -153,5 +156,48 @@ public class ChannelConversionGraphTest {
         );
     }
 
+    @Test
+    public void testReuseOfEquivalentSearches() throws Exception {
+        ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(new Configuration());
+        channelConversionGraph.add(reusableToNonReusableChannelConversion);
+        channelConversionGraph.add(nonReusableToReusableChannelConversion);
+        channelConversionGraph.add(reusableToExternalChannelConversion);
+        channelConversionGraph.add(nonReusableToExternalChannelConversion);
+        channelConversionGraph.add(externalToNonReusableChannelConversion);
+
+        final OptimizationContext optimizationContext = new DefaultOptimizationContext(configuration);
+        Junction[] junctions = new Junction[2];
+        for (int i = 0; i < junctions.length; i++) {
+            ExecutionOperator sourceOperator = new DummyExecutionOperator(0, 1, false);
+            sourceOperator.getSupportedOutputChannels(0).add(DummyReusableChannel.DESCRIPTOR);
+
+            ExecutionOperator destOperator0 = new DummyExecutionOperator(1, 1, false);
+            destOperator0.getSupportedInputChannels(0).add(DummyNonReusableChannel.DESCRIPTOR);
+
+            ExecutionOperator destOperator1 = new DummyExecutionOperator(1, 1, false);
+            destOperator1.getSupportedInputChannels(0).add(DummyExternalReusableChannel.DESCRIPTOR);
+
+            // The cardinalities differ only slightly, so that they should fall into the same bucket.
+            optimizationContext.addOneTimeOperator(sourceOperator)
+                    .setOutputCardinality(0, new CardinalityEstimate(1000 + i, 10000 + i, 0.8d));
+
+            junctions[i] = channelConversionGraph.findMinimumCostJunction(
+                    sourceOperator.getOutput(0),
+                    Arrays.asList(destOperator0.getInput(0), destOperator1.getInput(0)),
+                    optimizationContext
+            );
+            Assert.assertNotNull(junctions[i]);
+            Assert.assertSame(sourceOperator, junctions[i].getSourceOperator());
+            Assert.assertSame(destOperator1, junctions[i].getTargetOperator(1));
+        }
+
+        // The Junctions should be distinct but be made up of the same conversions.
+        Assert.assertNotSame(junctions[0].getSourceChannel(), junctions[1].getSourceChannel());
+        Assert.assertEquals(
+                junctions[0].getTargetChannels().stream().map(Channel::getDescriptor).collect(Collectors.toList()),
+                junctions[1].getTargetChannels().stream().map(Channel::getDescriptor).collect(Collectors.toList())
+        );
+        Assert.assertEquals(junctions[0].getConversionTasks().size(), junctions[1].getConversionTasks().size());
+    }
 
-}
\ No newline at end of file
+}
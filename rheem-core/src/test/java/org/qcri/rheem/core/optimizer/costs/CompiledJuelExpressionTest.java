@@ -0,0 +1,81 @@
+package org.qcri.rheem.core.optimizer.costs;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.util.JuelUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test suite for {@link CompiledJuelExpression}.
+ */
+public class CompiledJuelExpressionTest {
+
+    private static final long[][] INPUT_CARDINALITIES = {{0, 0}, {1, 7}, {123, 4567}, {9876543210L, 3}};
+
+    private static final long[] OUTPUT_CARDINALITIES = {42};
+
+    @Test
+    public void testCompilationMatchesInterpretation() {
+        String[] expressions = {
+                "${55*in0 + 380000}",
+                "${1000*(in0 + in1) + 200*out0 + 1000000}",
+                "${5000*in0 + 2500*out0 + 1E8}",
+                "${521.029270294375*in0 + 2663.526789785403*out0 + 1.2775981739537635E8}",
+                "${in0/10}",
+                "${-in0 % 7 - -out0}",
+                "${math:sqrt(in0) * 3}",
+                "${rheem:logGrowth(0.1, 0.1, 1000000, in0 + in1)}",
+                "56789"
+        };
+        for (String expression : expressions) {
+            final CompiledJuelExpression compiledExpression = CompiledJuelExpression.compile(expression, 2, 1);
+            Assert.assertNotNull(expression, compiledExpression);
+            final JuelUtils.JuelFunction<Long> longFunction =
+                    new JuelUtils.JuelFunction<>(expression, Long.class, createParameterClasses());
+            final JuelUtils.JuelFunction<Double> doubleFunction =
+                    new JuelUtils.JuelFunction<>(expression, Double.class, createParameterClasses());
+            for (long[] inputCardinalities : INPUT_CARDINALITIES) {
+                final Map<String, Object> parameters = createParameters(inputCardinalities);
+                Assert.assertEquals(
+                        expression,
+                        longFunction.apply(parameters).longValue(),
+                        compiledExpression.applyAsLong(inputCardinalities, OUTPUT_CARDINALITIES)
+                );
+                Assert.assertEquals(
+                        expression,
+                        doubleFunction.apply(parameters),
+                        compiledExpression.applyAsDouble(inputCardinalities, OUTPUT_CARDINALITIES),
+                        0d
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupportedExpressions() {
+        Assert.assertNull(CompiledJuelExpression.compile("${in0 > 10 ? in0 : 10}", 1, 1));
+        Assert.assertNull(CompiledJuelExpression.compile("${numIterations * in0}", 1, 1));
+        Assert.assertNull(CompiledJuelExpression.compile("${in1}", 1, 1));
+        Assert.assertNull(CompiledJuelExpression.compile("${in0}${out0}", 1, 1));
+        Assert.assertNull(CompiledJuelExpression.compile("${math:exp(in0)}", 1, 1));
+    }
+
+    private static Map<String, Class<?>> createParameterClasses() {
+        Map<String, Class<?>> parameterClasses = new HashMap<>();
+        parameterClasses.put("in0", Long.class);
+        parameterClasses.put("in1", Long.class);
+        parameterClasses.put("out0", Long.class);
+        return parameterClasses;
+    }
+
+    private static Map<String, Object> createParameters(long[] inputCardinalities) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("in0", inputCardinalities[0]);
+        parameters.put("in1", inputCardinalities[1]);
+        parameters.put("out0", OUTPUT_CARDINALITIES[0]);
+        return parameters;
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.qcri.rheem.core.optimizer.enumeration;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.ProbabilisticDoubleInterval;
+import org.qcri.rheem.core.profiling.PruningMeasurement;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link BudgetedPruningStrategy}.
+ */
+public class BudgetedPruningStrategyTest {
+
+    private static PlanImplementation createPlanImplementation(double lowerCost, double upperCost) {
+        final PlanImplementation planImplementation = mock(PlanImplementation.class);
+        when(planImplementation.getCostEstimate(true)).thenReturn(new ProbabilisticDoubleInterval(lowerCost, upperCost, 1d));
+        return planImplementation;
+    }
+
+    private static BudgetedPruningStrategy createStrategy(long timeBudget) {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.core.optimizer.pruning.beam.min", "1");
+        configuration.setProperty("rheem.core.optimizer.pruning.beam.max", "50");
+        configuration.setProperty("rheem.core.optimizer.pruning.budget.time", String.valueOf(timeBudget));
+        configuration.setProperty("rheem.core.optimizer.pruning.budget.memory", "1");
+        final BudgetedPruningStrategy strategy = new BudgetedPruningStrategy();
+        strategy.configure(configuration);
+        return strategy;
+    }
+
+    @Test
+    public void testPruneDominatedPlans() {
+        final BudgetedPruningStrategy strategy = createStrategy(60000);
+        strategy.startEnumeration();
+
+        final PlanEnumeration planEnumeration = new PlanEnumeration();
+        final PlanImplementation best = createPlanImplementation(10, 20);
+        final PlanImplementation competitor = createPlanImplementation(15, 30);
+        planEnumeration.getPlanImplementations().add(createPlanImplementation(50, 60));
+        planEnumeration.getPlanImplementations().add(competitor);
+        planEnumeration.getPlanImplementations().add(createPlanImplementation(90, 100));
+        planEnumeration.getPlanImplementations().add(best);
+
+        strategy.prune(planEnumeration);
+
+        Assert.assertEquals(2, planEnumeration.getPlanImplementations().size());
+        Assert.assertTrue(planEnumeration.getPlanImplementations().contains(best));
+        Assert.assertTrue(planEnumeration.getPlanImplementations().contains(competitor));
+
+        final PruningMeasurement measurement = strategy.createMeasurement("test");
+        Assert.assertEquals(1, measurement.getNumPrunings());
+        Assert.assertEquals(4, measurement.getNumInputPlanImplementations());
+        Assert.assertEquals(2, measurement.getNumRetainedPlanImplementations());
+        Assert.assertEquals(0, measurement.getNumExhaustedPrunings());
+    }
+
+    @Test
+    public void testRetainBestPlanWhenBudgetIsExhausted() throws InterruptedException {
+        final BudgetedPruningStrategy strategy = createStrategy(1);
+        strategy.startEnumeration();
+        Thread.sleep(10);
+
+        final PlanEnumeration planEnumeration = new PlanEnumeration();
+        final PlanImplementation best = createPlanImplementation(10, 20);
+        planEnumeration.getPlanImplementations().add(createPlanImplementation(15, 30));
+        planEnumeration.getPlanImplementations().add(best);
+        planEnumeration.getPlanImplementations().add(createPlanImplementation(12, 25));
+
+        strategy.prune(planEnumeration);
+
+        Assert.assertEquals(1, planEnumeration.getPlanImplementations().size());
+        Assert.assertTrue(planEnumeration.getPlanImplementations().contains(best));
+        Assert.assertEquals(1, strategy.createMeasurement("test").getNumExhaustedPrunings());
+    }
+
+}
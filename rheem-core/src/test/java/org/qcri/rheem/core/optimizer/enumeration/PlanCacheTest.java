@@ -0,0 +1,107 @@
+package org.qcri.rheem.core.optimizer.enumeration;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.OperatorAlternative;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.plan.rheemplan.test.TestMapOperator;
+import org.qcri.rheem.core.plan.rheemplan.test.TestSink;
+import org.qcri.rheem.core.plan.rheemplan.test.TestSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test suite for {@link PlanCache}.
+ */
+public class PlanCacheTest {
+
+    /**
+     * Creates a {@link RheemPlan} with a single {@link OperatorAlternative}.
+     */
+    private static RheemPlan createRheemPlan() {
+        TestSource<String> source = new TestSource<>(String.class);
+        TestMapOperator<String, String> map = new TestMapOperator<>(String.class, String.class);
+        TestSink<String> sink = new TestSink<>(String.class);
+        source.connectTo(0, map, 0);
+        map.connectTo(0, sink, 0);
+        OperatorAlternative operatorAlternative = OperatorAlternative.wrap(map);
+        operatorAlternative.addAlternative(new TestMapOperator<>(String.class, String.class));
+        return new RheemPlan(sink);
+    }
+
+    /**
+     * Creates an {@link OptimizationContext} for the {@code rheemPlan} with the given source cardinality.
+     */
+    private static OptimizationContext createOptimizationContext(RheemPlan rheemPlan, long sourceCardinality) {
+        OptimizationContext optimizationContext = new DefaultOptimizationContext(rheemPlan, new Configuration());
+        for (Operator source : rheemPlan.collectReachableTopLevelSources()) {
+            optimizationContext.getOperatorContext(source).setOutputCardinality(
+                    0, new CardinalityEstimate(sourceCardinality, sourceCardinality, 1d)
+            );
+        }
+        return optimizationContext;
+    }
+
+    @Test
+    public void testReuseForEquivalentPlans() {
+        final PlanCache planCache = new PlanCache(10, 2d);
+
+        final RheemPlan rheemPlan1 = createRheemPlan();
+        final OptimizationContext optimizationContext1 = createOptimizationContext(rheemPlan1, 1000);
+        final PlanCache.Fingerprint fingerprint1 = planCache.fingerprint(rheemPlan1, optimizationContext1);
+        Assert.assertNull(planCache.lookup(fingerprint1));
+
+        // Pretend to have picked the second alternative.
+        final OperatorAlternative operatorAlternative1 = findOperatorAlternative(rheemPlan1);
+        final PlanImplementation planImplementation = new PlanImplementation(null, new HashMap<>(), optimizationContext1)
+                .escape(operatorAlternative1.getAlternatives().get(1), null);
+        planCache.store(fingerprint1, planImplementation);
+
+        // An equivalent plan with a similar source cardinality should be served from the cache.
+        final RheemPlan rheemPlan2 = createRheemPlan();
+        final OptimizationContext optimizationContext2 = createOptimizationContext(rheemPlan2, 1001);
+        final PlanCache.Fingerprint fingerprint2 = planCache.fingerprint(rheemPlan2, optimizationContext2);
+        final Map<OperatorAlternative, OperatorAlternative.Alternative> cachedAlternatives = planCache.lookup(fingerprint2);
+        Assert.assertNotNull(cachedAlternatives);
+        final OperatorAlternative operatorAlternative2 = findOperatorAlternative(rheemPlan2);
+        Assert.assertEquals(1, cachedAlternatives.size());
+        Assert.assertSame(operatorAlternative2.getAlternatives().get(1), cachedAlternatives.get(operatorAlternative2));
+
+        // A notably larger source should not be served from the cache.
+        final RheemPlan rheemPlan3 = createRheemPlan();
+        final OptimizationContext optimizationContext3 = createOptimizationContext(rheemPlan3, 100000);
+        Assert.assertNull(planCache.lookup(planCache.fingerprint(rheemPlan3, optimizationContext3)));
+
+        Assert.assertEquals(1, planCache.getNumHits());
+        Assert.assertEquals(2, planCache.getNumMisses());
+    }
+
+    @Test
+    public void testEviction() {
+        final PlanCache planCache = new PlanCache(1, 2d);
+
+        final RheemPlan rheemPlan1 = createRheemPlan();
+        final OptimizationContext optimizationContext1 = createOptimizationContext(rheemPlan1, 10);
+        final PlanCache.Fingerprint fingerprint1 = planCache.fingerprint(rheemPlan1, optimizationContext1);
+        planCache.store(fingerprint1, new PlanImplementation(null, new HashMap<>(), optimizationContext1));
+        Assert.assertNotNull(planCache.lookup(fingerprint1));
+
+        final RheemPlan rheemPlan2 = createRheemPlan();
+        final OptimizationContext optimizationContext2 = createOptimizationContext(rheemPlan2, 10000);
+        final PlanCache.Fingerprint fingerprint2 = planCache.fingerprint(rheemPlan2, optimizationContext2);
+        planCache.store(fingerprint2, new PlanImplementation(null, new HashMap<>(), optimizationContext2));
+        Assert.assertNotNull(planCache.lookup(fingerprint2));
+        Assert.assertNull(planCache.lookup(fingerprint1));
+    }
+
+    private static OperatorAlternative findOperatorAlternative(RheemPlan rheemPlan) {
+        return (OperatorAlternative) rheemPlan.getSinks().iterator().next().getInput(0).getOccupant().getOwner();
+    }
+
+}
@@ -0,0 +1,249 @@
+package org.qcri.rheem.core.optimizer.enumeration;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.ProbabilisticDoubleInterval;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimatorManager;
+import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.FixedSizeCardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.SwitchForwardCardinalityEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.plan.rheemplan.OperatorAlternative;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.test.DummyExecutionOperator;
+import org.qcri.rheem.core.test.DummyReusableChannel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link PlanEnumerator}.
+ */
+public class PlanEnumeratorTest {
+
+    /**
+     * {@link DummyExecutionOperator} that exchanges {@link DummyReusableChannel}s and whose CPU load is specified
+     * as a JUEL expression.
+     */
+    private static class EstimatedDummyExecutionOperator extends DummyExecutionOperator {
+
+        private final String cpuExpression;
+
+        private EstimatedDummyExecutionOperator(String name, int numInputs, int numOutputs, String cpuExpression) {
+            super(numInputs, numOutputs, false);
+            this.setName(name);
+            this.cpuExpression = cpuExpression;
+            this.supportedInputChannelDescriptors.forEach(descriptors -> descriptors.add(DummyReusableChannel.DESCRIPTOR));
+            this.supportedOutputChannelDescriptors.forEach(descriptors -> descriptors.add(DummyReusableChannel.DESCRIPTOR));
+        }
+
+        @Override
+        public Optional<LoadProfileEstimator<ExecutionOperator>> createLoadProfileEstimator(Configuration configuration) {
+            return Optional.of(LoadProfileEstimators.createFromJuelSpecification(String.format(
+                    "{\"in\":%d, \"out\":%d, \"cpu\":\"${%s}\", \"ram\":\"0\", \"p\":0.9}",
+                    this.getNumInputs(), this.getNumOutputs(), this.cpuExpression
+            )));
+        }
+    }
+
+    /**
+     * {@link EstimatedDummyExecutionOperator} that heads a loop. Its first {@link InputSlot} and {@link OutputSlot}
+     * enter and feed the loop body, respectively, while its second ones close the loop and leave it.
+     */
+    private static class EstimatedDummyLoopHead extends EstimatedDummyExecutionOperator implements LoopHeadOperator {
+
+        private EstimatedDummyLoopHead(String name, String cpuExpression) {
+            super(name, 2, 2, cpuExpression);
+        }
+
+        @Override
+        public Collection<OutputSlot<?>> getLoopBodyOutputs() {
+            return Collections.singleton(this.getOutput(0));
+        }
+
+        @Override
+        public Collection<OutputSlot<?>> getFinalLoopOutputs() {
+            return Collections.singleton(this.getOutput(1));
+        }
+
+        @Override
+        public Collection<InputSlot<?>> getLoopBodyInputs() {
+            return Collections.singleton(this.getInput(1));
+        }
+
+        @Override
+        public Collection<InputSlot<?>> getLoopInitializationInputs() {
+            return Collections.singleton(this.getInput(0));
+        }
+
+        @Override
+        public Collection<InputSlot<?>> getConditionInputSlots() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Collection<OutputSlot<?>> getConditionOutputSlots() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public int getNumExpectedIterations() {
+            return 3;
+        }
+
+        @Override
+        public Optional<CardinalityEstimator> createCardinalityEstimator(int outputIndex, Configuration configuration) {
+            return Optional.of(new SwitchForwardCardinalityEstimator(0, 1));
+        }
+    }
+
+    @Test
+    public void testMapConcurrentlyPreservesOrder() {
+        final List<Integer> elements = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        final List<Integer> expectedResults = elements.stream().map(i -> i % 7 == 0 ? null : i * 3).collect(Collectors.toList());
+
+        Assert.assertEquals(expectedResults, PlanEnumerator.mapConcurrently(elements, i -> i % 7 == 0 ? null : i * 3, null));
+
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            Assert.assertEquals(
+                    expectedResults,
+                    PlanEnumerator.mapConcurrently(elements, i -> i % 7 == 0 ? null : i * 3, forkJoinPool)
+            );
+
+            // Nested invocations, as they happen for forked PlanEnumerators, must not block.
+            final List<List<Integer>> nestedResults = PlanEnumerator.mapConcurrently(
+                    new ArrayList<>(elements.subList(0, 8)),
+                    i -> PlanEnumerator.mapConcurrently(elements, j -> i * j, forkJoinPool),
+                    forkJoinPool
+            );
+            for (int i = 0; i < nestedResults.size(); i++) {
+                final int factor = i;
+                Assert.assertEquals(
+                        elements.stream().map(j -> factor * j).collect(Collectors.toList()),
+                        nestedResults.get(i)
+                );
+            }
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentEnumerationMatchesSequentialEnumeration() {
+        final Map<List<String>, ProbabilisticDoubleInterval> sequentialCostEstimates = enumerateCostEstimates(1);
+        final Map<List<String>, ProbabilisticDoubleInterval> concurrentCostEstimates = enumerateCostEstimates(4);
+
+        // Without pruning, we expect each combination of the two OperatorAlternatives.
+        Assert.assertEquals(4, sequentialCostEstimates.size());
+        Assert.assertEquals(sequentialCostEstimates.keySet(), concurrentCostEstimates.keySet());
+        sequentialCostEstimates.forEach((operatorNames, sequentialCostEstimate) -> {
+            final ProbabilisticDoubleInterval concurrentCostEstimate = concurrentCostEstimates.get(operatorNames);
+            Assert.assertEquals(sequentialCostEstimate.getLowerEstimate(), concurrentCostEstimate.getLowerEstimate(), 1e-6);
+            Assert.assertEquals(sequentialCostEstimate.getUpperEstimate(), concurrentCostEstimate.getUpperEstimate(), 1e-6);
+            Assert.assertEquals(sequentialCostEstimate.getCorrectnessProbability(), concurrentCostEstimate.getCorrectnessProbability(), 1e-6);
+        });
+    }
+
+    /**
+     * Creates a {@link RheemPlan} with two sources that are joined and then iterated, whereby the successor of the first
+     * source and the loop body are {@link OperatorAlternative}s.
+     */
+    private static RheemPlan createRheemPlan() {
+        final EstimatedDummyExecutionOperator source1 = new EstimatedDummyExecutionOperator("source1", 0, 1, "1000");
+        source1.setCardinalityEstimator(0, new FixedSizeCardinalityEstimator(1000));
+        final EstimatedDummyExecutionOperator map1 = new EstimatedDummyExecutionOperator("map1", 1, 1, "10*in0");
+        map1.setCardinalityEstimator(0, new DefaultCardinalityEstimator(1d, 1, false, inputCards -> inputCards[0]));
+        final EstimatedDummyExecutionOperator source2 = new EstimatedDummyExecutionOperator("source2", 0, 1, "100");
+        source2.setCardinalityEstimator(0, new FixedSizeCardinalityEstimator(100));
+        final EstimatedDummyExecutionOperator join = new EstimatedDummyExecutionOperator("join", 2, 1, "in0 + in1");
+        join.setCardinalityEstimator(0, new DefaultCardinalityEstimator(1d, 2, false, inputCards -> inputCards[0] + inputCards[1]));
+        final EstimatedDummyLoopHead loopHead = new EstimatedDummyLoopHead("loopHead", "in0 + in1");
+        final EstimatedDummyExecutionOperator body1 = new EstimatedDummyExecutionOperator("body1", 1, 1, "30*in0");
+        body1.setCardinalityEstimator(0, new DefaultCardinalityEstimator(1d, 1, false, inputCards -> inputCards[0] / 2));
+        final EstimatedDummyExecutionOperator sink = new EstimatedDummyExecutionOperator("sink", 1, 0, "in0");
+
+        source1.connectTo(0, map1, 0);
+        map1.connectTo(0, join, 0);
+        source2.connectTo(0, join, 1);
+        join.connectTo(0, loopHead, 0);
+        loopHead.connectTo(0, body1, 0);
+        body1.connectTo(0, loopHead, 1);
+        loopHead.connectTo(1, sink, 0);
+
+        final RheemPlan rheemPlan = new RheemPlan(sink);
+        rheemPlan.prepare();
+
+        // Introduce the OperatorAlternatives only now, just like the PlanTransformations do.
+        final EstimatedDummyExecutionOperator map2 = new EstimatedDummyExecutionOperator("map2", 1, 1, "20*in0");
+        map2.setCardinalityEstimator(0, new DefaultCardinalityEstimator(1d, 1, false, inputCards -> inputCards[0]));
+        OperatorAlternative.wrap(map1).addAlternative(map2);
+        final EstimatedDummyExecutionOperator body2 = new EstimatedDummyExecutionOperator("body2", 1, 1, "in0 * in0");
+        body2.setCardinalityEstimator(0, new DefaultCardinalityEstimator(1d, 1, false, inputCards -> inputCards[0] / 2));
+        OperatorAlternative.wrap(body1).addAlternative(body2);
+
+        return rheemPlan;
+    }
+
+    /**
+     * Enumerates all {@link PlanImplementation}s for a new instance of {@link #createRheemPlan()}.
+     *
+     * @param parallelism the number of threads to enumerate with
+     * @return the cost estimates of the {@link PlanImplementation}s indexed by the sorted names of their
+     * {@link ExecutionOperator}s
+     */
+    private static Map<List<String>, ProbabilisticDoubleInterval> enumerateCostEstimates(int parallelism) {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.core.optimizer.enumeration.parallelism", String.valueOf(parallelism));
+        configuration.setProperty("rheem.core.optimizer.pruning.strategies", "");
+
+        final RheemPlan rheemPlan = createRheemPlan();
+        final OptimizationContext optimizationContext = new DefaultOptimizationContext(rheemPlan, configuration);
+        new CardinalityEstimatorManager(rheemPlan, optimizationContext, configuration).pushCardinalities();
+        final PlanEnumeration planEnumeration = new PlanEnumerator(rheemPlan, optimizationContext).enumerate(true);
+
+        final Map<List<String>, ProbabilisticDoubleInterval> costEstimates = new HashMap<>();
+        for (PlanImplementation planImplementation : planEnumeration.getPlanImplementations()) {
+            final List<String> operatorNames = new ArrayList<>();
+            collectOperatorNames(planImplementation, operatorNames);
+            Collections.sort(operatorNames);
+            final ProbabilisticDoubleInterval otherCostEstimate =
+                    costEstimates.put(operatorNames, planImplementation.getCostEstimate());
+            Assert.assertNull(String.format("Duplicate plan implementation with %s.", operatorNames), otherCostEstimate);
+        }
+        return costEstimates;
+    }
+
+    /**
+     * Collects the names of the {@link ExecutionOperator}s of the given {@link PlanImplementation} including those
+     * in its {@link LoopImplementation}s.
+     */
+    private static void collectOperatorNames(PlanImplementation planImplementation, List<String> collector) {
+        for (ExecutionOperator operator : planImplementation.getOperators()) {
+            collector.add(operator.getName());
+        }
+        for (LoopImplementation loopImplementation : planImplementation.getLoopImplementations().values()) {
+            for (LoopImplementation.IterationImplementation iterationImplementation : loopImplementation.getIterationImplementations()) {
+                collectOperatorNames(iterationImplementation.getBodyImplementation(), collector);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,238 @@
+package org.qcri.rheem.core.profiling;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.platform.PartialExecution;
+import org.qcri.rheem.core.test.DummyPlatform;
+import org.qcri.rheem.core.test.SerializableDummyExecutionOperator;
+import org.qcri.rheem.core.util.RheemCollections;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link ExecutionLog}s.
+ */
+public class ExecutionLogTest {
+
+    private File tempDir;
+
+    @Before
+    public void setUp() throws IOException {
+        this.tempDir = Files.createTempDirectory("rheem-execution-log").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = this.tempDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        this.tempDir.delete();
+    }
+
+    private static PartialExecution createPartialExecution(long millis, int someProperty) {
+        final PartialExecution.OperatorExecution operatorExecution = new PartialExecution.OperatorExecution(
+                new SerializableDummyExecutionOperator(someProperty),
+                new CardinalityEstimate[]{new CardinalityEstimate(23, 42, 0.5)},
+                new CardinalityEstimate[]{null},
+                null,
+                3
+        );
+        final PartialExecution partialExecution = new PartialExecution(millis, 1.5, 2.5, Collections.singletonList(operatorExecution));
+        partialExecution.addInitializedPlatform(DummyPlatform.getInstance());
+        return partialExecution;
+    }
+
+    private String getPath(String fileName) {
+        return new File(this.tempDir, fileName).getPath();
+    }
+
+    @Test
+    public void testBinaryRoundTrip() throws Exception {
+        final String path = this.getPath("executions.bin");
+        try (ExecutionLog executionLog = ExecutionLog.open(path)) {
+            executionLog.storeAll(Arrays.asList(createPartialExecution(100L, 1), createPartialExecution(200L, 2)));
+        }
+
+        try (ExecutionLog executionLog = ExecutionLog.open(path);
+             Stream<PartialExecution> stream = executionLog.stream()) {
+            final List<PartialExecution> loaded = stream.collect(Collectors.toList());
+            Assert.assertEquals(2, loaded.size());
+
+            final PartialExecution partialExecution = loaded.get(1);
+            Assert.assertEquals(200L, partialExecution.getMeasuredExecutionTime());
+            Assert.assertEquals(1.5, partialExecution.getMeasuredLowerCost(), 0d);
+            Assert.assertEquals(2.5, partialExecution.getMeasuredUpperCost(), 0d);
+            Assert.assertSame(DummyPlatform.getInstance(), RheemCollections.getAny(partialExecution.getInitializedPlatforms()));
+
+            final PartialExecution.OperatorExecution operatorExecution =
+                    RheemCollections.getSingle(partialExecution.getOperatorExecutions());
+            Assert.assertEquals(2, ((SerializableDummyExecutionOperator) operatorExecution.getOperator()).getSomeProperty());
+            Assert.assertEquals(3, operatorExecution.getNumExecutions());
+            Assert.assertEquals(new CardinalityEstimate(23, 42, 0.5), operatorExecution.getInputCardinalities()[0]);
+            Assert.assertNull(operatorExecution.getOutputCardinalities()[0]);
+            Assert.assertNull(operatorExecution.getNestedLoadProfile());
+        }
+    }
+
+    @Test
+    public void testScans() throws Exception {
+        final String path = this.getPath("executions.bin");
+        final long startTimestamp = System.currentTimeMillis();
+        try (ExecutionLog executionLog = ExecutionLog.open(path)) {
+            executionLog.storeAll(Collections.singletonList(createPartialExecution(100L, 1)));
+            Thread.sleep(5);
+            final long middleTimestamp = System.currentTimeMillis();
+            Thread.sleep(5);
+            executionLog.storeAll(Collections.singletonList(createPartialExecution(200L, 2)));
+
+            Assert.assertEquals(
+                    Collections.singletonList(100L),
+                    executionLog.stream(startTimestamp, middleTimestamp)
+                            .map(PartialExecution::getMeasuredExecutionTime)
+                            .collect(Collectors.toList())
+            );
+            Assert.assertEquals(
+                    Collections.singletonList(200L),
+                    executionLog.stream(middleTimestamp, Long.MAX_VALUE)
+                            .map(PartialExecution::getMeasuredExecutionTime)
+                            .collect(Collectors.toList())
+            );
+            Assert.assertEquals(2, executionLog.streamInvolving(DummyPlatform.class.getName()).count());
+            Assert.assertEquals(0, executionLog.streamInvolving(String.class.getName()).count());
+        }
+
+        // The index should be rebuilt if it is lost.
+        Assert.assertTrue(new File(path + ".idx").delete());
+        try (ExecutionLog executionLog = ExecutionLog.open(path)) {
+            Assert.assertEquals(2, executionLog.streamInvolving(SerializableDummyExecutionOperator.class.getName()).count());
+        }
+    }
+
+    @Test
+    public void testJsonImportAndExport() throws Exception {
+        // Use a different base name than the binary log, which would otherwise migrate the JSON log upfront.
+        final String jsonPath = this.getPath("import.json");
+        try (ExecutionLog executionLog = ExecutionLog.open(jsonPath)) {
+            executionLog.storeAll(Arrays.asList(createPartialExecution(100L, 1), createPartialExecution(200L, 2)));
+        }
+
+        final String binaryPath = this.getPath("executions.bin");
+        try (ExecutionLog executionLog = ExecutionLog.open(binaryPath)) {
+            executionLog.importJson(jsonPath);
+            Assert.assertEquals(2, executionLog.stream().count());
+        }
+
+        final String exportPath = this.getPath("export.json");
+        try (ExecutionLog executionLog = ExecutionLog.open(binaryPath)) {
+            executionLog.exportJson(exportPath);
+        }
+        try (ExecutionLog executionLog = ExecutionLog.open(exportPath)) {
+            Assert.assertEquals(
+                    Arrays.asList(100L, 200L),
+                    executionLog.stream().map(PartialExecution::getMeasuredExecutionTime).collect(Collectors.toList())
+            );
+        }
+    }
+
+    @Test
+    public void testJsonMigration() throws Exception {
+        final String jsonPath = this.getPath("executions.json");
+        try (ExecutionLog executionLog = ExecutionLog.open(jsonPath)) {
+            executionLog.storeAll(Arrays.asList(createPartialExecution(100L, 1), createPartialExecution(200L, 2)));
+        }
+
+        // The JSON log should be imported when the binary log is created...
+        final String binaryPath = this.getPath("executions.bin");
+        try (ExecutionLog executionLog = ExecutionLog.open(binaryPath)) {
+            Assert.assertEquals(
+                    Arrays.asList(100L, 200L),
+                    executionLog.stream().map(PartialExecution::getMeasuredExecutionTime).collect(Collectors.toList())
+            );
+            executionLog.store(createPartialExecution(300L, 3));
+        }
+
+        // ...but not once more.
+        try (ExecutionLog executionLog = ExecutionLog.open(binaryPath)) {
+            Assert.assertEquals(3, executionLog.stream().count());
+        }
+    }
+
+    @Test
+    public void testTimestampsSurviveImportAndExport() throws Exception {
+        final String jsonPath = this.getPath("executions.json");
+        try (ExecutionLog executionLog = ExecutionLog.open(jsonPath)) {
+            executionLog.store(createPartialExecution(100L, 1), 1000L);
+            executionLog.store(createPartialExecution(200L, 2), 2000L);
+        }
+
+        // The imported partial executions should not be re-dated...
+        final String binaryPath = this.getPath("executions.bin");
+        try (ExecutionLog executionLog = ExecutionLog.open(binaryPath)) {
+            Assert.assertEquals(
+                    Collections.singletonList(200L),
+                    executionLog.stream(1500L, System.currentTimeMillis())
+                            .map(PartialExecution::getMeasuredExecutionTime)
+                            .collect(Collectors.toList())
+            );
+        }
+
+        // ...and neither the exported ones.
+        final String exportPath = this.getPath("export.json");
+        try (ExecutionLog executionLog = ExecutionLog.open(binaryPath)) {
+            executionLog.exportJson(exportPath);
+        }
+        try (ExecutionLog executionLog = ExecutionLog.open(exportPath)) {
+            Assert.assertEquals(
+                    Collections.singletonList(100L),
+                    executionLog.stream(0L, 1500L)
+                            .map(PartialExecution::getMeasuredExecutionTime)
+                            .collect(Collectors.toList())
+            );
+        }
+    }
+
+    @Test
+    public void testMigrationOfJsonWithoutTimestamps() throws Exception {
+        final String jsonPath = this.getPath("executions.json");
+        Files.write(
+                Paths.get(jsonPath),
+                Collections.singletonList(createPartialExecution(100L, 1).toJson().toString()),
+                StandardCharsets.UTF_8
+        );
+
+        final String binaryPath = this.getPath("executions.bin");
+        try (ExecutionLog executionLog = ExecutionLog.open(binaryPath)) {
+            executionLog.store(createPartialExecution(200L, 2));
+
+            // The partial execution of unknown time should only be streamed for time ranges starting at 0.
+            Assert.assertEquals(
+                    Collections.singletonList(200L),
+                    executionLog.stream(ExecutionLog.UNKNOWN_TIMESTAMP + 1, Long.MAX_VALUE)
+                            .map(PartialExecution::getMeasuredExecutionTime)
+                            .collect(Collectors.toList())
+            );
+            Assert.assertEquals(
+                    Arrays.asList(100L, 200L),
+                    executionLog.stream(0L, Long.MAX_VALUE)
+                            .map(PartialExecution::getMeasuredExecutionTime)
+                            .collect(Collectors.toList())
+            );
+        }
+    }
+
+}
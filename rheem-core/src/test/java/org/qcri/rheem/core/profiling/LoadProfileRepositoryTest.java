@@ -0,0 +1,180 @@
+package org.qcri.rheem.core.profiling;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.RheemContext;
+import org.qcri.rheem.core.mapping.Mapping;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
+import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.LoadProfile;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.platform.PartialExecution;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.core.plugin.Plugin;
+import org.qcri.rheem.core.test.DummyExecutionOperator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Test suite for the {@link LoadProfileRepository}.
+ */
+public class LoadProfileRepositoryTest {
+
+    private static final String LOAD_KEY = "rheem.test.dummy.load";
+
+    private static final String LOAD_SPECIFICATION = "{\"in\":1, \"out\":1, \"cpu\":\"${10*in0 + 1000}\", \"ram\":\"0\", \"p\":0.9}";
+
+    /**
+     * {@link DummyExecutionOperator} with a {@link LoadProfileEstimator} specification.
+     */
+    private static class EstimatedDummyExecutionOperator extends DummyExecutionOperator {
+
+        private EstimatedDummyExecutionOperator() {
+            super(1, 1, false);
+        }
+
+        @Override
+        public String getLoadProfileEstimatorConfigurationKey() {
+            return LOAD_KEY;
+        }
+    }
+
+    private File tempDir;
+
+    private Configuration configuration;
+
+    @Before
+    public void setUp() throws IOException {
+        this.tempDir = Files.createTempDirectory("rheem-load-profiles").toFile();
+        this.configuration = new Configuration();
+        this.configuration.setProperty("rheem.core.log.loadprofiles", new File(this.tempDir, "loadprofiles.json").getPath());
+        this.configuration.setProperty(LOAD_KEY, LOAD_SPECIFICATION);
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = this.tempDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        this.tempDir.delete();
+    }
+
+    /**
+     * Creates a {@link PartialExecution} that took twice as long as estimated.
+     */
+    private PartialExecution createPartialExecution(long inputCardinality) {
+        final ExecutionOperator operator = new EstimatedDummyExecutionOperator();
+        final OptimizationContext optimizationContext = new DefaultOptimizationContext(operator, this.configuration);
+        final OptimizationContext.OperatorContext operatorContext = optimizationContext.getOperatorContext(operator);
+        operatorContext.setInputCardinality(0, new CardinalityEstimate(inputCardinality, inputCardinality, 1d));
+        operatorContext.setOutputCardinality(0, new CardinalityEstimate(inputCardinality, inputCardinality, 1d));
+        final long measuredMillis = 2 * operatorContext.getTimeEstimate().getAverageEstimate();
+        return new PartialExecution(measuredMillis, 0d, 0d, Collections.singletonList(operatorContext));
+    }
+
+    @Test
+    public void testLearnAndApply() {
+        LoadProfileRepository repository = new LoadProfileRepository(this.configuration);
+        repository.learnAll(Collections.singletonList(this.createPartialExecution(100_000_000L)), this.configuration);
+        repository.learnAll(Collections.singletonList(this.createPartialExecution(200_000_000L)), this.configuration);
+
+        // Not enough observations yet.
+        Configuration newConfiguration = this.configuration.fork();
+        Assert.assertEquals(0, repository.applyTo(newConfiguration));
+
+        repository.learnAll(Collections.singletonList(this.createPartialExecution(400_000_000L)), this.configuration);
+        repository.save();
+
+        // The learned load profile should survive a new instance and double the CPU load.
+        repository = new LoadProfileRepository(this.configuration);
+        newConfiguration = this.configuration.fork();
+        Assert.assertEquals(1, repository.applyTo(newConfiguration));
+        final LoadProfileEstimator<ExecutionOperator> estimator =
+                LoadProfileEstimators.createFromJuelSpecification(newConfiguration.getStringProperty(LOAD_KEY));
+        final LoadProfile loadProfile = estimator.estimate(
+                new EstimatedDummyExecutionOperator(),
+                new CardinalityEstimate[]{new CardinalityEstimate(300_000_000L, 300_000_000L, 1d)},
+                new CardinalityEstimate[]{new CardinalityEstimate(300_000_000L, 300_000_000L, 1d)}
+        );
+        Assert.assertEquals(6_000_000_000d, loadProfile.getCpuUsage().getAverageEstimate(), 0.01 * 6_000_000_000d);
+    }
+
+    @Test
+    public void testApplyToJobsOfRheemContextWithPlugin() {
+        LoadProfileRepository repository = new LoadProfileRepository(this.configuration);
+        repository.learnAll(Collections.singletonList(this.createPartialExecution(100_000_000L)), this.configuration);
+        repository.learnAll(Collections.singletonList(this.createPartialExecution(200_000_000L)), this.configuration);
+        repository.learnAll(Collections.singletonList(this.createPartialExecution(400_000_000L)), this.configuration);
+        repository.save();
+
+        // Only the Plugin provides the specification, just like the platform defaults.
+        Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.core.log.loadprofiles", this.configuration.getStringProperty("rheem.core.log.loadprofiles"));
+        configuration.setProperty("rheem.core.optimizer.costs.learned", "true");
+        Plugin plugin = new Plugin() {
+            @Override
+            public Collection<Platform> getRequiredPlatforms() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Collection<Mapping> getMappings() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public Collection<ChannelConversion> getChannelConversions() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public void setProperties(Configuration configuration) {
+                configuration.setProperty(LOAD_KEY, LOAD_SPECIFICATION);
+            }
+        };
+        RheemContext rheemContext = new RheemContext(configuration).with(plugin);
+        Assert.assertEquals(LOAD_SPECIFICATION, rheemContext.getConfiguration().getStringProperty(LOAD_KEY));
+
+        Job job = rheemContext.createJob(null, new RheemPlan());
+        final LoadProfileEstimator<ExecutionOperator> estimator =
+                LoadProfileEstimators.createFromJuelSpecification(job.getConfiguration().getStringProperty(LOAD_KEY));
+        final LoadProfile loadProfile = estimator.estimate(
+                new EstimatedDummyExecutionOperator(),
+                new CardinalityEstimate[]{new CardinalityEstimate(300_000_000L, 300_000_000L, 1d)},
+                new CardinalityEstimate[]{new CardinalityEstimate(300_000_000L, 300_000_000L, 1d)}
+        );
+        Assert.assertEquals(6_000_000_000d, loadProfile.getCpuUsage().getAverageEstimate(), 0.01 * 6_000_000_000d);
+    }
+
+    @Test
+    public void testKeepOutputDependentSpecifications() {
+        LoadProfileRepository repository = new LoadProfileRepository(this.configuration);
+        repository.learnAll(Collections.singletonList(this.createPartialExecution(100_000_000L)), this.configuration);
+        repository.learnAll(Collections.singletonList(this.createPartialExecution(200_000_000L)), this.configuration);
+        repository.learnAll(Collections.singletonList(this.createPartialExecution(400_000_000L)), this.configuration);
+
+        // The learned load profile regresses on the input cardinalities and must not replace this specification.
+        final String specification = "{\"in\":1, \"out\":1, \"cpu\":\"${21*out0 + 900000}\", \"ram\":\"0\", \"p\":0.9}";
+        Configuration newConfiguration = this.configuration.fork();
+        newConfiguration.setProperty(LOAD_KEY, specification);
+        Assert.assertEquals(0, repository.applyTo(newConfiguration));
+        Assert.assertEquals(specification, newConfiguration.getStringProperty(LOAD_KEY));
+    }
+
+}
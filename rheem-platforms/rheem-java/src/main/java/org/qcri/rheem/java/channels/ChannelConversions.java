@@ -24,6 +24,18 @@ public class ChannelConversions {
 
     // We could add a COLLECTION_TO_STREAM conversion, but it would probably never be used.
 
+    public static final ChannelConversion STREAM_TO_PIPE = new DefaultChannelConversion(
+            StreamChannel.DESCRIPTOR,
+            PipeChannel.DESCRIPTOR,
+            () -> new JavaPipeOperator<>(DataSetType.createDefault(Void.class))
+    );
+
+    public static final ChannelConversion PIPE_TO_STREAM = new DefaultChannelConversion(
+            PipeChannel.DESCRIPTOR,
+            StreamChannel.DESCRIPTOR,
+            () -> new JavaPipeSource<>(DataSetType.createDefault(Void.class))
+    );
+
     public static final ChannelConversion STREAM_TO_HDFS_TSV = new DefaultChannelConversion(
             StreamChannel.DESCRIPTOR,
             FileChannel.HDFS_TSV_DESCRIPTOR,
@@ -62,6 +74,8 @@ public class ChannelConversions {
 
     public static Collection<ChannelConversion> ALL = Arrays.asList(
             STREAM_TO_COLLECTION,
+            STREAM_TO_PIPE,
+            PIPE_TO_STREAM,
             STREAM_TO_HDFS_OBJECT_FILE,
             COLLECTION_TO_HDFS_OBJECT_FILE,
             HDFS_OBJECT_FILE_TO_STREAM,
@@ -6,9 +6,13 @@ import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.platform.AbstractChannelInstance;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -50,12 +54,26 @@ public class CollectionChannel extends Channel {
 
         private Collection<?> collection;
 
+        /**
+         * Data structures derived from the {@link #collection} that are retained for the lifetime of this instance.
+         *
+         * @see #getOrCreateIndex(Object, Function)
+         */
+        private Map<Object, Object> indexes;
+
+        /**
+         * Whether {@link Stream}s on the {@link #collection} should be processed in parallel.
+         */
+        private final boolean isParallel;
+
         public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
             super(executor, producerOperatorContext, producerOutputIndex);
+            this.isParallel = executor instanceof JavaExecutor && ((JavaExecutor) executor).isParallel();
         }
 
         public void accept(Collection<?> collection) {
             this.collection = collection;
+            this.indexes = null;
             this.setMeasuredCardinality(this.collection.size());
         }
 
@@ -64,10 +82,32 @@ public class CollectionChannel extends Channel {
             return (Collection<T>) this.collection;
         }
 
+        /**
+         * Provides a data structure derived from the {@link #collection}, e.g., a hash table. It is created only
+         * once per {@code key} and retained until this instance is disposed. This pays off for loop-invariant
+         * inputs, because their instances are kept alive across all iterations of the enclosing loop.
+         *
+         * @param key          identifies the data structure; typically involves the consuming operator
+         * @param indexFactory creates the data structure from the {@link #collection}
+         * @return the data structure
+         */
+        @SuppressWarnings("unchecked")
+        public synchronized <T, I> I getOrCreateIndex(Object key, Function<Collection<T>, I> indexFactory) {
+            if (this.indexes == null) {
+                this.indexes = new HashMap<>(2);
+            }
+            I index = (I) this.indexes.get(key);
+            if (index == null) {
+                index = indexFactory.apply((Collection<T>) this.collection);
+                this.indexes.put(key, index);
+            }
+            return index;
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public <T> Stream<T> provideStream() {
-            return (Stream<T>) this.collection.stream();
+            return (Stream<T>) (this.isParallel ? this.collection.parallelStream() : this.collection.stream());
         }
 
         @Override
@@ -78,6 +118,7 @@ public class CollectionChannel extends Channel {
         @Override
         protected void doDispose() {
             this.collection = null;
+            this.indexes = null;
         }
 
     }
@@ -0,0 +1,410 @@
+package org.qcri.rheem.java.channels;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.AbstractChannelInstance;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.core.platform.ExecutorTemplate;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.java.execution.JavaExecutor;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Channel} that hands over data quanta between {@link Executor}s in batches while the producer is still
+ * running. The batches are kept in a bounded buffer: a producer that runs ahead of its consumer is blocked until the
+ * consumer catches up. In contrast to the {@link CollectionChannel}, the data quanta are thus never materialized as a
+ * whole.
+ */
+public class PipeChannel extends Channel {
+
+    private static final boolean IS_REUSABLE = false;
+
+    private static final boolean IS_INTERNAL = false;
+
+    public static final ChannelDescriptor DESCRIPTOR = new ChannelDescriptor(PipeChannel.class, IS_REUSABLE, true, !IS_INTERNAL);
+
+    public PipeChannel(ChannelDescriptor descriptor, OutputSlot<?> outputSlot) {
+        super(descriptor, outputSlot);
+        assert descriptor == DESCRIPTOR;
+    }
+
+    private PipeChannel(PipeChannel parent) {
+        super(parent);
+    }
+
+    @Override
+    public PipeChannel copy() {
+        return new PipeChannel(this);
+    }
+
+    @Override
+    public Instance createInstance(Executor executor,
+                                   OptimizationContext.OperatorContext producerOperatorContext,
+                                   int producerOutputIndex) {
+        return new Instance(executor, producerOperatorContext, producerOutputIndex);
+    }
+
+    /**
+     * {@link JavaChannelInstance} implementation for the {@link PipeChannel}. A background task pulls the data
+     * quanta from the producer and puts them into the buffer. As the producer finishes only after its
+     * {@link org.qcri.rheem.core.plan.executionplan.ExecutionStage} has been reported as executed, it registers its
+     * execution time and cardinalities itself. Until then, it retains the {@link ChannelInstance}s it depends on.
+     */
+    public class Instance extends AbstractChannelInstance implements JavaChannelInstance {
+
+        /**
+         * Marks the end of the data quanta in the {@link #buffer}.
+         */
+        private final List<?> endOfPipe = Collections.emptyList();
+
+        /**
+         * Buffers batches of data quanta. Created as soon as the producer is started.
+         */
+        private BlockingQueue<List<?>> buffer;
+
+        /**
+         * The thread that is currently pulling data quanta from the producer or {@code null} if none.
+         */
+        private volatile Thread producerThread;
+
+        /**
+         * Set if the producer failed or has been cancelled.
+         */
+        private volatile Throwable producerFailure;
+
+        /**
+         * Set once this instance has been disposed. Producer and consumer give up then.
+         */
+        private volatile boolean isCancelled = false;
+
+        /**
+         * Nanoseconds that the producer spent waiting for the consumer.
+         */
+        private long producerWaitNanos = 0L;
+
+        /**
+         * Registers the execution of the producer once it has finished; {@code null} if none.
+         */
+        private ExecutorTemplate producerExecutor;
+
+        /**
+         * {@link OptimizationContext.OperatorContext}s and {@link ChannelInstance}s that the producer executes lazily.
+         */
+        private Tuple<Collection<OptimizationContext.OperatorContext>, Collection<ChannelInstance>> producerLineage;
+
+        /**
+         * {@link ChannelInstance}s that the producer depends on. We hold a reference on them until it finishes.
+         */
+        private Collection<ChannelInstance> retainedChannelInstances = Collections.emptyList();
+
+        /**
+         * Whether the {@link #buffer} has been handed out to a consumer.
+         */
+        private boolean isConsumed = false;
+
+        public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
+            super(executor, producerOperatorContext, producerOutputIndex);
+        }
+
+        /**
+         * Starts to pull the data quanta of the given {@link Stream} into this instance in a background thread.
+         *
+         * @param stream    provides the data quanta
+         * @param batchSize the number of data quanta per batch
+         * @param capacity  the maximum number of buffered batches
+         */
+        public void accept(Stream<?> stream, int batchSize, int capacity) {
+            this.accept(stream.iterator(), new ChannelInstance[0], null, null, batchSize, capacity);
+        }
+
+        /**
+         * Starts to pull the data quanta of the given {@link Iterator} into this instance. The lazily executed
+         * lineage of the {@code inputs} is attributed to the producer and registered with the
+         * {@code producerExecutor} as soon as the producer has finished.
+         *
+         * @param iterator                provides the data quanta
+         * @param inputs                  the {@link ChannelInstance}s that the {@code iterator} is derived from
+         * @param producerOperatorContext the {@link OptimizationContext.OperatorContext} of the producing
+         *                                {@link org.qcri.rheem.core.plan.rheemplan.ExecutionOperator} or {@code null}
+         * @param producerExecutor        executes the producer and registers its execution; if {@code null}, the
+         *                                producer runs in a dedicated thread and is not registered
+         * @param batchSize               the number of data quanta per batch
+         * @param capacity                the maximum number of buffered batches
+         */
+        public void accept(Iterator<?> iterator,
+                           ChannelInstance[] inputs,
+                           OptimizationContext.OperatorContext producerOperatorContext,
+                           ExecutorTemplate producerExecutor,
+                           int batchSize,
+                           int capacity) {
+            assert this.buffer == null;
+            this.buffer = new ArrayBlockingQueue<>(Math.max(1, capacity));
+            this.producerExecutor = producerExecutor;
+
+            // Take over the lazily executed lineage, so that the consumer does not account for it.
+            this.producerLineage = new Tuple<>(new LinkedList<>(), new LinkedList<>());
+            for (ChannelInstance input : inputs) {
+                input.getLazyChannelLineage().collectAndMark(
+                        this.producerLineage.getField0(), this.producerLineage.getField1()
+                );
+            }
+            if (producerOperatorContext != null) {
+                this.producerLineage.getField0().add(producerOperatorContext);
+            }
+            this.producerLineage.getField1().add(this);
+            this.markProduced();
+
+            // Make sure that the inputs are not disposed while the producer is running.
+            final Set<ChannelInstance> retainedChannelInstances = new LinkedHashSet<>(Arrays.asList(inputs));
+            retainedChannelInstances.addAll(this.producerLineage.getField1());
+            retainedChannelInstances.remove(this);
+            retainedChannelInstances.forEach(ChannelInstance::noteObtainedReference);
+            this.retainedChannelInstances = retainedChannelInstances;
+
+            final Runnable producer = () -> this.produce(iterator, Math.max(1, batchSize));
+            try {
+                if (producerExecutor instanceof JavaExecutor) {
+                    ((JavaExecutor) producerExecutor).executeInBackground(producer);
+                } else {
+                    final Thread thread = new Thread(producer, "rheem-pipe");
+                    thread.setDaemon(true);
+                    thread.start();
+                }
+            } catch (RejectedExecutionException e) {
+                this.releaseRetainedChannelInstances();
+                throw new RheemException(String.format("Could not start the producer of %s.", this), e);
+            }
+        }
+
+        /**
+         * Moves the data quanta from the {@code iterator} to the {@link #buffer}. Once done, registers the execution
+         * with the {@link #producerExecutor} and releases the {@link #retainedChannelInstances}.
+         */
+        private void produce(Iterator<?> iterator, int batchSize) {
+            this.producerThread = Thread.currentThread();
+            final long startTime = System.currentTimeMillis();
+            long numDataQuanta = 0L;
+            boolean isComplete = false;
+            try {
+                List<Object> batch = new ArrayList<>(batchSize);
+                while (!this.isCancelled && iterator.hasNext()) {
+                    batch.add(iterator.next());
+                    if (batch.size() >= batchSize) {
+                        if (!this.transfer(batch)) break;
+                        numDataQuanta += batch.size();
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!this.isCancelled && (batch.isEmpty() || this.transfer(batch))) {
+                    numDataQuanta += batch.size();
+                    isComplete = true;
+                }
+            } catch (InterruptedException e) {
+                // We have been cancelled.
+            } catch (Throwable t) {
+                this.producerFailure = t;
+            } finally {
+                this.producerThread = null;
+                // Do not leak an interrupt from #doDispose() to the next task of the thread.
+                Thread.interrupted();
+            }
+
+            try {
+                if (isComplete) {
+                    // Register the execution before the consumer can see the end of the pipe.
+                    this.setMeasuredCardinality(numDataQuanta);
+                    if (this.producerExecutor != null) {
+                        final long executionMillis = System.currentTimeMillis() - startTime
+                                - this.producerWaitNanos / 1000000L;
+                        this.producerExecutor.registerAsynchronousExecution(
+                                this.producerLineage.getField0(),
+                                this.producerLineage.getField1(),
+                                Math.max(0L, executionMillis)
+                        );
+                    }
+                } else if (this.producerFailure == null) {
+                    this.producerFailure = new RheemException(String.format("The producer of %s has been cancelled.", this));
+                }
+            } catch (Throwable t) {
+                LoggerFactory.getLogger(this.getClass()).error("Could not register the execution of {}.", this, t);
+            } finally {
+                this.releaseRetainedChannelInstances();
+                try {
+                    this.transfer(this.endOfPipe);
+                } catch (InterruptedException e) {
+                    // We have been cancelled, so there is no consumer to notify.
+                }
+            }
+        }
+
+        /**
+         * Puts the given batch into the {@link #buffer}, waiting for the consumer if necessary.
+         *
+         * @return whether the batch was transferred; {@code false} if this instance has been cancelled
+         */
+        private boolean transfer(List<?> batch) throws InterruptedException {
+            final long startNanos = System.nanoTime();
+            final Transfer transfer = new Transfer(batch);
+            try {
+                // Do not starve the ForkJoinPool that we might be running in.
+                ForkJoinPool.managedBlock(transfer);
+                return transfer.isTransferred && !this.isCancelled;
+            } finally {
+                this.producerWaitNanos += System.nanoTime() - startNanos;
+            }
+        }
+
+        /**
+         * Puts a batch into the {@link #buffer} as soon as there is space or gives up if this instance is cancelled.
+         */
+        private class Transfer implements ForkJoinPool.ManagedBlocker {
+
+            private final List<?> batch;
+
+            private boolean isTransferred = false;
+
+            private Transfer(List<?> batch) {
+                this.batch = batch;
+            }
+
+            @Override
+            public boolean block() throws InterruptedException {
+                this.isTransferred = Instance.this.buffer.offer(this.batch, 100, TimeUnit.MILLISECONDS);
+                return this.isTransferred || Instance.this.isCancelled;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                if (!this.isTransferred && !Instance.this.isCancelled) {
+                    this.isTransferred = Instance.this.buffer.offer(this.batch);
+                }
+                return this.isTransferred || Instance.this.isCancelled;
+            }
+        }
+
+        /**
+         * Releases the references on the {@link #retainedChannelInstances}.
+         */
+        private synchronized void releaseRetainedChannelInstances() {
+            this.retainedChannelInstances.forEach(channelInstance -> channelInstance.noteDiscardedReference(true));
+            this.retainedChannelInstances = Collections.emptyList();
+        }
+
+        /**
+         * Provides the batches of data quanta as they become available. The returned {@link Iterator} blocks until the
+         * next batch arrives. This method may only be called once.
+         *
+         * @return the batches
+         */
+        public <T> Iterator<List<T>> provideBatches() {
+            return this.provideBatches(null);
+        }
+
+        /**
+         * Provides the batches of data quanta as they become available. The returned {@link Iterator} blocks until the
+         * next batch arrives. This method may only be called once.
+         *
+         * @param consumerExecutor is notified of the time spent waiting for the producer or {@code null}
+         * @return the batches
+         */
+        @SuppressWarnings("unchecked")
+        public <T> Iterator<List<T>> provideBatches(ExecutorTemplate consumerExecutor) {
+            assert this.buffer != null : String.format("%s has not been fed.", this);
+            if (this.isConsumed) {
+                throw new RheemException(String.format("%s can be consumed only once.", this));
+            }
+            this.isConsumed = true;
+
+            return new Iterator<List<T>>() {
+
+                private List<T> next;
+
+                @Override
+                public boolean hasNext() {
+                    this.ensureNext();
+                    return this.next != Instance.this.endOfPipe;
+                }
+
+                @Override
+                public List<T> next() {
+                    if (!this.hasNext()) throw new NoSuchElementException();
+                    final List<T> batch = this.next;
+                    this.next = null;
+                    return batch;
+                }
+
+                private void ensureNext() {
+                    if (this.next != null) return;
+                    final long startTime = System.currentTimeMillis();
+                    try {
+                        while ((this.next = (List<T>) Instance.this.buffer.poll(100, TimeUnit.MILLISECONDS)) == null) {
+                            if (Instance.this.isCancelled) {
+                                throw new RheemException(String.format("%s has been disposed.", Instance.this));
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RheemException("Interrupted while waiting for data quanta.", e);
+                    } finally {
+                        if (consumerExecutor != null) {
+                            consumerExecutor.noteIdleTime(System.currentTimeMillis() - startTime);
+                        }
+                    }
+                    if (this.next == Instance.this.endOfPipe) {
+                        // Keep the end marker around for repeated calls.
+                        Instance.this.buffer.offer(Instance.this.endOfPipe);
+                        if (Instance.this.producerFailure != null) {
+                            throw new RheemException("Producer of the pipe failed.", Instance.this.producerFailure);
+                        }
+                    }
+                }
+            };
+        }
+
+        @Override
+        public <T> Stream<T> provideStream() {
+            return this.provideStream(null);
+        }
+
+        /**
+         * Provides the data quanta as a {@link Stream}. This method may only be called once.
+         *
+         * @param consumerExecutor is notified of the time spent waiting for the producer or {@code null}
+         * @return the data quanta
+         */
+        public <T> Stream<T> provideStream(ExecutorTemplate consumerExecutor) {
+            final Iterator<List<T>> batches = this.provideBatches(consumerExecutor);
+            final Spliterator<List<T>> spliterator = Spliterators.spliteratorUnknownSize(batches, Spliterator.NONNULL);
+            return StreamSupport.stream(spliterator, false).flatMap(List::stream);
+        }
+
+        @Override
+        public Channel getChannel() {
+            return PipeChannel.this;
+        }
+
+        @Override
+        protected void doDispose() {
+            this.isCancelled = true;
+            final Thread producerThread = this.producerThread;
+            if (producerThread != null) {
+                producerThread.interrupt();
+            }
+        }
+
+    }
+
+}
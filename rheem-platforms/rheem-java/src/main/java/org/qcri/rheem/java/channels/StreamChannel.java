@@ -7,10 +7,12 @@ import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.platform.AbstractChannelInstance;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
 
 import java.util.Collection;
 import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 /**
@@ -116,19 +118,25 @@ public class StreamChannel extends Channel {
         // In principle, we could use Stream#onClose() to make sure that we really counted the cardinality (so as to
         // detect, when the cardinality is 0 because the #stream has not been fully executed for whatever reason).
         // However, this would require to call Stream#close() on all methods.
-        private long cardinality = 0;
+        private final LongAdder cardinality = new LongAdder();
+
+        /**
+         * Whether the {@link #stream} should be processed in parallel.
+         */
+        private final boolean isParallel;
 
         public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
             super(executor, producerOperatorContext, producerOutputIndex);
+            this.isParallel = executor instanceof JavaExecutor && ((JavaExecutor) executor).isParallel();
         }
 
 
         public <T> void accept(Stream<T> stream) {
             assert this.stream == null;
-            this.stream = stream;
+            this.stream = this.isParallel ? stream.parallel() : stream;
             if (this.isMarkedForInstrumentation()) {
                 this.stream = this.stream.filter(dataQuantum -> {
-                    this.cardinality += 1;
+                    this.cardinality.increment();
                     return true;
                 });
             }
@@ -136,7 +144,7 @@ public class StreamChannel extends Channel {
 
         public void accept(Collection<?> collection) {
             assert this.stream == null;
-            this.stream = collection.stream();
+            this.stream = this.isParallel ? collection.parallelStream() : collection.stream();
             this.setMeasuredCardinality(collection.size());
         }
 
@@ -153,7 +161,8 @@ public class StreamChannel extends Channel {
 
         @Override
         public OptionalLong getMeasuredCardinality() {
-            return this.cardinality == 0 ? super.getMeasuredCardinality() : OptionalLong.of(this.cardinality);
+            final long cardinality = this.cardinality.sum();
+            return cardinality == 0 ? super.getMeasuredCardinality() : OptionalLong.of(cardinality);
         }
 
         @Override
@@ -18,6 +18,9 @@ import org.qcri.rheem.java.platform.JavaPlatform;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * {@link Executor} implementation for the {@link JavaPlatform}.
@@ -28,10 +31,22 @@ public class JavaExecutor extends PushExecutorTemplate {
 
     private final FunctionCompiler compiler;
 
+    /**
+     * Executes parallel {@link java.util.stream.Stream}s if the parallel mode is enabled; otherwise {@code null}.
+     */
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * Runs background tasks in the sequential mode; created on demand.
+     */
+    private ExecutorService backgroundPool;
+
     public JavaExecutor(JavaPlatform javaPlatform, Job job) {
         super(job);
         this.platform = javaPlatform;
         this.compiler = new FunctionCompiler(job.getConfiguration());
+        final int parallelism = javaPlatform.getParallelism(job.getConfiguration());
+        this.forkJoinPool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
     }
 
     @Override
@@ -55,21 +70,32 @@ public class JavaExecutor extends PushExecutorTemplate {
         final Collection<OptimizationContext.OperatorContext> operatorContexts;
         final Collection<ChannelInstance> producedChannelInstances;
         long startTime = System.currentTimeMillis();
+        final long startIdleMillis = this.getIdleMillis();
         try {
+            // Parallel streams run in the ForkJoinPool that triggers their terminal operation, so we go through
+            // the #forkJoinPool in the parallel mode.
             final Tuple<Collection<OptimizationContext.OperatorContext>, Collection<ChannelInstance>> results =
-                    cast(task.getOperator()).evaluate(
-                            toArray(inputChannelInstances),
-                            outputChannelInstances,
-                            this,
-                            producerOperatorContext
-                    );
+                    this.forkJoinPool == null ?
+                            cast(task.getOperator()).evaluate(
+                                    toArray(inputChannelInstances),
+                                    outputChannelInstances,
+                                    this,
+                                    producerOperatorContext
+                            ) :
+                            this.forkJoinPool.submit(() -> cast(task.getOperator()).evaluate(
+                                    toArray(inputChannelInstances),
+                                    outputChannelInstances,
+                                    this,
+                                    producerOperatorContext
+                            )).join();
             operatorContexts = results.getField0();
             producedChannelInstances = results.getField1();
         } catch (Exception e) {
             throw new RheemException(String.format("Executing %s failed.", task), e);
         }
         long endTime = System.currentTimeMillis();
-        long executionDuration = endTime - startTime;
+        // Do not account for the time spent waiting for other Executors.
+        long executionDuration = Math.max(0L, endTime - startTime - (this.getIdleMillis() - startIdleMillis));
 
         // Check how much we executed.
         PartialExecution partialExecution = this.createPartialExecution(operatorContexts, executionDuration);
@@ -121,4 +147,48 @@ public class JavaExecutor extends PushExecutorTemplate {
     public FunctionCompiler getCompiler() {
         return this.compiler;
     }
+
+    /**
+     * Tells whether this instance executes {@link java.util.stream.Stream}s in parallel.
+     *
+     * @return whether the parallel mode is enabled
+     */
+    public boolean isParallel() {
+        return this.forkJoinPool != null;
+    }
+
+    /**
+     * Runs a long-running task, such as the producer of a {@link org.qcri.rheem.java.channels.PipeChannel}, in the
+     * background. In the parallel mode, the task runs in the pool of this instance. In any case, the task is
+     * interrupted once this instance is disposed.
+     *
+     * @param task that should be run
+     */
+    public synchronized void executeInBackground(Runnable task) {
+        if (this.forkJoinPool != null) {
+            this.forkJoinPool.execute(task);
+            return;
+        }
+        if (this.backgroundPool == null) {
+            this.backgroundPool = Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "rheem-java-background");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.backgroundPool.execute(task);
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (this.forkJoinPool != null) {
+            this.forkJoinPool.shutdownNow();
+        }
+        synchronized (this) {
+            if (this.backgroundPool != null) {
+                this.backgroundPool.shutdownNow();
+            }
+        }
+    }
 }
@@ -2,6 +2,7 @@ package org.qcri.rheem.java.operators;
 
 import org.qcri.rheem.basic.operators.DistinctOperator;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.ChannelInstance;
@@ -11,11 +12,17 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.HashAggregation;
+import org.qcri.rheem.java.util.HashAggregationTable;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Java implementation of the {@link DistinctOperator}.
@@ -52,7 +59,33 @@ public class JavaDistinctOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream().distinct());
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final long memoryBudget = javaExecutor.getCompiler().getConfiguration()
+                .getLongProperty("rheem.java.aggregation.budget", -1L);
+        final CardinalityEstimate outputCardinality = operatorContext.getOutputCardinality(0);
+        final long expectedNumGroups = outputCardinality == null ? 1000 : outputCardinality.getUpperEstimate();
+        final Stream<Type> distinctStream;
+        if (inputStream.isParallel() && memoryBudget < 0) {
+            // The encounter order is not relevant, but dropping it makes the parallel distinct much cheaper.
+            distinctStream = inputStream.unordered().distinct();
+        } else if (memoryBudget < 0) {
+            final HashAggregationTable<Type, Type> seenDataQuanta = new HashAggregationTable<>(expectedNumGroups);
+            distinctStream = inputStream.filter(dataQuantum -> seenDataQuanta.aggregate(
+                    dataQuantum, dataQuantum, Function.identity(), (first, duplicate) -> first
+            ));
+        } else {
+            final HashAggregation<Type, Type, Type> aggregation = new HashAggregation<>(
+                    Function.identity(), Function.identity(), (first, duplicate) -> first, (first, duplicate) -> first,
+                    expectedNumGroups, memoryBudget
+            );
+            // Defer the aggregation until the output is consumed.
+            distinctStream = StreamSupport.stream(
+                    () -> Spliterators.spliteratorUnknownSize(aggregation.aggregate(inputStream.iterator()), 0),
+                    0,
+                    false
+            );
+        }
+        ((StreamChannel.Instance) outputs[0]).accept(distinctStream);
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
@@ -1,7 +1,10 @@
 package org.qcri.rheem.java.operators;
 
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.util.Tuple;
@@ -12,6 +15,7 @@ import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.platform.JavaPlatform;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -64,4 +68,37 @@ public interface JavaExecutionOperator extends ExecutionOperator {
         output.getLazyChannelLineage().copyRootFrom(input.getLazyChannelLineage());
     }
 
+    /**
+     * Utility method for operators that materialize their smaller input and resort to a spilling strategy once it
+     * exceeds the {@code rheem.java.join.budget}. Combines the {@link LoadProfileEstimator}s of both strategies,
+     * such that the optimizer can anticipate which one will be taken.
+     *
+     * @param inMemoryEstimator estimates the in-memory strategy
+     * @param spillingEstimator estimates the spilling strategy
+     * @param configuration     provides the memory budget
+     * @return the combined {@link LoadProfileEstimator} or the {@code inMemoryEstimator} if spilling is disabled
+     */
+    static Optional<LoadProfileEstimator<ExecutionOperator>> combineSpillingLoadProfileEstimator(
+            Optional<LoadProfileEstimator<ExecutionOperator>> inMemoryEstimator,
+            Optional<LoadProfileEstimator<ExecutionOperator>> spillingEstimator,
+            Configuration configuration) {
+        final long memoryBudget = configuration.getLongProperty("rheem.java.join.budget", -1L);
+        if (memoryBudget < 0 || !inMemoryEstimator.isPresent() || !spillingEstimator.isPresent()) {
+            return inMemoryEstimator;
+        }
+        return Optional.of((operator, inputEstimates, outputEstimates) -> {
+            // The smaller input is materialized.
+            long materializedCardinality = Long.MAX_VALUE;
+            for (CardinalityEstimate inputEstimate : inputEstimates) {
+                if (inputEstimate != null) {
+                    materializedCardinality = Math.min(materializedCardinality, inputEstimate.getUpperEstimate());
+                }
+            }
+            final LoadProfileEstimator<ExecutionOperator> estimator = materializedCardinality > memoryBudget ?
+                    spillingEstimator.get() :
+                    inMemoryEstimator.get();
+            return estimator.estimate(operator, inputEstimates, outputEstimates);
+        });
+    }
+
 }
@@ -1,8 +1,11 @@
 package org.qcri.rheem.java.operators;
 
 import org.qcri.rheem.basic.operators.IntersectOperator;
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.ChannelInstance;
@@ -12,9 +15,14 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.HashPartitioner;
+import org.qcri.rheem.java.util.SpillFile;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -53,36 +61,107 @@ public class JavaIntersectOperator<Type>
         // Strategy:
         // 1) Create a probing table for the smaller input. This must be a set to deal with duplicates there.
         // 2) Probe the greater input against the table. Remove on probing to deal with duplicates there.
+        // If the probing table exceeds the memory budget, both inputs are hash-partitioned to disk and the above
+        // strategy is applied to each pair of partitions.
 
         final CardinalityEstimate cardinalityEstimate0 = operatorContext.getInputCardinality(0);
-        final CardinalityEstimate cardinalityEstimate1 = operatorContext.getOutputCardinality(0);
+        final CardinalityEstimate cardinalityEstimate1 = operatorContext.getInputCardinality(1);
 
         boolean isMaterialize0 = cardinalityEstimate0 != null &&
                 cardinalityEstimate1 != null &&
                 cardinalityEstimate0.getUpperEstimate() <= cardinalityEstimate1.getUpperEstimate();
+        final long memoryBudget = javaExecutor.getCompiler().getConfiguration().getLongProperty("rheem.java.join.budget", -1L);
 
         final Collection<OptimizationContext.OperatorContext> executedOperatorContexts = new LinkedList<>();
         final Collection<ChannelInstance> producedChannelInstances = new LinkedList<>();
-        final Stream<Type> candidateStream;
-        final Set<Type> probingTable;
+        final Stream<Type> intersectStream;
         if (isMaterialize0) {
-            candidateStream = ((JavaChannelInstance) inputs[0]).provideStream();
-            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[1]).provideStream());
+            intersectStream = this.intersect(
+                    ((JavaChannelInstance) inputs[0]).provideStream(),
+                    ((JavaChannelInstance) inputs[1]).provideStream(),
+                    cardinalityEstimate0.getUpperEstimate(),
+                    memoryBudget
+            );
             inputs[0].getLazyChannelLineage().collectAndMark(executedOperatorContexts, producedChannelInstances);
             outputs[0].addPredecessor(inputs[1]);
         } else {
-            candidateStream = ((JavaChannelInstance) inputs[1]).provideStream();
-            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[0]).provideStream());
+            intersectStream = this.intersect(
+                    ((JavaChannelInstance) inputs[1]).provideStream(),
+                    ((JavaChannelInstance) inputs[0]).provideStream(),
+                    cardinalityEstimate1 == null ? 1000 : cardinalityEstimate1.getUpperEstimate(),
+                    memoryBudget
+            );
             inputs[1].getLazyChannelLineage().collectAndMark(executedOperatorContexts, producedChannelInstances);
             outputs[0].addPredecessor(inputs[0]);
         }
 
-        Stream<Type> intersectStream = candidateStream.filter(probingTable::remove);
         ((StreamChannel.Instance) outputs[0]).accept(intersectStream);
 
         return new Tuple<>(executedOperatorContexts, producedChannelInstances);
     }
 
+    /**
+     * Intersects two {@link Stream}s.
+     *
+     * @param buildStream     the {@link Stream} to materialize
+     * @param candidateStream the {@link Stream} to probe against the materialized {@code buildStream}
+     * @param expectedSize    the expected number of data quanta in the {@code buildStream}
+     * @param memoryBudget    the maximum number of data quanta to materialize or {@code -1} for no limit
+     * @return the intersection
+     */
+    private Stream<Type> intersect(Stream<Type> buildStream,
+                                   Stream<Type> candidateStream,
+                                   long expectedSize,
+                                   long memoryBudget) {
+        if (memoryBudget < 0) {
+            final Set<Type> probingTable = this.createProbingTable(buildStream);
+            return candidateStream.filter(probingTable::remove);
+        }
+
+        // Fill the probing table up to the budget.
+        final Set<Type> probingTable = new HashSet<>();
+        final Iterator<Type> buildIterator = buildStream.iterator();
+        while (probingTable.size() < Math.max(memoryBudget, 1) && buildIterator.hasNext()) {
+            probingTable.add(buildIterator.next());
+        }
+        if (!buildIterator.hasNext()) {
+            return candidateStream.filter(probingTable::remove);
+        }
+
+        // If the budget is exceeded, partition both inputs.
+        final int numPartitions = HashPartitioner.determineNumPartitions(
+                Math.max(expectedSize, memoryBudget + 1), memoryBudget
+        );
+        final HashPartitioner<Type> buildPartitioner =
+                new HashPartitioner<>(numPartitions, Function.identity(), "rheem-intersect-build");
+        probingTable.forEach(buildPartitioner::add);
+        probingTable.clear();
+        buildIterator.forEachRemaining(buildPartitioner::add);
+        buildPartitioner.finishWriting();
+        final HashPartitioner<Type> candidatePartitioner =
+                new HashPartitioner<>(numPartitions, Function.identity(), "rheem-intersect-candidates");
+        candidateStream.forEachOrdered(candidatePartitioner::add);
+        candidatePartitioner.finishWriting();
+        LoggerFactory.getLogger(this.getClass()).info("Intersect spilled {} and {} data quanta into {} partitions.",
+                buildPartitioner.size(), candidatePartitioner.size(), numPartitions);
+
+        return IntStream.range(0, numPartitions)
+                .boxed()
+                .flatMap(partition -> {
+                    final SpillFile<Type> buildPartition = buildPartitioner.getPartition(partition);
+                    final SpillFile<Type> candidatePartition = candidatePartitioner.getPartition(partition);
+                    final Set<Type> partitionProbingTable = this.createProbingTable(buildPartition.stream());
+                    buildPartition.close();
+                    return candidatePartition.stream()
+                            .filter(partitionProbingTable::remove)
+                            .onClose(candidatePartition::close);
+                })
+                .onClose(() -> {
+                    buildPartitioner.close();
+                    candidatePartitioner.close();
+                });
+    }
+
     /**
      * Creates a new probing table. The can be altered then.
      *
@@ -98,6 +177,26 @@ public class JavaIntersectOperator<Type>
         return "rheem.java.intersect.load";
     }
 
+    @Override
+    public Optional<LoadProfileEstimator<ExecutionOperator>> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator<ExecutionOperator>> optGraceEstimator = configuration
+                .getOptionalStringProperty(this.getGraceLoadProfileEstimatorConfigurationKey())
+                .map(LoadProfileEstimators::createFromJuelSpecification);
+        return JavaExecutionOperator.combineSpillingLoadProfileEstimator(
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration), optGraceEstimator, configuration
+        );
+    }
+
+    /**
+     * Provides the configuration key for the {@link LoadProfileEstimator} of the partitioned intersection, which
+     * is used when the materialized input exceeds the memory budget.
+     *
+     * @return the configuration key
+     */
+    public String getGraceLoadProfileEstimatorConfigurationKey() {
+        return "rheem.java.intersect.grace.load";
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new JavaIntersectOperator<>(this.getType());
@@ -17,8 +17,11 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.HashJoin;
+import org.qcri.rheem.java.util.HashJoinTable;
 
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -72,41 +75,56 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
                 cardinalityEstimate1 != null &&
                 cardinalityEstimate0.getUpperEstimate() <= cardinalityEstimate1.getUpperEstimate();
 
+        // Prefer to build on a loop-invariant input, as its hash table can then be reused across iterations, unless
+        // it is expected to be much larger than the other input.
+        final Configuration configuration = javaExecutor.getCompiler().getConfiguration();
+        final boolean isLoopInvariant0 = this.isLoopInvariant(inputs, 0);
+        final boolean isLoopInvariant1 = this.isLoopInvariant(inputs, 1);
+        if (isLoopInvariant0 != isLoopInvariant1) {
+            final CardinalityEstimate invariantEstimate = isLoopInvariant0 ? cardinalityEstimate0 : cardinalityEstimate1;
+            final CardinalityEstimate variantEstimate = isLoopInvariant0 ? cardinalityEstimate1 : cardinalityEstimate0;
+            final double maxFactor = configuration.getDoubleProperty("rheem.java.join.invariant.factor", 10d);
+            if (invariantEstimate == null || variantEstimate == null
+                    || invariantEstimate.getUpperEstimate() <= maxFactor * Math.max(1L, variantEstimate.getUpperEstimate())) {
+                isMaterialize0 = isLoopInvariant0;
+            }
+        }
+
+        final long memoryBudget = configuration.getLongProperty("rheem.java.join.budget", -1L);
         if (isMaterialize0) {
-            final int expectedNumElements =
-                    (int) (cardinalityEstimate0.getUpperEstimate() - cardinalityEstimate0.getLowerEstimate()) / 2;
-            Map<KeyType, Collection<InputType0>> probeTable = new HashMap<>(expectedNumElements);
-            ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().forEach(dataQuantum0 ->
-                    probeTable.compute(keyExtractor0.apply(dataQuantum0),
-                            (key, value) -> {
-                                value = value == null ? new LinkedList<>() : value;
-                                value.add(dataQuantum0);
-                                return value;
-                            }
-                    )
+            final long expectedNumElements = cardinalityEstimate0 == null ? 1000 : cardinalityEstimate0.getUpperEstimate();
+            final HashJoin<InputType0, InputType1, KeyType> hashJoin = new HashJoin<>(
+                    keyExtractor0, keyExtractor1, expectedNumElements, memoryBudget
             );
-            joinStream = ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().flatMap(dataQuantum1 ->
-                    probeTable.getOrDefault(keyExtractor1.apply(dataQuantum1), Collections.emptyList()).stream()
-                            .map(dataQuantum0 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
+            final Optional<HashJoinTable<KeyType, InputType0>> table = isLoopInvariant0 ?
+                    this.getOrCreateTable(inputs[0], 0, hashJoin) :
+                    Optional.empty();
+            joinStream = table.isPresent() ?
+                    hashJoin.join(table.get(), ((JavaChannelInstance) inputs[1]).provideStream(), Tuple2::new) :
+                    hashJoin.join(
+                            ((JavaChannelInstance) inputs[0]).provideStream(),
+                            ((JavaChannelInstance) inputs[1]).provideStream(),
+                            Tuple2::new
+                    );
             inputs[0].getLazyChannelLineage().collectAndMark(executedOperatorContexts, producedChannelInstances);
             outputs[0].addPredecessor(inputs[1]);
         } else {
-            final int expectedNumElements = cardinalityEstimate1 == null ?
-                    1000 :
-                    (int) (cardinalityEstimate1.getUpperEstimate() - cardinalityEstimate1.getLowerEstimate()) / 2;
-            Map<KeyType, Collection<InputType1>> probeTable = new HashMap<>(expectedNumElements);
-            ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().forEach(dataQuantum1 ->
-                    probeTable.compute(keyExtractor1.apply(dataQuantum1),
-                            (key, value) -> {
-                                value = value == null ? new LinkedList<>() : value;
-                                value.add(dataQuantum1);
-                                return value;
-                            }
-                    )
+            final long expectedNumElements = cardinalityEstimate1 == null ? 1000 : cardinalityEstimate1.getUpperEstimate();
+            final HashJoin<InputType1, InputType0, KeyType> hashJoin = new HashJoin<>(
+                    keyExtractor1, keyExtractor0, expectedNumElements, memoryBudget
             );
-            joinStream = ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().flatMap(dataQuantum0 ->
-                    probeTable.getOrDefault(keyExtractor0.apply(dataQuantum0), Collections.emptyList()).stream()
-                            .map(dataQuantum1 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
+            final Optional<HashJoinTable<KeyType, InputType1>> table = isLoopInvariant1 ?
+                    this.getOrCreateTable(inputs[1], 1, hashJoin) :
+                    Optional.empty();
+            final BiFunction<InputType1, InputType0, Tuple2<InputType0, InputType1>> combiner =
+                    (dataQuantum1, dataQuantum0) -> new Tuple2<>(dataQuantum0, dataQuantum1);
+            joinStream = table.isPresent() ?
+                    hashJoin.join(table.get(), ((JavaChannelInstance) inputs[0]).provideStream(), combiner) :
+                    hashJoin.join(
+                            ((JavaChannelInstance) inputs[1]).provideStream(),
+                            ((JavaChannelInstance) inputs[0]).provideStream(),
+                            combiner
+                    );
             inputs[1].getLazyChannelLineage().collectAndMark(executedOperatorContexts, producedChannelInstances);
             outputs[0].addPredecessor(inputs[0]);
         }
@@ -116,6 +134,29 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
         return new Tuple<>(executedOperatorContexts, producedChannelInstances);
     }
 
+    /**
+     * Tells whether the given input is loop invariant and provided by a {@link CollectionChannel.Instance}, which
+     * is then retained across all iterations of the enclosing loop.
+     */
+    boolean isLoopInvariant(ChannelInstance[] inputs, int inputIndex) {
+        return inputs[inputIndex] instanceof CollectionChannel.Instance && this.getInput(inputIndex).isLoopInvariant();
+    }
+
+    /**
+     * Provides the {@link HashJoinTable} for a loop-invariant build side. It is built in the first iteration and
+     * then cached with the build side's {@link CollectionChannel.Instance}.
+     *
+     * @return the {@link HashJoinTable} or an empty {@link Optional} if the build side exceeds the memory budget
+     */
+    private <Build> Optional<HashJoinTable<KeyType, Build>> getOrCreateTable(ChannelInstance input,
+                                                                             int inputIndex,
+                                                                             HashJoin<Build, ?, KeyType> hashJoin) {
+        return ((CollectionChannel.Instance) input).getOrCreateIndex(
+                new Tuple<>(this, inputIndex),
+                (Collection<Build> buildSide) -> hashJoin.buildTable(buildSide)
+        );
+    }
+
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "rheem.java.join.load";
@@ -127,7 +168,22 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
                 JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
-        return optEstimator;
+        final Optional<LoadProfileEstimator<ExecutionOperator>> optGraceEstimator = configuration
+                .getOptionalStringProperty(this.getGraceLoadProfileEstimatorConfigurationKey())
+                .map(LoadProfileEstimators::createFromJuelSpecification);
+        LoadProfileEstimators.nestUdfEstimator(optGraceEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optGraceEstimator, this.keyDescriptor1, configuration);
+        return JavaExecutionOperator.combineSpillingLoadProfileEstimator(optEstimator, optGraceEstimator, configuration);
+    }
+
+    /**
+     * Provides the configuration key for the {@link LoadProfileEstimator} of the Grace hash join, which is used
+     * when the materialized input exceeds the memory budget.
+     *
+     * @return the configuration key
+     */
+    public String getGraceLoadProfileEstimatorConfigurationKey() {
+        return "rheem.java.join.grace.load";
     }
 
     @Override
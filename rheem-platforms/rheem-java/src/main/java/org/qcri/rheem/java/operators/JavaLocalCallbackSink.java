@@ -50,7 +50,7 @@ public class JavaLocalCallbackSink<T extends Serializable> extends LocalCallback
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        ((JavaChannelInstance) inputs[0]).<T>provideStream().forEach(this.callback);
+        ((JavaChannelInstance) inputs[0]).<T>provideStream().forEachOrdered(this.callback);
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
@@ -4,6 +4,7 @@ import org.qcri.rheem.basic.operators.MaterializedGroupByOperator;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
@@ -15,10 +16,12 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.HashAggregation;
 
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link MaterializedGroupByOperator}.
@@ -53,12 +56,37 @@ public class JavaMaterializedGroupByOperator<Type, KeyType>
         assert outputs.length == this.getNumOutputs();
 
         final Function<Type, KeyType> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
-        final Map<KeyType, List<Type>> collocation = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
-                Collectors.groupingBy(
-                        keyExtractor,
-                        Collectors.toList())); // Not sure if this is thread-safe... Will we use #parallelStream()?
-
-        ((CollectionChannel.Instance) outputs[0]).accept(collocation.values());
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final long memoryBudget = javaExecutor.getCompiler().getConfiguration()
+                .getLongProperty("rheem.java.aggregation.budget", -1L);
+        final Collection<List<Type>> collocation;
+        if (inputStream.isParallel() && memoryBudget < 0) {
+            collocation = inputStream
+                    .collect(Collectors.groupingByConcurrent(keyExtractor, Collectors.toList()))
+                    .values();
+        } else {
+            final CardinalityEstimate outputCardinality = operatorContext.getOutputCardinality(0);
+            collocation = new HashAggregation<Type, KeyType, List<Type>>(
+                    keyExtractor,
+                    dataQuantum -> {
+                        final List<Type> group = new ArrayList<>();
+                        group.add(dataQuantum);
+                        return group;
+                    },
+                    (group, dataQuantum) -> {
+                        group.add(dataQuantum);
+                        return group;
+                    },
+                    (group1, group2) -> {
+                        group1.addAll(group2);
+                        return group1;
+                    },
+                    outputCardinality == null ? 1000 : outputCardinality.getUpperEstimate(),
+                    memoryBudget
+            ).collect(inputStream.iterator());
+        }
+
+        ((CollectionChannel.Instance) outputs[0]).accept(collocation);
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
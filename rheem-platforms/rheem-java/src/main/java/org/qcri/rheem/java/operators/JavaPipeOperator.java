@@ -0,0 +1,81 @@
+package org.qcri.rheem.java.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.java.channels.PipeChannel;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.execution.JavaExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Converts a {@link StreamChannel} into a {@link PipeChannel}. The {@link java.util.stream.Stream} is executed in
+ * the background, so that the consumer of the {@link PipeChannel} can start processing before it is exhausted. The
+ * execution of this operator and its lazily executed predecessors is registered as soon as the
+ * {@link java.util.stream.Stream} is exhausted.
+ */
+public class JavaPipeOperator<Type> extends UnaryToUnaryOperator<Type, Type> implements JavaExecutionOperator {
+
+    public JavaPipeOperator(DataSetType<Type> type) {
+        super(type, type, false);
+    }
+
+    @Override
+    public Tuple<Collection<OptimizationContext.OperatorContext>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        final StreamChannel.Instance input = (StreamChannel.Instance) inputs[0];
+        final PipeChannel.Instance output = (PipeChannel.Instance) outputs[0];
+
+        final Configuration configuration = javaExecutor.getCompiler().getConfiguration();
+        output.accept(
+                input.provideStream().iterator(),
+                inputs,
+                operatorContext,
+                javaExecutor,
+                (int) configuration.getLongProperty("rheem.java.pipe.batchsize", 1000),
+                (int) configuration.getLongProperty("rheem.java.pipe.capacity", 16)
+        );
+
+        // The output registers its execution itself.
+        return new Tuple<>(Collections.emptyList(), Collections.emptyList());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(PipeChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, 0, outputIndex);
+        return Optional.of(new DefaultCardinalityEstimator(1d, 1, this.isSupportingBroadcastInputs(),
+                inputCards -> inputCards[0]));
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "rheem.java.pipe.load";
+    }
+
+}
@@ -85,7 +85,8 @@ public class JavaRandomSampleOperator<Type>
         }
         Arrays.sort(sampleIndices);
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().filter(new Predicate<Type>() {
+        // NB: The filter is stateful and relies on the encounter order, so we have to go sequentially.
+        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().sequential().filter(new Predicate<Type>() {
                     int streamIndex = 0;
                     int sampleIndex = 0;
 
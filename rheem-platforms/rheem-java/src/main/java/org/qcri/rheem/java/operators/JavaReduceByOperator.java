@@ -5,6 +5,7 @@ import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.ReduceDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
@@ -16,14 +17,13 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.HashAggregation;
 
 import java.util.*;
-import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.function.Supplier;
-import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link ReduceByOperator}.
@@ -67,10 +67,24 @@ public class JavaReduceByOperator<Type, KeyType>
         final BinaryOperator<Type> reduceFunction = javaExecutor.getCompiler().compile(this.reduceDescriptor);
         JavaExecutor.openFunction(this, reduceFunction, inputs, operatorContext);
 
-        final Map<KeyType, Type> reductionResult = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
-                Collectors.groupingBy(keyExtractor, new ReducingCollector<>(reduceFunction))
-        );
-        ((CollectionChannel.Instance) outputs[0]).accept(reductionResult.values());
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final long memoryBudget = javaExecutor.getCompiler().getConfiguration()
+                .getLongProperty("rheem.java.aggregation.budget", -1L);
+        final Collection<Type> reductionResult;
+        if (inputStream.isParallel() && memoryBudget < 0) {
+            reductionResult = inputStream
+                    .collect(Collectors.toConcurrentMap(keyExtractor, Function.identity(), reduceFunction))
+                    .values();
+        } else {
+            final CardinalityEstimate outputCardinality = operatorContext.getOutputCardinality(0);
+            reductionResult = HashAggregation.reducing(
+                    keyExtractor,
+                    reduceFunction,
+                    outputCardinality == null ? 1000 : outputCardinality.getUpperEstimate(),
+                    memoryBudget
+            ).collect(inputStream.iterator());
+        }
+        ((CollectionChannel.Instance) outputs[0]).accept(reductionResult);
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
@@ -107,59 +121,4 @@ public class JavaReduceByOperator<Type, KeyType>
         return Collections.singletonList(CollectionChannel.DESCRIPTOR);
     }
 
-    /**
-     * Immitates {@link Collectors#reducing(BinaryOperator)} but assumes that there is always at least one element
-     * in each reduction.
-     */
-    private static class ReducingCollector<T> implements Collector<T, List<T>, T> {
-
-        private final BinaryOperator<T> reduceFunction;
-
-        ReducingCollector(BinaryOperator<T> reduceFunction) {
-            this.reduceFunction = reduceFunction;
-        }
-
-        @Override
-        public Supplier<List<T>> supplier() {
-            return () -> new ArrayList<>(1);
-        }
-
-        @Override
-        public BiConsumer<List<T>, T> accumulator() {
-            return (list, element) -> {
-                if (list.isEmpty()) {
-                    list.add(element);
-                } else {
-                    list.set(0, this.reduceFunction.apply(list.get(0), element));
-                }
-            };
-        }
-
-        @Override
-        public BinaryOperator<List<T>> combiner() {
-            return (list1, list2) -> {
-                if (list1.isEmpty()) {
-                    return list2;
-                } else if (list2.isEmpty()) {
-                    return list2;
-                } else {
-                    list1.set(0, this.reduceFunction.apply(list1.get(0), list2.get(0)));
-                    return list1;
-                }
-            };
-        }
-
-        @Override
-        public Function<List<T>, T> finisher() {
-            return list -> {
-                assert !list.isEmpty();
-                return list.get(0);
-            };
-        }
-
-        @Override
-        public Set<Characteristics> characteristics() {
-            return Collections.emptySet();
-        }
-    }
 }
@@ -11,11 +11,14 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.ExternalSort;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link SortOperator}.
@@ -52,7 +55,20 @@ public class JavaSortOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream().sorted());
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final long memoryBudget = javaExecutor.getCompiler().getConfiguration().getLongProperty("rheem.java.sort.budget", -1L);
+        final Stream<Type> sortedStream;
+        if (memoryBudget < 0) {
+            sortedStream = inputStream.sorted();
+        } else {
+            final int parallelism = javaExecutor.isParallel() ?
+                    javaExecutor.getPlatform().getParallelism(javaExecutor.getCompiler().getConfiguration()) :
+                    1;
+            @SuppressWarnings("unchecked")
+            final Comparator<Type> comparator = (Comparator<Type>) Comparator.naturalOrder();
+            sortedStream = new ExternalSort<>(comparator, Math.max(memoryBudget, 1), parallelism).sort(inputStream);
+        }
+        ((StreamChannel.Instance) outputs[0]).accept(sortedStream);
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
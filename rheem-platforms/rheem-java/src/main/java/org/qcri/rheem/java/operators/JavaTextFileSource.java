@@ -11,14 +11,17 @@ import org.qcri.rheem.core.util.fs.FileSystem;
 import org.qcri.rheem.core.util.fs.FileSystems;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.MappedLineSpliterator;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -53,12 +56,19 @@ public class JavaTextFileSource extends TextFileSource implements JavaExecutionO
                 () -> new RheemException(String.format("Cannot access file system of %s.", url))
         );
 
-        try {
-            final InputStream inputStream = fs.open(url);
-            Stream<String> lines = new BufferedReader(new InputStreamReader(inputStream)).lines();
-            ((StreamChannel.Instance) outputs[0]).accept(lines);
-        } catch (IOException e) {
-            throw new RheemException(String.format("Reading %s failed.", url), e);
+        // Local files can be scanned in parallel; otherwise, fall back to a sequential reader.
+        final Optional<Stream<String>> mappedLines =
+                MappedLineSpliterator.streamLines(url, Charset.forName(this.getEncoding()));
+        if (mappedLines.isPresent()) {
+            ((StreamChannel.Instance) outputs[0]).accept(mappedLines.get());
+        } else {
+            try {
+                final InputStream inputStream = fs.open(url);
+                Stream<String> lines = new BufferedReader(new InputStreamReader(inputStream)).lines();
+                ((StreamChannel.Instance) outputs[0]).accept(lines);
+            } catch (IOException e) {
+                throw new RheemException(String.format("Reading %s failed.", url), e);
+            }
         }
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
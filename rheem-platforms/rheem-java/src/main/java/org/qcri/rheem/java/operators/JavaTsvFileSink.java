@@ -70,7 +70,7 @@ public class JavaTsvFileSink<T extends Tuple2<?, ?>> extends UnarySink<T> implem
                 )
         )) {
             try {
-                ((JavaChannelInstance) inputs[0]).provideStream().forEach(
+                ((JavaChannelInstance) inputs[0]).provideStream().forEachOrdered(
                         dataQuantum -> {
                             try {
                                 // TODO: Once there are more tuple types, make this generic.
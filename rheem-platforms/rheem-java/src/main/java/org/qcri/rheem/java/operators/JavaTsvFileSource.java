@@ -18,11 +18,13 @@ import org.qcri.rheem.core.util.fs.FileSystems;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.platform.JavaPlatform;
+import org.qcri.rheem.java.util.MappedLineSpliterator;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -110,6 +112,11 @@ public class JavaTsvFileSource<T> extends UnarySource<T> implements JavaExecutio
         final FileSystem fileSystem = FileSystems.getFileSystem(path).orElseThrow(
                 () -> new IllegalStateException(String.format("No file system found for %s", path))
         );
+        // Local files can be scanned in parallel; otherwise, fall back to a sequential reader.
+        final Optional<Stream<String>> mappedLines = MappedLineSpliterator.streamLines(path, StandardCharsets.UTF_8);
+        if (mappedLines.isPresent()) {
+            return mappedLines.get();
+        }
         try {
             Iterator<String> lineIterator = this.createLineIterator(fileSystem, path);
             return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lineIterator, 0), false);
@@ -41,10 +41,24 @@ public class JavaPlatform extends Platform {
         return job -> new JavaExecutor(this, job);
     }
 
+    /**
+     * Determines the number of threads that should be used to execute {@link java.util.stream.Stream} pipelines
+     * as specified by {@code rheem.java.parallelism}. Non-positive values refer to the number of available processors.
+     *
+     * @param configuration provides the setting
+     * @return the degree of parallelism; {@code 1} means sequential execution
+     */
+    public int getParallelism(Configuration configuration) {
+        int parallelism = (int) configuration.getLongProperty("rheem.java.parallelism", 1);
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
     @Override
     public LoadProfileToTimeConverter createLoadProfileToTimeConverter(Configuration configuration) {
         int cpuMhz = (int) configuration.getLongProperty("rheem.java.cpu.mhz");
-        int numCores = (int) configuration.getLongProperty("rheem.java.cores");
+        // We can use at most one core per thread, but never more cores than configured.
+        int parallelism = this.getParallelism(configuration);
+        int numCores = Math.min(parallelism, (int) configuration.getLongProperty("rheem.java.cores"));
         double hdfsMsPerMb = configuration.getDoubleProperty("rheem.java.hdfs.ms-per-mb");
         double stretch = configuration.getDoubleProperty("rheem.java.stretch");
         return LoadProfileToTimeConverter.createTopLevelStretching(
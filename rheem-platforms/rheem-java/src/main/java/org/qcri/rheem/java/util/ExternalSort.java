@@ -0,0 +1,279 @@
+package org.qcri.rheem.java.util;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * External merge sort for the Java platform. The input is cut into runs of bounded size, which are sorted and
+ * written to {@link SpillFile}s. The runs are then merged lazily with a k-way merge. If the input fits into a single
+ * run, it is sorted in memory without touching the disk.
+ * <p>The sort is stable, i.e., it retains the encounter order of equal data quanta, just like
+ * {@link Stream#sorted(Comparator)}.</p>
+ */
+public class ExternalSort<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExternalSort.class);
+
+    /**
+     * Maximum number of runs to merge at once to bound the number of open files and read buffers.
+     */
+    public static final int MAX_FAN_IN = 64;
+
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Maximum number of data quanta per run.
+     */
+    private final int runSize;
+
+    /**
+     * Number of runs to generate concurrently and, thus, the maximum number of runs in memory.
+     */
+    private final int parallelism;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param comparator  defines the sort order
+     * @param budget      maximum number of data quanta to keep in memory; divided among the runs in memory
+     * @param parallelism number of runs to generate concurrently
+     */
+    public ExternalSort(Comparator<? super T> comparator, long budget, int parallelism) {
+        assert budget > 0 && parallelism > 0;
+        this.comparator = comparator;
+        this.parallelism = parallelism;
+        this.runSize = (int) Math.max(1, Math.min(Integer.MAX_VALUE - 8, budget / parallelism));
+    }
+
+    /**
+     * Sorts the given {@link Stream}. The sorting is deferred until the returned {@link Stream} is consumed.
+     *
+     * @param stream that should be sorted
+     * @return the sorted {@link Stream}
+     */
+    public Stream<T> sort(Stream<T> stream) {
+        return StreamSupport.stream(() -> this.sort(stream.iterator()), Spliterator.ORDERED, false);
+    }
+
+    /**
+     * Sorts the data quanta of the given {@link Iterator}. At most {@link #parallelism} runs are kept in memory at
+     * any time, i.e., the run that is being filled and the runs that are waiting to be sorted and written.
+     */
+    private Spliterator<T> sort(Iterator<T> iterator) {
+        // Try to sort in memory first.
+        final Semaphore runPermits = new Semaphore(this.parallelism);
+        acquire(runPermits);
+        List<T> run = this.fillRun(iterator);
+        if (!iterator.hasNext()) {
+            return this.sortInMemory(run).spliterator();
+        }
+
+        // Otherwise, generate sorted runs on disk.
+        final ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+        final Deque<Future<SpillFile<T>>> pendingRuns = new ArrayDeque<>(this.parallelism);
+        final List<SpillFile<T>> runs = new ArrayList<>();
+        while (true) {
+            final List<T> nextRun = run;
+            run = null;
+            if (this.parallelism == 1) {
+                runs.add(this.writeRun(nextRun));
+                runPermits.release();
+            } else {
+                pendingRuns.add(pool.submit(() -> {
+                    try {
+                        return this.writeRun(nextRun);
+                    } finally {
+                        runPermits.release();
+                    }
+                }));
+                // Collect finished runs early to fail fast.
+                while (!pendingRuns.isEmpty() && pendingRuns.peek().isDone()) {
+                    runs.add(await(pendingRuns.poll()));
+                }
+            }
+            if (!iterator.hasNext()) break;
+            acquire(runPermits);
+            run = this.fillRun(iterator);
+        }
+        while (!pendingRuns.isEmpty()) {
+            runs.add(await(pendingRuns.poll()));
+        }
+        logger.info("Sorted {} data quanta in {} runs.", runs.stream().mapToLong(SpillFile::size).sum(), runs.size());
+
+        // Merge the runs until they can be merged at once.
+        List<SpillFile<T>> mergeableRuns = runs;
+        while (mergeableRuns.size() > MAX_FAN_IN) {
+            final List<SpillFile<T>> mergedRuns = new ArrayList<>();
+            for (int i = 0; i < mergeableRuns.size(); i += MAX_FAN_IN) {
+                final List<SpillFile<T>> group = mergeableRuns.subList(i, Math.min(i + MAX_FAN_IN, mergeableRuns.size()));
+                final SpillFile<T> mergedRun = new SpillFile<>("rheem-sort-run");
+                new MergeIterator(group).forEachRemaining(mergedRun::write);
+                mergedRun.finishWriting();
+                mergedRuns.add(mergedRun);
+            }
+            mergeableRuns = mergedRuns;
+        }
+        return Spliterators.spliteratorUnknownSize(new MergeIterator(mergeableRuns), Spliterator.ORDERED);
+    }
+
+    /**
+     * Collects at most {@link #runSize} data quanta from the given {@link Iterator}.
+     */
+    private List<T> fillRun(Iterator<T> iterator) {
+        List<T> run = new ArrayList<>(Math.min(this.runSize, 1 << 16));
+        while (run.size() < this.runSize && iterator.hasNext()) {
+            run.add(iterator.next());
+        }
+        return run;
+    }
+
+    /**
+     * Sorts the given run, using multiple threads if there is a {@link #parallelism}.
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> sortInMemory(List<T> run) {
+        if (this.parallelism == 1) {
+            run.sort(this.comparator);
+            return run;
+        }
+        final T[] array = (T[]) run.toArray();
+        Arrays.parallelSort(array, this.comparator);
+        return Arrays.asList(array);
+    }
+
+    /**
+     * Sorts the given run and writes it to a {@link SpillFile}. Afterwards, the run is cleared, so that it does not
+     * occupy memory any longer.
+     */
+    private SpillFile<T> writeRun(List<T> run) {
+        run.sort(this.comparator);
+        final SpillFile<T> spillFile = new SpillFile<>("rheem-sort-run");
+        run.forEach(spillFile::write);
+        spillFile.finishWriting();
+        run.clear();
+        return spillFile;
+    }
+
+    /**
+     * Acquires a permit from the given {@link Semaphore} without starving the {@link ForkJoinPool} that we might be
+     * running in.
+     */
+    private static void acquire(Semaphore semaphore) {
+        try {
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean block() throws InterruptedException {
+                    semaphore.acquire();
+                    return true;
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    return semaphore.tryAcquire();
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RheemException("Interrupted while sorting.", e);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RheemException("Interrupted while sorting.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new RheemException("Generating a sorted run failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Merges sorted {@link SpillFile}s lazily and deletes them once they are exhausted.
+     */
+    private class MergeIterator implements Iterator<T> {
+
+        /**
+         * Contains the next data quantum of each non-exhausted run. Ties are broken by the run index to retain
+         * stability.
+         */
+        private final PriorityQueue<RunHead> heads;
+
+        private MergeIterator(List<SpillFile<T>> runs) {
+            this.heads = new PriorityQueue<>(Math.max(1, runs.size()));
+            for (int i = 0; i < runs.size(); i++) {
+                final RunHead head = new RunHead(i, runs.get(i));
+                if (head.advance()) this.heads.add(head);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.heads.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            final RunHead head = this.heads.poll();
+            if (head == null) throw new NoSuchElementException();
+            final T dataQuantum = head.current;
+            if (head.advance()) this.heads.add(head);
+            return dataQuantum;
+        }
+
+    }
+
+    /**
+     * Cursor over a sorted {@link SpillFile}.
+     */
+    private class RunHead implements Comparable<RunHead> {
+
+        private final int index;
+
+        private final SpillFile<T> run;
+
+        private final Iterator<T> iterator;
+
+        private T current;
+
+        private RunHead(int index, SpillFile<T> run) {
+            this.index = index;
+            this.run = run;
+            this.iterator = run.read();
+        }
+
+        /**
+         * Moves to the next data quantum of the run or deletes the run if it is exhausted.
+         *
+         * @return whether there is a current data quantum
+         */
+        private boolean advance() {
+            if (this.iterator.hasNext()) {
+                this.current = this.iterator.next();
+                return true;
+            }
+            this.current = null;
+            this.run.close();
+            return false;
+        }
+
+        @Override
+        public int compareTo(RunHead that) {
+            final int cmp = ExternalSort.this.comparator.compare(this.current, that.current);
+            return cmp != 0 ? cmp : Integer.compare(this.index, that.index);
+        }
+    }
+
+}
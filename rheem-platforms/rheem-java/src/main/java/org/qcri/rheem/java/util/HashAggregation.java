@@ -0,0 +1,180 @@
+package org.qcri.rheem.java.util;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Hash aggregation engine for the Java platform. It aggregates data quanta by key in a {@link HashAggregationTable}.
+ * If the number of groups exceeds the memory budget, the (partial) aggregates in the table are hash-partitioned to
+ * disk via a {@link HashPartitioner} and the table is cleared, i.e., the table acts as a pre-aggregation. Eventually,
+ * the partial aggregates are combined partition by partition.
+ *
+ * @param <T>   the type of the aggregated data quanta
+ * @param <Key> the type of the grouping keys
+ * @param <Acc> the type of the aggregates
+ */
+public class HashAggregation<T, Key, Acc> {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashAggregation.class);
+
+    private final Function<T, Key> keyExtractor;
+
+    private final Function<T, Acc> initializer;
+
+    private final BiFunction<Acc, T, Acc> accumulator;
+
+    private final BinaryOperator<Acc> combiner;
+
+    /**
+     * Expected number of groups.
+     */
+    private final long expectedNumGroups;
+
+    /**
+     * Maximum number of groups to keep in memory or {@code -1} if spilling is not allowed.
+     */
+    private final long memoryBudget;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keyExtractor      extracts the grouping keys
+     * @param initializer       creates an aggregate from the first data quantum of a group
+     * @param accumulator       folds further data quanta of a group into its aggregate
+     * @param combiner          combines partial aggregates of a group
+     * @param expectedNumGroups the expected (upper) number of groups
+     * @param memoryBudget      the maximum number of groups to keep in memory or {@code -1} to keep all of them
+     *                          in memory
+     */
+    public HashAggregation(Function<T, Key> keyExtractor,
+                           Function<T, Acc> initializer,
+                           BiFunction<Acc, T, Acc> accumulator,
+                           BinaryOperator<Acc> combiner,
+                           long expectedNumGroups,
+                           long memoryBudget) {
+        this.keyExtractor = keyExtractor;
+        this.initializer = initializer;
+        this.accumulator = accumulator;
+        this.combiner = combiner;
+        this.expectedNumGroups = expectedNumGroups;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Creates a new instance that reduces the data quanta of each group.
+     *
+     * @see #HashAggregation(Function, Function, BiFunction, BinaryOperator, long, long)
+     */
+    public static <T, Key> HashAggregation<T, Key, T> reducing(Function<T, Key> keyExtractor,
+                                                               BinaryOperator<T> reduceFunction,
+                                                               long expectedNumGroups,
+                                                               long memoryBudget) {
+        return new HashAggregation<>(
+                keyExtractor, Function.identity(), reduceFunction, reduceFunction, expectedNumGroups, memoryBudget
+        );
+    }
+
+    /**
+     * Aggregates the given data quanta. Consumes the {@code input} entirely.
+     *
+     * @param input the data quanta to aggregate
+     * @return the aggregates; lazily combined if the aggregation had to spill
+     */
+    public Iterator<Acc> aggregate(Iterator<T> input) {
+        final HashAggregationTable<Key, Acc> table = this.createTable();
+        final HashPartitioner<Tuple2<Key, Acc>> partitioner = this.aggregate(input, table);
+        return partitioner == null ? table.values().iterator() : this.combine(partitioner);
+    }
+
+    /**
+     * Aggregates the given data quanta.
+     *
+     * @param input the data quanta to aggregate
+     * @return the aggregates
+     */
+    public Collection<Acc> collect(Iterator<T> input) {
+        final HashAggregationTable<Key, Acc> table = this.createTable();
+        final HashPartitioner<Tuple2<Key, Acc>> partitioner = this.aggregate(input, table);
+        if (partitioner == null) {
+            return table.values();
+        }
+        final List<Acc> aggregates = new ArrayList<>();
+        this.combine(partitioner).forEachRemaining(aggregates::add);
+        return aggregates;
+    }
+
+    private HashAggregationTable<Key, Acc> createTable() {
+        return new HashAggregationTable<>(
+                this.memoryBudget >= 0 ? Math.min(this.expectedNumGroups, this.memoryBudget) : this.expectedNumGroups
+        );
+    }
+
+    /**
+     * Aggregates the given data quanta into the {@link HashAggregationTable} and spills if it exceeds the
+     * {@link #memoryBudget}.
+     *
+     * @return the {@link HashPartitioner} with the spilled partial aggregates or {@code null} if nothing was spilled
+     */
+    private HashPartitioner<Tuple2<Key, Acc>> aggregate(Iterator<T> input, HashAggregationTable<Key, Acc> table) {
+        final boolean isSpillable = this.memoryBudget >= 0;
+        final long maxTableSize = Math.max(this.memoryBudget, 1);
+        HashPartitioner<Tuple2<Key, Acc>> partitioner = null;
+        while (input.hasNext()) {
+            final T dataQuantum = input.next();
+            table.aggregate(this.keyExtractor.apply(dataQuantum), dataQuantum, this.initializer, this.accumulator);
+            if (isSpillable && table.size() > maxTableSize) {
+                if (partitioner == null) {
+                    final int numPartitions = HashPartitioner.determineNumPartitions(
+                            Math.max(this.expectedNumGroups, table.size()), maxTableSize
+                    );
+                    partitioner = new HashPartitioner<>(numPartitions, Tuple2::getField0, "rheem-aggregation");
+                }
+                this.spill(table, partitioner);
+            }
+        }
+        if (partitioner != null) {
+            this.spill(table, partitioner);
+            partitioner.finishWriting();
+            logger.info("Hash aggregation spilled {} partial aggregates into {} partitions.",
+                    partitioner.size(), partitioner.getNumPartitions());
+        }
+        return partitioner;
+    }
+
+    /**
+     * Combines the spilled partial aggregates partition by partition.
+     */
+    private Iterator<Acc> combine(HashPartitioner<Tuple2<Key, Acc>> partitioner) {
+        return IntStream.range(0, partitioner.getNumPartitions())
+                .mapToObj(partitioner::getPartition)
+                .flatMap(partition -> {
+                    final HashAggregationTable<Key, Acc> partitionTable =
+                            new HashAggregationTable<>(Math.max(this.memoryBudget, 1));
+                    partition.read().forEachRemaining(partialAggregate -> partitionTable.aggregate(
+                            partialAggregate.field0, partialAggregate.field1, Function.identity(), this.combiner
+                    ));
+                    partition.close();
+                    return partitionTable.values().stream();
+                })
+                .iterator();
+    }
+
+    /**
+     * Writes the contents of the {@link HashAggregationTable} to the {@link HashPartitioner} and clears it.
+     */
+    private void spill(HashAggregationTable<Key, Acc> table, HashPartitioner<Tuple2<Key, Acc>> partitioner) {
+        table.forEach((key, aggregate) -> partitioner.add(new Tuple2<>(key, aggregate)));
+        table.clear();
+    }
+
+}
@@ -0,0 +1,267 @@
+package org.qcri.rheem.java.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Open-addressing hash table for aggregations. Each key is associated with a single aggregate that is updated in
+ * place, i.e., there is no per-group wrapper object. As long as all keys are {@link Long}s or {@link Integer}s,
+ * they are stored as primitive {@code long}s; the table falls back to generic keys as soon as other keys show up.
+ */
+public class HashAggregationTable<Key, Value> {
+
+    /**
+     * Stores the keys in the primitive mode; {@code null} otherwise.
+     */
+    private long[] longKeys;
+
+    /**
+     * The type of all keys in the primitive mode, i.e., {@link Long} or {@link Integer}.
+     */
+    private Class<?> longKeyClass;
+
+    /**
+     * Stores the keys in the generic mode; {@code null} otherwise.
+     */
+    private Object[] keys;
+
+    /**
+     * Caches the mixed hash codes of the {@link #keys}.
+     */
+    private int[] hashes;
+
+    /**
+     * Stores the aggregates.
+     */
+    private Object[] values;
+
+    /**
+     * Tells which slots are in use.
+     */
+    private boolean[] isOccupied;
+
+    /**
+     * Number of keys in this instance.
+     */
+    private int size = 0;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param expectedNumKeys the expected number of distinct keys; only a bounded share of it is allocated upfront
+     * @see HashJoinTable#MAX_PRESIZE
+     */
+    public HashAggregationTable(long expectedNumKeys) {
+        final int capacity = HashJoinTable.tableSizeFor(
+                (int) Math.max(0, Math.min(expectedNumKeys, HashJoinTable.MAX_PRESIZE))
+        );
+        this.values = new Object[capacity];
+        this.isOccupied = new boolean[capacity];
+    }
+
+    /**
+     * Aggregates a data quantum into this instance.
+     *
+     * @param key         the key of the {@code dataQuantum}
+     * @param dataQuantum the data quantum
+     * @param initializer creates a new aggregate from the {@code dataQuantum} if there is none for the {@code key}
+     * @param accumulator folds the {@code dataQuantum} into the existing aggregate for the {@code key}
+     * @return whether the {@code key} is new to this instance
+     */
+    @SuppressWarnings("unchecked")
+    public <T> boolean aggregate(Key key,
+                                 T dataQuantum,
+                                 Function<? super T, ? extends Value> initializer,
+                                 BiFunction<? super Value, ? super T, ? extends Value> accumulator) {
+        if (this.longKeys == null && this.keys == null) {
+            this.initializeKeys(key);
+        } else if (this.longKeys != null && !this.isLongKeyCompatible(key)) {
+            this.convertToGenericKeys();
+        }
+
+        final int slot = this.findSlot(key);
+        if (slot >= 0) {
+            this.values[slot] = accumulator.apply((Value) this.values[slot], dataQuantum);
+            return false;
+        }
+        this.insert(~slot, key, initializer.apply(dataQuantum));
+        return true;
+    }
+
+    /**
+     * Looks up the aggregate for a key.
+     *
+     * @param key the key
+     * @return the aggregate or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public Value get(Key key) {
+        if (this.longKeys == null && this.keys == null) return null;
+        if (this.longKeys != null && !this.isLongKeyCompatible(key)) return null;
+        final int slot = this.findSlot(key);
+        return slot >= 0 ? (Value) this.values[slot] : null;
+    }
+
+    /**
+     * Feeds all keys and their aggregates into a {@link BiConsumer}.
+     *
+     * @param consumer that should accept the keys and aggregates
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super Key, ? super Value> consumer) {
+        for (int slot = 0; slot < this.isOccupied.length; slot++) {
+            if (this.isOccupied[slot]) {
+                consumer.accept((Key) this.getKey(slot), (Value) this.values[slot]);
+            }
+        }
+    }
+
+    /**
+     * @return a {@link List} of all aggregates in this instance
+     */
+    @SuppressWarnings("unchecked")
+    public List<Value> values() {
+        final List<Value> values = new ArrayList<>(this.size);
+        for (int slot = 0; slot < this.isOccupied.length; slot++) {
+            if (this.isOccupied[slot]) values.add((Value) this.values[slot]);
+        }
+        return values;
+    }
+
+    /**
+     * Removes all keys and aggregates from this instance but retains its capacity.
+     */
+    public void clear() {
+        Arrays.fill(this.values, null);
+        Arrays.fill(this.isOccupied, false);
+        if (this.keys != null) Arrays.fill(this.keys, null);
+        this.size = 0;
+    }
+
+    /**
+     * @return the number of keys in this instance
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return whether the keys are stored as primitive {@code long}s
+     */
+    boolean isPrimitiveKeyStorage() {
+        return this.longKeys != null;
+    }
+
+    private void initializeKeys(Object key) {
+        if (key instanceof Long || key instanceof Integer) {
+            this.longKeys = new long[this.values.length];
+            this.longKeyClass = key.getClass();
+        } else {
+            this.keys = new Object[this.values.length];
+            this.hashes = new int[this.values.length];
+        }
+    }
+
+    private boolean isLongKeyCompatible(Object key) {
+        return key != null && key.getClass() == this.longKeyClass;
+    }
+
+    private Object getKey(int slot) {
+        if (this.longKeys == null) return this.keys[slot];
+        return this.longKeyClass == Integer.class ? (Object) (int) this.longKeys[slot] : (Object) this.longKeys[slot];
+    }
+
+    /**
+     * Finds the slot for a key.
+     *
+     * @return the slot of the key or, if it is not contained, the bitwise complement of the slot to insert it into
+     */
+    private int findSlot(Object key) {
+        final int mask = this.isOccupied.length - 1;
+        if (this.longKeys != null) {
+            final long longKey = ((Number) key).longValue();
+            int slot = HashJoinTable.mix(longKey) & mask;
+            while (this.isOccupied[slot]) {
+                if (this.longKeys[slot] == longKey) return slot;
+                slot = (slot + 1) & mask;
+            }
+            return ~slot;
+        }
+        final int hash = HashJoinTable.mix(Objects.hashCode(key));
+        int slot = hash & mask;
+        while (this.isOccupied[slot]) {
+            if (this.hashes[slot] == hash && Objects.equals(this.keys[slot], key)) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    private void insert(int slot, Object key, Object value) {
+        if (this.longKeys != null) {
+            this.longKeys[slot] = ((Number) key).longValue();
+        } else {
+            this.keys[slot] = key;
+            this.hashes[slot] = HashJoinTable.mix(Objects.hashCode(key));
+        }
+        this.values[slot] = value;
+        this.isOccupied[slot] = true;
+        if (++this.size * 2 > this.isOccupied.length) this.rehash(this.isOccupied.length << 1, this.longKeys != null);
+    }
+
+    private void convertToGenericKeys() {
+        this.rehash(this.isOccupied.length, false);
+    }
+
+    /**
+     * Moves all entries into new arrays.
+     *
+     * @param capacity    the new capacity
+     * @param isPrimitive whether the keys should be stored as primitive {@code long}s; requires that they are
+     *                    stored as such already
+     */
+    private void rehash(int capacity, boolean isPrimitive) {
+        final boolean[] oldIsOccupied = this.isOccupied;
+        final Object[] oldValues = this.values;
+        if (isPrimitive) {
+            // Avoid boxing the keys.
+            final long[] oldLongKeys = this.longKeys;
+            final int mask = capacity - 1;
+            this.longKeys = new long[capacity];
+            this.values = new Object[capacity];
+            this.isOccupied = new boolean[capacity];
+            for (int oldSlot = 0; oldSlot < oldIsOccupied.length; oldSlot++) {
+                if (!oldIsOccupied[oldSlot]) continue;
+                int slot = HashJoinTable.mix(oldLongKeys[oldSlot]) & mask;
+                while (this.isOccupied[slot]) slot = (slot + 1) & mask;
+                this.longKeys[slot] = oldLongKeys[oldSlot];
+                this.values[slot] = oldValues[oldSlot];
+                this.isOccupied[slot] = true;
+            }
+            return;
+        }
+
+        final Object[] oldKeys = new Object[oldIsOccupied.length];
+        for (int slot = 0; slot < oldIsOccupied.length; slot++) {
+            if (oldIsOccupied[slot]) oldKeys[slot] = this.getKey(slot);
+        }
+
+        this.values = new Object[capacity];
+        this.isOccupied = new boolean[capacity];
+        this.longKeys = null;
+        this.longKeyClass = null;
+        this.keys = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.size = 0;
+        for (int slot = 0; slot < oldIsOccupied.length; slot++) {
+            if (oldIsOccupied[slot]) {
+                this.insert(~this.findSlot(oldKeys[slot]), oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+package org.qcri.rheem.java.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Hash join engine for the Java platform. It loads the build side into a {@link HashJoinTable} and streams the
+ * probe side against it. If the build side exceeds the memory budget, the engine turns into a Grace hash join:
+ * Both sides are hash-partitioned to local temporary files via a {@link HashPartitioner}, and the join is then
+ * conducted partition by partition. Partitions that still exceed the budget (e.g., due to skew) are joined with
+ * one budget-sized chunk of their build side after another.
+ */
+public class HashJoin<Build, Probe, Key> {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashJoin.class);
+
+    private final Function<Build, Key> buildKeyExtractor;
+
+    private final Function<Probe, Key> probeKeyExtractor;
+
+    /**
+     * Expected number of build side data quanta.
+     */
+    private final long expectedBuildSize;
+
+    /**
+     * Maximum number of build side data quanta to keep in memory or {@code -1} if spilling is not allowed.
+     */
+    private final long memoryBudget;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param buildKeyExtractor extracts the join keys from the build side
+     * @param probeKeyExtractor extracts the join keys from the probe side
+     * @param expectedBuildSize the expected (upper) number of build side data quanta
+     * @param memoryBudget      the maximum number of build side data quanta to keep in memory or {@code -1} to
+     *                          keep all of them in memory
+     */
+    public HashJoin(Function<Build, Key> buildKeyExtractor,
+                    Function<Probe, Key> probeKeyExtractor,
+                    long expectedBuildSize,
+                    long memoryBudget) {
+        this.buildKeyExtractor = buildKeyExtractor;
+        this.probeKeyExtractor = probeKeyExtractor;
+        this.expectedBuildSize = expectedBuildSize;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Joins the two inputs. The build side is consumed immediately, while the probe side is consumed lazily
+     * (unless the join has to spill).
+     *
+     * @param buildSide the build side data quanta
+     * @param probeSide the probe side data quanta
+     * @param combiner  creates the join products
+     * @return the join products
+     */
+    public <Out> Stream<Out> join(Stream<Build> buildSide,
+                                  Stream<Probe> probeSide,
+                                  BiFunction<Build, Probe, Out> combiner) {
+        final boolean isSpillable = this.memoryBudget >= 0;
+        final HashJoinTable<Key, Build> table = new HashJoinTable<>(
+                isSpillable ? Math.min(this.expectedBuildSize, this.memoryBudget) : this.expectedBuildSize
+        );
+        if (!isSpillable) {
+            buildSide.forEachOrdered(dataQuantum -> table.add(this.buildKeyExtractor.apply(dataQuantum), dataQuantum));
+            return this.probe(table, probeSide, combiner);
+        }
+
+        // Fill the table up to the budget.
+        final Iterator<Build> buildIterator = buildSide.iterator();
+        this.load(table, buildIterator);
+        if (!buildIterator.hasNext()) {
+            return this.probe(table, probeSide, combiner);
+        }
+
+        // If the budget is exceeded, partition both sides.
+        final int numPartitions = HashPartitioner.determineNumPartitions(
+                Math.max(this.expectedBuildSize, this.memoryBudget + 1), this.memoryBudget
+        );
+        final HashPartitioner<Build> buildPartitioner =
+                new HashPartitioner<>(numPartitions, this.buildKeyExtractor, "rheem-join-build");
+        table.forEach(buildPartitioner::add);
+        buildIterator.forEachRemaining(buildPartitioner::add);
+        buildPartitioner.finishWriting();
+        final HashPartitioner<Probe> probePartitioner =
+                new HashPartitioner<>(numPartitions, this.probeKeyExtractor, "rheem-join-probe");
+        probeSide.forEachOrdered(probePartitioner::add);
+        probePartitioner.finishWriting();
+        logger.info("Hash join spilled {} build and {} probe data quanta into {} partitions.",
+                buildPartitioner.size(), probePartitioner.size(), numPartitions);
+
+        // Join the partitions one after another.
+        return IntStream.range(0, numPartitions)
+                .boxed()
+                .flatMap(partition -> this.joinPartition(
+                        buildPartitioner.getPartition(partition),
+                        probePartitioner.getPartition(partition),
+                        combiner
+                ))
+                .onClose(() -> {
+                    buildPartitioner.close();
+                    probePartitioner.close();
+                });
+    }
+
+    /**
+     * Loads the given build side into a {@link HashJoinTable} that can be probed repeatedly via
+     * {@link #join(HashJoinTable, Stream, BiFunction)}, e.g., when the build side is loop invariant.
+     *
+     * @param buildSide the build side data quanta
+     * @return the {@link HashJoinTable} or an empty {@link Optional} if the build side exceeds the memory budget
+     */
+    public Optional<HashJoinTable<Key, Build>> buildTable(Collection<Build> buildSide) {
+        if (this.memoryBudget >= 0 && buildSide.size() > this.memoryBudget) {
+            return Optional.empty();
+        }
+        final HashJoinTable<Key, Build> table = new HashJoinTable<>(buildSide.size());
+        buildSide.forEach(dataQuantum -> table.add(this.buildKeyExtractor.apply(dataQuantum), dataQuantum));
+        return Optional.of(table);
+    }
+
+    /**
+     * Joins the probe side with a {@link HashJoinTable} from {@link #buildTable(Collection)}. The probe side is
+     * consumed lazily and the {@link HashJoinTable} is not altered.
+     *
+     * @param table     contains the build side data quanta
+     * @param probeSide the probe side data quanta
+     * @param combiner  creates the join products
+     * @return the join products
+     */
+    public <Out> Stream<Out> join(HashJoinTable<Key, Build> table,
+                                  Stream<Probe> probeSide,
+                                  BiFunction<Build, Probe, Out> combiner) {
+        return this.probe(table, probeSide, combiner);
+    }
+
+    /**
+     * Joins a pair of corresponding partitions. If the build partition exceeds the {@link #memoryBudget}, it is
+     * joined chunk-wise.
+     */
+    private <Out> Stream<Out> joinPartition(SpillFile<Build> buildPartition,
+                                            SpillFile<Probe> probePartition,
+                                            BiFunction<Build, Probe, Out> combiner) {
+        if (buildPartition.size() == 0 || probePartition.size() == 0) {
+            buildPartition.close();
+            probePartition.close();
+            return Stream.empty();
+        }
+        if (buildPartition.size() > this.memoryBudget) {
+            logger.warn("Partition {} exceeds the memory budget of {} data quanta.", buildPartition, this.memoryBudget);
+        }
+
+        final Iterator<Build> buildIterator = buildPartition.read();
+        Iterator<HashJoinTable<Key, Build>> tableIterator = new Iterator<HashJoinTable<Key, Build>>() {
+
+            private HashJoinTable<Key, Build> nextTable;
+
+            @Override
+            public boolean hasNext() {
+                if (this.nextTable == null && buildIterator.hasNext()) {
+                    this.nextTable = new HashJoinTable<>(Math.min(buildPartition.size(), HashJoin.this.memoryBudget));
+                    HashJoin.this.load(this.nextTable, buildIterator);
+                }
+                return this.nextTable != null;
+            }
+
+            @Override
+            public HashJoinTable<Key, Build> next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                final HashJoinTable<Key, Build> table = this.nextTable;
+                this.nextTable = null;
+                return table;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(tableIterator, Spliterator.ORDERED), false)
+                .flatMap(chunkTable -> this.probe(chunkTable, probePartition.stream(), combiner))
+                .onClose(() -> {
+                    buildPartition.close();
+                    probePartition.close();
+                });
+    }
+
+    /**
+     * Adds data quanta to the {@link HashJoinTable} until the {@link #memoryBudget} is exhausted.
+     */
+    private void load(HashJoinTable<Key, Build> table, Iterator<Build> buildIterator) {
+        while (table.size() < Math.max(this.memoryBudget, 1) && buildIterator.hasNext()) {
+            final Build dataQuantum = buildIterator.next();
+            table.add(this.buildKeyExtractor.apply(dataQuantum), dataQuantum);
+        }
+    }
+
+    /**
+     * Probes the given data quanta against the {@link HashJoinTable}.
+     */
+    private <Out> Stream<Out> probe(HashJoinTable<Key, Build> table,
+                                    Stream<Probe> probeSide,
+                                    BiFunction<Build, Probe, Out> combiner) {
+        return probeSide.flatMap(probeDataQuantum -> {
+            final Stream<Build> matches = table.probe(this.probeKeyExtractor.apply(probeDataQuantum));
+            return matches == null ? null : matches.map(buildDataQuantum -> combiner.apply(buildDataQuantum, probeDataQuantum));
+        });
+    }
+
+}
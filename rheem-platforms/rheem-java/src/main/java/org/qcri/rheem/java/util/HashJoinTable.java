@@ -0,0 +1,433 @@
+package org.qcri.rheem.java.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Build table for hash joins. Data quanta are grouped by their join keys in array-backed buckets, i.e., all data
+ * quanta reside in a single array and are chained via {@code int} indices rather than list nodes. The keys are
+ * indexed in an open-addressing hash table. As long as all keys are {@link Long}s or {@link Integer}s, the
+ * index stores them as primitive {@code long}s; it falls back to a generic index as soon as other keys show up.
+ */
+public class HashJoinTable<Key, Value> {
+
+    /**
+     * Maximum number of data quanta (and keys) that we allocate upfront, no matter what is expected. Cardinality
+     * estimates can be very loose, so larger tables have to grow as data quanta actually arrive. Also bounds the
+     * {@link HashAggregationTable}.
+     */
+    static final int MAX_PRESIZE = 1 << 16;
+
+    /**
+     * Stores the data quanta.
+     */
+    private Object[] values;
+
+    /**
+     * Points from each data quantum in {@link #values} to the next one with the same key or {@code -1}.
+     */
+    private int[] next;
+
+    /**
+     * Number of data quanta in this instance.
+     */
+    private int size = 0;
+
+    /**
+     * Indexes the keys.
+     */
+    private KeyIndex keyIndex;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param expectedSize the expected number of data quanta to be added; only a bounded share of it is allocated
+     *                     upfront
+     */
+    public HashJoinTable(long expectedSize) {
+        final int initialCapacity = (int) Math.max(16, Math.min(expectedSize, MAX_PRESIZE));
+        this.values = new Object[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.keyIndex = null;
+    }
+
+    /**
+     * Adds a data quantum.
+     *
+     * @param key   the join key of the {@code value}
+     * @param value the data quantum
+     */
+    public void add(Key key, Value value) {
+        if (this.size == this.values.length) {
+            final int newCapacity = this.values.length + (this.values.length >> 1);
+            this.values = Arrays.copyOf(this.values, newCapacity);
+            this.next = Arrays.copyOf(this.next, newCapacity);
+        }
+        final int valueIndex = this.size++;
+        this.values[valueIndex] = value;
+        this.next[valueIndex] = -1;
+
+        if (this.keyIndex == null) {
+            final int expectedNumKeys = Math.min(this.values.length, MAX_PRESIZE);
+            this.keyIndex = LongKeyIndex.isApplicable(key) ?
+                    new LongKeyIndex(key.getClass(), expectedNumKeys) :
+                    new ObjectKeyIndex(expectedNumKeys);
+        } else if (this.keyIndex instanceof LongKeyIndex && !((LongKeyIndex) this.keyIndex).isCompatible(key)) {
+            this.keyIndex = ((LongKeyIndex) this.keyIndex).toObjectKeyIndex();
+        }
+        final int tailIndex = this.keyIndex.append(key, valueIndex);
+        if (tailIndex != -1) {
+            this.next[tailIndex] = valueIndex;
+        }
+    }
+
+    /**
+     * Provides the data quanta with the given key.
+     *
+     * @param key the join key
+     * @return a {@link Stream} of the matching data quanta or {@code null} if there are none, which is well-suited
+     * for {@link Stream#flatMap(java.util.function.Function)}
+     */
+    public Stream<Value> probe(Key key) {
+        final int head = this.findHead(key);
+        if (head == -1) return null;
+        return StreamSupport.stream(new BucketSpliterator(head), false);
+    }
+
+    /**
+     * Feeds the data quanta with the given key into a {@link Consumer}.
+     *
+     * @param key      the join key
+     * @param consumer accepts the matching data quanta
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachMatch(Key key, Consumer<? super Value> consumer) {
+        for (int i = this.findHead(key); i != -1; i = this.next[i]) {
+            consumer.accept((Value) this.values[i]);
+        }
+    }
+
+    /**
+     * Feeds all data quanta in this instance into a {@link Consumer}.
+     *
+     * @param consumer that should accept the data quanta
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super Value> consumer) {
+        for (int i = 0; i < this.size; i++) {
+            consumer.accept((Value) this.values[i]);
+        }
+    }
+
+    /**
+     * Tells whether there is at least one data quantum with the given key.
+     *
+     * @param key the join key
+     * @return whether there is such a data quantum
+     */
+    public boolean contains(Key key) {
+        return this.findHead(key) != -1;
+    }
+
+    private int findHead(Key key) {
+        return this.keyIndex == null ? -1 : this.keyIndex.findHead(key);
+    }
+
+    /**
+     * @return the number of data quanta in this instance
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return the number of distinct keys in this instance
+     */
+    public int getNumKeys() {
+        return this.keyIndex == null ? 0 : this.keyIndex.numKeys;
+    }
+
+    /**
+     * @return the number of data quanta that this instance can hold without growing
+     */
+    int getCapacity() {
+        return this.values.length;
+    }
+
+    /**
+     * @return whether the keys are indexed as primitive {@code long}s
+     */
+    boolean isPrimitiveKeyIndex() {
+        return this.keyIndex instanceof LongKeyIndex;
+    }
+
+    /**
+     * Iterates the data quanta of a bucket.
+     */
+    private class BucketSpliterator implements Spliterator<Value> {
+
+        private int current;
+
+        private BucketSpliterator(int head) {
+            this.current = head;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super Value> action) {
+            if (this.current == -1) return false;
+            action.accept((Value) HashJoinTable.this.values[this.current]);
+            this.current = HashJoinTable.this.next[this.current];
+            return true;
+        }
+
+        @Override
+        public Spliterator<Value> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    /**
+     * Spreads the bits of a hash code.
+     */
+    static int mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    static int tableSizeFor(int expectedNumKeys) {
+        int capacity = 16;
+        while (capacity < expectedNumKeys * 2 && capacity < (1 << 30)) capacity <<= 1;
+        return capacity;
+    }
+
+    /**
+     * Open-addressing index from keys to the first and last data quantum of their buckets. Uses linear probing
+     * and keeps the load factor at most 0.5.
+     */
+    private abstract static class KeyIndex {
+
+        int[] heads, tails;
+
+        int numKeys = 0;
+
+        KeyIndex(int capacity) {
+            this.heads = new int[capacity];
+            Arrays.fill(this.heads, -1);
+            this.tails = new int[capacity];
+        }
+
+        /**
+         * Registers a new data quantum with the given key.
+         *
+         * @return the index of the former last data quantum with the same key or {@code -1} if none
+         */
+        abstract int append(Object key, int valueIndex);
+
+        /**
+         * @return the index of the first data quantum with the given key or {@code -1} if none
+         */
+        abstract int findHead(Object key);
+
+    }
+
+    /**
+     * {@link KeyIndex} for arbitrary keys.
+     */
+    private static class ObjectKeyIndex extends KeyIndex {
+
+        private Object[] keys;
+
+        private int[] hashes;
+
+        ObjectKeyIndex(int expectedNumKeys) {
+            super(tableSizeFor(expectedNumKeys));
+            this.keys = new Object[this.heads.length];
+            this.hashes = new int[this.heads.length];
+        }
+
+        @Override
+        int append(Object key, int valueIndex) {
+            final int hash = mix(Objects.hashCode(key));
+            final int mask = this.heads.length - 1;
+            int slot = hash & mask;
+            while (this.heads[slot] != -1) {
+                if (this.hashes[slot] == hash && Objects.equals(this.keys[slot], key)) {
+                    final int oldTail = this.tails[slot];
+                    this.tails[slot] = valueIndex;
+                    return oldTail;
+                }
+                slot = (slot + 1) & mask;
+            }
+            this.insert(slot, key, hash, valueIndex, valueIndex);
+            return -1;
+        }
+
+        private void insert(int slot, Object key, int hash, int head, int tail) {
+            this.keys[slot] = key;
+            this.hashes[slot] = hash;
+            this.heads[slot] = head;
+            this.tails[slot] = tail;
+            if (++this.numKeys * 2 > this.heads.length) this.grow();
+        }
+
+        /**
+         * Inserts a whole bucket for a key that is not yet contained.
+         */
+        void insertBucket(Object key, int head, int tail) {
+            final int hash = mix(Objects.hashCode(key));
+            final int mask = this.heads.length - 1;
+            int slot = hash & mask;
+            while (this.heads[slot] != -1) slot = (slot + 1) & mask;
+            this.insert(slot, key, hash, head, tail);
+        }
+
+        private void grow() {
+            final Object[] oldKeys = this.keys;
+            final int[] oldHashes = this.hashes, oldHeads = this.heads, oldTails = this.tails;
+            final int capacity = oldHeads.length << 1, mask = capacity - 1;
+            this.keys = new Object[capacity];
+            this.hashes = new int[capacity];
+            this.heads = new int[capacity];
+            Arrays.fill(this.heads, -1);
+            this.tails = new int[capacity];
+            for (int oldSlot = 0; oldSlot < oldHeads.length; oldSlot++) {
+                if (oldHeads[oldSlot] == -1) continue;
+                int slot = oldHashes[oldSlot] & mask;
+                while (this.heads[slot] != -1) slot = (slot + 1) & mask;
+                this.keys[slot] = oldKeys[oldSlot];
+                this.hashes[slot] = oldHashes[oldSlot];
+                this.heads[slot] = oldHeads[oldSlot];
+                this.tails[slot] = oldTails[oldSlot];
+            }
+        }
+
+        @Override
+        int findHead(Object key) {
+            final int hash = mix(Objects.hashCode(key));
+            final int mask = this.heads.length - 1;
+            int slot = hash & mask;
+            while (this.heads[slot] != -1) {
+                if (this.hashes[slot] == hash && Objects.equals(this.keys[slot], key)) {
+                    return this.heads[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * {@link KeyIndex} for keys that are all either {@link Long}s or {@link Integer}s. They are stored unboxed.
+     */
+    private static class LongKeyIndex extends KeyIndex {
+
+        /**
+         * The type of all keys in this instance, i.e., {@link Long} or {@link Integer}. Keys of different types
+         * cannot be equal.
+         */
+        private final Class<?> keyClass;
+
+        private long[] keys;
+
+        static boolean isApplicable(Object key) {
+            return key instanceof Long || key instanceof Integer;
+        }
+
+        LongKeyIndex(Class<?> keyClass, int expectedNumKeys) {
+            super(tableSizeFor(expectedNumKeys));
+            this.keyClass = keyClass;
+            this.keys = new long[this.heads.length];
+        }
+
+        boolean isCompatible(Object key) {
+            return key != null && key.getClass() == this.keyClass;
+        }
+
+        private static long unbox(Object key) {
+            return ((Number) key).longValue();
+        }
+
+        @Override
+        int append(Object key, int valueIndex) {
+            final long longKey = unbox(key);
+            final int mask = this.heads.length - 1;
+            int slot = mix(longKey) & mask;
+            while (this.heads[slot] != -1) {
+                if (this.keys[slot] == longKey) {
+                    final int oldTail = this.tails[slot];
+                    this.tails[slot] = valueIndex;
+                    return oldTail;
+                }
+                slot = (slot + 1) & mask;
+            }
+            this.keys[slot] = longKey;
+            this.heads[slot] = valueIndex;
+            this.tails[slot] = valueIndex;
+            if (++this.numKeys * 2 > this.heads.length) this.grow();
+            return -1;
+        }
+
+        private void grow() {
+            final long[] oldKeys = this.keys;
+            final int[] oldHeads = this.heads, oldTails = this.tails;
+            final int capacity = oldHeads.length << 1, mask = capacity - 1;
+            this.keys = new long[capacity];
+            this.heads = new int[capacity];
+            Arrays.fill(this.heads, -1);
+            this.tails = new int[capacity];
+            for (int oldSlot = 0; oldSlot < oldHeads.length; oldSlot++) {
+                if (oldHeads[oldSlot] == -1) continue;
+                int slot = mix(oldKeys[oldSlot]) & mask;
+                while (this.heads[slot] != -1) slot = (slot + 1) & mask;
+                this.keys[slot] = oldKeys[oldSlot];
+                this.heads[slot] = oldHeads[oldSlot];
+                this.tails[slot] = oldTails[oldSlot];
+            }
+        }
+
+        @Override
+        int findHead(Object key) {
+            if (!this.isCompatible(key)) return -1;
+            final long longKey = unbox(key);
+            final int mask = this.heads.length - 1;
+            int slot = mix(longKey) & mask;
+            while (this.heads[slot] != -1) {
+                if (this.keys[slot] == longKey) return this.heads[slot];
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Converts this instance into an {@link ObjectKeyIndex} that retains all buckets.
+         */
+        ObjectKeyIndex toObjectKeyIndex() {
+            final ObjectKeyIndex objectKeyIndex = new ObjectKeyIndex(this.numKeys * 2);
+            for (int slot = 0; slot < this.heads.length; slot++) {
+                if (this.heads[slot] == -1) continue;
+                final Object key = this.keyClass == Integer.class ?
+                        (Object) (int) this.keys[slot] :
+                        (Object) this.keys[slot];
+                objectKeyIndex.insertBucket(key, this.heads[slot], this.tails[slot]);
+            }
+            return objectKeyIndex;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.qcri.rheem.java.util;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Hash-partitions data quanta into {@link SpillFile}s, so that data quanta with equal keys end up in the same
+ * partition. This is the basis for Grace-style operators that do not fit into the memory budget.
+ */
+public class HashPartitioner<T> implements AutoCloseable {
+
+    /**
+     * Upper bound for the number of partitions to avoid running out of file handles.
+     */
+    public static final int MAX_PARTITIONS = 128;
+
+    private final Function<T, ?> keyExtractor;
+
+    private final SpillFile<T>[] partitions;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param numPartitions the number of partitions
+     * @param keyExtractor  extracts the partitioning key from data quanta
+     * @param prefix        prefix for the names of the partition files
+     */
+    @SuppressWarnings("unchecked")
+    public HashPartitioner(int numPartitions, Function<T, ?> keyExtractor, String prefix) {
+        assert numPartitions > 0;
+        this.keyExtractor = keyExtractor;
+        this.partitions = new SpillFile[numPartitions];
+        for (int i = 0; i < numPartitions; i++) {
+            this.partitions[i] = new SpillFile<>(String.format("%s-%d-", prefix, i));
+        }
+    }
+
+    /**
+     * Determines an appropriate number of partitions.
+     *
+     * @param expectedSize the expected number of data quanta
+     * @param budget       the maximum number of data quanta per partition
+     * @return the number of partitions
+     */
+    public static int determineNumPartitions(long expectedSize, long budget) {
+        // Leave some headroom for skewed keys.
+        final long numPartitions = (2 * expectedSize + budget - 1) / Math.max(budget, 1);
+        return (int) Math.max(2, Math.min(MAX_PARTITIONS, numPartitions));
+    }
+
+    /**
+     * Determines the partition for a key.
+     *
+     * @param key           the key
+     * @param numPartitions the number of partitions
+     * @return the partition index
+     */
+    public static int partitionOf(Object key, int numPartitions) {
+        // Use different bits than the hash tables that are later built for the partitions.
+        int hash = Objects.hashCode(key) * 0x9E3779B9;
+        hash ^= hash >>> 16;
+        return (hash & 0x7fffffff) % numPartitions;
+    }
+
+    /**
+     * Adds a data quantum to its partition.
+     *
+     * @param dataQuantum the data quantum
+     */
+    public void add(T dataQuantum) {
+        final int partition = partitionOf(this.keyExtractor.apply(dataQuantum), this.partitions.length);
+        this.partitions[partition].write(dataQuantum);
+    }
+
+    /**
+     * Finishes writing all partitions.
+     */
+    public void finishWriting() {
+        for (SpillFile<T> partition : this.partitions) {
+            partition.finishWriting();
+        }
+    }
+
+    /**
+     * @return the number of partitions
+     */
+    public int getNumPartitions() {
+        return this.partitions.length;
+    }
+
+    /**
+     * @param index the partition index
+     * @return the {@link SpillFile} of the partition
+     */
+    public SpillFile<T> getPartition(int index) {
+        return this.partitions[index];
+    }
+
+    /**
+     * @return the number of data quanta in all partitions
+     */
+    public long size() {
+        long size = 0;
+        for (SpillFile<T> partition : this.partitions) {
+            size += partition.size();
+        }
+        return size;
+    }
+
+    /**
+     * Deletes all partition files.
+     */
+    @Override
+    public void close() {
+        for (SpillFile<T> partition : this.partitions) {
+            partition.close();
+        }
+    }
+}
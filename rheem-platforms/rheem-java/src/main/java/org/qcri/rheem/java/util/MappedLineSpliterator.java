@@ -0,0 +1,256 @@
+package org.qcri.rheem.java.util;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splittable {@link Spliterator} over the lines of a local file. The file is cut into segments whose boundaries are
+ * aligned to line breaks, and each segment is memory-mapped. Segments and, eventually, single segments are split at
+ * line breaks, so that parallel {@link Stream}s can scan the file with multiple threads.
+ * <p>Lines are terminated by {@code \n} or {@code \r\n} like in {@link java.io.BufferedReader#readLine()}. As the line
+ * breaks are detected on the byte level, only ASCII-compatible {@link Charset}s are supported.</p>
+ */
+public class MappedLineSpliterator implements Spliterator<String> {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedLineSpliterator.class);
+
+    /**
+     * Nominal size of the memory-mapped segments.
+     */
+    private static final int SEGMENT_SIZE = 32 << 20;
+
+    /**
+     * Do not split ranges smaller than this.
+     */
+    private static final int MIN_SPLIT_SIZE = 1 << 16;
+
+    private static final List<Charset> SUPPORTED_CHARSETS = Arrays.asList(
+            StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1
+    );
+
+    private final Charset charset;
+
+    /**
+     * The memory-mapped segments and, for each, the range of bytes that is covered by this instance.
+     */
+    private final ByteBuffer[] segments;
+
+    private final int[] starts, ends;
+
+    /**
+     * Index of the current and after the last segment of this instance.
+     */
+    private int index, fence;
+
+    /**
+     * Estimated average number of bytes per line.
+     */
+    private final double bytesPerLine;
+
+    /**
+     * Reusable buffer to decode lines.
+     */
+    private byte[] lineBuffer = new byte[256];
+
+    private MappedLineSpliterator(Charset charset,
+                                  ByteBuffer[] segments, int[] starts, int[] ends,
+                                  int index, int fence,
+                                  double bytesPerLine) {
+        this.charset = charset;
+        this.segments = segments;
+        this.starts = starts;
+        this.ends = ends;
+        this.index = index;
+        this.fence = fence;
+        this.bytesPerLine = bytesPerLine;
+    }
+
+    /**
+     * Streams the lines of a file if it can be memory-mapped.
+     *
+     * @param url     URL of the file
+     * @param charset the {@link Charset} of the file
+     * @return a {@link Stream} of the lines or {@link Optional#empty()} if the file is not local or the {@code charset}
+     * is not supported
+     */
+    public static Optional<Stream<String>> streamLines(String url, Charset charset) {
+        if (!SUPPORTED_CHARSETS.contains(charset) || !new LocalFileSystem().canHandle(url)) {
+            return Optional.empty();
+        }
+        final File file;
+        try {
+            file = LocalFileSystem.toFile(url);
+        } catch (URISyntaxException | MalformedURLException e) {
+            return Optional.empty();
+        }
+        if (!file.isFile()) return Optional.empty();
+
+        try {
+            return Optional.of(StreamSupport.stream(create(file, charset), false));
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not map %s.", url), e);
+        }
+    }
+
+    /**
+     * Creates a new instance for the given {@link File}.
+     */
+    private static MappedLineSpliterator create(File file, Charset charset) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            final long fileSize = channel.size();
+            final List<ByteBuffer> segments = new ArrayList<>();
+            long segmentStart = 0;
+            while (segmentStart < fileSize) {
+                final long segmentEnd = findLineStart(channel, Math.min(segmentStart + SEGMENT_SIZE, fileSize), fileSize);
+                if (segmentEnd - segmentStart > Integer.MAX_VALUE) {
+                    throw new RheemException(String.format("%s contains a line that is too long.", file));
+                }
+                segments.add(channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentEnd - segmentStart));
+                segmentStart = segmentEnd;
+            }
+            // Mappings remain valid after the channel is closed.
+
+            final int[] starts = new int[segments.size()], ends = new int[segments.size()];
+            for (int i = 0; i < segments.size(); i++) {
+                ends[i] = segments.get(i).capacity();
+            }
+            logger.debug("Mapped {} in {} segments.", file, segments.size());
+            return new MappedLineSpliterator(
+                    charset,
+                    segments.toArray(new ByteBuffer[segments.size()]), starts, ends,
+                    0, segments.size(),
+                    segments.isEmpty() ? 1d : estimateBytesPerLine(segments.get(0))
+            );
+        }
+    }
+
+    /**
+     * Finds the first position at or after {@code position} that starts a line.
+     */
+    private static long findLineStart(FileChannel channel, long position, long fileSize) throws IOException {
+        if (position >= fileSize || position == 0) return position;
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long bufferStart = position - 1;
+        while (bufferStart < fileSize) {
+            buffer.clear();
+            final int numRead = channel.read(buffer, bufferStart);
+            if (numRead <= 0) break;
+            for (int i = 0; i < numRead; i++) {
+                if (buffer.get(i) == '\n') return bufferStart + i + 1;
+            }
+            bufferStart += numRead;
+        }
+        return fileSize;
+    }
+
+    /**
+     * Samples the beginning of a segment to estimate the average line length.
+     */
+    private static double estimateBytesPerLine(ByteBuffer segment) {
+        final int sampleSize = Math.min(segment.capacity(), 1 << 16);
+        int numLines = 0;
+        for (int i = 0; i < sampleSize; i++) {
+            if (segment.get(i) == '\n') numLines++;
+        }
+        return numLines == 0 ? sampleSize : (double) sampleSize / numLines;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        while (this.index < this.fence) {
+            final int start = this.starts[this.index], end = this.ends[this.index];
+            if (start < end) {
+                final ByteBuffer segment = this.segments[this.index];
+                int lineEnd = start;
+                while (lineEnd < end && segment.get(lineEnd) != '\n') lineEnd++;
+                this.starts[this.index] = Math.min(lineEnd + 1, end);
+                action.accept(this.decode(segment, start, lineEnd));
+                return true;
+            }
+            this.index++;
+        }
+        return false;
+    }
+
+    /**
+     * Decodes the bytes of a line, excluding any trailing {@code \r}.
+     */
+    private String decode(ByteBuffer segment, int start, int end) {
+        if (end > start && segment.get(end - 1) == '\r') end--;
+        final int length = end - start;
+        if (this.lineBuffer.length < length) {
+            this.lineBuffer = new byte[Math.max(length, this.lineBuffer.length << 1)];
+        }
+        final ByteBuffer view = segment.duplicate();
+        view.position(start);
+        view.get(this.lineBuffer, 0, length);
+        return new String(this.lineBuffer, 0, length, this.charset);
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        final int numSegments = this.fence - this.index;
+        if (numSegments > 1) {
+            // Split off the first half of the segments.
+            final int mid = this.index + numSegments / 2;
+            final MappedLineSpliterator prefix = new MappedLineSpliterator(
+                    this.charset, this.segments, this.starts, this.ends, this.index, mid, this.bytesPerLine
+            );
+            this.index = mid;
+            return prefix;
+        } else if (numSegments == 1) {
+            // Split the single segment at a line break.
+            final ByteBuffer segment = this.segments[this.index];
+            final int start = this.starts[this.index], end = this.ends[this.index];
+            if (end - start < MIN_SPLIT_SIZE) return null;
+            int splitPoint = start + (end - start) / 2;
+            while (splitPoint < end && segment.get(splitPoint - 1) != '\n') splitPoint++;
+            if (splitPoint >= end) return null;
+            final MappedLineSpliterator prefix = new MappedLineSpliterator(
+                    this.charset,
+                    new ByteBuffer[]{segment}, new int[]{start}, new int[]{splitPoint},
+                    0, 1,
+                    this.bytesPerLine
+            );
+            this.starts[this.index] = splitPoint;
+            return prefix;
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        long numBytes = 0;
+        for (int i = this.index; i < this.fence; i++) {
+            numBytes += this.ends[i] - this.starts[i];
+        }
+        return numBytes == 0 ? 0 : Math.max(1, (long) (numBytes / this.bytesPerLine));
+    }
+
+    @Override
+    public int characteristics() {
+        // NB: We cannot report SIZED, as we only estimate the number of lines.
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+}
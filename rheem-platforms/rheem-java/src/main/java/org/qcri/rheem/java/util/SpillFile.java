@@ -0,0 +1,187 @@
+package org.qcri.rheem.java.util;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Temporary local file to offload data quanta from the heap. Data quanta are appended via Java serialization and
+ * can be read any number of times after {@link #finishWriting()}.
+ */
+public class SpillFile<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpillFile.class);
+
+    /**
+     * Number of written data quanta after which the serialization handle table is reset. Without resetting,
+     * the {@link ObjectOutputStream} would retain all written objects.
+     */
+    private static final int RESET_INTERVAL = 1000;
+
+    private final FileSystem fileSystem = new LocalFileSystem();
+
+    /**
+     * URL of the temporary file.
+     */
+    private final String url;
+
+    /**
+     * Writes to the temporary file; {@code null} if writing is finished.
+     */
+    private ObjectOutputStream writer;
+
+    /**
+     * Number of data quanta written to this instance.
+     */
+    private long size = 0;
+
+    private boolean isDeleted = false;
+
+    /**
+     * Creates a new instance in the local temp directory.
+     *
+     * @param prefix prefix for the name of the temporary file
+     */
+    public SpillFile(String prefix) {
+        try {
+            final File file = File.createTempFile(prefix, ".spill", LocalFileSystem.findTempDir());
+            file.deleteOnExit();
+            this.url = LocalFileSystem.toURL(file);
+            this.writer = new ObjectOutputStream(new BufferedOutputStream(this.fileSystem.create(this.url), 1 << 16));
+            logger.debug("Spilling data quanta to {}.", this.url);
+        } catch (IOException e) {
+            throw new RheemException("Could not create spill file.", e);
+        }
+    }
+
+    /**
+     * Appends a data quantum to this instance.
+     *
+     * @param dataQuantum the data quantum; must be {@link Serializable}
+     */
+    public void write(T dataQuantum) {
+        assert this.writer != null : String.format("%s has been finished already.", this);
+        try {
+            this.writer.writeObject(dataQuantum);
+            if (++this.size % RESET_INTERVAL == 0) {
+                this.writer.reset();
+            }
+        } catch (NotSerializableException e) {
+            throw new RheemException(String.format("Cannot spill %s, as it is not serializable.", dataQuantum), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Could not write to %s.", this.url), e);
+        }
+    }
+
+    /**
+     * Finishes writing this instance. Afterwards, it can be read.
+     */
+    public void finishWriting() {
+        if (this.writer == null) return;
+        try {
+            this.writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Could not close %s.", this.url), e);
+        } finally {
+            this.writer = null;
+        }
+    }
+
+    /**
+     * @return the number of data quanta written to this instance
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Reads the contents of this instance. Implicitly finishes writing.
+     *
+     * @return an {@link Iterator} over all written data quanta in the order of writing
+     */
+    public Iterator<T> read() {
+        this.finishWriting();
+        assert !this.isDeleted : String.format("%s has been deleted already.", this);
+        final ObjectInputStream reader;
+        try {
+            reader = new ObjectInputStream(new BufferedInputStream(this.fileSystem.open(this.url), 1 << 16));
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Could not open %s.", this.url), e);
+        }
+
+        return new Iterator<T>() {
+
+            private long numRead = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (this.numRead < SpillFile.this.size) return true;
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    logger.warn("Could not close {}.", SpillFile.this.url, e);
+                }
+                return false;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                try {
+                    this.numRead++;
+                    return (T) reader.readObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(String.format("Could not read from %s.", SpillFile.this.url), e);
+                } catch (ClassNotFoundException e) {
+                    throw new RheemException(String.format("Could not deserialize from %s.", SpillFile.this.url), e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Reads the contents of this instance. Implicitly finishes writing.
+     *
+     * @return a sequential {@link Stream} over all written data quanta in the order of writing
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliterator(this.read(), this.size, Spliterator.ORDERED),
+                false
+        );
+    }
+
+    /**
+     * Deletes the underlying file. Afterwards, this instance cannot be used anymore.
+     */
+    @Override
+    public void close() {
+        if (this.isDeleted) return;
+        this.isDeleted = true;
+        try {
+            if (this.writer != null) {
+                this.writer.close();
+                this.writer = null;
+            }
+            this.fileSystem.delete(this.url, false);
+        } catch (IOException e) {
+            logger.warn("Could not delete {}.", this.url, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, %d data quanta]", this.getClass().getSimpleName(), this.url, this.size);
+    }
+}
@@ -9,6 +9,7 @@ import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.plan.rheemplan.Operator;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.PipeChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.platform.JavaPlatform;
@@ -72,4 +73,8 @@ public class JavaExecutionOperatorTestBase {
         return ChannelFactory.createCollectionChannelInstance(collection, configuration);
     }
 
+    protected static PipeChannel.Instance createPipeChannelInstance() {
+        return ChannelFactory.createPipeChannelInstance(configuration);
+    }
+
 }
@@ -0,0 +1,61 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link JavaIntersectOperator}.
+ */
+public class JavaIntersectOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        Stream<Integer> inputStream0 = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 9, 10).stream();
+        Stream<Integer> inputStream1 = Arrays.asList(0, 2, 3, 3, 4, 5, 7, 8, 9, 11).stream();
+
+        // Execute.
+        final List<Integer> result = this.intersect(inputStream0, inputStream1);
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList(2, 3, 4, 5, 7, 8, 9), result);
+    }
+
+    @Test
+    public void testExecutionWithSpilling() {
+        // Prepare test data.
+        Stream<Integer> inputStream0 = IntStream.range(0, 1000).map(i -> i % 500).boxed();
+        Stream<Integer> inputStream1 = IntStream.range(250, 750).boxed();
+
+        // Execute with a tiny memory budget.
+        final List<Integer> result;
+        configuration.setProperty("rheem.java.join.budget", "10");
+        try {
+            result = this.intersect(inputStream0, inputStream1);
+        } finally {
+            configuration.setProperty("rheem.java.join.budget", "-1");
+        }
+
+        // Verify the outcome.
+        Assert.assertEquals(IntStream.range(250, 500).boxed().collect(Collectors.toList()), result);
+    }
+
+    private List<Integer> intersect(Stream<Integer> inputStream0, Stream<Integer> inputStream1) {
+        JavaIntersectOperator<Integer> intersect = new JavaIntersectOperator<>(Integer.class);
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(inputStream0),
+                createStreamChannelInstance(inputStream1)
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(intersect, inputs, outputs);
+        return outputs[0].<Integer>provideStream().sorted().collect(Collectors.toList());
+    }
+
+}
@@ -4,13 +4,19 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -81,4 +87,79 @@ public class JavaJoinOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    /**
+     * Counts the keys extracted from the first input of {@link #createCountingJoin()}.
+     */
+    private static final AtomicInteger numExtractedKeys0 = new AtomicInteger();
+
+    /**
+     * Creates a {@link JavaJoinOperator} on {@link Integer}s whose first input is considered loop invariant.
+     */
+    private static JavaJoinOperator<Integer, Integer, Integer> createCountingJoin() {
+        return new JavaJoinOperator<Integer, Integer, Integer>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> {
+                    numExtractedKeys0.incrementAndGet();
+                    return i;
+                }, Integer.class, Integer.class),
+                new TransformationDescriptor<>(i -> i, Integer.class, Integer.class)
+        ) {
+            @Override
+            boolean isLoopInvariant(ChannelInstance[] inputs, int inputIndex) {
+                return inputIndex == 0 && inputs[0] instanceof CollectionChannel.Instance;
+            }
+        };
+    }
+
+    /**
+     * Evaluates the given {@link JavaJoinOperator} as in a loop iteration and collects its output.
+     */
+    private static List<Tuple2<Integer, Integer>> evaluateIteration(JavaJoinOperator<Integer, Integer, Integer> join,
+                                                                    CollectionChannel.Instance invariantInput,
+                                                                    long invariantCardinality,
+                                                                    long variantCardinality) {
+        final OptimizationContext.OperatorContext operatorContext = createOperatorContext(join);
+        operatorContext.setInputCardinality(0, new CardinalityEstimate(invariantCardinality, invariantCardinality, 1d));
+        operatorContext.setInputCardinality(1, new CardinalityEstimate(variantCardinality, variantCardinality, 1d));
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                invariantInput,
+                createStreamChannelInstance(Stream.of(1, 2, 4))
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        join.evaluate(inputs, outputs, createExecutor(), operatorContext);
+        final List<Tuple2<Integer, Integer>> result = outputs[0].<Tuple2<Integer, Integer>>provideStream()
+                .collect(Collectors.toList());
+        Collections.sort(result, (t1, t2) -> t1.getField0().compareTo(t2.getField0()));
+        return result;
+    }
+
+    @Test
+    public void testReuseOfLoopInvariantTable() {
+        final JavaJoinOperator<Integer, Integer, Integer> join = createCountingJoin();
+        final CollectionChannel.Instance invariantInput = createCollectionChannelInstance(Arrays.asList(1, 2, 3));
+        final List<Tuple2<Integer, Integer>> expectedResult = Arrays.asList(new Tuple2<>(1, 1), new Tuple2<>(2, 2));
+        numExtractedKeys0.set(0);
+
+        // Although larger than the other input, the invariant input should be built only in the first iteration.
+        Assert.assertEquals(expectedResult, evaluateIteration(join, invariantInput, 20, 3));
+        Assert.assertEquals(3, numExtractedKeys0.get());
+        Assert.assertEquals(expectedResult, evaluateIteration(join, invariantInput, 20, 3));
+        Assert.assertEquals(3, numExtractedKeys0.get());
+    }
+
+    @Test
+    public void testNoReuseOfLargeLoopInvariantInput() {
+        final JavaJoinOperator<Integer, Integer, Integer> join = createCountingJoin();
+        final CollectionChannel.Instance invariantInput = createCollectionChannelInstance(Arrays.asList(1, 2, 3));
+        final List<Tuple2<Integer, Integer>> expectedResult = Arrays.asList(new Tuple2<>(1, 1), new Tuple2<>(2, 2));
+        numExtractedKeys0.set(0);
+
+        // The invariant input is expected to be much larger than the other input, so it should be probed instead.
+        Assert.assertEquals(expectedResult, evaluateIteration(join, invariantInput, 1000000, 3));
+        Assert.assertEquals(3, numExtractedKeys0.get());
+        Assert.assertEquals(expectedResult, evaluateIteration(join, invariantInput, 1000000, 3));
+        Assert.assertEquals(6, numExtractedKeys0.get());
+    }
+
 }
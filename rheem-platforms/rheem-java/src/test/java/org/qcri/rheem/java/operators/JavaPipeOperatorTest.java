@@ -0,0 +1,96 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.PipeChannel;
+import org.qcri.rheem.java.channels.StreamChannel;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link JavaPipeOperator} and {@link JavaPipeSource}.
+ */
+public class JavaPipeOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testRoundTrip() {
+        final List<Integer> data = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+
+        // Pipe the data quanta.
+        JavaPipeOperator<Integer> pipeOperator = new JavaPipeOperator<>(DataSetType.createDefault(Integer.class));
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(data.stream())};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createPipeChannelInstance()};
+        evaluate(pipeOperator, inputs, outputs);
+
+        // Read them back.
+        JavaPipeSource<Integer> pipeSource = new JavaPipeSource<>(DataSetType.createDefault(Integer.class));
+        inputs = outputs;
+        outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(pipeSource, inputs, outputs);
+
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(data, result);
+        Assert.assertEquals(data.size(), inputs[0].getMeasuredCardinality().getAsLong());
+    }
+
+    @Test
+    public void testBackpressure() throws InterruptedException {
+        final AtomicInteger numProducedDataQuanta = new AtomicInteger();
+        final Stream<Integer> stream = IntStream.range(0, 10000).boxed().peek(i -> numProducedDataQuanta.incrementAndGet());
+
+        final PipeChannel.Instance pipe = createPipeChannelInstance();
+        pipe.accept(stream, 10, 2);
+        Thread.sleep(200);
+
+        // At most the buffered batches and the batch in progress should have been produced.
+        Assert.assertTrue(numProducedDataQuanta.get() <= 3 * 10 + 1);
+
+        final Iterator<List<Integer>> batches = pipe.provideBatches();
+        int numDataQuanta = 0;
+        while (batches.hasNext()) {
+            final List<Integer> batch = batches.next();
+            Assert.assertTrue(batch.size() <= 10);
+            numDataQuanta += batch.size();
+        }
+        Assert.assertEquals(10000, numDataQuanta);
+    }
+
+    @Test
+    public void testDisposal() throws InterruptedException {
+        final StreamChannel.Instance input = createStreamChannelInstance(IntStream.range(0, 10000).boxed());
+        final PipeChannel.Instance pipe = createPipeChannelInstance();
+        pipe.accept(input.provideStream().iterator(), new ChannelInstance[]{input}, null, null, 10, 2);
+
+        // The producer should retain its input until it is cancelled.
+        Thread.sleep(200);
+        Assert.assertEquals(1, input.getNumReferences());
+        pipe.dispose();
+        for (int i = 0; i < 50 && input.getNumReferences() > 0; i++) {
+            Thread.sleep(100);
+        }
+        Assert.assertEquals(0, input.getNumReferences());
+        Assert.assertTrue(input.isDisposed());
+    }
+
+    @Test(expected = RheemException.class)
+    public void testFailurePropagation() {
+        final Stream<Integer> stream = IntStream.range(0, 100).boxed().map(i -> {
+            if (i == 50) throw new IllegalStateException("Failure for testing purposes.");
+            return i;
+        });
+
+        final PipeChannel.Instance pipe = createPipeChannelInstance();
+        pipe.accept(stream, 10, 2);
+        pipe.provideStream().count();
+    }
+
+}
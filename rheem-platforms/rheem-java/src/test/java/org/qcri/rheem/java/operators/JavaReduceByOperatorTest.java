@@ -10,8 +10,10 @@ import org.qcri.rheem.core.types.DataUnitType;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -63,4 +65,38 @@ public class JavaReduceByOperatorTest extends JavaExecutionOperatorTestBase {
         Assert.assertEquals(expectedResults.length, result.size());
 
     }
+
+    @Test
+    public void testParallelExecution() {
+        // Prepare test data.
+        Stream<Tuple2<Integer, Integer>> inputStream = IntStream.range(0, 100000)
+                .mapToObj(i -> new Tuple2<>(i % 100, 1))
+                .parallel();
+
+        // Build the reduce operator.
+        JavaReduceByOperator<Tuple2<Integer, Integer>, Integer> reduceByOperator =
+                new JavaReduceByOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ReduceDescriptor<>(
+                                (a, b) -> new Tuple2<>(a.field0, a.field1 + b.field1),
+                                DataUnitType.createGroupedUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the reduce operator.
+        evaluate(reduceByOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final Map<Integer, Integer> result = outputs[0].<Tuple2<Integer, Integer>>provideStream()
+                .collect(Collectors.toMap(tuple -> tuple.field0, tuple -> tuple.field1));
+        Assert.assertEquals(100, result.size());
+        result.values().forEach(count -> Assert.assertEquals(1000, count.intValue()));
+    }
 }
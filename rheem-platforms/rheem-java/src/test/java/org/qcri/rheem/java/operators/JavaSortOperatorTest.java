@@ -5,9 +5,13 @@ import org.junit.Test;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -38,4 +42,36 @@ public class JavaSortOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testExternalExecution() {
+        // Prepare test data.
+        final Random random = new Random(42);
+        final List<Integer> inputValues = IntStream.range(0, 10000)
+                .map(i -> random.nextInt(1000))
+                .boxed()
+                .collect(Collectors.toList());
+
+        // Build the sort operator.
+        JavaSortOperator<Integer> sortOperator =
+                new JavaSortOperator<>(
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute with a memory budget that enforces several runs.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputValues.stream())};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        configuration.setProperty("rheem.java.sort.budget", "100");
+        try {
+            evaluate(sortOperator, inputs, outputs);
+        } finally {
+            configuration.setProperty("rheem.java.sort.budget", "-1");
+        }
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        final List<Integer> expectedResult = new ArrayList<>(inputValues);
+        Collections.sort(expectedResult);
+        Assert.assertEquals(expectedResult, result);
+    }
+
 }
@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.PipeChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 
@@ -48,4 +49,10 @@ public class ChannelFactory {
         return instance;
     }
 
+    public static PipeChannel.Instance createPipeChannelInstance(Configuration configuration) {
+        return (PipeChannel.Instance) PipeChannel.DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(executor, null, -1);
+    }
+
 }
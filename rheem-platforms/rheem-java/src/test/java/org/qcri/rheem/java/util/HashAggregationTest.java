@@ -0,0 +1,55 @@
+package org.qcri.rheem.java.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link HashAggregation} and {@link HashAggregationTable}.
+ */
+public class HashAggregationTest {
+
+    @Test
+    public void testPrimitiveKeys() {
+        HashAggregationTable<Object, Integer> table = new HashAggregationTable<>(0);
+        for (int i = 0; i < 1000; i++) {
+            table.aggregate(i % 100, 1, Function.identity(), Integer::sum);
+        }
+
+        Assert.assertTrue(table.isPrimitiveKeyStorage());
+        Assert.assertEquals(100, table.size());
+        Assert.assertEquals(Integer.valueOf(10), table.get(42));
+        Assert.assertNull(table.get(42L));
+
+        // Adding a non-primitive key should retain all aggregates.
+        Assert.assertTrue(table.aggregate("x", 1, Function.identity(), Integer::sum));
+        Assert.assertFalse(table.isPrimitiveKeyStorage());
+        Assert.assertEquals(101, table.size());
+        Assert.assertEquals(Integer.valueOf(10), table.get(42));
+        Assert.assertEquals(Integer.valueOf(1), table.get("x"));
+    }
+
+    @Test
+    public void testAggregationWithSpilling() {
+        final List<Integer> expectedResult = this.sumByKey(-1);
+        Assert.assertEquals(500, expectedResult.size());
+        Assert.assertEquals(expectedResult, this.sumByKey(50));
+        Assert.assertEquals(expectedResult, this.sumByKey(1));
+    }
+
+    private List<Integer> sumByKey(long memoryBudget) {
+        final HashAggregation<Integer, Integer, Integer> aggregation = HashAggregation.reducing(
+                i -> i % 500, Integer::sum, 10, memoryBudget
+        );
+        final Collection<Integer> result = aggregation.collect(IntStream.range(0, 10000).boxed().iterator());
+        final List<Integer> sortedResult = new ArrayList<>(result);
+        return sortedResult.stream().sorted().collect(Collectors.toList());
+    }
+
+}
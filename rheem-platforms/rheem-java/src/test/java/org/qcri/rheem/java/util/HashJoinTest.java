@@ -0,0 +1,105 @@
+package org.qcri.rheem.java.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link HashJoin} and {@link HashJoinTable}.
+ */
+public class HashJoinTest {
+
+    @Test
+    public void testPrimitiveKeys() {
+        HashJoinTable<Integer, String> table = new HashJoinTable<>(0);
+        for (int i = 0; i < 1000; i++) {
+            table.add(i % 100, "v" + i);
+        }
+
+        Assert.assertTrue(table.isPrimitiveKeyIndex());
+        Assert.assertEquals(1000, table.size());
+        Assert.assertEquals(100, table.getNumKeys());
+        Assert.assertEquals(10, table.probe(42).count());
+        Assert.assertNull(table.probe(100));
+        Assert.assertFalse(table.contains(-1));
+    }
+
+    @Test
+    public void testLooseExpectedSize() {
+        HashJoinTable<Integer, String> table = new HashJoinTable<>(Long.MAX_VALUE);
+        Assert.assertTrue(table.getCapacity() <= 1 << 16);
+
+        for (int i = 0; i < 100000; i++) {
+            table.add(i, "v" + i);
+        }
+        Assert.assertEquals(100000, table.size());
+        Assert.assertEquals(100000, table.getNumKeys());
+        Assert.assertEquals(Arrays.asList("v99999"), table.probe(99999).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testMixedKeys() {
+        HashJoinTable<Object, String> table = new HashJoinTable<>(10);
+        table.add(1L, "a");
+        table.add(2L, "b");
+        table.add("x", "c");
+        table.add(null, "d");
+        table.add(1L, "e");
+
+        Assert.assertFalse(table.isPrimitiveKeyIndex());
+        Assert.assertEquals(Arrays.asList("a", "e"), table.probe(1L).collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList("c"), table.probe("x").collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList("d"), table.probe(null).collect(Collectors.toList()));
+        Assert.assertNull(table.probe(1));
+    }
+
+    @Test
+    public void testJoinWithSpilling() {
+        final List<Tuple2<Integer, Integer>> expectedResult = this.join(-1);
+        Assert.assertEquals(2000, expectedResult.size());
+        Assert.assertEquals(expectedResult, this.join(300));
+        Assert.assertEquals(expectedResult, this.join(1));
+    }
+
+    @Test
+    public void testJoinWithPrebuiltTable() {
+        HashJoin<Integer, Integer, Integer> hashJoin = new HashJoin<>(
+                Function.identity(), probe -> probe % 1000, 1000, 1000
+        );
+        final HashJoinTable<Integer, Integer> table =
+                hashJoin.buildTable(IntStream.range(0, 1000).boxed().collect(Collectors.toList())).get();
+
+        // The table must be reusable, e.g., across loop iterations.
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(2000, hashJoin.join(table, IntStream.range(0, 2000).boxed(), Tuple2::new).count());
+        }
+        Assert.assertEquals(1000, table.size());
+
+        // Build sides that exceed the memory budget are refused.
+        Assert.assertFalse(hashJoin.buildTable(IntStream.range(0, 1001).boxed().collect(Collectors.toList())).isPresent());
+    }
+
+    private List<Tuple2<Integer, Integer>> join(long memoryBudget) {
+        HashJoin<Integer, Integer, Integer> hashJoin = new HashJoin<>(
+                Function.identity(), probe -> probe % 1000, 1000, memoryBudget
+        );
+        Stream<Tuple2<Integer, Integer>> joinStream = hashJoin.join(
+                IntStream.range(0, 1000).boxed(),
+                IntStream.range(0, 2000).boxed(),
+                Tuple2::new
+        );
+        return joinStream
+                .sorted((t1, t2) -> t1.field0.equals(t2.field0) ?
+                        Integer.compare(t1.field1, t2.field1) :
+                        Integer.compare(t1.field0, t2.field0))
+                .collect(Collectors.toList());
+    }
+
+}
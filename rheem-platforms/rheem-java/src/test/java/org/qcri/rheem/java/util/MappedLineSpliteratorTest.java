@@ -0,0 +1,51 @@
+package org.qcri.rheem.java.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link MappedLineSpliterator}.
+ */
+public class MappedLineSpliteratorTest {
+
+    @Test
+    public void testSequentialAndParallelScan() throws IOException {
+        final List<String> expectedLines = IntStream.range(0, 100000)
+                .mapToObj(i -> i % 1000 == 0 ? "" : i + "\t" + (i * 31))
+                .collect(Collectors.toList());
+        final File file = File.createTempFile("rheem-lines", ".tsv");
+        file.deleteOnExit();
+        // Use Windows line breaks for some lines and omit the final line break.
+        final String content = IntStream.range(0, expectedLines.size())
+                .mapToObj(i -> expectedLines.get(i) + (i == expectedLines.size() - 1 ? "" : i % 7 == 0 ? "\r\n" : "\n"))
+                .collect(Collectors.joining());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        final String url = LocalFileSystem.toURL(file);
+
+        final Optional<Stream<String>> sequentialLines = MappedLineSpliterator.streamLines(url, StandardCharsets.UTF_8);
+        Assert.assertTrue(sequentialLines.isPresent());
+        Assert.assertEquals(expectedLines, sequentialLines.get().collect(Collectors.toList()));
+
+        final List<String> parallelLines = MappedLineSpliterator.streamLines(url, StandardCharsets.UTF_8).get()
+                .parallel()
+                .collect(Collectors.toList());
+        Assert.assertEquals(expectedLines, parallelLines);
+    }
+
+    @Test
+    public void testFallbackForNonLocalFiles() {
+        Assert.assertFalse(MappedLineSpliterator.streamLines("hdfs://localhost/data.tsv", StandardCharsets.UTF_8).isPresent());
+    }
+
+}
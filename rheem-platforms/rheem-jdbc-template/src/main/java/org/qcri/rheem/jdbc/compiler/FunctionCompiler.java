@@ -2,6 +2,8 @@ package org.qcri.rheem.jdbc.compiler;
 
 import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
 
 /**
  * Compiles {@link FunctionDescriptor}s to SQL clauses.
@@ -20,4 +22,28 @@ public class FunctionCompiler {
         return sqlImplementation;
     }
 
+    /**
+     * Compile a transformation, e.g., a key extractor, to a SQL expression.
+     *
+     * @param descriptor describes the transformation
+     * @return a compiled SQL expression, e.g., usable in a {@code GROUP BY} clause
+     */
+    public String compile(TransformationDescriptor descriptor) {
+        final String sqlImplementation = descriptor.getSqlImplementation();
+        assert sqlImplementation != null;
+        return sqlImplementation;
+    }
+
+    /**
+     * Compile a reduction to a SQL {@code SELECT} list of aggregates.
+     *
+     * @param descriptor describes the reduction
+     * @return a compiled SQL {@code SELECT} list
+     */
+    public String compile(ReduceDescriptor descriptor) {
+        final String sqlImplementation = descriptor.getSqlImplementation();
+        assert sqlImplementation != null;
+        return sqlImplementation;
+    }
+
 }
@@ -5,23 +5,29 @@ import org.qcri.rheem.basic.operators.TableSource;
 import org.qcri.rheem.core.api.Job;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
-import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.ExecutionState;
 import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.core.platform.ExecutorTemplate;
 import org.qcri.rheem.core.platform.Platform;
-import org.qcri.rheem.core.util.RheemCollections;
 import org.qcri.rheem.core.util.fs.FileSystem;
 import org.qcri.rheem.core.util.fs.FileSystems;
 import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
 import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
 import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+import org.qcri.rheem.jdbc.operators.JdbcBulkLoadOperator;
+import org.qcri.rheem.jdbc.operators.JdbcCountOperator;
+import org.qcri.rheem.jdbc.operators.JdbcDistinctOperator;
 import org.qcri.rheem.jdbc.operators.JdbcExecutionOperator;
 import org.qcri.rheem.jdbc.operators.JdbcFilterOperator;
+import org.qcri.rheem.jdbc.operators.JdbcGlobalReduceOperator;
+import org.qcri.rheem.jdbc.operators.JdbcJoinOperator;
 import org.qcri.rheem.jdbc.operators.JdbcProjectionOperator;
+import org.qcri.rheem.jdbc.operators.JdbcReduceByOperator;
+import org.qcri.rheem.jdbc.operators.JdbcSortOperator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,10 +38,13 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * {@link Executor} implementation for the {@link JdbcPlatformTemplate}.
@@ -50,6 +59,16 @@ public class JdbcExecutor extends ExecutorTemplate {
 
     private final FunctionCompiler functionCompiler = new FunctionCompiler();
 
+    /**
+     * Tables created by {@link JdbcBulkLoadOperator}s, which are dropped when this instance is disposed.
+     */
+    private final List<String> loadedTables = new ArrayList<>();
+
+    /**
+     * Tables that have been loaded most recently by the {@link ExecutionTask}s of {@link JdbcBulkLoadOperator}s.
+     */
+    private final Map<ExecutionTask, String> currentLoadedTables = new HashMap<>();
+
     public JdbcExecutor(JdbcPlatformTemplate platform, Job job) {
         super(job.getCrossPlatformExecutor());
         this.platform = platform;
@@ -58,73 +77,122 @@ public class JdbcExecutor extends ExecutorTemplate {
 
     @Override
     public void execute(ExecutionStage stage, OptimizationContext optimizationContext, ExecutionState executionState) {
-        // TODO: Load ChannelInstances from executionState? (as of now there is no input into PostgreSQL).
-        Collection<?> startTasks = stage.getStartTasks();
         Collection<?> termTasks = stage.getTerminalTasks();
 
         // Verify that we can handle this instance.
-        assert startTasks.size() == 1 : "Invalid jdbc stage: multiple sources are not currently supported";
-        ExecutionTask startTask = (ExecutionTask) startTasks.toArray()[0];
         assert termTasks.size() == 1 : "Invalid JDBC stage: multiple terminal tasks are not currently supported.";
         ExecutionTask termTask = (ExecutionTask) termTasks.toArray()[0];
-        assert startTask.getOperator() instanceof TableSource : "Invalid JDBC stage: Start task has to be a TableSource";
-
-        // Extract the different types of ExecutionOperators from the stage.
-        TableSource tableOp = (TableSource) startTask.getOperator();
-        SqlQueryChannel.Instance tipChannelInstance = this.instantiateOutboundChannel(startTask, optimizationContext);
-        Collection<ExecutionTask> filterTasks = new ArrayList<>(4);
-        ExecutionTask projectionTask = null;
-        Set<ExecutionTask> allTasks = stage.getAllTasks();
-        assert allTasks.size() <= 3;
-        ExecutionTask nextTask = this.findJdbcExecutionOperatorTaskInStage(startTask, stage);
-        while (nextTask != null) {
-            // Evaluate the nextTask.
-            if (nextTask.getOperator() instanceof JdbcFilterOperator) {
-                filterTasks.add(nextTask);
-            } else if (nextTask.getOperator() instanceof JdbcProjectionOperator) {
-                assert projectionTask == null; //Allow one projection operator per stage for now.
-                projectionTask = nextTask;
-
-            } else {
-                throw new RheemException(String.format("Unsupported JDBC execution task %s", nextTask.toString()));
-            }
 
-            // Move the tipChannelInstance.
-            tipChannelInstance = this.instantiateOutboundChannel(nextTask, optimizationContext, tipChannelInstance);
+        // Assemble the SQL query from the TableSources to the terminal task.
+        Map<ExecutionTask, SqlQueryChannel.Instance> channelInstances = new HashMap<>();
+        SqlQueryBuilder queryBuilder = this.createSqlQuery(
+                termTask, stage, optimizationContext, executionState, channelInstances
+        );
+        SqlQueryChannel.Instance tipChannelInstance = channelInstances.get(termTask);
+        tipChannelInstance.setSqlQuery(queryBuilder.build());
+
+        // Return the tipChannelInstance.
+        executionState.register(tipChannelInstance);
+    }
 
-            // Go to the next nextTask.
-            nextTask = this.findJdbcExecutionOperatorTaskInStage(nextTask, stage);
+    /**
+     * Assembles the SQL query that corresponds to the given {@link ExecutionTask} and its predecessors within the
+     * {@link ExecutionStage}. Also, instantiates their outbound {@link SqlQueryChannel}s.
+     *
+     * @param task                whose SQL query is requested
+     * @param stage               that contains the {@code task}
+     * @param optimizationContext provides information about the {@link ExecutionTask}s
+     * @param executionState      provides the inputs of {@link JdbcBulkLoadOperator}s
+     * @param channelInstances    collects the outbound {@link SqlQueryChannel.Instance}s of the {@link ExecutionTask}s
+     * @return a {@link SqlQueryBuilder} for the SQL query
+     */
+    private SqlQueryBuilder createSqlQuery(ExecutionTask task,
+                                           ExecutionStage stage,
+                                           OptimizationContext optimizationContext,
+                                           ExecutionState executionState,
+                                           Map<ExecutionTask, SqlQueryChannel.Instance> channelInstances) {
+        final Operator operator = task.getOperator();
+        if (operator instanceof TableSource) {
+            channelInstances.computeIfAbsent(task, t -> this.instantiateOutboundChannel(t, optimizationContext));
+            return SqlQueryBuilder.fromTable(this.getSqlClause(operator));
+        } else if (operator instanceof JdbcBulkLoadOperator) {
+            if (!channelInstances.containsKey(task)) {
+                channelInstances.put(task, this.loadTable(task, optimizationContext, executionState));
+            }
+            return SqlQueryBuilder.fromTable(
+                    ((JdbcBulkLoadOperator) operator).createSqlClause(this.connection, this.functionCompiler, this.currentLoadedTables.get(task))
+            );
         }
 
-        // Create the SQL query.
-        String tableName = this.getSqlClause(tableOp);
-        Collection<String> conditions = filterTasks.stream()
-                .map(ExecutionTask::getOperator)
-                .map(this::getSqlClause)
-                .collect(Collectors.toList());
-        String projection = projectionTask == null ? "*" : this.getSqlClause(projectionTask.getOperator());
-        String query = this.createSqlQuery(tableName, conditions, projection);
-        tipChannelInstance.setSqlQuery(query);
+        // Assemble the queries for the inputs first.
+        final SqlQueryBuilder[] inputQueries = new SqlQueryBuilder[task.getNumInputChannels()];
+        final SqlQueryChannel.Instance[] inputChannelInstances = new SqlQueryChannel.Instance[inputQueries.length];
+        for (int i = 0; i < inputQueries.length; i++) {
+            final ExecutionTask producerTask = task.getInputChannel(i).getProducer();
+            if (producerTask.getStage() != stage || !(producerTask.getOperator() instanceof JdbcExecutionOperator)) {
+                throw new RheemException(String.format("Unsupported input for JDBC execution task %s.", task));
+            }
+            inputQueries[i] = this.createSqlQuery(
+                    producerTask, stage, optimizationContext, executionState, channelInstances
+            );
+            inputChannelInstances[i] = channelInstances.get(producerTask);
+        }
+        channelInstances.computeIfAbsent(
+                task, t -> this.instantiateOutboundChannel(t, optimizationContext, inputChannelInstances)
+        );
 
-        // Return the tipChannelInstance.
-        executionState.register(tipChannelInstance);
+        // Apply the operator.
+        if (operator instanceof JdbcFilterOperator) {
+            return inputQueries[0].where(this.getSqlClause(operator));
+        } else if (operator instanceof JdbcProjectionOperator) {
+            return inputQueries[0].select(this.getSqlClause(operator));
+        } else if (operator instanceof JdbcReduceByOperator) {
+            final String grouping = ((JdbcReduceByOperator<?>) operator).createGroupByClause(this.functionCompiler);
+            return inputQueries[0].aggregate(this.getSqlClause(operator), grouping);
+        } else if (operator instanceof JdbcGlobalReduceOperator) {
+            return inputQueries[0].aggregate(this.getSqlClause(operator), null);
+        } else if (operator instanceof JdbcCountOperator) {
+            return inputQueries[0].count();
+        } else if (operator instanceof JdbcDistinctOperator) {
+            return inputQueries[0].distinct();
+        } else if (operator instanceof JdbcSortOperator) {
+            return inputQueries[0].orderBy(this.getSqlClause(operator));
+        } else if (operator instanceof JdbcJoinOperator) {
+            return SqlQueryBuilder.join(inputQueries[0], inputQueries[1], this.getSqlClause(operator));
+        }
+        throw new RheemException(String.format("Unsupported JDBC execution task %s", task.toString()));
     }
 
     /**
-     * Retrieves the follow-up {@link ExecutionTask} of the given {@code task} unless it is not comprising a
-     * {@link JdbcExecutionOperator} and/or not in the given {@link ExecutionStage}.
+     * Loads the input of a {@link JdbcBulkLoadOperator} into a new table, which is dropped when this instance is
+     * disposed.
      *
-     * @param task  whose follow-up {@link ExecutionTask} is requested; should have a single follower
-     * @param stage in which the follow-up {@link ExecutionTask} should be
-     * @return the said follow-up {@link ExecutionTask} or {@code null} if none
+     * @param task                contains the {@link JdbcBulkLoadOperator}
+     * @param optimizationContext provides information about the {@link ExecutionTask}
+     * @param executionState      provides the input {@link ChannelInstance}
+     * @return the outbound {@link SqlQueryChannel.Instance} of the {@code task}
      */
-    private ExecutionTask findJdbcExecutionOperatorTaskInStage(ExecutionTask task, ExecutionStage stage) {
-        assert task.getNumOuputChannels() == 1;
-        final Channel outputChannel = task.getOutputChannel(0);
-        final ExecutionTask consumer = RheemCollections.getSingle(outputChannel.getConsumers());
-        return consumer.getStage() == stage && consumer.getOperator() instanceof JdbcExecutionOperator ?
-                consumer :
-                null;
+    private SqlQueryChannel.Instance loadTable(ExecutionTask task,
+                                               OptimizationContext optimizationContext,
+                                               ExecutionState executionState) {
+        final ChannelInstance inputChannelInstance = executionState.getChannelInstance(task.getInputChannel(0));
+        if (inputChannelInstance == null) {
+            throw new RheemException(String.format("No input available for %s.", task));
+        }
+        final String tableName = "rheem_load_" + UUID.randomUUID().toString().replace("-", "");
+        this.loadedTables.add(tableName);
+        this.currentLoadedTables.put(task, tableName);
+
+        final JdbcBulkLoadOperator operator = (JdbcBulkLoadOperator) task.getOperator();
+        long startTime = System.currentTimeMillis();
+        final long numRows = operator.load(inputChannelInstance, this.connection, tableName, this.getConfiguration());
+        this.logger.info("Loaded {} rows into {} in {} ms.", numRows, tableName, System.currentTimeMillis() - startTime);
+
+        final SqlQueryChannel.Instance outputChannelInstance = this.instantiateOutboundChannel(task, optimizationContext);
+        outputChannelInstance.getLazyChannelLineage().addPredecessor(inputChannelInstance.getLazyChannelLineage());
+        outputChannelInstance.setMeasuredCardinality(numRows);
+        executionState.addCardinalityMeasurement(outputChannelInstance);
+        return outputChannelInstance;
     }
 
     /**
@@ -147,40 +215,19 @@ public class JdbcExecutor extends ExecutorTemplate {
     /**
      * Instantiates the outbound {@link SqlQueryChannel} of an {@link ExecutionTask}.
      *
-     * @param task                       whose outbound {@link SqlQueryChannel} should be instantiated
-     * @param optimizationContext        provides information about the {@link ExecutionTask}
-     * @param predecessorChannelInstance preceeding {@link SqlQueryChannel.Instance} to keep track of lineage
+     * @param task                        whose outbound {@link SqlQueryChannel} should be instantiated
+     * @param optimizationContext         provides information about the {@link ExecutionTask}
+     * @param predecessorChannelInstances preceeding {@link SqlQueryChannel.Instance}s to keep track of lineage
      * @return the {@link SqlQueryChannel.Instance}
      */
     private SqlQueryChannel.Instance instantiateOutboundChannel(ExecutionTask task,
                                                                 OptimizationContext optimizationContext,
-                                                                SqlQueryChannel.Instance predecessorChannelInstance) {
+                                                                SqlQueryChannel.Instance... predecessorChannelInstances) {
         final SqlQueryChannel.Instance newInstance = this.instantiateOutboundChannel(task, optimizationContext);
-        newInstance.getLazyChannelLineage().addPredecessor(predecessorChannelInstance.getLazyChannelLineage());
-        return newInstance;
-    }
-
-    /**
-     * Creates a SQL query.
-     *
-     * @param tableName  the table to be queried
-     * @param conditions conditions for the {@code WHERE} clause
-     * @param projection projection for the {@code SELECT} clause
-     * @return the SQL query
-     */
-    protected String createSqlQuery(String tableName, Collection<String> conditions, String projection) {
-        StringBuilder sb = new StringBuilder(1000);
-        sb.append("SELECT ").append(projection).append(" FROM ").append(tableName);
-        if (!conditions.isEmpty()) {
-            sb.append(" WHERE ");
-            String separator = "";
-            for (String condition : conditions) {
-                sb.append(separator).append(condition);
-                separator = " AND ";
-            }
+        for (SqlQueryChannel.Instance predecessorChannelInstance : predecessorChannelInstances) {
+            newInstance.getLazyChannelLineage().addPredecessor(predecessorChannelInstance.getLazyChannelLineage());
         }
-        sb.append(';');
-        return sb.toString();
+        return newInstance;
     }
 
     /**
@@ -193,8 +240,24 @@ public class JdbcExecutor extends ExecutorTemplate {
         return ((JdbcExecutionOperator) operator).createSqlClause(this.connection, this.functionCompiler);
     }
 
+    /**
+     * Drops a table that has been created by a {@link JdbcBulkLoadOperator}.
+     *
+     * @param tableName the name of the table
+     */
+    private void dropTable(String tableName) {
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute(String.format("DROP TABLE IF EXISTS %s;", tableName));
+        } catch (SQLException e) {
+            this.logger.error("Could not drop {}.", tableName, e);
+        }
+    }
+
     @Override
     public void dispose() {
+        this.loadedTables.forEach(this::dropTable);
+        this.loadedTables.clear();
+        this.currentLoadedTables.clear();
         try {
             this.connection.close();
         } catch (SQLException e) {
@@ -0,0 +1,281 @@
+package org.qcri.rheem.jdbc.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Assembles a SQL query from the clauses of consecutive {@link org.qcri.rheem.jdbc.operators.JdbcExecutionOperator}s.
+ * As long as the clauses can be merged into a single {@code SELECT} statement, they are; otherwise, the query
+ * assembled so far becomes a derived table of a new query.
+ */
+class SqlQueryBuilder {
+
+    /**
+     * Matches the alias of a {@code SELECT} list item.
+     */
+    private static final Pattern ALIAS_PATTERN = Pattern.compile("\\s+AS\\s+(\\w+)$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Table or derived table for the {@code FROM} clause.
+     */
+    private String from;
+
+    /**
+     * Conditions for the {@code WHERE} clause.
+     */
+    private final List<String> conditions = new ArrayList<>(4);
+
+    /**
+     * {@code SELECT} list or {@code null} to select all columns.
+     */
+    private String projection;
+
+    /**
+     * Whether the query should select {@code DISTINCT} rows.
+     */
+    private boolean isDistinct = false;
+
+    /**
+     * Whether the {@link #projection} aggregates the rows.
+     */
+    private boolean isAggregating = false;
+
+    /**
+     * Expressions for the {@code GROUP BY} clause or {@code null} if none.
+     */
+    private String grouping;
+
+    /**
+     * Whether the query should yield no row at all rather than a single row of aggregates over no rows.
+     */
+    private boolean isSkippingEmptyAggregate = false;
+
+    /**
+     * Expressions for the {@code ORDER BY} clause or {@code null} if none.
+     */
+    private String ordering;
+
+    private SqlQueryBuilder(String from) {
+        this.from = from;
+    }
+
+    /**
+     * Creates a new instance that queries a table.
+     *
+     * @param tableName the name of the table
+     * @return the new instance
+     */
+    static SqlQueryBuilder fromTable(String tableName) {
+        return new SqlQueryBuilder(tableName);
+    }
+
+    /**
+     * Adds a condition to the {@code WHERE} clause.
+     *
+     * @param condition the condition
+     * @return this instance
+     */
+    SqlQueryBuilder where(String condition) {
+        if (this.isAggregating || this.isDistinct) this.nest();
+        this.conditions.add(condition);
+        return this;
+    }
+
+    /**
+     * Projects the rows.
+     *
+     * @param projection the {@code SELECT} list
+     * @return this instance
+     */
+    SqlQueryBuilder select(String projection) {
+        if (this.projection != null || this.isAggregating || this.isDistinct) this.nest();
+        this.projection = projection;
+        return this;
+    }
+
+    /**
+     * Aggregates the rows by some key.
+     *
+     * @param aggregates the {@code SELECT} list with the aggregates
+     * @param grouping   the {@code GROUP BY} expressions or {@code null} to aggregate all rows into a single one
+     * @return this instance
+     */
+    SqlQueryBuilder aggregate(String aggregates, String grouping) {
+        if (this.projection != null || this.isAggregating || this.isDistinct) this.nest();
+        this.ordering = null;
+        this.projection = aggregates;
+        this.isAggregating = true;
+        this.grouping = grouping;
+        // Global aggregates over no rows would yield a row of NULLs, while Rheem yields no data quantum.
+        this.isSkippingEmptyAggregate = grouping == null;
+        return this;
+    }
+
+    /**
+     * Counts the rows.
+     *
+     * @return this instance
+     */
+    SqlQueryBuilder count() {
+        if (this.isAggregating || this.isDistinct) this.nest();
+        this.ordering = null;
+        this.projection = "COUNT(*)";
+        this.isAggregating = true;
+        return this;
+    }
+
+    /**
+     * Removes duplicate rows.
+     *
+     * @return this instance
+     */
+    SqlQueryBuilder distinct() {
+        if (this.isAggregating) this.nest();
+        this.ordering = null;
+        this.isDistinct = true;
+        return this;
+    }
+
+    /**
+     * Sorts the rows.
+     *
+     * @param ordering the {@code ORDER BY} expressions
+     * @return this instance
+     */
+    SqlQueryBuilder orderBy(String ordering) {
+        this.ordering = ordering;
+        return this;
+    }
+
+    /**
+     * Joins two queries. The result comprises all columns of the {@code left} query followed by all columns of the
+     * {@code right} query.
+     *
+     * @param left      the left query, referred to as {@code t0}
+     * @param right     the right query, referred to as {@code t1}
+     * @param condition the join condition
+     * @return a new instance
+     */
+    static SqlQueryBuilder join(SqlQueryBuilder left, SqlQueryBuilder right, String condition) {
+        final SqlQueryBuilder join = new SqlQueryBuilder(
+                left.asDerivedTable("t0") + " JOIN " + right.asDerivedTable("t1") + " ON " + condition
+        );
+        join.projection = "t0.*, t1.*";
+        return join;
+    }
+
+    /**
+     * Renders this instance as a table in a {@code FROM} clause.
+     *
+     * @param alias the alias of the table
+     * @return the table
+     */
+    private String asDerivedTable(String alias) {
+        if (this.isPlainTable()) {
+            return this.from + " AS " + alias;
+        }
+        this.ordering = null;
+        return "(" + this.render() + ") AS " + alias;
+    }
+
+    /**
+     * @return whether this instance merely scans a table
+     */
+    private boolean isPlainTable() {
+        return this.conditions.isEmpty() && this.projection == null && !this.isDistinct && !this.isAggregating
+                && this.ordering == null && !this.from.startsWith("(") && !this.from.contains(" ");
+    }
+
+    /**
+     * Turns the query assembled so far into a derived table of a new query.
+     */
+    private void nest() {
+        // The ordering of a derived table is not guaranteed to survive, so it is dropped.
+        this.ordering = null;
+        this.from = "(" + this.render() + ") AS t";
+        this.conditions.clear();
+        this.projection = null;
+        this.isDistinct = false;
+        this.isAggregating = false;
+        this.grouping = null;
+        this.isSkippingEmptyAggregate = false;
+    }
+
+    /**
+     * Renders the SQL query.
+     *
+     * @return the SQL query
+     */
+    String build() {
+        return this.render() + ';';
+    }
+
+    private String render() {
+        if (this.isSkippingEmptyAggregate) {
+            // Not all dialects (e.g., SQLite) accept HAVING without GROUP BY, so we count the aggregated rows along
+            // with the aggregates and filter on that count in an outer query.
+            final StringBuilder aggregates = new StringBuilder(), columns = new StringBuilder();
+            final List<String> selectItems = splitSelectList(this.projection);
+            for (int i = 0; i < selectItems.size(); i++) {
+                final String selectItem = selectItems.get(i);
+                final Matcher aliasMatcher = ALIAS_PATTERN.matcher(selectItem);
+                final boolean hasAlias = aliasMatcher.find();
+                final String column = hasAlias ? aliasMatcher.group(1) : "agg" + i;
+                aggregates.append(selectItem);
+                if (!hasAlias) aggregates.append(" AS ").append(column);
+                aggregates.append(", ");
+                columns.append(i == 0 ? "" : ", ").append(column);
+            }
+            return "SELECT " + columns + " FROM (" + this.render(aggregates + "COUNT(*) AS row_count")
+                    + ") AS t WHERE row_count > 0";
+        }
+        return this.render(this.projection);
+    }
+
+    /**
+     * Splits a {@code SELECT} list into its items, i.e., at commas outside of parentheses and quotes.
+     */
+    private static List<String> splitSelectList(String selectList) {
+        final List<String> selectItems = new ArrayList<>();
+        int depth = 0, start = 0;
+        char quote = 0;
+        for (int i = 0; i < selectList.length(); i++) {
+            final char c = selectList.charAt(i);
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                selectItems.add(selectList.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        selectItems.add(selectList.substring(start).trim());
+        return selectItems;
+    }
+
+    private String render(String projection) {
+        StringBuilder sb = new StringBuilder(1000);
+        sb.append("SELECT ");
+        if (this.isDistinct) sb.append("DISTINCT ");
+        sb.append(projection == null ? "*" : projection).append(" FROM ").append(this.from);
+        if (!this.conditions.isEmpty()) {
+            sb.append(" WHERE ");
+            String separator = "";
+            for (String condition : this.conditions) {
+                sb.append(separator).append(condition);
+                separator = " AND ";
+            }
+        }
+        if (this.grouping != null) sb.append(" GROUP BY ").append(this.grouping);
+        if (this.ordering != null) sb.append(" ORDER BY ").append(this.ordering);
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,411 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.apache.commons.io.IOUtils;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Loads data quanta from a {@link CollectionChannel} or a TSV {@link FileChannel} into a new table of a
+ * {@link JdbcPlatformTemplate}, so that subsequent {@link JdbcExecutionOperator}s can process them within the database.
+ * The table lives as long as the {@link org.qcri.rheem.jdbc.execution.JdbcExecutor} that created it.
+ * <p>{@link Record}s are loaded field by field, other data quanta into a single column. The columns are named after
+ * the {@link RecordType} of the input, if any, and their SQL types are inferred from the first batch of data quanta.
+ * Fields of TSV files are parsed as integers or floating point numbers where the first batch permits. Should a later
+ * field not fit its column type, the column is widened and the load starts over.</p>
+ */
+public abstract class JdbcBulkLoadOperator extends UnaryToUnaryOperator<Object, Record> implements JdbcExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param inputType type of the data quanta to be loaded
+     */
+    @SuppressWarnings("unchecked")
+    public JdbcBulkLoadOperator(DataSetType<?> inputType) {
+        super((DataSetType<Object>) inputType, createOutputType(inputType), false);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcBulkLoadOperator(JdbcBulkLoadOperator that) {
+        super(that);
+    }
+
+    private static DataSetType<Record> createOutputType(DataSetType<?> inputType) {
+        if (inputType.getDataUnitType() instanceof RecordType) {
+            @SuppressWarnings("unchecked")
+            final DataSetType<Record> recordType = (DataSetType<Record>) inputType;
+            return recordType;
+        }
+        return DataSetType.createDefault(Record.class);
+    }
+
+    /**
+     * Loads the data quanta of a {@link ChannelInstance} into a new table.
+     *
+     * @param input         the {@link CollectionChannel.Instance} or {@link FileChannel.Instance} to be loaded
+     * @param connection    the JDBC {@link Connection} through which to load the data quanta
+     * @param tableName     the name of the table to be created
+     * @param configuration provides configuration values
+     * @return the number of loaded rows
+     */
+    public long load(ChannelInstance input, Connection connection, String tableName, Configuration configuration) {
+        Class<?>[] columnTypes = null;
+        while (true) {
+            try {
+                return this.load(input, connection, tableName, configuration, columnTypes);
+            } catch (ColumnTypeMismatch e) {
+                // Widen the column type and start over.
+                columnTypes = e.columnTypes.clone();
+                columnTypes[e.column] = columnTypes[e.column] == Long.class && isDouble(e.value) ?
+                        Double.class :
+                        String.class;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(String.format("DROP TABLE %s;", tableName));
+                } catch (SQLException e2) {
+                    throw new RheemException(String.format("Could not drop %s to reload it.", tableName), e2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the data quanta of a {@link ChannelInstance} into a new table.
+     *
+     * @param columnTypes the column types of the table or {@code null} to infer them from the first batch
+     * @throws ColumnTypeMismatch if a TSV field does not fit the type of its column
+     * @see #load(ChannelInstance, Connection, String, Configuration)
+     */
+    private long load(ChannelInstance input,
+                      Connection connection,
+                      String tableName,
+                      Configuration configuration,
+                      Class<?>[] columnTypes) {
+        final JdbcPlatformTemplate platform = this.getPlatform();
+        final int batchSize = (int) Math.max(1, configuration.getLongProperty(platform.loadBatchSizeProperty, 10000));
+
+        // Determine the table schema from the first batch.
+        final boolean isTsvFile = input instanceof FileChannel.Instance;
+        final Iterator<Object[]> rowIterator = isTsvFile ?
+                new TsvRowIterator(((FileChannel.Instance) input).getSinglePath()) :
+                ((CollectionChannel.Instance) input).provideCollection().stream().map(JdbcBulkLoadOperator::toRow).iterator();
+        final List<Object[]> firstBatch = new ArrayList<>(batchSize);
+        try {
+            while (firstBatch.size() < batchSize && rowIterator.hasNext()) {
+                firstBatch.add(rowIterator.next());
+            }
+            if (columnTypes == null) {
+                final int numColumns = firstBatch.isEmpty() ? 1 : firstBatch.get(0).length;
+                columnTypes = new Class<?>[numColumns];
+                for (int column = 0; column < numColumns; column++) {
+                    columnTypes[column] = isTsvFile ?
+                            inferTsvColumnType(firstBatch, column) :
+                            inferColumnType(firstBatch, column);
+                }
+            }
+            Iterator<Object[]> rows = new ConcatenatingIterator(firstBatch.iterator(), rowIterator);
+            if (isTsvFile) {
+                final Function<Object[], Object[]> parser = createTsvParser(columnTypes);
+                final Iterator<Object[]> unparsedRows = rows;
+                rows = new Iterator<Object[]>() {
+                    @Override
+                    public boolean hasNext() {
+                        return unparsedRows.hasNext();
+                    }
+
+                    @Override
+                    public Object[] next() {
+                        return parser.apply(unparsedRows.next());
+                    }
+                };
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(this.createTableDefinition(tableName, columnTypes));
+            }
+            return platform.bulkLoad(connection, tableName, columnTypes.length, rows, configuration);
+        } catch (SQLException | UncheckedIOException e) {
+            throw new RheemException(String.format("Could not load data into %s.", tableName), e);
+        } finally {
+            if (rowIterator instanceof TsvRowIterator) {
+                ((TsvRowIterator) rowIterator).close();
+            }
+        }
+    }
+
+    /**
+     * Creates the {@code CREATE TABLE} statement for the table to load.
+     */
+    private String createTableDefinition(String tableName, Class<?>[] columnTypes) {
+        final String[] columnNames = this.getColumnNames(columnTypes.length);
+        StringBuilder sb = new StringBuilder(100).append("CREATE TABLE ").append(tableName).append(" (");
+        for (int column = 0; column < columnTypes.length; column++) {
+            if (column > 0) sb.append(", ");
+            sb.append(columnNames[column]).append(' ').append(this.getPlatform().getSqlType(columnTypes[column]));
+        }
+        return sb.append(");").toString();
+    }
+
+    /**
+     * Names the columns after the {@link RecordType} of the input if it fits or {@code c0}, {@code c1}, ... otherwise.
+     */
+    private String[] getColumnNames(int numColumns) {
+        final DataUnitType<?> dataUnitType = this.getInputType().getDataUnitType();
+        if (dataUnitType instanceof RecordType) {
+            final String[] fieldNames = ((RecordType) dataUnitType).getFieldNames();
+            if (fieldNames.length == numColumns) return fieldNames;
+        }
+        final String[] columnNames = new String[numColumns];
+        for (int column = 0; column < numColumns; column++) {
+            columnNames[column] = "c" + column;
+        }
+        return columnNames;
+    }
+
+    private static Object[] toRow(Object dataQuantum) {
+        if (dataQuantum instanceof Record) {
+            final Record record = (Record) dataQuantum;
+            final Object[] row = new Object[record.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = record.getField(i);
+            }
+            return row;
+        }
+        return new Object[]{dataQuantum};
+    }
+
+    /**
+     * Infers the type of a column from its first non-{@code null} value.
+     */
+    private static Class<?> inferColumnType(List<Object[]> rows, int column) {
+        for (Object[] row : rows) {
+            if (column < row.length && row[column] != null) return row[column].getClass();
+        }
+        return String.class;
+    }
+
+    /**
+     * Infers the type of a TSV column by trying to parse its values.
+     */
+    private static Class<?> inferTsvColumnType(List<Object[]> rows, int column) {
+        boolean isLong = !rows.isEmpty(), isDouble = !rows.isEmpty();
+        for (Object[] row : rows) {
+            if (column >= row.length) continue;
+            final String value = (String) row[column];
+            if (isLong) {
+                try {
+                    Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    isLong = false;
+                }
+            }
+            if (!isLong && isDouble) {
+                isDouble = isDouble(value);
+            }
+            if (!isDouble) break;
+        }
+        return isLong ? Long.class : isDouble ? Double.class : String.class;
+    }
+
+    private static boolean isDouble(String value) {
+        try {
+            Double.parseDouble(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a {@link Function} that parses TSV fields according to the given column types.
+     *
+     * @throws ColumnTypeMismatch if a field does not fit the type of its column
+     */
+    private static Function<Object[], Object[]> createTsvParser(Class<?>[] columnTypes) {
+        return fields -> {
+            if (fields.length != columnTypes.length) {
+                throw new RheemException(String.format("Expected %d fields, found %s.",
+                        columnTypes.length, Arrays.toString(fields)));
+            }
+            final Object[] row = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                try {
+                    row[i] = columnTypes[i] == Long.class ? Long.valueOf((String) fields[i]) :
+                            columnTypes[i] == Double.class ? Double.valueOf((String) fields[i]) :
+                                    fields[i];
+                } catch (NumberFormatException e) {
+                    throw new ColumnTypeMismatch(columnTypes, i, (String) fields[i]);
+                }
+            }
+            return row;
+        };
+    }
+
+    /**
+     * The table of this instance is specific to each execution, so its SQL clause can only be created via
+     * {@link #createSqlClause(Connection, FunctionCompiler, String)}.
+     */
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        throw new RheemException(String.format("%s requires the name of the loaded table.", this));
+    }
+
+    /**
+     * Creates the SQL clause for a table that has been created via {@link #load}, i.e., an identifier usable in a
+     * {@code FROM} clause.
+     *
+     * @param tableName the name of the loaded table
+     * @return the SQL clause
+     */
+    public String createSqlClause(Connection connection, FunctionCompiler compiler, String tableName) {
+        if (tableName == null) {
+            throw new RheemException(String.format("%s has not loaded any table.", this));
+        }
+        return tableName;
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.bulkload.load", this.getPlatform().getPlatformId());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, FileChannel.HDFS_TSV_DESCRIPTOR);
+    }
+
+    /**
+     * Signals that a TSV field does not fit the type of its column.
+     */
+    private static class ColumnTypeMismatch extends RuntimeException {
+
+        private final Class<?>[] columnTypes;
+
+        private final int column;
+
+        private final String value;
+
+        ColumnTypeMismatch(Class<?>[] columnTypes, int column, String value) {
+            super(String.format("Field %d (%s) is not of type %s.", column, value, columnTypes[column].getSimpleName()));
+            this.columnTypes = columnTypes;
+            this.column = column;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Iterates the lines of a (possibly partitioned) TSV file and splits them into their fields.
+     */
+    private static class TsvRowIterator implements Iterator<Object[]>, Closeable {
+
+        private final Iterator<String> pathIterator;
+
+        private BufferedReader reader;
+
+        private String nextLine;
+
+        TsvRowIterator(String path) {
+            final Collection<String> actualPaths = FileSystems.findActualInputPaths(path);
+            this.pathIterator = actualPaths.iterator();
+            this.advance();
+        }
+
+        private void advance() {
+            try {
+                do {
+                    while (this.reader == null) {
+                        if (!this.pathIterator.hasNext()) {
+                            this.nextLine = null;
+                            return;
+                        }
+                        final String path = this.pathIterator.next();
+                        final FileSystem fileSystem = FileSystems.requireFileSystem(path);
+                        this.reader = new BufferedReader(new InputStreamReader(fileSystem.open(path), StandardCharsets.UTF_8));
+                    }
+                    this.nextLine = this.reader.readLine();
+                    if (this.nextLine == null) {
+                        this.reader.close();
+                        this.reader = null;
+                    }
+                } while (this.nextLine == null || this.nextLine.isEmpty());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextLine != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final Object[] fields = this.nextLine.split("\t", -1);
+            this.advance();
+            return fields;
+        }
+
+        @Override
+        public void close() {
+            IOUtils.closeQuietly(this.reader);
+            this.reader = null;
+        }
+    }
+
+    /**
+     * Iterates two {@link Iterator}s one after another.
+     */
+    private static class ConcatenatingIterator implements Iterator<Object[]> {
+
+        private final Iterator<Object[]> first, second;
+
+        ConcatenatingIterator(Iterator<Object[]> first, Iterator<Object[]> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.first.hasNext() || this.second.hasNext();
+        }
+
+        @Override
+        public Object[] next() {
+            return this.first.hasNext() ? this.first.next() : this.second.next();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.CountOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+
+/**
+ * Template for JDBC-based {@link CountOperator}s.
+ */
+public abstract class JdbcCountOperator extends CountOperator<Record> implements JdbcExecutionOperator {
+
+    public JdbcCountOperator(DataSetType<Record> type) {
+        super(type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcCountOperator(CountOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        return "COUNT(*)";
+    }
+
+    @Override
+    public Object convertResultRow(Object[] row) {
+        return ((Number) row[0]).longValue();
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.count.load", this.getPlatform().getPlatformId());
+    }
+}
@@ -1,5 +1,6 @@
 package org.qcri.rheem.jdbc.operators;
 
+import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.basic.operators.TableSource;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
@@ -14,8 +15,12 @@ public interface JdbcExecutionOperator extends ExecutionOperator {
 
     /**
      * Creates a SQL clause for this instance. For {@link TableSource}s it returns an identifier for the table
-     * usable in a {@code FROM} clause. For {@link JdbcProjectionOperator}s it returns a list usable in a
+     * usable in a {@code FROM} clause. {@link JdbcBulkLoadOperator}s create a new table for each execution, so they
+     * require its name (see {@link JdbcBulkLoadOperator#createSqlClause(Connection, FunctionCompiler, String)}). For {@link JdbcProjectionOperator}s it returns a list usable in a
      * {@code SELECT} clause. For {@link JdbcFilterOperator}s it creates a condition usable in a {@code WHERE} clause.
+     * For {@link JdbcReduceByOperator}s, {@link JdbcGlobalReduceOperator}s, and {@link JdbcCountOperator}s it returns
+     * a list of aggregates usable in a {@code SELECT} clause. For {@link JdbcSortOperator}s it returns a list usable
+     * in an {@code ORDER BY} clause. For {@link JdbcJoinOperator}s it returns the join condition.
      * Also, these different clauses should be compatible for connected {@link JdbcExecutionOperator}s.
      *
      * @param compiler used to create SQL code
@@ -26,6 +31,16 @@ public interface JdbcExecutionOperator extends ExecutionOperator {
     @Override
     JdbcPlatformTemplate getPlatform();
 
+    /**
+     * Converts a row of the SQL query result of this instance into a data quantum of its output type.
+     *
+     * @param row the column values of the row
+     * @return the data quantum, by default a {@link Record}
+     */
+    default Object convertResultRow(Object[] row) {
+        return new Record(row);
+    }
+
     @Override
     default List<ChannelDescriptor> getSupportedInputChannels(int index) {
         return Collections.singletonList(this.getPlatform().getSqlQueryChannelDescriptor());
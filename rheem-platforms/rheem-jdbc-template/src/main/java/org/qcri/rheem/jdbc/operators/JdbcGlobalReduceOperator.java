@@ -0,0 +1,51 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.GlobalReduceOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.util.Optional;
+
+/**
+ * Template for JDBC-based {@link GlobalReduceOperator}s. The reduce descriptor needs to provide a SQL implementation
+ * that is used in the {@code SELECT} clause.
+ */
+public abstract class JdbcGlobalReduceOperator extends GlobalReduceOperator<Record> implements JdbcExecutionOperator {
+
+    public JdbcGlobalReduceOperator(ReduceDescriptor<Record> reduceDescriptor) {
+        super(reduceDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcGlobalReduceOperator(GlobalReduceOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        return compiler.compile(this.reduceDescriptor);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.globalreduce.load", this.getPlatform().getPlatformId());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator<ExecutionOperator>> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator<ExecutionOperator>> optEstimator =
+                JdbcExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.reduceDescriptor, configuration);
+        return optEstimator;
+    }
+}
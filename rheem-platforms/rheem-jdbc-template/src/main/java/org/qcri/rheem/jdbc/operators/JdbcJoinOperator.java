@@ -0,0 +1,101 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Template for JDBC-based equi-{@link JoinOperator}s. The key descriptors need to provide SQL implementations that
+ * name the (comma-separated) join columns of the respective input. As the joined rows are split into their
+ * {@link Record}s by position, both inputs need to be described by {@link RecordType}s.
+ */
+public abstract class JdbcJoinOperator<Key> extends JoinOperator<Record, Record, Key> implements JdbcExecutionOperator {
+
+    public JdbcJoinOperator(TransformationDescriptor<Record, Key> keyDescriptor0,
+                            TransformationDescriptor<Record, Key> keyDescriptor1,
+                            DataSetType<Record> inputType0,
+                            DataSetType<Record> inputType1) {
+        super(keyDescriptor0, keyDescriptor1, inputType0, inputType1);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcJoinOperator(JoinOperator<Record, Record, Key> that) {
+        super(that);
+    }
+
+    /**
+     * Creates the join condition for this instance, which refers to the inputs as {@code t0} and {@code t1}.
+     */
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        final String[] keys0 = this.getJoinColumns(0, compiler), keys1 = this.getJoinColumns(1, compiler);
+        if (keys0.length != keys1.length) {
+            throw new RheemException(String.format("Incompatible join keys for %s.", this));
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys0.length; i++) {
+            if (i > 0) sb.append(" AND ");
+            sb.append("t0.").append(keys0[i]).append(" = t1.").append(keys1[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Retrieves the join columns for one of the inputs.
+     */
+    private String[] getJoinColumns(int inputIndex, FunctionCompiler compiler) {
+        final TransformationDescriptor<Record, Key> keyDescriptor =
+                inputIndex == 0 ? this.keyDescriptor0 : this.keyDescriptor1;
+        return Arrays.stream(compiler.compile(keyDescriptor).split(","))
+                .map(String::trim)
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public Object convertResultRow(Object[] row) {
+        final int width0 = this.getRecordWidth(0);
+        return new Tuple2<>(
+                new Record(Arrays.copyOfRange(row, 0, width0)),
+                new Record(Arrays.copyOfRange(row, width0, row.length))
+        );
+    }
+
+    private int getRecordWidth(int inputIndex) {
+        final DataSetType<?> inputType = this.getInput(inputIndex).getType();
+        if (!(inputType.getDataUnitType() instanceof RecordType)) {
+            throw new RheemException(String.format("%s requires RecordTypes for its inputs.", this));
+        }
+        return ((RecordType) inputType.getDataUnitType()).getFieldNames().length;
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.join.load", this.getPlatform().getPlatformId());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator<ExecutionOperator>> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator<ExecutionOperator>> optEstimator =
+                JdbcExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+}
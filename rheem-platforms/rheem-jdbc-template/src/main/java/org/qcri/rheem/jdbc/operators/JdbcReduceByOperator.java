@@ -0,0 +1,64 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.util.Optional;
+
+/**
+ * Template for JDBC-based {@link ReduceByOperator}s. Both the key and the reduce descriptor need to provide a SQL
+ * implementation: The key is used in the {@code GROUP BY} clause and the reduction in the {@code SELECT} clause.
+ */
+public abstract class JdbcReduceByOperator<Key> extends ReduceByOperator<Record, Key> implements JdbcExecutionOperator {
+
+    public JdbcReduceByOperator(TransformationDescriptor<Record, Key> keyDescriptor,
+                                ReduceDescriptor<Record> reduceDescriptor) {
+        super(keyDescriptor, reduceDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcReduceByOperator(ReduceByOperator<Record, Key> that) {
+        super(that);
+    }
+
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        return compiler.compile(this.reduceDescriptor);
+    }
+
+    /**
+     * Creates a SQL clause for the grouping of this instance.
+     *
+     * @param compiler used to create SQL code
+     * @return a list usable in a {@code GROUP BY} clause
+     */
+    public String createGroupByClause(FunctionCompiler compiler) {
+        return compiler.compile(this.keyDescriptor);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.reduceby.load", this.getPlatform().getPlatformId());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator<ExecutionOperator>> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator<ExecutionOperator>> optEstimator =
+                JdbcExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.reduceDescriptor, configuration);
+        return optEstimator;
+    }
+}
@@ -0,0 +1,43 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.SortOperator;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+
+/**
+ * Template for JDBC-based {@link SortOperator}s. {@link Record}s are sorted lexicographically by their fields, which
+ * therefore need to be named by a {@link RecordType}.
+ */
+public abstract class JdbcSortOperator extends SortOperator<Record> implements JdbcExecutionOperator {
+
+    public JdbcSortOperator(DataSetType<Record> type) {
+        super(type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcSortOperator(SortOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        if (!(this.getInputType().getDataUnitType() instanceof RecordType)) {
+            throw new RheemException(String.format("%s requires a RecordType.", this));
+        }
+        return String.join(", ", ((RecordType) this.getInputType().getDataUnitType()).getFieldNames());
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.sort.load", this.getPlatform().getPlatformId());
+    }
+}
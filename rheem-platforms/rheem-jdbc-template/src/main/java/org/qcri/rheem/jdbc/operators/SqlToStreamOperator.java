@@ -3,6 +3,7 @@ package org.qcri.rheem.jdbc.operators;
 import org.json.JSONObject;
 import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
@@ -24,7 +25,12 @@ import org.slf4j.LoggerFactory;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -71,13 +77,38 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
         final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
         JdbcPlatformTemplate producerPlatform = (JdbcPlatformTemplate) input.getChannel().getProducer().getPlatform();
+        final Configuration configuration = executor.getConfiguration();
         final Connection connection = producerPlatform
-                .createDatabaseDescriptor(executor.getConfiguration())
+                .createDatabaseDescriptor(configuration)
                 .createJdbcConnection();
 
-        Iterator<Record> resultSetIterator = new ResultSetIterator(connection, input.getSqlQuery());
-        Spliterator<Record> resultSetSpliterator = Spliterators.spliteratorUnknownSize(resultSetIterator, 0);
-        Stream<Record> resultSetStream = StreamSupport.stream(resultSetSpliterator, false);
+        final Statement statement;
+        try {
+            statement = producerPlatform.createStreamingStatement(connection, configuration);
+        } catch (SQLException e) {
+            try {
+                connection.close();
+            } catch (SQLException e2) {
+                LoggerFactory.getLogger(this.getClass()).error("Could not close connection.", e2);
+            }
+            throw new RheemException("Could not create SQL statement.", e);
+        }
+        final JdbcExecutionOperator producerOperator =
+                (JdbcExecutionOperator) input.getChannel().getProducer().getOperator();
+        ResultSetIterator resultSetIterator = new ResultSetIterator(
+                connection,
+                statement,
+                input.getSqlQuery(),
+                producerOperator::convertResultRow,
+                (int) configuration.getLongProperty(producerPlatform.fetchSizeProperty, 10000),
+                (int) configuration.getLongProperty(producerPlatform.prefetchProperty, 2)
+        );
+        Spliterator<Object> resultSetSpliterator = Spliterators.spliteratorUnknownSize(resultSetIterator, 0);
+        // The JDBC resources are released as soon as the result set is exhausted. Lazy Streams derived from this one
+        // might be consumed only after this operator's stage has been disposed, so we must not release them any
+        // earlier, unless the final consumer closes its Stream.
+        Stream<Object> resultSetStream = StreamSupport.stream(resultSetSpliterator, false)
+                .onClose(resultSetIterator::close);
 
         output.accept(resultSetStream);
 
@@ -100,9 +131,17 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
     }
 
     /**
-     * Exposes a {@link ResultSet} as an {@link Iterator}.
+     * Exposes a {@link ResultSet} as an {@link Iterator}. The {@link ResultSet} is read in batches of data quanta,
+     * optionally by a prefetch thread, so that database round-trips overlap with the processing of the data quanta.
      */
-    private static class ResultSetIterator implements Iterator<Record>, AutoCloseable {
+    private static class ResultSetIterator implements Iterator<Object>, AutoCloseable {
+
+        /**
+         * The {@link Connection} that is dedicated to this instance and released along with it.
+         */
+        private Connection connection;
+
+        private Statement statement;
 
         /**
          * Keeps around the {@link ResultSet} of the SQL query.
@@ -110,63 +149,195 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
         private ResultSet resultSet;
 
         /**
-         * The next {@link Record} to be delivered via {@link #next()}.
+         * Number of columns in the {@link #resultSet}.
+         */
+        private final int recordWidth;
+
+        /**
+         * Converts rows of the {@link #resultSet} into data quanta.
+         */
+        private final Function<Object[], Object> rowConverter;
+
+        /**
+         * Maximum number of data quanta per batch.
+         */
+        private final int batchSize;
+
+        /**
+         * Hands over batches from the {@link #prefetchThread}; an empty batch marks the end of the {@link #resultSet}.
+         * {@code null} if there is no prefetching.
+         */
+        private final BlockingQueue<List<Object>> batchQueue;
+
+        private final Thread prefetchThread;
+
+        /**
+         * Keeps any failure of the {@link #prefetchThread}.
+         */
+        private volatile Throwable prefetchError;
+
+        /**
+         * Tells the {@link #prefetchThread} to stop, even if it should miss the interrupt.
          */
-        private Record next;
+        private volatile boolean isClosed = false;
+
+        /**
+         * Delivers the data quanta of the current batch.
+         */
+        private Iterator<Object> currentBatch = Collections.emptyIterator();
+
+        private boolean isExhausted = false;
 
         /**
          * Creates a new instance.
          *
-         * @param connection the JDBC connection on which to execute a SQL query
-         * @param sqlQuery   the SQL query
+         * @param connection           the JDBC connection on which to execute a SQL query
+         * @param statement            the {@link Statement} with which to execute the SQL query
+         * @param sqlQuery             the SQL query
+         * @param rowConverter         converts rows of the query result into data quanta
+         * @param batchSize            the maximum number of data quanta per batch
+         * @param numPrefetchedBatches the number of batches to fetch ahead of the consumer; {@code 0} to fetch
+         *                             in the consumer's thread
          */
-        ResultSetIterator(Connection connection, String sqlQuery) {
+        ResultSetIterator(Connection connection, Statement statement, String sqlQuery,
+                          Function<Object[], Object> rowConverter,
+                          int batchSize, int numPrefetchedBatches) {
+            this.connection = connection;
+            this.rowConverter = rowConverter;
+            this.statement = statement;
+            this.batchSize = Math.max(batchSize, 1);
             try {
-                this.resultSet = connection.createStatement().executeQuery(sqlQuery);
+                this.resultSet = statement.executeQuery(sqlQuery);
+                this.recordWidth = this.resultSet.getMetaData().getColumnCount();
             } catch (SQLException e) {
-                this.close();
+                this.releaseResources();
                 throw new RheemException("Could not execute SQL.", e);
             }
-            this.moveToNext();
+
+            if (numPrefetchedBatches > 0) {
+                this.batchQueue = new ArrayBlockingQueue<>(numPrefetchedBatches);
+                this.prefetchThread = new Thread(this::prefetch, "rheem-sql-prefetch");
+                this.prefetchThread.setDaemon(true);
+                this.prefetchThread.start();
+            } else {
+                this.batchQueue = null;
+                this.prefetchThread = null;
+            }
         }
 
         /**
-         * Moves this instance to the next {@link Record}.
+         * Reads the next batch of data quanta from the {@link #resultSet}.
+         *
+         * @return the batch; empty if the {@link #resultSet} is exhausted
          */
-        private void moveToNext() {
+        private List<Object> fetchBatch() throws SQLException {
+            final List<Object> batch = new ArrayList<>(this.batchSize);
+            while (batch.size() < this.batchSize && this.resultSet.next()) {
+                Object[] values = new Object[this.recordWidth];
+                for (int i = 0; i < this.recordWidth; i++) {
+                    values[i] = this.resultSet.getObject(i + 1);
+                }
+                batch.add(this.rowConverter.apply(values));
+            }
+            return batch;
+        }
+
+        /**
+         * Body of the {@link #prefetchThread}, which owns the JDBC resources.
+         */
+        private void prefetch() {
             try {
-                if (this.resultSet == null || !this.resultSet.next()) {
-                    this.next = null;
+                List<Object> batch;
+                do {
+                    batch = this.fetchBatch();
+                } while (this.handOver(batch) && !batch.isEmpty());
+            } catch (InterruptedException e) {
+                // This instance has been closed prematurely.
+            } catch (Throwable t) {
+                this.prefetchError = t;
+                try {
+                    this.handOver(Collections.emptyList());
+                } catch (InterruptedException e) {
+                    // This instance has been closed prematurely.
+                }
+            } finally {
+                this.releaseResources();
+            }
+        }
+
+        /**
+         * Puts a batch into the {@link #batchQueue} as soon as the consumer has made room for it.
+         *
+         * @return whether the batch was handed over; {@code false} if this instance has been closed meanwhile
+         */
+        private boolean handOver(List<Object> batch) throws InterruptedException {
+            while (!this.batchQueue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                if (this.isClosed) return false;
+            }
+            return !this.isClosed;
+        }
+
+        /**
+         * Obtains the next batch of data quanta, either from the {@link #prefetchThread} or directly.
+         */
+        private List<Object> nextBatch() {
+            if (this.batchQueue == null) {
+                try {
+                    return this.fetchBatch();
+                } catch (SQLException e) {
                     this.close();
-                } else {
-                    final int recordWidth = this.resultSet.getMetaData().getColumnCount();
-                    Object[] values = new Object[recordWidth];
-                    for (int i = 0; i < recordWidth; i++) {
-                        values[i] = this.resultSet.getObject(i + 1);
-                    }
-                    this.next = new Record(values);
+                    throw new RheemException("Exception while iterating the result set.", e);
                 }
-            } catch (SQLException e) {
-                this.next = null;
+            }
+            final List<Object> batch;
+            try {
+                batch = this.batchQueue.take();
+            } catch (InterruptedException e) {
                 this.close();
-                throw new RheemException("Exception while iterating the result set.", e);
+                Thread.currentThread().interrupt();
+                throw new RheemException("Interrupted while waiting for the result set.", e);
             }
+            if (batch.isEmpty() && this.prefetchError != null) {
+                throw new RheemException("Exception while iterating the result set.", this.prefetchError);
+            }
+            return batch;
         }
 
         @Override
         public boolean hasNext() {
-            return this.next != null;
+            while (!this.currentBatch.hasNext()) {
+                if (this.isExhausted) return false;
+                final List<Object> batch = this.nextBatch();
+                if (batch.isEmpty()) {
+                    this.isExhausted = true;
+                    this.close();
+                    return false;
+                }
+                this.currentBatch = batch.iterator();
+            }
+            return true;
         }
 
         @Override
-        public Record next() {
-            Record curNext = this.next;
-            this.moveToNext();
-            return curNext;
+        public Object next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            return this.currentBatch.next();
         }
 
         @Override
         public void close() {
+            this.isClosed = true;
+            this.isExhausted = true;
+            this.currentBatch = Collections.emptyIterator();
+            if (this.prefetchThread != null) {
+                // The prefetch thread releases the JDBC resources itself.
+                this.prefetchThread.interrupt();
+            } else {
+                this.releaseResources();
+            }
+        }
+
+        private void releaseResources() {
             if (this.resultSet != null) {
                 try {
                     this.resultSet.close();
@@ -176,6 +347,24 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
                     this.resultSet = null;
                 }
             }
+            if (this.statement != null) {
+                try {
+                    this.statement.close();
+                } catch (Throwable t) {
+                    LoggerFactory.getLogger(this.getClass()).error("Could not close statement.", t);
+                } finally {
+                    this.statement = null;
+                }
+            }
+            if (this.connection != null) {
+                try {
+                    this.connection.close();
+                } catch (Throwable t) {
+                    LoggerFactory.getLogger(this.getClass()).error("Could not close connection.", t);
+                } finally {
+                    this.connection = null;
+                }
+            }
         }
     }
 
@@ -13,6 +13,11 @@ import org.qcri.rheem.jdbc.execution.DatabaseDescriptor;
 import org.qcri.rheem.jdbc.execution.JdbcExecutor;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
 
 /**
  * {@link Platform} implementation for a JDBC-accessible database.
@@ -29,6 +34,12 @@ public abstract class JdbcPlatformTemplate extends Platform {
 
     public final String jdbcPasswordProperty = String.format("rheem.%s.jdbc.password", this.getPlatformId());
 
+    public final String fetchSizeProperty = String.format("rheem.%s.jdbc.fetch-size", this.getPlatformId());
+
+    public final String prefetchProperty = String.format("rheem.%s.jdbc.prefetch", this.getPlatformId());
+
+    public final String loadBatchSizeProperty = String.format("rheem.%s.jdbc.load-batch-size", this.getPlatformId());
+
     private String getDefaultConfigurationFile() {
         return String.format("rheem-%s-defaults.properties", this.getPlatformId());
     }
@@ -115,4 +126,80 @@ public abstract class JdbcPlatformTemplate extends Platform {
                 this.getJdbcDriverClassName()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a {@link Statement} whose {@link ResultSet}s are streamed from the database in chunks of
+     * {@link #fetchSizeProperty} rows rather than being materialized on the client.
+     *
+     * @param connection    on which the {@link Statement} should be created
+     * @param configuration provides the fetch size
+     * @return the {@link Statement}
+     */
+    public Statement createStreamingStatement(Connection connection, Configuration configuration) throws SQLException {
+        final Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize((int) configuration.getLongProperty(this.fetchSizeProperty, 10000));
+        return statement;
+    }
+
+    /**
+     * Provides the SQL column type to store values of the given {@link Class}.
+     *
+     * @param valueClass the {@link Class} of the values
+     * @return the SQL type
+     */
+    public String getSqlType(Class<?> valueClass) {
+        if (valueClass == Integer.class || valueClass == Short.class || valueClass == Byte.class) {
+            return "INTEGER";
+        } else if (valueClass == Long.class) {
+            return "BIGINT";
+        } else if (valueClass == Double.class || valueClass == Float.class) {
+            return "DOUBLE PRECISION";
+        } else if (valueClass == Boolean.class) {
+            return "BOOLEAN";
+        }
+        return "TEXT";
+    }
+
+    /**
+     * Inserts rows into an existing table. This implementation uses batches of {@link #loadBatchSizeProperty}
+     * prepared inserts within a single transaction. Subclasses may override it with a native bulk loading facility.
+     *
+     * @param connection    through which to insert the rows
+     * @param tableName     the name of the table
+     * @param numColumns    the number of columns of the table
+     * @param rows          the rows to insert
+     * @param configuration provides the batch size
+     * @return the number of inserted rows
+     */
+    public long bulkLoad(Connection connection, String tableName, int numColumns, Iterator<Object[]> rows,
+                         Configuration configuration) throws SQLException {
+        final int batchSize = (int) Math.max(1, configuration.getLongProperty(this.loadBatchSizeProperty, 10000));
+        StringBuilder sb = new StringBuilder(100).append("INSERT INTO ").append(tableName).append(" VALUES (");
+        for (int column = 0; column < numColumns; column++) {
+            sb.append(column == 0 ? "?" : ", ?");
+        }
+        final String sql = sb.append(");").toString();
+
+        final boolean isAutoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            long numRows = 0;
+            while (rows.hasNext()) {
+                final Object[] row = rows.next();
+                for (int column = 0; column < numColumns; column++) {
+                    statement.setObject(column + 1, column < row.length ? row[column] : null);
+                }
+                statement.addBatch();
+                if (++numRows % batchSize == 0) statement.executeBatch();
+            }
+            if (numRows % batchSize != 0) statement.executeBatch();
+            connection.commit();
+            return numRows;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(isAutoCommit);
+        }
+    }
+}
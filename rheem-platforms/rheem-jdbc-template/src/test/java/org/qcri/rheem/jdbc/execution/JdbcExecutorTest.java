@@ -3,26 +3,45 @@ package org.qcri.rheem.jdbc.execution;
 import org.junit.Assert;
 import org.junit.Test;
 import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.types.RecordType;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.Job;
 import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.platform.CrossPlatformExecutor;
 import org.qcri.rheem.core.profiling.NoInstrumentationStrategy;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.platform.JavaPlatform;
 import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
+import org.qcri.rheem.jdbc.operators.JdbcBulkLoadOperator;
 import org.qcri.rheem.jdbc.operators.JdbcFilterOperator;
+import org.qcri.rheem.jdbc.operators.JdbcJoinOperator;
 import org.qcri.rheem.jdbc.operators.JdbcProjectionOperator;
 import org.qcri.rheem.jdbc.operators.JdbcTableSource;
 import org.qcri.rheem.jdbc.operators.SqlToStreamOperator;
+import org.qcri.rheem.jdbc.test.HsqldbBulkLoadOperator;
 import org.qcri.rheem.jdbc.test.HsqldbFilterOperator;
+import org.qcri.rheem.jdbc.test.HsqldbJoinOperator;
 import org.qcri.rheem.jdbc.test.HsqldbPlatform;
 import org.qcri.rheem.jdbc.test.HsqldbProjectionOperator;
 import org.qcri.rheem.jdbc.test.HsqldbTableSource;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -226,4 +245,161 @@ public class JdbcExecutorTest {
                 sqlQueryChannelInstance.getSqlQuery()
         );
     }
+
+    @Test
+    public void testExecuteWithJoin() throws SQLException {
+        Configuration configuration = new Configuration();
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new NoInstrumentationStrategy()));
+        SqlQueryChannel.Descriptor sqlChannelDescriptor = HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor();
+
+        ExecutionStage sqlStage = mock(ExecutionStage.class);
+
+        JdbcTableSource customerSource = new HsqldbTableSource("customer", "id", "name");
+        ExecutionTask customerSourceTask = new ExecutionTask(customerSource);
+        customerSourceTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, customerSource.getOutput(0)));
+        customerSourceTask.setStage(sqlStage);
+
+        JdbcTableSource orderSource = new HsqldbTableSource("orders", "customer_id", "price");
+        ExecutionTask orderSourceTask = new ExecutionTask(orderSource);
+        orderSourceTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, orderSource.getOutput(0)));
+        orderSourceTask.setStage(sqlStage);
+
+        JdbcFilterOperator priceFilterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(
+                        (PredicateDescriptor.SerializablePredicate<Record>) record -> {
+                            throw new UnsupportedOperationException();
+                        },
+                        Record.class
+                ).withSqlImplementation("price > 10")
+        );
+        ExecutionTask priceFilterTask = new ExecutionTask(priceFilterOperator);
+        priceFilterTask.setStage(sqlStage);
+        orderSourceTask.getOutputChannel(0).addConsumer(priceFilterTask, 0);
+        priceFilterTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, priceFilterOperator.getOutput(0)));
+
+        JdbcJoinOperator<Integer> joinOperator = new HsqldbJoinOperator<>(
+                new TransformationDescriptor<>(record -> record.getInt(0), Record.class, Integer.class)
+                        .withSqlImplementation("id"),
+                new TransformationDescriptor<>(record -> record.getInt(0), Record.class, Integer.class)
+                        .withSqlImplementation("customer_id"),
+                customerSource.getType(),
+                orderSource.getType()
+        );
+        ExecutionTask joinTask = new ExecutionTask(joinOperator);
+        joinTask.setStage(sqlStage);
+        customerSourceTask.getOutputChannel(0).addConsumer(joinTask, 0);
+        priceFilterTask.getOutputChannel(0).addConsumer(joinTask, 1);
+        joinTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, joinOperator.getOutput(0)));
+
+        when(sqlStage.getStartTasks()).thenReturn(Arrays.asList(customerSourceTask, orderSourceTask));
+        when(sqlStage.getTerminalTasks()).thenReturn(Collections.singleton(joinTask));
+
+        ExecutionStage nextStage = mock(ExecutionStage.class);
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        ExecutionTask sqlToStreamTask = new ExecutionTask(sqlToStreamOperator);
+        joinTask.getOutputChannel(0).addConsumer(sqlToStreamTask, 0);
+        sqlToStreamTask.setStage(nextStage);
+
+        JdbcExecutor executor = new JdbcExecutor(HsqldbPlatform.getInstance(), job);
+        executor.execute(sqlStage, new DefaultOptimizationContext(configuration), job.getCrossPlatformExecutor());
+
+        SqlQueryChannel.Instance sqlQueryChannelInstance =
+                (SqlQueryChannel.Instance) job.getCrossPlatformExecutor().getChannelInstance(sqlToStreamTask.getInputChannel(0));
+        Assert.assertEquals(
+                "SELECT t0.*, t1.* FROM customer AS t0 JOIN (SELECT * FROM orders WHERE price > 10) AS t1 "
+                        + "ON t0.id = t1.customer_id;",
+                sqlQueryChannelInstance.getSqlQuery()
+        );
+
+        // Joined rows should be split into their original Records.
+        Assert.assertEquals(
+                new Tuple2<>(new Record(1, "Alice"), new Record(1, 42.0)),
+                joinOperator.convertResultRow(new Object[]{1, "Alice", 1, 42.0})
+        );
+    }
+
+    @Test
+    public void testExecuteWithBulkLoad() throws SQLException {
+        Configuration configuration = new Configuration();
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        final CrossPlatformExecutor crossPlatformExecutor = new CrossPlatformExecutor(job, new NoInstrumentationStrategy());
+        when(job.getCrossPlatformExecutor()).thenReturn(crossPlatformExecutor);
+        SqlQueryChannel.Descriptor sqlChannelDescriptor = HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor();
+
+        // Provide the data to be loaded as if produced by another platform.
+        CollectionChannel collectionChannel = new CollectionChannel(CollectionChannel.DESCRIPTOR, mock(OutputSlot.class));
+        CollectionChannel.Instance collectionChannelInstance = collectionChannel.createInstance(
+                new JavaExecutor(JavaPlatform.getInstance(), job), mock(OptimizationContext.OperatorContext.class), 0
+        );
+        collectionChannelInstance.accept(Arrays.asList(
+                new Record(1, "Alice"), new Record(2, "Bob"), new Record(3, null)
+        ));
+        crossPlatformExecutor.register(collectionChannelInstance);
+
+        ExecutionStage sqlStage = mock(ExecutionStage.class);
+
+        JdbcBulkLoadOperator loadOperator = new HsqldbBulkLoadOperator(
+                DataSetType.createDefault(new RecordType("id", "name"))
+        );
+        ExecutionTask loadTask = new ExecutionTask(loadOperator);
+        collectionChannel.addConsumer(loadTask, 0);
+        loadTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, loadOperator.getOutput(0)));
+        loadTask.setStage(sqlStage);
+
+        JdbcFilterOperator idFilterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(
+                        (PredicateDescriptor.SerializablePredicate<Record>) record -> {
+                            throw new UnsupportedOperationException();
+                        },
+                        Record.class
+                ).withSqlImplementation("id > 1")
+        );
+        ExecutionTask idFilterTask = new ExecutionTask(idFilterOperator);
+        idFilterTask.setStage(sqlStage);
+        loadTask.getOutputChannel(0).addConsumer(idFilterTask, 0);
+        idFilterTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, idFilterOperator.getOutput(0)));
+
+        when(sqlStage.getStartTasks()).thenReturn(Collections.singleton(loadTask));
+        when(sqlStage.getTerminalTasks()).thenReturn(Collections.singleton(idFilterTask));
+
+        ExecutionStage nextStage = mock(ExecutionStage.class);
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        ExecutionTask sqlToStreamTask = new ExecutionTask(sqlToStreamOperator);
+        idFilterTask.getOutputChannel(0).addConsumer(sqlToStreamTask, 0);
+        sqlToStreamTask.setStage(nextStage);
+
+        JdbcExecutor executor = new JdbcExecutor(HsqldbPlatform.getInstance(), job);
+        executor.execute(sqlStage, new DefaultOptimizationContext(configuration), crossPlatformExecutor);
+
+        SqlQueryChannel.Instance sqlQueryChannelInstance =
+                (SqlQueryChannel.Instance) crossPlatformExecutor.getChannelInstance(sqlToStreamTask.getInputChannel(0));
+        final String sqlQuery = sqlQueryChannelInstance.getSqlQuery();
+        Assert.assertTrue(sqlQuery, sqlQuery.matches("SELECT \\* FROM rheem_load_\\w+ WHERE id > 1;"));
+
+        // Query the loaded table.
+        try (Connection connection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection();
+             Statement statement = connection.createStatement()) {
+            List<Record> result = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery(sqlQuery)) {
+                while (resultSet.next()) {
+                    result.add(new Record(resultSet.getInt("id"), resultSet.getString("name")));
+                }
+            }
+            Assert.assertEquals(Arrays.asList(new Record(2, "Bob"), new Record(3, null)), result);
+
+            // The table should be dropped along with the executor.
+            executor.dispose();
+            try {
+                statement.executeQuery(sqlQuery);
+                Assert.fail("The loaded table has not been dropped.");
+            } catch (SQLException e) {
+                // Expected.
+            }
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package org.qcri.rheem.jdbc.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.jdbc.test.HsqldbPlatform;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Test suite for {@link SqlQueryBuilder}.
+ */
+public class SqlQueryBuilderTest {
+
+    @Test
+    public void testFlatQuery() {
+        final String query = SqlQueryBuilder.fromTable("customer")
+                .where("age >= 18")
+                .select("name, age")
+                .where("name IS NOT NULL")
+                .orderBy("name, age")
+                .build();
+        Assert.assertEquals("SELECT name, age FROM customer WHERE age >= 18 AND name IS NOT NULL ORDER BY name, age;", query);
+    }
+
+    @Test
+    public void testAggregation() {
+        Assert.assertEquals(
+                "SELECT dept, SUM(salary) AS salary FROM employee WHERE age >= 18 GROUP BY dept;",
+                SqlQueryBuilder.fromTable("employee")
+                        .where("age >= 18")
+                        .aggregate("dept, SUM(salary) AS salary", "dept")
+                        .build()
+        );
+        Assert.assertEquals(
+                "SELECT agg0 FROM (SELECT SUM(salary) AS agg0, COUNT(*) AS row_count FROM employee) AS t "
+                        + "WHERE row_count > 0;",
+                SqlQueryBuilder.fromTable("employee").aggregate("SUM(salary)", null).build()
+        );
+        Assert.assertEquals(
+                "SELECT salary, agg1 FROM (SELECT SUM(salary) AS salary, COALESCE(MAX(name), 'a,b') AS agg1, "
+                        + "COUNT(*) AS row_count FROM employee) AS t WHERE row_count > 0;",
+                SqlQueryBuilder.fromTable("employee").aggregate("SUM(salary) AS salary, COALESCE(MAX(name), 'a,b')", null).build()
+        );
+        Assert.assertEquals(
+                "SELECT COUNT(*) FROM (SELECT DISTINCT dept FROM employee) AS t;",
+                SqlQueryBuilder.fromTable("employee").select("dept").distinct().count().build()
+        );
+    }
+
+    @Test
+    public void testNesting() {
+        Assert.assertEquals(
+                "SELECT * FROM (SELECT dept, MAX(salary) AS salary FROM employee GROUP BY dept) AS t "
+                        + "WHERE salary > 1000 ORDER BY dept, salary;",
+                SqlQueryBuilder.fromTable("employee")
+                        .orderBy("name")
+                        .aggregate("dept, MAX(salary) AS salary", "dept")
+                        .where("salary > 1000")
+                        .orderBy("dept, salary")
+                        .build()
+        );
+    }
+
+    @Test
+    public void testJoin() {
+        Assert.assertEquals(
+                "SELECT t0.*, t1.* FROM customer AS t0 JOIN (SELECT * FROM orders WHERE price > 10) AS t1 "
+                        + "ON t0.id = t1.customer_id;",
+                SqlQueryBuilder.join(
+                        SqlQueryBuilder.fromTable("customer"),
+                        SqlQueryBuilder.fromTable("orders").where("price > 10"),
+                        "t0.id = t1.customer_id"
+                ).build()
+        );
+    }
+
+    @Test
+    public void testGlobalAggregationWithHsqldb() throws SQLException {
+        HsqldbPlatform hsqldbPlatform = new HsqldbPlatform();
+        try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(new Configuration()).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testGlobalAggregationWithHsqldb (dept VARCHAR(6), salary INT);");
+            statement.execute("INSERT INTO testGlobalAggregationWithHsqldb VALUES ('a', 10);");
+            statement.execute("INSERT INTO testGlobalAggregationWithHsqldb VALUES ('b', 20);");
+
+            // Aggregate some rows.
+            String query = SqlQueryBuilder.fromTable("testGlobalAggregationWithHsqldb")
+                    .where("salary > 5")
+                    .aggregate("SUM(salary), MAX(dept)", null)
+                    .build();
+            try (ResultSet resultSet = statement.executeQuery(query)) {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals(2, resultSet.getMetaData().getColumnCount());
+                Assert.assertEquals(30, resultSet.getInt(1));
+                Assert.assertEquals("b", resultSet.getString(2));
+                Assert.assertFalse(resultSet.next());
+            }
+
+            // Aggregate no rows.
+            query = SqlQueryBuilder.fromTable("testGlobalAggregationWithHsqldb")
+                    .where("salary > 100")
+                    .aggregate("SUM(salary), MAX(dept)", null)
+                    .build();
+            try (ResultSet resultSet = statement.executeQuery(query)) {
+                Assert.assertFalse(resultSet.next());
+            }
+        }
+    }
+
+}
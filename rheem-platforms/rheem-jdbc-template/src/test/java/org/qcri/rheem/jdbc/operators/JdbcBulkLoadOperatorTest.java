@@ -0,0 +1,58 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.test.HsqldbBulkLoadOperator;
+import org.qcri.rheem.jdbc.test.HsqldbPlatform;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link JdbcBulkLoadOperator}.
+ */
+public class JdbcBulkLoadOperatorTest extends OperatorTestBase {
+
+    @Test
+    public void testWideningOfTsvColumns() throws IOException, SQLException {
+        // The first batch suggests numeric columns, but later rows do not fit them.
+        final File tsvFile = File.createTempFile("rheem-bulkload", ".tsv");
+        tsvFile.deleteOnExit();
+        Files.write(tsvFile.toPath(), Arrays.asList("1\t1", "2\t2", "3\t3.5", "4\tfour"), StandardCharsets.UTF_8);
+        final FileChannel.Instance input = (FileChannel.Instance) new FileChannel(FileChannel.HDFS_TSV_DESCRIPTOR)
+                .createInstance(null, null, -1);
+        input.addPath(tsvFile.toURI().toString());
+
+        final HsqldbPlatform hsqldbPlatform = HsqldbPlatform.getInstance();
+        configuration.setProperty(hsqldbPlatform.loadBatchSizeProperty, "2");
+        try (Connection connection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection();
+             Statement statement = connection.createStatement()) {
+            final JdbcBulkLoadOperator loadOperator = new HsqldbBulkLoadOperator(DataSetType.createDefault(String.class));
+            final long numRows = loadOperator.load(input, connection, "testWideningOfTsvColumns", configuration);
+            Assert.assertEquals(4, numRows);
+
+            final List<String> result = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery("SELECT c0, c1 FROM testWideningOfTsvColumns ORDER BY c0;")) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getLong(1) + ":" + resultSet.getString(2));
+                }
+            }
+            Assert.assertEquals(Arrays.asList("1:1", "2:2", "3:3.5", "4:four"), result);
+        } finally {
+            configuration.setProperty(hsqldbPlatform.loadBatchSizeProperty, "10000");
+            tsvFile.delete();
+        }
+    }
+
+}
@@ -23,6 +23,7 @@ import org.qcri.rheem.jdbc.test.HsqldbPlatform;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -97,6 +98,64 @@ public class SqlToStreamOperatorTest extends OperatorTestBase {
         Assert.assertEquals(expected, output);
     }
 
+    @Test
+    public void testWithHsqldbInMultipleBatches() throws SQLException {
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+
+        HsqldbPlatform hsqldbPlatform = new HsqldbPlatform();
+
+        // Create some test data.
+        List<Record> expected = new ArrayList<>();
+        try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testWithHsqldbInMultipleBatches (a INT, b VARCHAR(6));");
+            for (int i = 0; i < 100; i++) {
+                statement.execute(String.format("INSERT INTO testWithHsqldbInMultipleBatches VALUES (%d, 'v%d');", i, i));
+                expected.add(new Record(i, "v" + i));
+            }
+        }
+
+        final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(x -> false, Record.class)
+        );
+        final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor(),
+                filterOperator.getOutput(0)
+        );
+        SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                hsqldbPlatform.createExecutor(job),
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+        sqlQueryChannelInstance.setSqlQuery("SELECT * FROM testWithHsqldbInMultipleBatches ORDER BY a;");
+        ExecutionTask producer = new ExecutionTask(filterOperator);
+        producer.setOutputChannel(0, sqlQueryChannel);
+
+        StreamChannel.Instance streamChannelInstance =
+                new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                        createJavaExecutor(),
+                        mock(OptimizationContext.OperatorContext.class),
+                        0
+                );
+
+        // Fetch the records in small batches.
+        configuration.setProperty(hsqldbPlatform.fetchSizeProperty, "7");
+        try {
+            SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+            evaluate(
+                    sqlToStreamOperator,
+                    new ChannelInstance[]{sqlQueryChannelInstance},
+                    new ChannelInstance[]{streamChannelInstance}
+            );
+        } finally {
+            configuration.setProperty(hsqldbPlatform.fetchSizeProperty, "10000");
+        }
+
+        List<Record> output = streamChannelInstance.<Record>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(expected, output);
+    }
+
     @Test
     public void testWithEmptyHsqldb() throws SQLException {
         Configuration configuration = new Configuration();
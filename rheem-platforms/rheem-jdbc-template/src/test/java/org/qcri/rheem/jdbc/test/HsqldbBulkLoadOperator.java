@@ -0,0 +1,20 @@
+package org.qcri.rheem.jdbc.test;
+
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcBulkLoadOperator;
+
+/**
+ * Test implementation of {@link JdbcBulkLoadOperator}.
+ */
+public class HsqldbBulkLoadOperator extends JdbcBulkLoadOperator {
+
+    public HsqldbBulkLoadOperator(DataSetType<?> inputType) {
+        super(inputType);
+    }
+
+    @Override
+    public HsqldbPlatform getPlatform() {
+        return HsqldbPlatform.getInstance();
+    }
+
+}
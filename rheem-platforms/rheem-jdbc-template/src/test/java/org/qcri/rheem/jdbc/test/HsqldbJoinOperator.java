@@ -0,0 +1,37 @@
+package org.qcri.rheem.jdbc.test;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcJoinOperator;
+
+import java.util.List;
+
+/**
+ * Test implementation of {@link JdbcJoinOperator}.
+ */
+public class HsqldbJoinOperator<Key> extends JdbcJoinOperator<Key> {
+
+    public HsqldbJoinOperator(TransformationDescriptor<Record, Key> keyDescriptor0,
+                              TransformationDescriptor<Record, Key> keyDescriptor1,
+                              DataSetType<Record> inputType0,
+                              DataSetType<Record> inputType1) {
+        super(keyDescriptor0, keyDescriptor1, inputType0, inputType1);
+    }
+
+    @Override
+    public HsqldbPlatform getPlatform() {
+        return HsqldbPlatform.getInstance();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        throw new UnsupportedOperationException();
+    }
+}
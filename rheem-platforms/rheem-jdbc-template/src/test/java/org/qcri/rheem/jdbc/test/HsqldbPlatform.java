@@ -26,4 +26,11 @@ public class HsqldbPlatform extends JdbcPlatformTemplate {
     protected String getJdbcDriverClassName() {
         return org.hsqldb.jdbcDriver.class.getName();
     }
+
+    @Override
+    public String getSqlType(Class<?> valueClass) {
+        // HSQLDB does not know the TEXT type.
+        final String sqlType = super.getSqlType(valueClass);
+        return "TEXT".equals(sqlType) ? "VARCHAR(1000)" : sqlType;
+    }
 }
@@ -1,13 +1,18 @@
 package org.qcri.rheem.postgres.channels;
 
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
 import org.qcri.rheem.core.optimizer.channels.DefaultChannelConversion;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.jdbc.operators.SqlToStreamOperator;
+import org.qcri.rheem.postgres.operators.PostgresBulkLoadOperator;
 import org.qcri.rheem.postgres.platform.PostgresPlatform;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 
 /**
  * Register for the {@link ChannelConversion}s supported for this platform.
@@ -20,8 +25,28 @@ public class ChannelConversions {
             () -> new SqlToStreamOperator(PostgresPlatform.getInstance())
     );
 
-    public static final Collection<ChannelConversion> ALL = Collections.singleton(
-            SQL_TO_STREAM_CONVERSION
+    public static final ChannelConversion COLLECTION_TO_SQL_CONVERSION = new DefaultChannelConversion(
+            CollectionChannel.DESCRIPTOR,
+            PostgresPlatform.getInstance().getSqlQueryChannelDescriptor(),
+            (channel, configuration) -> new PostgresBulkLoadOperator(
+                    channel == null ? DataSetType.createDefault(Record.class) : channel.getDataSetType()
+            ),
+            "via PostgresBulkLoadOperator"
+    );
+
+    public static final ChannelConversion HDFS_TSV_TO_SQL_CONVERSION = new DefaultChannelConversion(
+            FileChannel.HDFS_TSV_DESCRIPTOR,
+            PostgresPlatform.getInstance().getSqlQueryChannelDescriptor(),
+            (channel, configuration) -> new PostgresBulkLoadOperator(
+                    channel == null ? DataSetType.createDefault(Record.class) : channel.getDataSetType()
+            ),
+            "via PostgresBulkLoadOperator"
+    );
+
+    public static final Collection<ChannelConversion> ALL = Arrays.asList(
+            SQL_TO_STREAM_CONVERSION,
+            COLLECTION_TO_SQL_CONVERSION,
+            HDFS_TSV_TO_SQL_CONVERSION
     );
 
 }
@@ -0,0 +1,42 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.CountOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.operators.PostgresCountOperator;
+import org.qcri.rheem.postgres.platform.PostgresPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link CountOperator} to {@link PostgresCountOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class CountMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createSubplanPattern(),
+                this.createReplacementSubplanFactory(),
+                PostgresPlatform.getInstance()
+        ));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<CountOperator<Record>> operatorPattern = new OperatorPattern<>(
+                "count",
+                new CountOperator<>(DataSetType.createDefault(Record.class)),
+                false
+        );
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<CountOperator<Record>>(
+                (matchedOperator, epoch) -> new PostgresCountOperator(matchedOperator).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.DistinctOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.operators.PostgresDistinctOperator;
+import org.qcri.rheem.postgres.platform.PostgresPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link DistinctOperator} to {@link PostgresDistinctOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class DistinctMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createSubplanPattern(),
+                this.createReplacementSubplanFactory(),
+                PostgresPlatform.getInstance()
+        ));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<DistinctOperator<Record>> operatorPattern = new OperatorPattern<>(
+                "distinct",
+                new DistinctOperator<>(DataSetType.createDefault(Record.class)),
+                false
+        );
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<DistinctOperator<Record>>(
+                (matchedOperator, epoch) -> new PostgresDistinctOperator(matchedOperator).at(epoch)
+        );
+    }
+}
@@ -12,7 +12,13 @@ public class Mappings {
 
     public static final Collection<Mapping> ALL = Arrays.asList(
             new FilterMapping(),
-            new ProjectionMapping()
+            new ProjectionMapping(),
+            new ReduceByMapping(),
+            new GlobalReduceMapping(),
+            new CountMapping(),
+            new DistinctMapping(),
+            new SortMapping(),
+            new JoinMapping()
     );
 
 }
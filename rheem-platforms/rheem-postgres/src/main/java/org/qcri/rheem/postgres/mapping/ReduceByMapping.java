@@ -0,0 +1,44 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.operators.PostgresReduceByOperator;
+import org.qcri.rheem.postgres.platform.PostgresPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link ReduceByOperator} to {@link PostgresReduceByOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class ReduceByMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createSubplanPattern(),
+                this.createReplacementSubplanFactory(),
+                PostgresPlatform.getInstance()
+        ));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<ReduceByOperator<Record, Object>> operatorPattern = new OperatorPattern<>(
+                "reduceBy",
+                new ReduceByOperator<>(null, null, DataSetType.createDefault(Record.class)),
+                false
+        )
+                .withAdditionalTest(op -> op.getKeyDescriptor().getSqlImplementation() != null)
+                .withAdditionalTest(op -> op.getReduceDescriptor().getSqlImplementation() != null);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<ReduceByOperator<Record, Object>>(
+                (matchedOperator, epoch) -> new PostgresReduceByOperator<>(matchedOperator).at(epoch)
+        );
+    }
+}
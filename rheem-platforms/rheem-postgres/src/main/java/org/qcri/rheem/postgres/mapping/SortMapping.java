@@ -0,0 +1,44 @@
+package org.qcri.rheem.postgres.mapping;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.SortOperator;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.postgres.operators.PostgresSortOperator;
+import org.qcri.rheem.postgres.platform.PostgresPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link SortOperator} to {@link PostgresSortOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class SortMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createSubplanPattern(),
+                this.createReplacementSubplanFactory(),
+                PostgresPlatform.getInstance()
+        ));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<SortOperator<Record>> operatorPattern = new OperatorPattern<>(
+                "sort",
+                new SortOperator<>(DataSetType.createDefault(Record.class)),
+                false
+        )
+                .withAdditionalTest(op -> op.getInputType().getDataUnitType() instanceof RecordType);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<SortOperator<Record>>(
+                (matchedOperator, epoch) -> new PostgresSortOperator(matchedOperator).at(epoch)
+        );
+    }
+}
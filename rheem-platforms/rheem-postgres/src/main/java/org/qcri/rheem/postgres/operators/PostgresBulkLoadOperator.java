@@ -0,0 +1,29 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcBulkLoadOperator;
+
+/**
+ * PostgreSQL implementation of the {@link JdbcBulkLoadOperator}.
+ */
+public class PostgresBulkLoadOperator extends JdbcBulkLoadOperator implements PostgresExecutionOperator {
+
+    public PostgresBulkLoadOperator(DataSetType<?> inputType) {
+        super(inputType);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public PostgresBulkLoadOperator(JdbcBulkLoadOperator that) {
+        super(that);
+    }
+
+    @Override
+    protected PostgresBulkLoadOperator createCopy() {
+        return new PostgresBulkLoadOperator(this);
+    }
+
+}
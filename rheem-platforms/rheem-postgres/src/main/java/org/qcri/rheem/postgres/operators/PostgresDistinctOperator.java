@@ -0,0 +1,31 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.DistinctOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcDistinctOperator;
+
+/**
+ * PostgreSQL implementation of the {@link DistinctOperator}.
+ */
+public class PostgresDistinctOperator extends JdbcDistinctOperator implements PostgresExecutionOperator {
+
+    public PostgresDistinctOperator(DataSetType<Record> type) {
+        super(type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public PostgresDistinctOperator(DistinctOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    protected PostgresDistinctOperator createCopy() {
+        return new PostgresDistinctOperator(this);
+    }
+
+}
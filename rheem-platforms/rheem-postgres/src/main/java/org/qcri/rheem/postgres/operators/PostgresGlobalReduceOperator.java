@@ -0,0 +1,31 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.GlobalReduceOperator;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.jdbc.operators.JdbcGlobalReduceOperator;
+
+/**
+ * PostgreSQL implementation of the {@link GlobalReduceOperator}.
+ */
+public class PostgresGlobalReduceOperator extends JdbcGlobalReduceOperator implements PostgresExecutionOperator {
+
+    public PostgresGlobalReduceOperator(ReduceDescriptor<Record> reduceDescriptor) {
+        super(reduceDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public PostgresGlobalReduceOperator(GlobalReduceOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    protected PostgresGlobalReduceOperator createCopy() {
+        return new PostgresGlobalReduceOperator(this);
+    }
+
+}
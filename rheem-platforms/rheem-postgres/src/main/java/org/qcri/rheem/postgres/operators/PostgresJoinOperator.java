@@ -0,0 +1,35 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcJoinOperator;
+
+/**
+ * PostgreSQL implementation of the {@link JoinOperator}.
+ */
+public class PostgresJoinOperator<Key> extends JdbcJoinOperator<Key> implements PostgresExecutionOperator {
+
+    public PostgresJoinOperator(TransformationDescriptor<Record, Key> keyDescriptor0,
+                                TransformationDescriptor<Record, Key> keyDescriptor1,
+                                DataSetType<Record> inputType0,
+                                DataSetType<Record> inputType1) {
+        super(keyDescriptor0, keyDescriptor1, inputType0, inputType1);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public PostgresJoinOperator(JoinOperator<Record, Record, Key> that) {
+        super(that);
+    }
+
+    @Override
+    protected PostgresJoinOperator<Key> createCopy() {
+        return new PostgresJoinOperator<>(this);
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.jdbc.operators.JdbcReduceByOperator;
+
+/**
+ * PostgreSQL implementation of the {@link ReduceByOperator}.
+ */
+public class PostgresReduceByOperator<Key> extends JdbcReduceByOperator<Key> implements PostgresExecutionOperator {
+
+    public PostgresReduceByOperator(TransformationDescriptor<Record, Key> keyDescriptor,
+                                    ReduceDescriptor<Record> reduceDescriptor) {
+        super(keyDescriptor, reduceDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public PostgresReduceByOperator(ReduceByOperator<Record, Key> that) {
+        super(that);
+    }
+
+    @Override
+    protected PostgresReduceByOperator<Key> createCopy() {
+        return new PostgresReduceByOperator<>(this);
+    }
+
+}
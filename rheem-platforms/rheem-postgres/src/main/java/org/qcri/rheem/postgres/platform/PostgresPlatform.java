@@ -1,8 +1,17 @@
 package org.qcri.rheem.postgres.platform;
 
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.platform.Platform;
 import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+
 /**
  * {@link Platform} implementation for SQLite3.
  */
@@ -33,4 +42,80 @@ public class PostgresPlatform extends JdbcPlatformTemplate {
         return org.postgresql.Driver.class.getName();
     }
 
-}
\ No newline at end of file
+    @Override
+    public Statement createStreamingStatement(Connection connection, Configuration configuration) throws SQLException {
+        // PostgreSQL uses cursors (and thus respects the fetch size) only within transactions.
+        connection.setAutoCommit(false);
+        return super.createStreamingStatement(connection, configuration);
+    }
+
+    /**
+     * Streams the rows into the table via {@code COPY ... FROM STDIN} in the text format. Every
+     * {@link #loadBatchSizeProperty} rows are sent to the server in one chunk.
+     */
+    @Override
+    public long bulkLoad(Connection connection, String tableName, int numColumns, Iterator<Object[]> rows,
+                         Configuration configuration) throws SQLException {
+        final int batchSize = (int) Math.max(1, configuration.getLongProperty(this.loadBatchSizeProperty, 10000));
+        final CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn(String.format("COPY %s FROM STDIN", tableName));
+        try {
+            StringBuilder sb = new StringBuilder(1 << 16);
+            long numRows = 0;
+            while (rows.hasNext()) {
+                final Object[] row = rows.next();
+                for (int column = 0; column < numColumns; column++) {
+                    if (column > 0) sb.append('\t');
+                    appendCopyValue(column < row.length ? row[column] : null, sb);
+                }
+                sb.append('\n');
+                if (++numRows % batchSize == 0) {
+                    writeToCopy(copyIn, sb);
+                }
+            }
+            writeToCopy(copyIn, sb);
+            copyIn.endCopy();
+            return numRows;
+        } finally {
+            if (copyIn.isActive()) copyIn.cancelCopy();
+        }
+    }
+
+    /**
+     * Appends a value in the text format of {@code COPY}.
+     */
+    private static void appendCopyValue(Object value, StringBuilder sb) {
+        if (value == null) {
+            sb.append("\\N");
+            return;
+        }
+        final String str = value.toString();
+        for (int i = 0; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            switch (c) {
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder sb) throws SQLException {
+        if (sb.length() == 0) return;
+        final byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        sb.setLength(0);
+    }
+
+}
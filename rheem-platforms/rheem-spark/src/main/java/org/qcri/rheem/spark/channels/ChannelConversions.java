@@ -7,6 +7,7 @@ import org.qcri.rheem.core.optimizer.channels.DefaultChannelConversion;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.platform.JavaPlatform;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.PipeChannel;
 import org.qcri.rheem.spark.operators.*;
 
 import java.util.Arrays;
@@ -47,6 +48,18 @@ public class ChannelConversions {
             () -> new SparkCollectOperator<>(DataSetType.createDefault(Void.class))
     );
 
+    public static final ChannelConversion UNCACHED_RDD_TO_PIPE = new DefaultChannelConversion(
+            RddChannel.UNCACHED_DESCRIPTOR,
+            PipeChannel.DESCRIPTOR,
+            () -> new SparkPipeOperator<>(DataSetType.createDefault(Void.class))
+    );
+
+    public static final ChannelConversion CACHED_RDD_TO_PIPE = new DefaultChannelConversion(
+            RddChannel.CACHED_DESCRIPTOR,
+            PipeChannel.DESCRIPTOR,
+            () -> new SparkPipeOperator<>(DataSetType.createDefault(Void.class))
+    );
+
     public static final ChannelConversion CACHED_RDD_TO_HDFS_TSV = new DefaultChannelConversion(
             RddChannel.CACHED_DESCRIPTOR,
             FileChannel.HDFS_TSV_DESCRIPTOR,
@@ -89,6 +102,8 @@ public class ChannelConversions {
             COLLECTION_TO_UNCACHED_RDD,
             UNCACHED_RDD_TO_COLLECTION,
             CACHED_RDD_TO_COLLECTION,
+            UNCACHED_RDD_TO_PIPE,
+            CACHED_RDD_TO_PIPE,
             CACHED_RDD_TO_HDFS_OBJECT_FILE,
             UNCACHED_RDD_TO_HDFS_OBJECT_FILE,
             HDFS_OBJECT_FILE_TO_UNCACHED_RDD,
@@ -0,0 +1,78 @@
+package org.qcri.rheem.spark.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.java.channels.PipeChannel;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.execution.SparkExecutor;
+
+import java.util.*;
+
+/**
+ * Converts a {@link RddChannel} into a {@link PipeChannel}. In contrast to the {@link SparkCollectOperator}, the
+ * partitions of the RDD are fetched one after another in the background, so that only few of them reside in the
+ * driver at the same time. The execution of this operator and its lazily executed predecessors is registered as
+ * soon as all partitions have been fetched.
+ */
+public class SparkPipeOperator<Type> extends UnaryToUnaryOperator<Type, Type> implements SparkExecutionOperator {
+
+    public SparkPipeOperator(DataSetType<Type> type) {
+        super(type, type, false);
+    }
+
+    @Override
+    public Tuple<Collection<OptimizationContext.OperatorContext>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        final RddChannel.Instance input = (RddChannel.Instance) inputs[0];
+        final PipeChannel.Instance output = (PipeChannel.Instance) outputs[0];
+
+        final Configuration configuration = sparkExecutor.getConfiguration();
+        output.accept(
+                input.provideRdd().toLocalIterator(),
+                inputs,
+                operatorContext,
+                sparkExecutor,
+                (int) configuration.getLongProperty("rheem.java.pipe.batchsize", 1000),
+                (int) configuration.getLongProperty("rheem.java.pipe.capacity", 16)
+        );
+
+        // The output registers its execution itself.
+        return new Tuple<>(Collections.emptyList(), Collections.emptyList());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(PipeChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, 0, outputIndex);
+        return Optional.of(new DefaultCardinalityEstimator(1d, 1, this.isSupportingBroadcastInputs(),
+                inputCards -> inputCards[0]));
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "rheem.spark.pipe.load";
+    }
+
+}
@@ -1,13 +1,18 @@
 package org.qcri.rheem.sqlite3.channels;
 
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
 import org.qcri.rheem.core.optimizer.channels.DefaultChannelConversion;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.jdbc.operators.SqlToStreamOperator;
+import org.qcri.rheem.sqlite3.operators.Sqlite3BulkLoadOperator;
 import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 
 /**
  * Register for the {@link ChannelConversion}s supported for this platform.
@@ -20,8 +25,28 @@ public class ChannelConversions {
             () -> new SqlToStreamOperator(Sqlite3Platform.getInstance())
     );
 
-    public static final Collection<ChannelConversion> ALL = Collections.singleton(
-            SQL_TO_STREAM_CONVERSION
+    public static final ChannelConversion COLLECTION_TO_SQL_CONVERSION = new DefaultChannelConversion(
+            CollectionChannel.DESCRIPTOR,
+            Sqlite3Platform.getInstance().getSqlQueryChannelDescriptor(),
+            (channel, configuration) -> new Sqlite3BulkLoadOperator(
+                    channel == null ? DataSetType.createDefault(Record.class) : channel.getDataSetType()
+            ),
+            "via Sqlite3BulkLoadOperator"
+    );
+
+    public static final ChannelConversion HDFS_TSV_TO_SQL_CONVERSION = new DefaultChannelConversion(
+            FileChannel.HDFS_TSV_DESCRIPTOR,
+            Sqlite3Platform.getInstance().getSqlQueryChannelDescriptor(),
+            (channel, configuration) -> new Sqlite3BulkLoadOperator(
+                    channel == null ? DataSetType.createDefault(Record.class) : channel.getDataSetType()
+            ),
+            "via Sqlite3BulkLoadOperator"
+    );
+
+    public static final Collection<ChannelConversion> ALL = Arrays.asList(
+            SQL_TO_STREAM_CONVERSION,
+            COLLECTION_TO_SQL_CONVERSION,
+            HDFS_TSV_TO_SQL_CONVERSION
     );
 
 }
@@ -0,0 +1,42 @@
+package org.qcri.rheem.sqlite3.mapping;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.CountOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.sqlite3.operators.Sqlite3CountOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link CountOperator} to {@link Sqlite3CountOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class CountMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createSubplanPattern(),
+                this.createReplacementSubplanFactory(),
+                Sqlite3Platform.getInstance()
+        ));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<CountOperator<Record>> operatorPattern = new OperatorPattern<>(
+                "count",
+                new CountOperator<>(DataSetType.createDefault(Record.class)),
+                false
+        );
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<CountOperator<Record>>(
+                (matchedOperator, epoch) -> new Sqlite3CountOperator(matchedOperator).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package org.qcri.rheem.sqlite3.mapping;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.GlobalReduceOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.sqlite3.operators.Sqlite3GlobalReduceOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link GlobalReduceOperator} to {@link Sqlite3GlobalReduceOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class GlobalReduceMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createSubplanPattern(),
+                this.createReplacementSubplanFactory(),
+                Sqlite3Platform.getInstance()
+        ));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<GlobalReduceOperator<Record>> operatorPattern = new OperatorPattern<>(
+                "globalReduce",
+                new GlobalReduceOperator<>(null, DataSetType.createDefault(Record.class)),
+                false
+        )
+                .withAdditionalTest(op -> op.getReduceDescriptor().getSqlImplementation() != null);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<GlobalReduceOperator<Record>>(
+                (matchedOperator, epoch) -> new Sqlite3GlobalReduceOperator(matchedOperator).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package org.qcri.rheem.sqlite3.mapping;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.sqlite3.operators.Sqlite3JoinOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link JoinOperator} to {@link Sqlite3JoinOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class JoinMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createSubplanPattern(),
+                this.createReplacementSubplanFactory(),
+                Sqlite3Platform.getInstance()
+        ));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<JoinOperator<Record, Record, Object>> operatorPattern = new OperatorPattern<>(
+                "join",
+                new JoinOperator<>(
+                        null, null, DataSetType.createDefault(Record.class), DataSetType.createDefault(Record.class)
+                ),
+                false
+        )
+                .withAdditionalTest(op -> op.getKeyDescriptor0().getSqlImplementation() != null)
+                .withAdditionalTest(op -> op.getKeyDescriptor1().getSqlImplementation() != null)
+                .withAdditionalTest(op -> op.getInputType0().getDataUnitType() instanceof RecordType)
+                .withAdditionalTest(op -> op.getInputType1().getDataUnitType() instanceof RecordType);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<JoinOperator<Record, Record, Object>>(
+                (matchedOperator, epoch) -> new Sqlite3JoinOperator<>(matchedOperator).at(epoch)
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package org.qcri.rheem.sqlite3.operators;
+
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcBulkLoadOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+/**
+ * Implementation of the {@link JdbcBulkLoadOperator} for the {@link Sqlite3Platform}.
+ */
+public class Sqlite3BulkLoadOperator extends JdbcBulkLoadOperator {
+
+    public Sqlite3BulkLoadOperator(DataSetType<?> inputType) {
+        super(inputType);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public Sqlite3BulkLoadOperator(JdbcBulkLoadOperator that) {
+        super(that);
+    }
+
+    @Override
+    public Sqlite3Platform getPlatform() {
+        return Sqlite3Platform.getInstance();
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.qcri.rheem.sqlite3.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.CountOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcCountOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+/**
+ * Implementation of the {@link CountOperator} for the {@link Sqlite3Platform}.
+ */
+public class Sqlite3CountOperator extends JdbcCountOperator {
+
+    public Sqlite3CountOperator(DataSetType<Record> type) {
+        super(type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public Sqlite3CountOperator(CountOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    public Sqlite3Platform getPlatform() {
+        return Sqlite3Platform.getInstance();
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.qcri.rheem.sqlite3.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.DistinctOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcDistinctOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+/**
+ * Implementation of the {@link DistinctOperator} for the {@link Sqlite3Platform}.
+ */
+public class Sqlite3DistinctOperator extends JdbcDistinctOperator {
+
+    public Sqlite3DistinctOperator(DataSetType<Record> type) {
+        super(type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public Sqlite3DistinctOperator(DistinctOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    public Sqlite3Platform getPlatform() {
+        return Sqlite3Platform.getInstance();
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.qcri.rheem.sqlite3.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcJoinOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+/**
+ * Implementation of the {@link JoinOperator} for the {@link Sqlite3Platform}.
+ */
+public class Sqlite3JoinOperator<Key> extends JdbcJoinOperator<Key> {
+
+    public Sqlite3JoinOperator(TransformationDescriptor<Record, Key> keyDescriptor0,
+                               TransformationDescriptor<Record, Key> keyDescriptor1,
+                               DataSetType<Record> inputType0,
+                               DataSetType<Record> inputType1) {
+        super(keyDescriptor0, keyDescriptor1, inputType0, inputType1);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public Sqlite3JoinOperator(JoinOperator<Record, Record, Key> that) {
+        super(that);
+    }
+
+    @Override
+    public Sqlite3Platform getPlatform() {
+        return Sqlite3Platform.getInstance();
+    }
+
+}
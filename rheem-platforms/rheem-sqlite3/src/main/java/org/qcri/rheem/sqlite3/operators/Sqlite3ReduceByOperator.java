@@ -0,0 +1,34 @@
+package org.qcri.rheem.sqlite3.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.jdbc.operators.JdbcReduceByOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+/**
+ * Implementation of the {@link ReduceByOperator} for the {@link Sqlite3Platform}.
+ */
+public class Sqlite3ReduceByOperator<Key> extends JdbcReduceByOperator<Key> {
+
+    public Sqlite3ReduceByOperator(TransformationDescriptor<Record, Key> keyDescriptor,
+                                   ReduceDescriptor<Record> reduceDescriptor) {
+        super(keyDescriptor, reduceDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public Sqlite3ReduceByOperator(ReduceByOperator<Record, Key> that) {
+        super(that);
+    }
+
+    @Override
+    public Sqlite3Platform getPlatform() {
+        return Sqlite3Platform.getInstance();
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.qcri.rheem.profiler.log;
 
 import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.PartialExecution;
@@ -10,7 +11,7 @@ import org.qcri.rheem.profiler.log.sampling.Sampler;
 import org.qcri.rheem.profiler.log.sampling.TournamentSampler;
 
 import java.util.*;
-import java.util.function.ToDoubleFunction;
+import java.util.concurrent.*;
 
 /**
  * Implementation of the genetic optimization technique for finding good {@link LoadProfileEstimator}s.
@@ -37,6 +38,17 @@ public class GeneticOptimizer {
      */
     private final Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>> estimators;
 
+    /**
+     * Equivalent instances of the {@link #estimators} (including the latter). As {@link LoadProfileEstimator}s are
+     * not thread-safe, each worker calculating fitness values employs its own replica.
+     */
+    private final List<Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>>> estimatorReplicas;
+
+    /**
+     * Calculates fitness values in parallel or is {@code null} if there is only one {@link #estimatorReplicas}.
+     */
+    private final ExecutorService fitnessExecutor;
+
     /**
      * {@link Variable}s to learn the overhead of {@link Platform} initialization.
      */
@@ -75,26 +87,57 @@ public class GeneticOptimizer {
     /**
      * Provides randomness to the optimization.
      */
-    private final Random random = new Random();
+    private final Random random;
 
     /**
      * Fitness function for assessing {@link Individual}s.
      */
-    private final ToDoubleFunction<Individual> fitnessFunction;
+    private final FitnessFunction fitnessFunction;
+
+    /**
+     * Calculates the fitness of an {@link Individual} with given {@link LoadProfileEstimator}s.
+     */
+    @FunctionalInterface
+    private interface FitnessFunction {
+
+        double calculate(Individual individual,
+                         Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>> estimators);
+
+    }
 
     /**
-     * Creates a new instance.
+     * Creates a new instance that calculates fitness values sequentially.
      */
     public GeneticOptimizer(OptimizationSpace optimizationSpace,
                             Collection<PartialExecution> observations,
                             Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>> estimators,
                             Map<Platform, Variable> platformOverheads,
                             Configuration configuration) {
+        this(optimizationSpace, observations, Collections.singletonList(estimators), platformOverheads,
+                configuration, createRandom(configuration));
+    }
+
+    /**
+     * Creates a new instance that calculates fitness values with as many threads as there are
+     * {@code estimatorReplicas}.
+     *
+     * @param estimatorReplicas equivalent instances of the {@link LoadProfileEstimator}s, one for each thread
+     * @param random            provides randomness to the optimization
+     */
+    public GeneticOptimizer(OptimizationSpace optimizationSpace,
+                            Collection<PartialExecution> observations,
+                            List<Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>>> estimatorReplicas,
+                            Map<Platform, Variable> platformOverheads,
+                            Configuration configuration,
+                            Random random) {
         this.configuration = configuration;
         this.optimizationSpace = optimizationSpace;
         this.observations = observations;
-        this.estimators = estimators;
+        this.estimators = estimatorReplicas.get(0);
+        this.estimatorReplicas = estimatorReplicas;
         this.platformOverheads = platformOverheads;
+        this.random = random;
+        final Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>> estimators = this.estimators;
         this.activatedGenes = new Bitmask(this.optimizationSpace.getNumDimensions());
         for (PartialExecution observation : observations) {
             for (PartialExecution.OperatorExecution opExec : observation.getOperatorExecutions()) {
@@ -118,18 +161,18 @@ public class GeneticOptimizer {
         this.mutationResetRatio = this.configuration.getDoubleProperty("rheem.profiler.ga.mutation.reset", 0.01d);
         switch (this.configuration.getStringProperty("rheem.profiler.ga.fitness.type", "relative")) {
             case "relative":
-                this.fitnessFunction = individual -> individual.calculateRelativeFitness(
-                        this.observations, this.estimators, this.platformOverheads, this.configuration
+                this.fitnessFunction = (individual, replica) -> individual.calculateRelativeFitness(
+                        this.observations, replica, this.platformOverheads, this.configuration
                 );
                 break;
             case "absolute":
-                this.fitnessFunction = individual -> individual.calculateAbsoluteFitness(
-                        this.observations, this.estimators, this.platformOverheads, this.configuration
+                this.fitnessFunction = (individual, replica) -> individual.calculateAbsoluteFitness(
+                        this.observations, replica, this.platformOverheads, this.configuration
                 );
                 break;
             case "subject":
-                this.fitnessFunction = individual -> individual.calcluateSubjectbasedFitness(
-                        this.observations, this.estimators, this.platformOverheads, this.configuration
+                this.fitnessFunction = (individual, replica) -> individual.calcluateSubjectbasedFitness(
+                        this.observations, replica, this.platformOverheads, this.configuration
                 );
                 break;
             default:
@@ -137,6 +180,46 @@ public class GeneticOptimizer {
                         "Unknown fitness function: " + this.configuration.getStringProperty("rheem.profiler.ga.fitness.type")
                 );
         }
+
+        if (this.estimatorReplicas.size() > 1) {
+            final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    this.estimatorReplicas.size(), this.estimatorReplicas.size(),
+                    1, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        final Thread thread = new Thread(runnable, "rheem-ga-fitness");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            );
+            // Let idle workers die, so that discarded instances do not leak threads.
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            this.fitnessExecutor = threadPoolExecutor;
+        } else {
+            this.fitnessExecutor = null;
+        }
+    }
+
+    /**
+     * Creates a {@link Random} as specified by the {@code rheem.profiler.ga.seed} in the given {@link Configuration}.
+     *
+     * @param configuration the {@link Configuration}
+     * @return the seeded {@link Random} or an unseeded one if no valid seed is given
+     */
+    public static Random createRandom(Configuration configuration) {
+        final long seed = configuration.getLongProperty("rheem.profiler.ga.seed", -1L);
+        return seed >= 0 ? new Random(seed) : new Random();
+    }
+
+    /**
+     * Determines the number of threads to calculate fitness values with.
+     *
+     * @param configuration provides the {@code rheem.profiler.ga.parallelism} (0 = number of available processors)
+     * @return the number of threads
+     */
+    public static int getParallelism(Configuration configuration) {
+        final int parallelism = (int) configuration.getLongProperty("rheem.profiler.ga.parallelism", 0);
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
     }
 
     /**
@@ -148,10 +231,9 @@ public class GeneticOptimizer {
         List<Individual> individuals = new ArrayList<>(this.populationSize);
         for (int i = 0; i < this.populationSize; i++) {
             final Individual individual = this.optimizationSpace.createRandomIndividual(this.random);
-            this.updateFitnessOf(individual);
             individuals.add(individual);
         }
-        individuals.sort(Individual.fitnessComparator);
+        this.updateFitness(individuals);
         return individuals;
     }
 
@@ -161,12 +243,49 @@ public class GeneticOptimizer {
      * @param individuals the {@link Individual}s
      */
     public void updateFitness(List<Individual> individuals) {
-        individuals.forEach(this::updateFitnessOf);
+        this.updateFitnessOf(individuals);
         individuals.sort(Individual.fitnessComparator);
     }
 
-    private void updateFitnessOf(Individual individual) {
-        individual.updateFitness(this.fitnessFunction);
+    /**
+     * Update the fitness of the {@link Individual}s w.r.t. to this instance, thereby distributing them over the
+     * {@link #estimatorReplicas}.
+     *
+     * @param individuals the {@link Individual}s
+     */
+    private void updateFitnessOf(List<Individual> individuals) {
+        if (this.fitnessExecutor == null || individuals.size() < 2) {
+            individuals.forEach(individual -> this.updateFitnessOf(individual, this.estimators));
+            return;
+        }
+
+        final int numWorkers = Math.min(this.estimatorReplicas.size(), individuals.size());
+        List<Future<?>> futures = new ArrayList<>(numWorkers);
+        for (int worker = 0; worker < numWorkers; worker++) {
+            final int firstIndex = worker;
+            final Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>> estimators =
+                    this.estimatorReplicas.get(worker);
+            futures.add(this.fitnessExecutor.submit(() -> {
+                for (int i = firstIndex; i < individuals.size(); i += numWorkers) {
+                    this.updateFitnessOf(individuals.get(i), estimators);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RheemException("Interrupted while calculating fitness values.", e);
+            } catch (ExecutionException e) {
+                throw new RheemException("Could not calculate fitness values.", e.getCause());
+            }
+        }
+    }
+
+    private void updateFitnessOf(Individual individual,
+                                 Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>> estimators) {
+        individual.updateFitness(i -> this.fitnessFunction.calculate(i, estimators));
         individual.updateMaturity(this.activatedGenes);
     }
 
@@ -184,15 +303,15 @@ public class GeneticOptimizer {
         );
         int selectionSize = selectedIndividuals.size();
 
-        // Create mutations.
+        // Create mutations. The fitness of the offspring is calculated later on to allow for parallelization.
+        List<Individual> offspring = new ArrayList<>(this.populationSize);
         int numMutations = (int) Math.round(this.mutationRatio * this.populationSize);
         for (int i = 0; i < numMutations; i++) {
             final Individual individual = selectedIndividuals.get(this.random.nextInt(selectionSize));
             final Individual mutant = individual.mutate(
                     this.random, this.activatedGenes, this.optimizationSpace, this.mutationAlterationRatio, this.mutationResetRatio
             );
-            this.updateFitnessOf(mutant);
-            nextGeneration.add(mutant);
+            offspring.add(mutant);
         }
 
         // Cross over.
@@ -200,10 +319,10 @@ public class GeneticOptimizer {
         for (int i = 0; i < numCrossOvers; i++) {
             final Individual individual1 = selectedIndividuals.get(this.random.nextInt(selectionSize));
             final Individual individual2 = selectedIndividuals.get(this.random.nextInt(selectionSize));
-            final Individual offspring = individual1.crossOver(individual2, this.random);
-            this.updateFitnessOf(offspring);
-            nextGeneration.add(offspring);
+            offspring.add(individual1.crossOver(individual2, this.random));
         }
+        this.updateFitnessOf(offspring);
+        nextGeneration.addAll(offspring);
 
         // Process elites.
         for (int i = 0; i < this.eliteSize; i++) {
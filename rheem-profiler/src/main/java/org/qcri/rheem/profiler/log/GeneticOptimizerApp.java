@@ -50,6 +50,16 @@ public class GeneticOptimizerApp {
      */
     Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>> estimators;
 
+    /**
+     * Equivalent instances of the {@link #estimators} (including the latter) to calculate fitness values in parallel.
+     */
+    private final List<Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>>> estimatorReplicas;
+
+    /**
+     * Provides randomness, e.g., to seed the {@link GeneticOptimizer}s.
+     */
+    private final Random random;
+
     /**
      * Maintains variables that quantify the overhead for initializing a {@link Platform}.
      */
@@ -62,14 +72,17 @@ public class GeneticOptimizerApp {
      */
     public GeneticOptimizerApp(Configuration configuration) {
         this.configuration = configuration;
+        this.random = GeneticOptimizer.createRandom(configuration);
 
         // Load the ExecutionLog.
         final double samplingFactor = this.configuration.getDoubleProperty("rheem.profiler.ga.sampling", 1d);
         double minCardinalityConfidence = this.configuration.getDoubleProperty("rheem.profiler.ga.min-cardinality-confidence", 1d);
+        long fromTimestamp = this.configuration.getLongProperty("rheem.profiler.ga.log.from", 0L);
+        long toTimestamp = this.configuration.getLongProperty("rheem.profiler.ga.log.to", Long.MAX_VALUE);
         try (ExecutionLog executionLog = ExecutionLog.open(configuration)) {
-            this.partialExecutions = executionLog.stream()
+            this.partialExecutions = executionLog.stream(fromTimestamp, toTimestamp)
                     .filter(partialExecution -> this.checkConfidence(partialExecution, minCardinalityConfidence))
-                    .filter(partialExecution -> new Random().nextDouble() < samplingFactor)
+                    .filter(partialExecution -> this.random.nextDouble() < samplingFactor)
                     .collect(Collectors.toList());
         } catch (Exception e) {
             throw new RheemException("Could not evaluate execution log.", e);
@@ -102,6 +115,7 @@ public class GeneticOptimizerApp {
         this.optimizationSpace = new OptimizationSpace();
         this.estimators = new HashMap<>();
         this.platformOverheads = new HashMap<>();
+        Map<Class<? extends ExecutionOperator>, ExecutionOperator> estimatedOperators = new HashMap<>();
 
         Map<Set<Class<? extends ExecutionOperator>>, List<PartialExecution>> partialExecutionClasses = new HashMap<>();
         for (PartialExecution partialExecution : this.partialExecutions) {
@@ -114,6 +128,7 @@ public class GeneticOptimizerApp {
 
             // Initialize a LoadProfileEstimator for each of the ExecutionOperators.
             for (PartialExecution.OperatorExecution execution : partialExecution.getOperatorExecutions()) {
+                estimatedOperators.putIfAbsent(execution.getOperator().getClass(), execution.getOperator());
                 this.estimators.computeIfAbsent(
                         execution.getOperator().getClass(),
                         key -> DynamicLoadProfileEstimators.createSuitableEstimator(
@@ -132,6 +147,21 @@ public class GeneticOptimizerApp {
             }
         }
 
+        // Replicate the estimators for each fitness calculation thread. As the Variables are already in the
+        // OptimizationSpace, the replicas share them with the original estimators.
+        final int parallelism = GeneticOptimizer.getParallelism(this.configuration);
+        this.estimatorReplicas = new ArrayList<>(parallelism);
+        this.estimatorReplicas.add(this.estimators);
+        while (this.estimatorReplicas.size() < parallelism) {
+            Map<Class<? extends ExecutionOperator>, LoadProfileEstimator<Individual>> replica = new HashMap<>();
+            for (Map.Entry<Class<? extends ExecutionOperator>, ExecutionOperator> entry : estimatedOperators.entrySet()) {
+                replica.put(entry.getKey(), DynamicLoadProfileEstimators.createSuitableEstimator(
+                        entry.getValue(), this.optimizationSpace, this.configuration
+                ));
+            }
+            this.estimatorReplicas.add(replica);
+        }
+
         System.out.printf(
                 "Loaded %d execution records with %d execution operator types and %d platform overheads.\n",
                 this.partialExecutions.size(), estimators.keySet().size(), this.platformOverheads.size()
@@ -330,7 +360,10 @@ public class GeneticOptimizerApp {
      * @return the {@link GeneticOptimizer}
      */
     private GeneticOptimizer createOptimizer(Collection<PartialExecution> partialExecutions) {
-        return new GeneticOptimizer(this.optimizationSpace, partialExecutions, this.estimators, this.platformOverheads, this.configuration);
+        return new GeneticOptimizer(
+                this.optimizationSpace, partialExecutions, this.estimatorReplicas, this.platformOverheads,
+                this.configuration, new Random(this.random.nextLong())
+        );
     }
 
     private Tuple<Integer, List<Individual>> superOptimize(
@@ -387,8 +420,14 @@ public class GeneticOptimizerApp {
                 RheemCollections.getAny(optimizer.getData()).getOperatorExecutions()
         );
 
+        // Stop early if the fittest individual does not improve by a relative epsilon for too many generations.
+        int plateauGenerations = (int) this.configuration.getLongProperty("rheem.profiler.ga.plateau.generations", 0);
+        double plateauEpsilon = this.configuration.getDoubleProperty("rheem.profiler.ga.plateau.epsilon", 0.0001d);
+
         optimizer.updateFitness(individuals);
         double checkpointedFitness = Double.NEGATIVE_INFINITY;
+        double plateauFitness = individuals.get(0).getFitness();
+        int plateauStart = 0;
         int i;
         for (i = 0; i < maxGenerations; i++, currentGeneration++) {
             // Print status.
@@ -417,6 +456,18 @@ public class GeneticOptimizerApp {
                     checkpointedFitness = currentFitness;
                 }
             }
+
+            // Check whether the fitness has reached a plateau.
+            if (plateauGenerations > 0) {
+                final double currentFitness = individuals.get(0).getFitness();
+                if (currentFitness > plateauFitness + Math.abs(plateauFitness) * plateauEpsilon) {
+                    plateauFitness = currentFitness;
+                    plateauStart = i;
+                } else if (i - plateauStart >= plateauGenerations && currentFitness >= minFitness) {
+                    System.out.printf("Fitness has not improved for %,d generations.\n", i - plateauStart);
+                    break;
+                }
+            }
         }
 
         System.out.printf(